@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.common.metrics;
+
+import org.opensearch.common.metrics.LatencyHistogramMetric;
+import org.opensearch.common.metrics.MeanMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of recording a latency into the per-shard latency histograms with many concurrent recorders, next to
+ * the {@link MeanMetric} that backs the existing search and indexing time totals. A query or fetch phase takes at least
+ * tens of microseconds, so a recording cost in the tens of nanoseconds stays well under 1% of the recorded operation.
+ * Run with {@code -t} to change the number of recording threads.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(16)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LatencyHistogramMetricBenchmark {
+
+    @Param({ "1", "8" })
+    int stripes;
+
+    private LatencyHistogramMetric histogramMetric;
+    private MeanMetric meanMetric;
+
+    @Setup
+    public void setup() {
+        histogramMetric = new LatencyHistogramMetric(stripes);
+        meanMetric = new MeanMetric();
+    }
+
+    @Benchmark
+    public void recordHistogram() {
+        histogramMetric.inc(System.nanoTime() & 0xFFFFFF);
+    }
+
+    @Benchmark
+    public void recordMean() {
+        meanMetric.inc(System.nanoTime() & 0xFFFFFF);
+    }
+
+    @Benchmark
+    public long nanoTimeBaseline() {
+        return System.nanoTime() & 0xFFFFFF;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexingPressure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of node level indexing pressure accounting with many concurrent writers, with the exact atomic
+ * counters and with the striped counters. Run with {@code -t} to change the number of writer threads.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(32)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IndexingPressureBenchmark {
+
+    @Param({ "false", "true" })
+    boolean striped;
+
+    @Param({ "1024" })
+    long bytes;
+
+    private IndexingPressure indexingPressure;
+
+    @Setup
+    public void setup() {
+        indexingPressure = new IndexingPressure(
+            Settings.builder()
+                .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "1gb")
+                .put(IndexingPressure.STRIPED_COUNTERS_ENABLED.getKey(), striped)
+                .build()
+        );
+    }
+
+    @Benchmark
+    public void coordinatingAndPrimary() {
+        try (
+            Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(bytes, false);
+            Releasable primary = indexingPressure.markPrimaryOperationLocalToCoordinatingNodeStarted(bytes)
+        ) {
+            // the bulk request would be executed here
+        }
+    }
+
+    @Benchmark
+    public void replica() {
+        try (Releasable replica = indexingPressure.markReplicaOperationStarted(bytes, false)) {
+            // the replica request would be executed here
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.script.ScriptModule;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares document parse throughput of a fully mapped index with {@code dynamic: true}, which goes through the generic
+ * field resolution, against {@code dynamic: strict} and {@code dynamic: false}, which use the precompiled parse plan.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DocumentParserBenchmark {
+
+    @Param({ "true", "strict", "false" })
+    String dynamic;
+
+    @Param({ "10", "100" })
+    int numFields;
+
+    @Param({ "false", "true" })
+    boolean dottedNames;
+
+    private DocumentMapper documentMapper;
+    private BytesReference source;
+
+    @Setup
+    public void setup() throws IOException {
+        IndexMetadata metadata = IndexMetadata.builder("index")
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(metadata, Settings.EMPTY);
+        ScriptModule scriptModule = new ScriptModule(Settings.EMPTY, Collections.emptyList());
+        ScriptService scriptService = new ScriptService(Settings.EMPTY, scriptModule.engines, scriptModule.contexts);
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            new IndexAnalyzers(
+                Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            ),
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, scriptService, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> {
+                throw new UnsupportedOperationException();
+            },
+            () -> true,
+            scriptService
+        );
+        mapperService.merge("_doc", new CompressedXContent(BytesReference.bytes(mapping())), MapperService.MergeReason.MAPPING_UPDATE);
+        documentMapper = mapperService.documentMapper();
+        source = BytesReference.bytes(document());
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("_doc").field("dynamic", dynamic);
+        builder.startObject("properties");
+        for (int i = 0; i < numFields; i++) {
+            builder.startObject("keyword_" + i).field("type", "keyword").endObject();
+            builder.startObject("long_" + i).field("type", "long").endObject();
+        }
+        builder.startObject("object").startObject("properties");
+        for (int i = 0; i < numFields; i++) {
+            builder.startObject("keyword_" + i).field("type", "keyword").endObject();
+        }
+        builder.endObject().endObject();
+        return builder.endObject().endObject().endObject();
+    }
+
+    private XContentBuilder document() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (int i = 0; i < numFields; i++) {
+            builder.field("keyword_" + i, "value_" + i);
+            builder.field("long_" + i, i);
+        }
+        if (dottedNames) {
+            for (int i = 0; i < numFields; i++) {
+                builder.field("object.keyword_" + i, "value_" + i);
+            }
+        } else {
+            builder.startObject("object");
+            for (int i = 0; i < numFields; i++) {
+                builder.field("keyword_" + i, "value_" + i);
+            }
+            builder.endObject();
+        }
+        return builder.endObject();
+    }
+
+    @Benchmark
+    public ParsedDocument parse() {
+        return documentMapper.parse(new SourceToParse("index", "id", source, MediaTypeRegistry.JSON));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.benchmark.telemetry;
+
+import org.opensearch.telemetry.metrics.BatchingMetricsRecorder;
+import org.opensearch.telemetry.metrics.BoundCounter;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Compares recording a counter value with tags built on every call to recording it through a counter bound to its
+ * tags once and through a batched counter. The counter stands in for the telemetry implementation: like the OTel SDK,
+ * it converts the tags into attributes on every tagged call and aggregates values per distinct attributes. Run with
+ * {@code -prof gc} to compare the allocation rate, which is the main point of the bound and batched paths.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(8)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class MetricRecordingBenchmark {
+
+    private static final String INDEX = "index";
+    private static final String SHARD = "0";
+
+    private AggregatingCounter counter;
+    private BoundCounter boundCounter;
+    private BatchingMetricsRecorder recorder;
+    private BoundCounter batchedCounter;
+
+    @Setup
+    public void setup() {
+        counter = new AggregatingCounter();
+        boundCounter = counter.bind(tags(INDEX, SHARD));
+        recorder = new BatchingMetricsRecorder();
+        batchedCounter = recorder.counter(counter, tags(INDEX, SHARD));
+    }
+
+    @TearDown
+    public void tearDown() {
+        recorder.close();
+    }
+
+    @Benchmark
+    public void addWithTags() {
+        counter.add(1, tags(INDEX, SHARD));
+    }
+
+    @Benchmark
+    public void addBound() {
+        boundCounter.add(1);
+    }
+
+    @Benchmark
+    public void addBatched() {
+        batchedCounter.add(1);
+    }
+
+    private static Tags tags(String index, String shard) {
+        return Tags.create().addTag("index", index).addTag("shard", shard);
+    }
+
+    private static final class AggregatingCounter implements Counter {
+        private final Map<Map<String, ?>, DoubleAdder> values = new ConcurrentHashMap<>();
+
+        @Override
+        public void add(double value) {
+            add(value, Tags.EMPTY);
+        }
+
+        @Override
+        public void add(double value, Tags tags) {
+            values.computeIfAbsent(tags.getTagsMap(), k -> new DoubleAdder()).add(value);
+        }
+
+        @Override
+        public BoundCounter bind(Tags tags) {
+            final DoubleAdder adder = values.computeIfAbsent(tags.getTagsMap(), k -> new DoubleAdder());
+            return adder::add;
+        }
+    }
+}
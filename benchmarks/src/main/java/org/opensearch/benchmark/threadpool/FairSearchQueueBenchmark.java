@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of a small burst of tasks from an interactive tenant submitted to a search-like resizable executor
+ * right after a large burst from a heavy tenant, with the default FIFO queue and with the fair queue.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class FairSearchQueueBenchmark {
+
+    private static final String TENANT_HEADER = "tenant";
+
+    @Param({ "false", "true" })
+    boolean fairQueue;
+
+    @Param({ "4" })
+    int threads;
+
+    @Param({ "1000" })
+    int heavyTasks;
+
+    @Param({ "10" })
+    int interactiveTasks;
+
+    @Param({ "1000" })
+    int tokensPerTask;
+
+    private ThreadContext threadContext;
+    private OpenSearchThreadPoolExecutor executor;
+    private CountDownLatch heavyDone;
+
+    @Setup
+    public void setup() {
+        threadContext = new ThreadContext(Settings.EMPTY);
+        executor = OpenSearchExecutors.newResizable(
+            "benchmark/search",
+            threads,
+            heavyTasks + interactiveTasks,
+            OpenSearchExecutors.daemonThreadFactory("benchmark"),
+            threadContext,
+            null,
+            fairQueue ? context -> context.getHeader(TENANT_HEADER) : null
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @TearDown(Level.Invocation)
+    public void drainHeavyTasks() throws InterruptedException {
+        heavyDone.await();
+    }
+
+    @Benchmark
+    public void interactiveLatencyUnderSkew() throws InterruptedException {
+        heavyDone = submit("heavy", heavyTasks);
+        submit("interactive", interactiveTasks).await();
+    }
+
+    private CountDownLatch submit(String tenant, int tasks) {
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(TENANT_HEADER, tenant);
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(() -> {
+                    Blackhole.consumeCPU(tokensPerTask);
+                    latch.countDown();
+                });
+            }
+        }
+        return latch;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes the {@code remote_download} thread pool to run a fan-out of tasks that block as if waiting on
+ * a blob store, with platform threads and with virtual threads. The platform pool keeps its default maximum, which is sized
+ * for platform threads, while the virtual pool is given a maximum in line with the concurrency that a blob store serves.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class VirtualThreadExecutorBenchmark {
+
+    @Param({ "false", "true" })
+    boolean virtualThreads;
+
+    @Param({ "256", "4096" })
+    int tasks;
+
+    @Param({ "1024" })
+    int virtualMax;
+
+    @Param({ "20" })
+    long blockMillis;
+
+    private ThreadPool threadPool;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        Settings.Builder settings = Settings.builder().put("node.name", "benchmark");
+        if (virtualThreads) {
+            settings.putList(ThreadPool.VIRTUAL_THREAD_EXECUTORS_SETTING.getKey(), ThreadPool.Names.REMOTE_DOWNLOAD)
+                .put("thread_pool." + ThreadPool.Names.REMOTE_DOWNLOAD + ".max", virtualMax);
+        }
+        threadPool = new ThreadPool(settings.build());
+        executor = threadPool.executor(ThreadPool.Names.REMOTE_DOWNLOAD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void blockingTasks() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+}
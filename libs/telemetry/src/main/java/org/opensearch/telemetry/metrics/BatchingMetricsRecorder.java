@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.telemetry.metrics;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.telemetry.metrics.noop.NoopCounter;
+import org.opensearch.telemetry.metrics.tags.Tags;
+
+import java.io.Closeable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Aggregates values added to counters locally and forwards the aggregated deltas to the underlying counters when
+ * {@link #flush()} is called, which the owner of the recorder is expected to do periodically. Adding a value to a
+ * batched counter only updates a {@link DoubleAdder}, whose cells are striped by thread under contention, so hot paths
+ * neither allocate nor contend on a single variable per event.
+ * <p>
+ * Only counters can be batched: the individual values recorded into a histogram cannot be aggregated without losing
+ * the distribution, so histograms on hot paths should be {@link Histogram#bind bound} instead. Batched counters are
+ * kept for the lifetime of the recorder and shared by all callers asking for the same counter and tags. Past
+ * {@code maxCounters} distinct batched counters, further counters are bound without batching, so that callers creating
+ * counters for unbounded sets of tags cannot grow the recorder without limit.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class BatchingMetricsRecorder implements Closeable {
+
+    /**
+     * The default maximum number of distinct batched counters
+     */
+    public static final int DEFAULT_MAX_COUNTERS = 1024;
+
+    private final int maxCounters;
+    private final ConcurrentMap<Key, BatchedCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     */
+    public BatchingMetricsRecorder() {
+        this(DEFAULT_MAX_COUNTERS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxCounters the maximum number of distinct batched counters.
+     */
+    public BatchingMetricsRecorder(int maxCounters) {
+        this.maxCounters = maxCounters;
+    }
+
+    /**
+     * Returns a counter, bound to the given attributes, whose values are aggregated until the next {@link #flush()}. The
+     * counter is not batched if the recorder already holds its maximum number of batched counters.
+     *
+     * @param counter the counter to forward the aggregated values to.
+     * @param tags    attributes/dimensions of the metric.
+     * @return the batched counter.
+     */
+    public BoundCounter counter(Counter counter, Tags tags) {
+        if (counter == NoopCounter.INSTANCE) {
+            return counter.bind(tags);
+        }
+        final Key key = new Key(counter, tags);
+        final BatchedCounter existing = counters.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (counters.size() >= maxCounters) {
+            return counter.bind(tags);
+        }
+        return counters.computeIfAbsent(key, k -> new BatchedCounter(counter.bind(tags)));
+    }
+
+    /**
+     * Forwards the values aggregated since the previous flush to the underlying counters.
+     */
+    public void flush() {
+        for (BatchedCounter counter : counters.values()) {
+            counter.flush();
+        }
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    // counters are compared by identity, as the implementations do not override equals
+    private record Key(Counter counter, Tags tags) {
+    }
+
+    private static final class BatchedCounter implements BoundCounter {
+        private final BoundCounter delegate;
+        private final DoubleAdder pending = new DoubleAdder();
+
+        BatchedCounter(BoundCounter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(double value) {
+            pending.add(value);
+        }
+
+        void flush() {
+            // values added concurrently are either part of this delta or carried over to the next one
+            final double delta = pending.sumThenReset();
+            if (delta != 0) {
+                delegate.add(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.telemetry.metrics;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+/**
+ * A {@link Counter} bound to a fixed set of tags, see {@link Counter#bind}. Adding to a bound counter does not build
+ * or convert any tags, so it can be used on hot paths without allocating per event.
+ * {@opensearch.experimental}
+ */
+@ExperimentalApi
+@FunctionalInterface
+public interface BoundCounter {
+
+    /**
+     * add value with the bound attributes.
+     * @param value value to be added.
+     */
+    void add(double value);
+
+}
@@ -32,4 +32,15 @@ public interface Counter {
      */
     void add(double value, Tags tags);
 
+    /**
+     * Binds the counter to the given attributes once, so that values can be added with them without building or
+     * converting the attributes on every call. Implementations should resolve the attributes eagerly.
+     *
+     * @param tags attributes/dimensions of the metric.
+     * @return the bound counter.
+     */
+    default BoundCounter bind(Tags tags) {
+        return value -> add(value, tags);
+    }
+
 }
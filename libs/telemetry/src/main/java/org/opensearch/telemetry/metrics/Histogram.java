@@ -32,4 +32,15 @@ public interface Histogram {
      */
     void record(double value, Tags tags);
 
+    /**
+     * Binds the histogram to the given attributes once, so that values can be recorded with them without building or
+     * converting the attributes on every call. Implementations should resolve the attributes eagerly.
+     *
+     * @param tags attributes/dimensions of the metric.
+     * @return the bound histogram.
+     */
+    default BoundHistogram bind(Tags tags) {
+        return value -> record(value, tags);
+    }
+
 }
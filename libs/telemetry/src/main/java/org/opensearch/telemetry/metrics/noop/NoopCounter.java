@@ -9,6 +9,7 @@
 package org.opensearch.telemetry.metrics.noop;
 
 import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.telemetry.metrics.BoundCounter;
 import org.opensearch.telemetry.metrics.Counter;
 import org.opensearch.telemetry.metrics.tags.Tags;
 
@@ -24,6 +25,8 @@ public class NoopCounter implements Counter {
      */
     public final static NoopCounter INSTANCE = new NoopCounter();
 
+    private static final BoundCounter BOUND_INSTANCE = value -> {};
+
     private NoopCounter() {}
 
     @Override
@@ -35,4 +38,9 @@ public class NoopCounter implements Counter {
     public void add(double value, Tags tags) {
 
     }
+
+    @Override
+    public BoundCounter bind(Tags tags) {
+        return BOUND_INSTANCE;
+    }
 }
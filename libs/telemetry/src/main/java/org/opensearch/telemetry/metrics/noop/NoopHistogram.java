@@ -9,6 +9,7 @@
 package org.opensearch.telemetry.metrics.noop;
 
 import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.telemetry.metrics.BoundHistogram;
 import org.opensearch.telemetry.metrics.Histogram;
 import org.opensearch.telemetry.metrics.tags.Tags;
 
@@ -24,6 +25,8 @@ public class NoopHistogram implements Histogram {
      */
     public final static NoopHistogram INSTANCE = new NoopHistogram();
 
+    private static final BoundHistogram BOUND_INSTANCE = value -> {};
+
     private NoopHistogram() {}
 
     @Override
@@ -35,4 +38,9 @@ public class NoopHistogram implements Histogram {
     public void record(double value, Tags tags) {
 
     }
+
+    @Override
+    public BoundHistogram bind(Tags tags) {
+        return BOUND_INSTANCE;
+    }
 }
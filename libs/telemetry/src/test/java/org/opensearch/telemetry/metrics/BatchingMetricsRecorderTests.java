@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.telemetry.metrics;
+
+import org.opensearch.telemetry.metrics.noop.NoopCounter;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingMetricsRecorderTests extends OpenSearchTestCase {
+
+    public void testDefaultBindAddsWithTags() {
+        Counter counter = mock(Counter.class);
+        when(counter.bind(Tags.of("k", "v"))).thenCallRealMethod();
+        counter.bind(Tags.of("k", "v")).add(2.0);
+        verify(counter).add(2.0, Tags.of("k", "v"));
+
+        Histogram histogram = mock(Histogram.class);
+        when(histogram.bind(Tags.of("k", "v"))).thenCallRealMethod();
+        histogram.bind(Tags.of("k", "v")).record(3.0);
+        verify(histogram).record(3.0, Tags.of("k", "v"));
+    }
+
+    public void testFlushForwardsAggregatedDelta() {
+        Counter counter = mock(Counter.class);
+        BoundCounter bound = mock(BoundCounter.class);
+        Tags tags = Tags.of("k", "v");
+        when(counter.bind(tags)).thenReturn(bound);
+        BatchingMetricsRecorder recorder = new BatchingMetricsRecorder();
+        BoundCounter batched = recorder.counter(counter, tags);
+
+        batched.add(1.0);
+        batched.add(2.5);
+        verify(bound, never()).add(anyDouble());
+        recorder.flush();
+        verify(bound).add(3.5);
+
+        // nothing was added since the previous flush
+        recorder.flush();
+        verify(bound, times(1)).add(anyDouble());
+
+        batched.add(-1.0);
+        recorder.close();
+        verify(bound).add(-1.0);
+    }
+
+    public void testConcurrentAddsAreNotLost() throws Exception {
+        Counter counter = mock(Counter.class);
+        BoundCounter bound = mock(BoundCounter.class);
+        when(counter.bind(Tags.EMPTY)).thenReturn(bound);
+        BatchingMetricsRecorder recorder = new BatchingMetricsRecorder();
+        BoundCounter batched = recorder.counter(counter, Tags.EMPTY);
+
+        int threads = between(2, 8);
+        int addsPerThread = between(100, 1000);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] adders = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            adders[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < addsPerThread; j++) {
+                    batched.add(1.0);
+                }
+            });
+            adders[i].start();
+        }
+        start.countDown();
+        for (Thread adder : adders) {
+            adder.join();
+        }
+        recorder.flush();
+        verify(bound).add((double) threads * addsPerThread);
+    }
+
+    public void testCountersAreSharedAndBounded() {
+        Counter counter = mock(Counter.class);
+        BoundCounter bound = mock(BoundCounter.class);
+        when(counter.bind(Tags.of("k", "v"))).thenReturn(bound);
+        BatchingMetricsRecorder recorder = new BatchingMetricsRecorder(2);
+        BoundCounter batched = recorder.counter(counter, Tags.of("k", "v"));
+        assertSame(batched, recorder.counter(counter, Tags.of("k", "v")));
+        assertEquals(1, recorder.size());
+
+        recorder.counter(counter, Tags.of("k", "w"));
+        assertEquals(2, recorder.size());
+        // past the maximum, counters are bound without batching
+        BoundCounter unbatched = mock(BoundCounter.class);
+        when(counter.bind(Tags.of("k", "x"))).thenReturn(unbatched);
+        assertSame(unbatched, recorder.counter(counter, Tags.of("k", "x")));
+        assertEquals(2, recorder.size());
+        // counters that are already batched are still shared
+        assertSame(batched, recorder.counter(counter, Tags.of("k", "v")));
+    }
+
+    public void testNoopCountersAreNotBatched() {
+        BatchingMetricsRecorder recorder = new BatchingMetricsRecorder();
+        recorder.counter(NoopCounter.INSTANCE, Tags.of("k", "v")).add(1.0);
+        assertEquals(0, recorder.size());
+        recorder.flush();
+    }
+}
@@ -67,11 +67,15 @@ class ExpressionScoreScript implements ScoreScript.LeafFactory {
     @Override
     public ScoreScript newInstance(final LeafReaderContext leaf) throws IOException {
         return new ScoreScript(null, null, null, null) {
+            // Sub-query scores of the block being evaluated by executeBatch, if any
+            float[] batchScores;
+            int batchIndex;
+
             // Fake the scorer until setScorer is called.
             DoubleValues values = source.getValues(leaf, new DoubleValues() {
                 @Override
                 public double doubleValue() throws IOException {
-                    return get_score();
+                    return batchScores != null ? batchScores[batchIndex] : get_score();
                 }
 
                 @Override
@@ -89,6 +93,21 @@ class ExpressionScoreScript implements ScoreScript.LeafFactory {
                 }
             }
 
+            @Override
+            public void executeBatch(int[] docIds, float[] subQueryScores, int count, float[] scores) {
+                batchScores = subQueryScores;
+                try {
+                    for (batchIndex = 0; batchIndex < count; batchIndex++) {
+                        values.advanceExact(docIds[batchIndex]);
+                        scores[batchIndex] = (float) values.doubleValue();
+                    }
+                } catch (Exception exception) {
+                    throw new GeneralScriptException("Error evaluating " + exprScript, exception);
+                } finally {
+                    batchScores = null;
+                }
+            }
+
             @Override
             public void setDocument(int d) {
                 try {
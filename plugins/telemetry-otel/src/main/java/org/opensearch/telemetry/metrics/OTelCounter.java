@@ -11,6 +11,7 @@ package org.opensearch.telemetry.metrics;
 import org.opensearch.telemetry.OTelAttributesConverter;
 import org.opensearch.telemetry.metrics.tags.Tags;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleCounter;
 
 /**
@@ -37,4 +38,10 @@ class OTelCounter implements Counter {
     public void add(double value, Tags tags) {
         otelDoubleCounter.add(value, OTelAttributesConverter.convert(tags));
     }
+
+    @Override
+    public BoundCounter bind(Tags tags) {
+        final Attributes attributes = OTelAttributesConverter.convert(tags);
+        return value -> otelDoubleCounter.add(value, attributes);
+    }
 }
@@ -11,6 +11,7 @@ package org.opensearch.telemetry.metrics;
 import org.opensearch.telemetry.OTelAttributesConverter;
 import org.opensearch.telemetry.metrics.tags.Tags;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 
 /**
@@ -37,4 +38,10 @@ class OTelHistogram implements Histogram {
     public void record(double value, Tags tags) {
         otelDoubleHistogram.record(value, OTelAttributesConverter.convert(tags));
     }
+
+    @Override
+    public BoundHistogram bind(Tags tags) {
+        final Attributes attributes = OTelAttributesConverter.convert(tags);
+        return value -> otelDoubleHistogram.record(value, attributes);
+    }
 }
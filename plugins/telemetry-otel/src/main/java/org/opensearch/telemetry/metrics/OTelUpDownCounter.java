@@ -11,6 +11,7 @@ package org.opensearch.telemetry.metrics;
 import org.opensearch.telemetry.OTelAttributesConverter;
 import org.opensearch.telemetry.metrics.tags.Tags;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleUpDownCounter;
 
 /**
@@ -37,4 +38,10 @@ public class OTelUpDownCounter implements Counter {
     public void add(double value, Tags tags) {
         doubleUpDownCounter.add(value, OTelAttributesConverter.convert(tags));
     }
+
+    @Override
+    public BoundCounter bind(Tags tags) {
+        final Attributes attributes = OTelAttributesConverter.convert(tags);
+        return value -> doubleUpDownCounter.add(value, attributes);
+    }
 }
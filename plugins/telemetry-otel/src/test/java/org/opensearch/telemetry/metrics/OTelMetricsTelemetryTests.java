@@ -67,6 +67,11 @@ public class OTelMetricsTelemetryTests extends OpenSearchTestCase {
         Tags tags = Tags.create().addTag("test", "test");
         counter.add(2.0, tags);
         verify(mockOTelDoubleCounter).add(2.0, OTelAttributesConverter.convert(tags));
+        BoundCounter boundCounter = counter.bind(tags);
+        boundCounter.add(3.0);
+        boundCounter.add(4.0);
+        verify(mockOTelDoubleCounter).add(3.0, OTelAttributesConverter.convert(tags));
+        verify(mockOTelDoubleCounter).add(4.0, OTelAttributesConverter.convert(tags));
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -154,6 +159,8 @@ public class OTelMetricsTelemetryTests extends OpenSearchTestCase {
         Tags tags = Tags.create().addTag("test", "test");
         histogram.record(2.0, tags);
         verify(mockOTelDoubleHistogram).record(2.0, OTelAttributesConverter.convert(tags));
+        histogram.bind(tags).record(3.0);
+        verify(mockOTelDoubleHistogram).record(3.0, OTelAttributesConverter.convert(tags));
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -1007,7 +1007,8 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
             Flag.Segments,
             Flag.Translog,
             Flag.RequestCache,
-            Flag.Recovery };
+            Flag.Recovery,
+            Flag.Latency };
 
         assertThat(flags.length, equalTo(Flag.values().length));
         for (int i = 0; i < flags.length; i++) {
@@ -1187,6 +1188,9 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
             case Recovery:
                 builder.setRecovery(set);
                 break;
+            case Latency:
+                builder.setLatency(set);
+                break;
             default:
                 fail("new flag? " + flag);
                 break;
@@ -1227,6 +1231,8 @@ public class IndexStatsIT extends ParameterizedStaticSettingsOpenSearchIntegTest
                 return response.getRequestCache() != null;
             case Recovery:
                 return response.getRecoveryStats() != null;
+            case Latency:
+                return response.getLatency() != null;
             default:
                 fail("new flag? " + flag);
                 return false;
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.node.tasks.profile;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for sampling the stack traces of running tasks
+ *
+ * @opensearch.internal
+ */
+public class ProfileTasksAction extends ActionType<ProfileTasksResponse> {
+
+    public static final ProfileTasksAction INSTANCE = new ProfileTasksAction();
+    public static final String NAME = "cluster:monitor/tasks/profile";
+
+    private ProfileTasksAction() {
+        super(NAME, ProfileTasksResponse::new);
+    }
+}
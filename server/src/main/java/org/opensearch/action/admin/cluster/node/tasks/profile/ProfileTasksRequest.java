@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.node.tasks.profile;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.tasks.BaseTasksRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskProfiler;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to sample the stack traces of running tasks
+ *
+ * @opensearch.internal
+ */
+public class ProfileTasksRequest extends BaseTasksRequest<ProfileTasksRequest> {
+
+    private TimeValue duration = TaskProfiler.DEFAULT_DURATION;
+    private TimeValue interval = TaskProfiler.DEFAULT_INTERVAL;
+
+    public ProfileTasksRequest() {}
+
+    public ProfileTasksRequest(StreamInput in) throws IOException {
+        super(in);
+        duration = in.readTimeValue();
+        interval = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeTimeValue(duration);
+        out.writeTimeValue(interval);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = super.validate();
+        if (duration.compareTo(TaskProfiler.MAX_DURATION) > 0) {
+            validationException = addValidationError(
+                "duration [" + duration + "] must not be greater than [" + TaskProfiler.MAX_DURATION + "]",
+                validationException
+            );
+        }
+        if (interval.compareTo(TaskProfiler.MIN_INTERVAL) < 0) {
+            validationException = addValidationError(
+                "interval [" + interval + "] must not be less than [" + TaskProfiler.MIN_INTERVAL + "]",
+                validationException
+            );
+        }
+        if (interval.compareTo(duration) > 0) {
+            validationException = addValidationError(
+                "interval [" + interval + "] must not be greater than the duration [" + duration + "]",
+                validationException
+            );
+        }
+        return validationException;
+    }
+
+    @Override
+    public boolean match(Task task) {
+        return super.match(task) && task.supportsResourceTracking();
+    }
+
+    /**
+     * How long to sample the tasks for, unless they complete earlier.
+     */
+    public ProfileTasksRequest setDuration(TimeValue duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public TimeValue getDuration() {
+        return duration;
+    }
+
+    /**
+     * How long to wait between two samples of a task.
+     */
+    public ProfileTasksRequest setInterval(TimeValue interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    public TimeValue getInterval() {
+        return interval;
+    }
+
+    @Override
+    public String getDescription() {
+        return "duration["
+            + duration
+            + "], interval["
+            + interval
+            + "], taskId["
+            + getTaskId()
+            + "], parentTaskId["
+            + getParentTaskId()
+            + "], nodes"
+            + Arrays.toString(getNodes())
+            + ", actions"
+            + Arrays.toString(getActions());
+    }
+}
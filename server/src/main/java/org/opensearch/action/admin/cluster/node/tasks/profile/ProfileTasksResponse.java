@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.node.tasks.profile;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.TaskOperationFailure;
+import org.opensearch.action.support.tasks.BaseTasksResponse;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.TaskProfile;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The sampled stack traces of the profiled tasks
+ *
+ * @opensearch.internal
+ */
+public class ProfileTasksResponse extends BaseTasksResponse implements ToXContentObject {
+
+    private static final String PROFILES = "profiles";
+
+    private final List<TaskProfile> profiles;
+
+    public ProfileTasksResponse(
+        List<TaskProfile> profiles,
+        List<TaskOperationFailure> taskFailures,
+        List<? extends OpenSearchException> nodeFailures
+    ) {
+        super(taskFailures, nodeFailures);
+        this.profiles = profiles == null ? Collections.emptyList() : Collections.unmodifiableList(profiles);
+    }
+
+    public ProfileTasksResponse(StreamInput in) throws IOException {
+        super(in);
+        profiles = Collections.unmodifiableList(in.readList(TaskProfile::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(profiles);
+    }
+
+    public List<TaskProfile> getProfiles() {
+        return profiles;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        toXContentCommon(builder, params);
+        builder.startArray(PROFILES);
+        for (TaskProfile profile : profiles) {
+            profile.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (super.equals(o) == false) return false;
+        return profiles.equals(((ProfileTasksResponse) o).profiles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), profiles);
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toString(MediaTypeRegistry.JSON, this, true, true);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.node.tasks.profile;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.TaskOperationFailure;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.tasks.TransportTasksAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskProfile;
+import org.opensearch.tasks.TaskProfiler;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.List;
+
+/**
+ * Transport action that samples the stack traces of the threads running the matching tasks on each node
+ *
+ * @opensearch.internal
+ */
+public class TransportProfileTasksAction extends TransportTasksAction<Task, ProfileTasksRequest, ProfileTasksResponse, TaskProfile> {
+
+    private final TaskProfiler taskProfiler;
+
+    @Inject
+    public TransportProfileTasksAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        TaskResourceTrackingService taskResourceTrackingService
+    ) {
+        super(
+            ProfileTasksAction.NAME,
+            clusterService,
+            transportService,
+            actionFilters,
+            ProfileTasksRequest::new,
+            ProfileTasksResponse::new,
+            TaskProfile::new,
+            ThreadPool.Names.MANAGEMENT
+        );
+        this.taskProfiler = new TaskProfiler(
+            clusterService.getSettings(),
+            clusterService.getClusterSettings(),
+            transportService.getThreadPool(),
+            taskResourceTrackingService
+        );
+    }
+
+    @Override
+    protected ProfileTasksResponse newResponse(
+        ProfileTasksRequest request,
+        List<TaskProfile> profiles,
+        List<TaskOperationFailure> taskOperationFailures,
+        List<FailedNodeException> failedNodeExceptions
+    ) {
+        return new ProfileTasksResponse(profiles, taskOperationFailures, failedNodeExceptions);
+    }
+
+    @Override
+    protected void taskOperation(ProfileTasksRequest request, Task task, ActionListener<TaskProfile> listener) {
+        taskProfiler.profile(task, clusterService.localNode().getId(), request.getDuration(), request.getInterval(), listener);
+    }
+}
@@ -56,7 +56,10 @@ public class CommonStatsFlags implements Writeable, Cloneable {
     public static final CommonStatsFlags ALL = new CommonStatsFlags().all();
     public static final CommonStatsFlags NONE = new CommonStatsFlags().clear();
 
-    private EnumSet<Flag> flags = EnumSet.allOf(Flag.class);
+    // flags that are costly to compute and to send, which are only set when requested explicitly
+    private static final EnumSet<Flag> OPT_IN_FLAGS = EnumSet.of(Flag.Latency);
+
+    private EnumSet<Flag> flags = EnumSet.complementOf(OPT_IN_FLAGS);
     private String[] groups = null;
     private String[] fieldDataFields = null;
     private String[] completionDataFields = null;
@@ -124,9 +127,15 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         out.writeBoolean(includeUnloadedSegments);
         out.writeBoolean(includeAllShardIndexingPressureTrackers);
         out.writeBoolean(includeOnlyTopIndexingPressureMetrics);
-        if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
             out.writeEnumSet(includeCaches);
             out.writeStringArrayNullable(levels);
+        } else if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
+            // older nodes do not know about the caches that were added since
+            final EnumSet<CacheType> knownCaches = EnumSet.copyOf(includeCaches);
+            knownCaches.remove(CacheType.SEGMENT_RESULT_CACHE);
+            out.writeEnumSet(knownCaches);
+            out.writeStringArrayNullable(levels);
         }
         if (out.getVersion().onOrAfter(Version.V_2_17_0)) {
             out.writeBoolean(includeIndicesStatsByLevel);
@@ -134,10 +143,11 @@ public class CommonStatsFlags implements Writeable, Cloneable {
     }
 
     /**
-     * Sets all flags to return all stats.
+     * Sets all flags to return all stats, except the stats that are only returned when requested explicitly, like
+     * {@link Flag#Latency}.
      */
     public CommonStatsFlags all() {
-        flags = EnumSet.allOf(Flag.class);
+        flags = EnumSet.complementOf(OPT_IN_FLAGS);
         groups = null;
         fieldDataFields = null;
         completionDataFields = null;
@@ -332,7 +342,8 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         Translog("translog", 13),
         // 14 was previously used for Suggest
         RequestCache("request_cache", 15),
-        Recovery("recovery", 16);
+        Recovery("recovery", 16),
+        Latency("latency", 17);
 
         private final String restName;
         private final int index;
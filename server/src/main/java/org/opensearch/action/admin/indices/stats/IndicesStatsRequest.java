@@ -283,6 +283,15 @@ public class IndicesStatsRequest extends BroadcastRequest<IndicesStatsRequest> {
         return flags.isSet(CommonStatsFlags.Flag.Recovery);
     }
 
+    public IndicesStatsRequest latency(boolean latency) {
+        flags.set(CommonStatsFlags.Flag.Latency, latency);
+        return this;
+    }
+
+    public boolean latency() {
+        return flags.isSet(CommonStatsFlags.Flag.Latency);
+    }
+
     public boolean includeSegmentFileSizes() {
         return flags.includeSegmentFileSizes();
     }
@@ -46,6 +46,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.core.action.ActionListener;
@@ -63,6 +64,7 @@ import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -122,6 +124,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final boolean throttleConcurrentRequests;
     private final SearchRequestContext searchRequestContext;
     private final Tracer tracer;
+    private final AtomicInteger hedgedRequests = new AtomicInteger();
+    private final AtomicInteger hedgedRequestsWon = new AtomicInteger();
 
     private SearchPhase currentPhase;
     private boolean currentPhaseHasLifecycle;
@@ -304,7 +308,22 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                         pendingExecutions,
                         thread
                     );
+                    final HedgedRequestSender<Result> hedgedRequestSender = hedgedRequestSender();
+                    final ShardRequestHedging hedging = hedgedRequestSender == null ? null : searchRequestContext.getShardRequestHedging();
+                    final TimeValue hedgeDelay = hedging == null ? null : hedging.hedgeDelay(shard);
+                    HedgedShardRequest hedgedRequest = null;
+                    if (hedgeDelay != null) {
+                        hedgedRequest = new HedgedShardRequest(hedging, hedgedRequestSender, shardIndex, shardIt);
+                        listener = hedgedRequest.wrap(listener, shard, false, () -> executeNext(pendingExecutions, thread));
+                    }
+                    final SearchTimelineRecorder timelineRecorder = getTimelineRecorder();
+                    if (timelineRecorder != null) {
+                        listener = timelineRecorder.trackShard(getName(), shard, listener);
+                    }
                     executePhaseOnShard(shardIt, shard, listener);
+                    if (hedgedRequest != null) {
+                        hedgedRequest.schedule(hedgeDelay);
+                    }
                 } catch (final Exception e) {
                     try {
                         /*
@@ -394,6 +413,210 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         SearchActionListener<Result> listener
     );
 
+    /**
+     * Returns how this phase sends hedged shard requests, or null if its shard requests are not hedged, which is the default.
+     * See {@link ShardRequestHedging}.
+     */
+    @Nullable
+    protected HedgedRequestSender<Result> hedgedRequestSender() {
+        return null;
+    }
+
+    /**
+     * Sends a hedged request to another copy of a shard whose request did not respond yet.
+     *
+     * @opensearch.internal
+     */
+    @FunctionalInterface
+    protected interface HedgedRequestSender<Result extends SearchPhaseResult> {
+        /**
+         * Sends the request to the shard. The request must be sent as a child of the provided task, so that it can be
+         * cancelled without cancelling the other shard requests of the search.
+         * @param shardIt the shards iterator
+         * @param shard the shard routing to send the request for
+         * @param task the task of the hedged request
+         * @param listener the listener to notify on response
+         */
+        void sendHedgedRequest(
+            SearchShardIterator shardIt,
+            SearchShardTarget shard,
+            SearchTask task,
+            SearchActionListener<Result> listener
+        );
+    }
+
+    /**
+     * Tracks the requests sent to the copies of a shard whose request may be hedged. The first response wins and is
+     * processed as the result of the shard. The responses and failures of the other requests are ignored, and their
+     * operations are accounted for when the winner is. A failure is handled as usual, moving on to the next copy, only if
+     * no other request of the shard is outstanding.
+     */
+    private final class HedgedShardRequest {
+        private final ShardRequestHedging hedging;
+        private final HedgedRequestSender<Result> sender;
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        // guarded by this
+        private int outstanding = 1;
+        private boolean completed;
+        private Scheduler.ScheduledCancellable timer;
+        private ShardRequestHedging.HedgeTask hedgeTask;
+
+        HedgedShardRequest(ShardRequestHedging hedging, HedgedRequestSender<Result> sender, int shardIndex, SearchShardIterator shardIt) {
+            this.hedging = hedging;
+            this.sender = sender;
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+        }
+
+        void schedule(TimeValue delay) {
+            final Scheduler.ScheduledCancellable scheduled = hedging.schedule(() -> fork(this::hedge), delay);
+            synchronized (this) {
+                if (completed == false) {
+                    timer = scheduled;
+                    return;
+                }
+            }
+            scheduled.cancel();
+        }
+
+        private void hedge() {
+            final SearchShardTarget target;
+            synchronized (this) {
+                if (completed || hedgeTask != null) {
+                    return;
+                }
+                if (hedgedRequests.incrementAndGet() > hedging.maxHedgedRequests(shardsIts.size())) {
+                    hedgedRequests.decrementAndGet();
+                    return;
+                }
+                target = shardIt.nextOrNull();
+                if (target == null) {
+                    hedgedRequests.decrementAndGet();
+                    return;
+                }
+                hedgeTask = hedging.registerHedgeTask(getTask(), target);
+                outstanding++;
+            }
+            logger.trace("{}: hedging the shard request of [{}]", target, request);
+            SearchActionListener<Result> listener = createShardActionListener(
+                target,
+                shardIndex,
+                shardIt,
+                AbstractSearchAsyncAction.this,
+                null,
+                Thread.currentThread()
+            );
+            listener = wrap(listener, target, true, () -> {});
+            final SearchTimelineRecorder timelineRecorder = getTimelineRecorder();
+            if (timelineRecorder != null) {
+                listener = timelineRecorder.trackShard(getName(), target, listener);
+            }
+            try {
+                sender.sendHedgedRequest(shardIt, target, hedgeTask.task, listener);
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+
+        SearchActionListener<Result> wrap(
+            SearchActionListener<Result> delegate,
+            SearchShardTarget target,
+            boolean hedged,
+            Runnable onIgnored
+        ) {
+            return new SearchActionListener<Result>(target, shardIndex) {
+                @Override
+                protected void innerOnResponse(Result result) {
+                    if (hedged) {
+                        hedging.unregister(hedgeTask);
+                    }
+                    if (onAttemptResponse(hedged)) {
+                        delegate.onResponse(result);
+                    } else {
+                        try {
+                            releaseIgnoredResult(result);
+                        } finally {
+                            onIgnored.run();
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (hedged) {
+                        hedging.unregister(hedgeTask);
+                    }
+                    if (onAttemptFailure()) {
+                        delegate.onFailure(e);
+                    } else {
+                        logger.trace(() -> new ParameterizedMessage("{}: ignoring the failure of a hedged shard request", target), e);
+                        onIgnored.run();
+                    }
+                }
+            };
+        }
+
+        private boolean onAttemptResponse(boolean hedged) {
+            final int abandoned;
+            final Scheduler.ScheduledCancellable scheduled;
+            synchronized (this) {
+                if (completed) {
+                    return false;
+                }
+                completed = true;
+                abandoned = outstanding - 1;
+                outstanding = 0;
+                scheduled = timer;
+            }
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            if (hedged) {
+                hedgedRequestsWon.incrementAndGet();
+            } else if (abandoned > 0) {
+                hedging.cancel(hedgeTask, "the original shard request responded first");
+            }
+            // the winner accounts for itself, the requests it won against will not be
+            totalOps.addAndGet(abandoned);
+            return true;
+        }
+
+        private boolean onAttemptFailure() {
+            final Scheduler.ScheduledCancellable scheduled;
+            synchronized (this) {
+                if (completed) {
+                    return false;
+                }
+                if (--outstanding > 0) {
+                    // another request of the shard may still succeed, the failed one only counts as a done operation
+                    totalOps.incrementAndGet();
+                    return false;
+                }
+                completed = true;
+                scheduled = timer;
+            }
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            return true;
+        }
+
+        private void releaseIgnoredResult(Result result) {
+            final SearchShardTarget target = result.getSearchShardTarget();
+            if (result.getContextId() != null && target != null) {
+                final Transport.Connection connection;
+                try {
+                    connection = getConnection(target.getClusterAlias(), target.getNodeId());
+                } catch (Exception e) {
+                    logger.trace(() -> new ParameterizedMessage("{}: failed to release the context of a hedged shard request", target), e);
+                    return;
+                }
+                sendReleaseSearchContext(result.getContextId(), connection, target.getOriginalIndices());
+            }
+        }
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -486,6 +709,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         if (getCurrentPhase() != null) {
             long tookInNanos = System.nanoTime() - getCurrentPhase().getStartTimeInNanos();
             searchRequestContext.updatePhaseTookMap(getCurrentPhase().getName(), TimeUnit.NANOSECONDS.toMillis(tookInNanos));
+            if (searchRequestContext.getTimelineRecorder() != null) {
+                searchRequestContext.getTimelineRecorder().onPhaseEnd(getCurrentPhase().getName());
+            }
         }
         if (currentPhaseHasLifecycle) {
             this.searchRequestContext.getSearchRequestOperationsListener().onPhaseEnd(this, searchRequestContext);
@@ -494,6 +720,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
 
     private void onPhaseStart(SearchPhase phase) {
         setCurrentPhase(phase);
+        if (searchRequestContext.getTimelineRecorder() != null) {
+            searchRequestContext.getTimelineRecorder().onPhaseStart(phase.getName());
+        }
         if (currentPhaseHasLifecycle) {
             this.searchRequestContext.getSearchRequestOperationsListener().onPhaseStart(this);
         }
@@ -743,6 +972,16 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         return searchRequestContext;
     }
 
+    @Override
+    public SearchTimelineRecorder getTimelineRecorder() {
+        return searchRequestContext.getTimelineRecorder();
+    }
+
+    @Override
+    public void setReduceStats(SearchResponse.ReduceStats reduceStats) {
+        searchRequestContext.setReduceStats(reduceStats);
+    }
+
     protected final SearchResponse buildSearchResponse(
         InternalSearchResponse internalSearchResponse,
         ShardSearchFailure[] failures,
@@ -757,6 +996,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             skippedOps.get(),
             buildTookInMillis(),
             searchRequestContext.getPhaseTook(),
+            searchRequestContext.getReduceStats(),
             failures,
             clusters,
             searchContextId
@@ -800,6 +1040,10 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             );
             onPhaseEnd(searchRequestContext);
             onRequestEnd(searchRequestContext);
+            final SearchTimelineRecorder timelineRecorder = searchRequestContext.getTimelineRecorder();
+            if (timelineRecorder != null && internalSearchResponse.profileResults != null) {
+                internalSearchResponse.profileResults.setTimeline(timelineRecorder.build(internalSearchResponse.profileResults));
+            }
             listener.onResponse(buildSearchResponse(internalSearchResponse, failures, scrollId, searchContextId));
         }
         setCurrentPhase(null);
@@ -847,6 +1091,10 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
      * @see #onShardResult(SearchPhaseResult, SearchShardIterator)
      */
     final void onPhaseDone() {  // as a tribute to @kimchy aka. finishHim()
+        if (hedgedRequests.get() > 0) {
+            searchRequestContext.getSearchRequestOperationsListener()
+                .onShardRequestsHedged(this, hedgedRequests.get(), hedgedRequestsWon.get());
+        }
         final SearchPhase nextPhase = getNextPhase(results, this);
         if (request instanceof PipelinedRequest && nextPhase != null) {
             ((PipelinedRequest) request).transformSearchPhaseResults(results, this, this.getName(), nextPhase.getName());
@@ -915,7 +1163,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     }
 
     void executeNext(Runnable runnable, Thread originalThread) {
-        if (throttleConcurrentRequests) {
+        // hedged shard requests do not take a permit
+        if (throttleConcurrentRequests && runnable != null) {
             if (originalThread == Thread.currentThread()) {
                 fork(runnable);
             } else {
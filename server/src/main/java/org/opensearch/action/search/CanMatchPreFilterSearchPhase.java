@@ -33,10 +33,17 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.action.search.pruning.FieldDomainEvaluationContext;
+import org.opensearch.action.search.pruning.FieldDomainEvaluators;
+import org.opensearch.action.search.pruning.MandatoryQueryConstraintExtractor;
+import org.opensearch.action.search.pruning.QueryConstraint;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.ShardFieldDomains;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -53,6 +60,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -69,6 +77,8 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * When the coordinating node holds a fresh summary of the field domains of a shard, see {@link ShardFieldDomainCache},
+ * the phase evaluates the mandatory range constraints of the query against it and skips the round-trip to the shard.
  *
  * @opensearch.internal
  */
@@ -76,6 +86,12 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ShardFieldDomainCache fieldDomainCache;
+    private final List<QueryConstraint> fieldDomainConstraints;
+    private final FieldDomainEvaluationContext fieldDomainEvaluationContext;
+    private final boolean sortedByField;
+    private final AtomicInteger savedRequests = new AtomicInteger();
+    private final AtomicInteger prunedShards = new AtomicInteger();
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -95,6 +111,48 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            executor,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            phaseFactory,
+            clusters,
+            searchRequestContext,
+            tracer,
+            null
+        );
+    }
+
+    CanMatchPreFilterSearchPhase(
+        Logger logger,
+        SearchTransportService searchTransportService,
+        BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        Executor executor,
+        SearchRequest request,
+        ActionListener<SearchResponse> listener,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        Tracer tracer,
+        ShardFieldDomainCache fieldDomainCache
     ) {
         this(
             logger,
@@ -114,7 +172,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
             phaseFactory,
             clusters,
             searchRequestContext,
-            tracer
+            tracer,
+            fieldDomainCache
         );
     }
 
@@ -136,7 +195,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
-        Tracer tracer
+        Tracer tracer,
+        ShardFieldDomainCache fieldDomainCache
     ) {
         // Use the active shard count so can_match is effectively unthrottled without over-sizing the concurrency budget.
         super(
@@ -162,6 +222,18 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.fieldDomainCache = fieldDomainCache;
+        // point in time readers are not described by the summaries, which follow the latest reader of the shards
+        if (fieldDomainCache != null && fieldDomainCache.enabled() && request.pointInTimeBuilder() == null) {
+            this.fieldDomainConstraints = new MandatoryQueryConstraintExtractor().extractMandatoryConstraints(
+                request.source(),
+                fieldDomainCache.fields()
+            );
+        } else {
+            this.fieldDomainConstraints = List.of();
+        }
+        this.fieldDomainEvaluationContext = new FieldDomainEvaluationContext(timeProvider::getAbsoluteStartMillis);
+        this.sortedByField = FieldSortBuilder.getPrimaryFieldSortOrNull(request.source()) != null;
     }
 
     @Override
@@ -175,16 +247,61 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
+        // shards of remote clusters are not tracked by the field domain summaries of the local cluster
+        if (fieldDomainCache == null || fieldDomainCache.enabled() == false || shard.getClusterAlias() != null) {
+            getSearchTransport().sendCanMatch(
+                getConnection(shard.getClusterAlias(), shard.getNodeId()),
+                buildShardSearchRequest(shardIt),
+                getTask(),
+                listener
+            );
+            return;
+        }
+        if (fieldDomainConstraints.isEmpty() == false) {
+            ShardFieldDomains fieldDomains = fieldDomainCache.get(shard.getShardId(), shard.getNodeId());
+            if (fieldDomains != null) {
+                boolean canMatch = canMatch(fieldDomains);
+                // the primary sort needs the min and max values of the shard when it may match
+                if (canMatch == false || sortedByField == false) {
+                    savedRequests.incrementAndGet();
+                    if (canMatch == false) {
+                        prunedShards.incrementAndGet();
+                    }
+                    listener.onResponse(new CanMatchResponse(canMatch, null));
+                    return;
+                }
+            }
+        }
         getSearchTransport().sendCanMatch(
             getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt),
             getTask(),
-            listener
+            ActionListener.wrap(response -> {
+                if (response.fieldDomains() != null) {
+                    fieldDomainCache.put(shard.getShardId(), shard.getNodeId(), response.fieldDomains());
+                }
+                listener.onResponse(response);
+            }, listener::onFailure)
         );
     }
 
+    private boolean canMatch(ShardFieldDomains fieldDomains) {
+        for (QueryConstraint constraint : fieldDomainConstraints) {
+            FieldDomain domain = fieldDomains.get(constraint.field());
+            if (domain != null
+                && FieldDomainEvaluators.defaultEvaluators().canMatch(domain, constraint, fieldDomainEvaluationContext) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
+        if (savedRequests.get() > 0) {
+            getSearchRequestContext().getSearchRequestOperationsListener()
+                .onCanMatchLocalDecisions(this, savedRequests.get(), prunedShards.get());
+        }
 
         return phaseFactory.apply(getIterator((CanMatchSearchPhaseResults) results, shardsIts));
     }
@@ -103,46 +103,46 @@ final class DfsQueryPhase extends SearchPhase {
                 dfs
             );
             final int shardIndex = dfsResult.getShardIndex();
-            searchTransportService.sendExecuteQuery(
-                connection,
-                querySearchRequest,
-                context.getTask(),
-                new SearchActionListener<QuerySearchResult>(searchShardTarget, shardIndex) {
+            SearchActionListener<QuerySearchResult> listener = new SearchActionListener<QuerySearchResult>(searchShardTarget, shardIndex) {
 
-                    @Override
-                    protected void innerOnResponse(QuerySearchResult response) {
-                        try {
-                            counter.onResult(response);
-                        } catch (Exception e) {
-                            context.onPhaseFailure(DfsQueryPhase.this, "", e);
-                        }
+                @Override
+                protected void innerOnResponse(QuerySearchResult response) {
+                    try {
+                        counter.onResult(response);
+                    } catch (Exception e) {
+                        context.onPhaseFailure(DfsQueryPhase.this, "", e);
                     }
+                }
 
-                    @Override
-                    public void onFailure(Exception exception) {
-                        try {
-                            context.getLogger()
-                                .debug(
-                                    () -> new ParameterizedMessage("[{}] Failed to execute query phase", querySearchRequest.contextId()),
-                                    exception
-                                );
-                            progressListener.notifyQueryFailure(shardIndex, searchShardTarget, exception);
-                            counter.onFailure(shardIndex, searchShardTarget, exception);
-                        } finally {
-                            if (context.getRequest().pointInTimeBuilder() == null) {
-                                // the query might not have been executed at all (for example because thread pool rejected
-                                // execution) and the search context that was created in dfs phase might not be released.
-                                // release it again to be in the safe side
-                                context.sendReleaseSearchContext(
-                                    querySearchRequest.contextId(),
-                                    connection,
-                                    searchShardTarget.getOriginalIndices()
-                                );
-                            }
+                @Override
+                public void onFailure(Exception exception) {
+                    try {
+                        context.getLogger()
+                            .debug(
+                                () -> new ParameterizedMessage("[{}] Failed to execute query phase", querySearchRequest.contextId()),
+                                exception
+                            );
+                        progressListener.notifyQueryFailure(shardIndex, searchShardTarget, exception);
+                        counter.onFailure(shardIndex, searchShardTarget, exception);
+                    } finally {
+                        if (context.getRequest().pointInTimeBuilder() == null) {
+                            // the query might not have been executed at all (for example because thread pool rejected
+                            // execution) and the search context that was created in dfs phase might not be released.
+                            // release it again to be in the safe side
+                            context.sendReleaseSearchContext(
+                                querySearchRequest.contextId(),
+                                connection,
+                                searchShardTarget.getOriginalIndices()
+                            );
                         }
                     }
                 }
-            );
+            };
+            final SearchTimelineRecorder timelineRecorder = context.getTimelineRecorder();
+            if (timelineRecorder != null) {
+                listener = timelineRecorder.trackShard(getName(), searchShardTarget, listener);
+            }
+            searchTransportService.sendExecuteQuery(connection, querySearchRequest, context.getTask(), listener);
         }
     }
 }
@@ -133,7 +133,13 @@ final class FetchSearchPhase extends SearchPhase {
         final int numShards = context.getNumShards();
         final boolean isScrollSearch = context.getRequest().scroll() != null;
         final List<SearchPhaseResult> phaseResults = queryResults.asList();
+        final SearchTimelineRecorder timelineRecorder = context.getTimelineRecorder();
+        final long reduceStartNanos = timelineRecorder != null ? timelineRecorder.onReduceStart() : 0;
         final SearchPhaseController.ReducedQueryPhase reducedQueryPhase = resultConsumer.reduce();
+        if (timelineRecorder != null) {
+            timelineRecorder.onReduceEnd(reduceStartNanos);
+        }
+        context.setReduceStats(resultConsumer.getReduceStats());
         final boolean queryAndFetchOptimization = queryResults.length() == 1;
         final Runnable finishPhase = () -> moveToNextPhase(
             searchPhaseController,
@@ -230,42 +236,38 @@ final class FetchSearchPhase extends SearchPhase {
         final QuerySearchResult querySearchResult,
         final Transport.Connection connection
     ) {
-        context.getSearchTransport()
-            .sendExecuteFetch(
-                connection,
-                fetchSearchRequest,
-                context.getTask(),
-                new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
-                    @Override
-                    public void innerOnResponse(FetchSearchResult result) {
-                        try {
-                            progressListener.notifyFetchResult(shardIndex);
-                            context.setPhaseResourceUsages();
-                            counter.onResult(result);
-                        } catch (Exception e) {
-                            context.onPhaseFailure(FetchSearchPhase.this, "", e);
-                        }
-                    }
+        SearchActionListener<FetchSearchResult> listener = new SearchActionListener<FetchSearchResult>(shardTarget, shardIndex) {
+            @Override
+            public void innerOnResponse(FetchSearchResult result) {
+                try {
+                    progressListener.notifyFetchResult(shardIndex);
+                    context.setPhaseResourceUsages();
+                    counter.onResult(result);
+                } catch (Exception e) {
+                    context.onPhaseFailure(FetchSearchPhase.this, "", e);
+                }
+            }
 
-                    @Override
-                    public void onFailure(Exception e) {
-                        try {
-                            logger.debug(
-                                () -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()),
-                                e
-                            );
-                            progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
-                            context.setPhaseResourceUsages();
-                            counter.onFailure(shardIndex, shardTarget, e);
-                        } finally {
-                            // the search context might not be cleared on the node where the fetch was executed for example
-                            // because the action was rejected by the thread pool. in this case we need to send a dedicated
-                            // request to clear the search context.
-                            releaseIrrelevantSearchContext(querySearchResult);
-                        }
-                    }
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    logger.debug(() -> new ParameterizedMessage("[{}] Failed to execute fetch phase", fetchSearchRequest.contextId()), e);
+                    progressListener.notifyFetchFailure(shardIndex, shardTarget, e);
+                    context.setPhaseResourceUsages();
+                    counter.onFailure(shardIndex, shardTarget, e);
+                } finally {
+                    // the search context might not be cleared on the node where the fetch was executed for example
+                    // because the action was rejected by the thread pool. in this case we need to send a dedicated
+                    // request to clear the search context.
+                    releaseIrrelevantSearchContext(querySearchResult);
                 }
-            );
+            }
+        };
+        final SearchTimelineRecorder timelineRecorder = context.getTimelineRecorder();
+        if (timelineRecorder != null) {
+            listener = timelineRecorder.trackShard(getName(), shardTarget, listener);
+        }
+        context.getSearchTransport().sendExecuteFetch(connection, fetchSearchRequest, context.getTask(), listener);
     }
 
     /**
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.search.TransportMultiSearchAction.SearchRequestSlot;
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.InternalFilter;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.pipeline.SearchPipelineService;
+import org.opensearch.transport.RemoteClusterAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A group of sub-requests of a multi search request that only differ in their aggregations, and that run as a single search.
+ *
+ * The aggregations of each distinct sub-request are wrapped in a {@code filter} aggregation matching all documents, so that the
+ * shards evaluate the shared query once and collect all the aggregation trees in the same pass over the matching documents. Exact
+ * duplicates share the same wrapper. The response of the merged search is then split back per sub-request.
+ *
+ * @opensearch.internal
+ */
+final class MultiSearchRequestGroup {
+
+    static final String AGGREGATION_PREFIX = "_msearch_shared_";
+
+    private final SearchRequest request;
+    private final List<SearchRequestSlot> slots;
+    private final Map<Integer, String> aggregationNames;
+
+    private MultiSearchRequestGroup(SearchRequest request, List<SearchRequestSlot> slots, Map<Integer, String> aggregationNames) {
+        this.request = request;
+        this.slots = slots;
+        this.aggregationNames = aggregationNames;
+    }
+
+    /**
+     * The merged search request of the group.
+     */
+    SearchRequest request() {
+        return request;
+    }
+
+    /**
+     * The slots of the sub-requests of the group, in the order of the multi search request.
+     */
+    List<SearchRequestSlot> slots() {
+        return slots;
+    }
+
+    /**
+     * Builds the response of the sub-request in the provided slot from the response of the merged search.
+     */
+    SearchResponse split(SearchResponse response, int responseSlot) {
+        if (aggregationNames.isEmpty()) {
+            // none of the sub-requests has aggregations, they are all the same request
+            return response;
+        }
+        InternalAggregations aggregations = null;
+        String name = aggregationNames.get(responseSlot);
+        if (name != null && response.getAggregations() != null) {
+            InternalFilter filter = response.getAggregations().get(name);
+            aggregations = filter == null ? null : filter.getAggregations();
+        }
+        SearchResponseSections sections = response.getInternalResponse();
+        InternalSearchResponse internalResponse = new InternalSearchResponse(
+            sections.hits(),
+            aggregations,
+            sections.suggest(),
+            null,
+            sections.timedOut(),
+            sections.terminatedEarly(),
+            sections.getNumReducePhases(),
+            sections.getSearchExtBuilders(),
+            sections.getProcessorResult()
+        );
+        return new SearchResponse(
+            internalResponse,
+            response.getScrollId(),
+            response.getTotalShards(),
+            response.getSuccessfulShards(),
+            response.getSkippedShards(),
+            response.getTook().millis(),
+            response.getPhaseTook(),
+            response.getReduceStats(),
+            response.getShardFailures(),
+            response.getClusters(),
+            response.pointInTimeId()
+        );
+    }
+
+    /**
+     * Groups the sub-requests that can share their execution. Sub-requests are compatible if they are equal once their
+     * aggregations are removed. The returned queue holds one slot per group of two or more sub-requests, at the position of
+     * the first sub-request of the group, and the slots of the sub-requests that share their execution with no other one.
+     */
+    static Queue<SearchRequestSlot> group(Collection<SearchRequestSlot> slots, Metadata metadata) {
+        boolean defaultPipelines = hasDefaultPipeline(metadata.indices().values());
+        // sub-requests that cannot share their execution are keyed by their own slot
+        Map<Object, List<SearchRequestSlot>> groups = new LinkedHashMap<>();
+        for (SearchRequestSlot slot : slots) {
+            boolean canShareExecution = canShareExecution(slot.request)
+                && (defaultPipelines == false || usesDefaultPipeline(slot.request, metadata) == false);
+            Object key = canShareExecution ? withoutAggregations(slot.request) : slot;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(slot);
+        }
+        Queue<SearchRequestSlot> grouped = new ConcurrentLinkedQueue<>();
+        for (List<SearchRequestSlot> members : groups.values()) {
+            grouped.add(members.size() == 1 ? members.get(0) : new SearchRequestSlot(merge(members)));
+        }
+        return grouped;
+    }
+
+    private static boolean canShareExecution(SearchRequest request) {
+        if (request.scroll() != null || request.pipeline() != null) {
+            return false;
+        }
+        SearchSourceBuilder source = request.source();
+        if (source == null) {
+            return true;
+        }
+        // profiles and search pipelines would see the aggregations of the other sub-requests
+        if (source.pointInTimeBuilder() != null || source.profile() || source.pipeline() != null || source.searchPipelineSource() != null) {
+            return false;
+        }
+        if (source.aggregations() != null) {
+            for (AggregationBuilder aggregation : source.aggregations().getAggregatorFactories()) {
+                if (aggregation.getName().startsWith(AGGREGATION_PREFIX)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the sub-request may target an index with a default search pipeline, which would see the aggregations of
+     * the other sub-requests. Expressions that are not the name of an index or alias, such as wildcards, date math or remote
+     * indices, are assumed to do so.
+     */
+    private static boolean usesDefaultPipeline(SearchRequest request, Metadata metadata) {
+        if (request.indices() == null || request.indices().length == 0) {
+            return true;
+        }
+        for (String expression : request.indices()) {
+            if (Regex.isSimpleMatchPattern(expression)
+                || Metadata.ALL.equals(expression)
+                || expression.startsWith("<")
+                || expression.indexOf(RemoteClusterAware.REMOTE_CLUSTER_INDEX_SEPARATOR) >= 0) {
+                return true;
+            }
+            // a missing index fails the search whether or not it is shared
+            IndexAbstraction indexAbstraction = metadata.getIndicesLookup().get(expression);
+            if (indexAbstraction != null && hasDefaultPipeline(indexAbstraction.getIndices())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDefaultPipeline(Collection<IndexMetadata> indices) {
+        for (IndexMetadata index : indices) {
+            if (SearchPipelineService.NOOP_PIPELINE_ID.equals(IndexSettings.DEFAULT_SEARCH_PIPELINE.get(index.getSettings())) == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SearchRequest withoutAggregations(SearchRequest request) {
+        SearchRequest copy = new SearchRequest(request);
+        if (request.source() != null) {
+            copy.source(request.source().shallowCopy().aggregations(null));
+        }
+        return copy;
+    }
+
+    private static MultiSearchRequestGroup merge(List<SearchRequestSlot> members) {
+        SearchRequest first = members.get(0).request;
+        SearchRequest merged = withoutAggregations(first);
+        merged.setParentTask(first.getParentTask());
+        Map<AggregatorFactories.Builder, String> distinctAggregations = new HashMap<>();
+        Map<Integer, String> aggregationNames = new HashMap<>();
+        for (SearchRequestSlot member : members) {
+            AggregatorFactories.Builder aggregations = member.request.source() == null ? null : member.request.source().aggregations();
+            if (aggregations == null || aggregations.count() == 0) {
+                continue;
+            }
+            String name = distinctAggregations.get(aggregations);
+            if (name == null) {
+                name = AGGREGATION_PREFIX + distinctAggregations.size();
+                distinctAggregations.put(aggregations, name);
+                FilterAggregationBuilder wrapper = new FilterAggregationBuilder(name, QueryBuilders.matchAllQuery());
+                merged.source().aggregation(wrapper.subAggregations(aggregations));
+            }
+            aggregationNames.put(member.responseSlot, name);
+        }
+        return new MultiSearchRequestGroup(merged, List.copyOf(members), aggregationNames);
+    }
+}
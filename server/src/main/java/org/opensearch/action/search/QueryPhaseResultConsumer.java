@@ -35,6 +35,8 @@ package org.opensearch.action.search;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -57,6 +59,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -68,6 +73,13 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * Up to {@code maxConcurrentReduces} partial reduces run concurrently on the provided executor. Each of them merges a batch
+ * of shard results with the partially reduced results that are available when it starts, so that partial results are
+ * merged as a tree rather than a chain. Partially reduced aggregations are kept in serialized form once the memory
+ * accounted for this consumer exceeds {@code reduceMemoryBudget}.
+ * With more than one concurrent reduce, which shard results are merged together depends on the order in which reduces
+ * complete, so floating point values such as sums and averages may differ in their last digits from one execution of the
+ * same search to the next. A single concurrent reduce always merges the results in the same order.
  *
  * @opensearch.internal
  */
@@ -85,6 +97,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final int maxConcurrentReduces;
+    private final long reduceMemoryBudget;
+
+    private final AtomicLong partialReduceNanos = new AtomicLong();
+    private volatile long finalReduceNanos;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
@@ -127,8 +144,43 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            1,
+            Long.MAX_VALUE
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that runs up to {@code maxConcurrentReduces} partial reduces at a time and
+     * keeps partially reduced aggregations serialized once the memory it accounted for exceeds {@code reduceMemoryBudget}.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentReduces,
+        long reduceMemoryBudget
     ) {
         super(expectedResultSize);
+        if (maxConcurrentReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentReduces must be >= 1 but was: " + maxConcurrentReduces);
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -138,6 +190,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.topNSize = SearchPhaseController.getTopDocsSize(request);
         this.performFinalReduce = request.isFinalReduce();
         this.cancelTaskOnFailure = cancelTaskOnFailure;
+        this.maxConcurrentReduces = maxConcurrentReduces;
+        this.reduceMemoryBudget = reduceMemoryBudget;
 
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
@@ -173,6 +227,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         if (pendingReduces.hasFailure()) {
             throw pendingReduces.failure.get();
         }
+        final long startNanos = System.nanoTime();
 
         // ensure consistent ordering
         pendingReduces.sortBuffer();
@@ -194,6 +249,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             aggReduceContextBuilder,
             performFinalReduce
         );
+        finalReduceNanos = System.nanoTime() - startNanos;
         if (hasAggs && reducePhase.aggregations != null) {
             // Update the circuit breaker to replace the estimation with the serialized size of the newly reduced result
             long finalSize = reducePhase.aggregations.getSerializedSize() - breakerSize;
@@ -213,28 +269,42 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return reducePhase;
     }
 
+    @Override
+    SearchResponse.ReduceStats getReduceStats() {
+        if (pendingReduces.numReducePhases == 0) {
+            return null;
+        }
+        return new SearchResponse.ReduceStats(
+            TimeUnit.NANOSECONDS.toMillis(partialReduceNanos.get()),
+            TimeUnit.NANOSECONDS.toMillis(finalReduceNanos),
+            pendingReduces.maxAggsCurrentBufferSize,
+            pendingReduces.spilledResults.get()
+        );
+    }
+
     private ReduceResult partialReduce(
         QuerySearchResult[] toConsume,
         List<SearchShard> emptyResults,
         SearchPhaseController.TopDocsStats topDocsStats,
-        ReduceResult lastReduceResult,
-        int numReducePhases
+        List<ReduceResult> lastReduceResults
     ) {
         checkCancellation();
         if (pendingReduces.hasFailure()) {
-            return lastReduceResult;
+            return null;
         }
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+        synchronized (topDocsStats) {
+            for (QuerySearchResult result : toConsume) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
         }
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 topDocsList.add(lastReduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -255,8 +325,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastReduceResult != null) {
-                aggsList.add(lastReduceResult.reducedAggs);
+            for (ReduceResult lastReduceResult : lastReduceResults) {
+                aggsList.add(lastReduceResult.reducedAggs.expand());
             }
             for (QuerySearchResult result : toConsume) {
                 aggsList.add(result.consumeAggs().expand());
@@ -266,18 +336,17 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastReduceResult != null) {
+        for (ReduceResult lastReduceResult : lastReduceResults) {
             processedShards.addAll(lastReduceResult.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
-        return new ReduceResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
+        return new ReduceResult(processedShards, newTopDocs, hasAggs ? DelayableWriteable.referencing(newAggs) : null, serializedSize);
     }
 
     private void checkCancellation() {
@@ -295,7 +364,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      * triggering partial reduce operations when the threshold is reached.
      * <ul>
      * <li>Handles circuit breaker memory accounting</li>
-     * <li>Coordinates reduce task execution to be one at a time</li>
+     * <li>Coordinates reduce task execution to be at most {@code maxConcurrentReduces} at a time</li>
      * <li>Provides thread-safe failure handling with cleanup</li>
      * </ul>
      *
@@ -312,13 +381,15 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<ReduceTask> queue = new ArrayDeque<>();
-        private final AtomicReference<ReduceTask> runningTask = new AtomicReference<>(); // ensure only one task is running
+        private final List<ReduceTask> runningTasks = new ArrayList<>(); // at most maxConcurrentReduces tasks are running
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
-        private volatile ReduceResult reduceResult;
+        // the partially reduced results that were not merged by a later reduce yet
+        private final List<ReduceResult> reduceResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
+        private final AtomicInteger spilledResults = new AtomicInteger();
 
         PendingReduces(int batchReduceSize, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
@@ -341,8 +412,21 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        private boolean hasPendingReduceTask() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        private synchronized boolean hasPendingReduceTask() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
+        }
+
+        private synchronized int nextReducePhase() {
+            return ++numReducePhases;
+        }
+
+        /**
+         * Takes the partially reduced results that a new partial reduce merges with its batch of shard results.
+         */
+        private synchronized List<ReduceResult> takeReduceResults() {
+            List<ReduceResult> toMerge = new ArrayList<>(reduceResults);
+            reduceResults.clear();
+            return toMerge;
         }
 
         private void sortBuffer() {
@@ -450,69 +534,92 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private void tryExecuteNext() {
-            final ReduceTask task;
+            final List<ReduceTask> tasks = new ArrayList<>();
             synchronized (this) {
                 if (hasFailure()) {
                     return;
                 }
-                if (queue.isEmpty() || runningTask.get() != null) {
-                    return;
+                while (queue.isEmpty() == false && runningTasks.size() < maxConcurrentReduces) {
+                    ReduceTask task = queue.poll();
+                    runningTasks.add(task);
+                    tasks.add(task);
                 }
-                task = queue.poll();
-                runningTask.compareAndSet(null, task);
             }
-
-            executor.execute(new AbstractRunnable() {
-                @Override
-                protected void doRun() {
-                    final ReduceResult thisReduceResult = reduceResult;
-                    long estimatedTotalSize = (thisReduceResult != null ? thisReduceResult.estimatedSize : 0) + task.aggsBufferSize;
-                    final ReduceResult newReduceResult;
-                    try {
-                        final QuerySearchResult[] toConsume = task.consumeBuffer();
-                        if (toConsume == null) {
-                            onAfterReduce(task, null, 0);
+            for (ReduceTask task : tasks) {
+                executor.execute(new AbstractRunnable() {
+                    @Override
+                    protected void doRun() {
+                        final List<ReduceResult> toMerge = takeReduceResults();
+                        long estimatedTotalSize = task.aggsBufferSize;
+                        for (ReduceResult result : toMerge) {
+                            estimatedTotalSize += result.estimatedSize;
+                        }
+                        final ReduceResult newReduceResult;
+                        try {
+                            final QuerySearchResult[] toConsume = task.consumeBuffer();
+                            if (toConsume == null) {
+                                onAfterReduce(task, null, 0);
+                                return;
+                            }
+                            long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
+                            addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
+                            estimatedTotalSize += estimateRamBytesUsedForReduce;
+                            nextReducePhase();
+                            final long startNanos = System.nanoTime();
+                            newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, toMerge);
+                            partialReduceNanos.addAndGet(System.nanoTime() - startNanos);
+                        } catch (Exception t) {
+                            PendingReduces.this.onFailure(t);
                             return;
                         }
-                        long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
-                        addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
-                        estimatedTotalSize += estimateRamBytesUsedForReduce;
-                        ++numReducePhases;
-                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, numReducePhases);
-                    } catch (Exception t) {
-                        PendingReduces.this.onFailure(t);
-                        return;
+                        onAfterReduce(task, newReduceResult, estimatedTotalSize);
                     }
-                    onAfterReduce(task, newReduceResult, estimatedTotalSize);
-                }
 
-                @Override
-                public void onFailure(Exception exc) {
-                    PendingReduces.this.onFailure(exc);
-                }
-            });
+                    @Override
+                    public void onFailure(Exception exc) {
+                        PendingReduces.this.onFailure(exc);
+                    }
+                });
+            }
         }
 
         private void onAfterReduce(ReduceTask task, ReduceResult newResult, long estimatedSize) {
             if (newResult != null) {
+                ReduceResult result = newResult;
+                if (hasAggs && circuitBreakerBytes + newResult.estimatedSize - estimatedSize > reduceMemoryBudget) {
+                    // over budget: keep the reduced aggregations in their compact serialized form until they are merged again
+                    result = newResult.spill(namedWriteableRegistry);
+                    spilledResults.incrementAndGet();
+                }
+                final boolean coversAllReducedShards;
                 synchronized (this) {
                     if (hasFailure()) {
                         return;
                     }
-                    runningTask.compareAndSet(task, null);
-                    reduceResult = newResult;
+                    runningTasks.remove(task);
                     if (hasAggs) {
                         // Update the circuit breaker to remove the size of the source aggregations
-                        // and replace the estimation with the serialized size of the newly reduced result.
-                        long newSize = reduceResult.estimatedSize - estimatedSize;
+                        // and replace the estimation with the size of the newly reduced result, serialized if it was spilled.
+                        long newSize = result.estimatedSize - estimatedSize;
                         addWithoutBreaking(newSize);
                         logger.trace(
                             "aggs partial reduction [{}->{}] max [{}]",
                             estimatedSize,
-                            reduceResult.estimatedSize,
+                            result.estimatedSize,
                             maxAggsCurrentBufferSize
                         );
                     }
+                    // concurrent reduces produce results that only cover a subset of the shards reduced so far
+                    coversAllReducedShards = reduceResults.isEmpty() && runningTasks.isEmpty();
+                    reduceResults.add(result);
+                }
+                if (coversAllReducedShards) {
+                    final TotalHits totalHits;
+                    synchronized (topDocsStats) {
+                        totalHits = topDocsStats.getTotalHits();
+                    }
+                    InternalAggregations aggs = newResult.reducedAggs == null ? null : newResult.reducedAggs.expand();
+                    progressListener.notifyPartialReduce(newResult.processedShards, totalHits, aggs, numReducePhases);
                 }
             }
             task.consumeListener();
@@ -533,15 +640,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private synchronized void clearReduceTaskQueue() {
-            ReduceTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
-            List<ReduceTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
+            List<ReduceTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             toCancels.addAll(queue);
             queue.clear();
-            reduceResult = null;
+            reduceResults.clear();
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -559,7 +662,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (reduceResult != null) {
+            for (ReduceResult reduceResult : reduceResults) {
                 topDocsList.add(reduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -575,8 +678,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (reduceResult != null) {
-                aggsList.add(reduceResult.reducedAggs);
+            for (ReduceResult reduceResult : reduceResults) {
+                aggsList.add(reduceResult.reducedAggs.expand());
             }
             for (QuerySearchResult result : buffer) {
                 aggsList.add(result.consumeAggs().expand());
@@ -590,8 +693,19 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      *
      * @opensearch.internal
      */
-    private record ReduceResult(List<SearchShard> processedShards, TopDocs reducedTopDocs, InternalAggregations reducedAggs,
-        long estimatedSize) {
+    private record ReduceResult(List<SearchShard> processedShards, TopDocs reducedTopDocs,
+        DelayableWriteable<InternalAggregations> reducedAggs, long estimatedSize) {
+
+        /**
+         * Returns this result with its aggregations in serialized form, accounted for with the size of the serialized bytes.
+         */
+        ReduceResult spill(NamedWriteableRegistry namedWriteableRegistry) {
+            DelayableWriteable.Serialized<InternalAggregations> serialized = reducedAggs.asSerialized(
+                InternalAggregations::readFrom,
+                namedWriteableRegistry
+            );
+            return new ReduceResult(processedShards, reducedTopDocs, serialized, serialized.ramBytesUsed());
+        }
     }
 
     /**
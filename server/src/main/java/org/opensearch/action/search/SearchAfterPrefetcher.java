@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.StepListener;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.telemetry.tracing.TracerContextStorage;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pipelines the pages of searches that export a point in time with {@code search_after}.
+ *
+ * Once a page of such a search is returned, the coordinating node runs the search of the next page in the background, with
+ * the sort values of the last hit as {@code search_after}, so that the shards work on the next page while the client consumes
+ * the current one. A point in time is immutable, so the prefetched page is the page the client gets when it asks for it
+ * within {@link #SEARCH_PREFETCH_TTL_SETTING}. Prefetched pages are keyed by the request and by the request and transient
+ * headers of the thread context, which hold the identity of the caller and its document and field level security, so that a
+ * page is only served to the same caller. Only one page ahead is prefetched per search, and prefetched pages are accounted
+ * for by the request circuit breaker until they are served or expire.
+ *
+ * @opensearch.internal
+ */
+public final class SearchAfterPrefetcher {
+
+    private static final Logger logger = LogManager.getLogger(SearchAfterPrefetcher.class);
+
+    public static final String PREFETCH_ACTION_NAME = SearchAction.NAME + "[prefetch]";
+
+    /**
+     * Whether the coordinating node prefetches the next page of point in time searches paginated with {@code search_after}.
+     */
+    public static final Setting<Boolean> SEARCH_PREFETCH_ENABLED_SETTING = Setting.boolSetting(
+        "search.pit.prefetch.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * How long a prefetched page is kept for the client to ask for it.
+     */
+    public static final Setting<TimeValue> SEARCH_PREFETCH_TTL_SETTING = Setting.timeSetting(
+        "search.pit.prefetch.ttl",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.timeValueMillis(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of pages that are prefetched or kept by the coordinating node at the same time.
+     */
+    public static final Setting<Integer> SEARCH_PREFETCH_MAX_PAGES_SETTING = Setting.intSetting(
+        "search.pit.prefetch.max_pages",
+        64,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The transient headers that are set per request rather than per caller, and are left out of the key of a page.
+     */
+    private static final Set<String> PER_REQUEST_TRANSIENT_HEADERS = Set.of(
+        TaskResourceTrackingService.TASK_ID,
+        TracerContextStorage.CURRENT_SPAN,
+        "_remote_address"
+    );
+
+    /**
+     * The estimated size of a hit on top of its source.
+     */
+    private static final long HIT_OVERHEAD_BYTES = 1024;
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<PageKey, PrefetchedPage> pages = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile TimeValue ttl;
+    private volatile int maxPages;
+
+    public SearchAfterPrefetcher(
+        ClusterSettings clusterSettings,
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        CircuitBreaker circuitBreaker
+    ) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.circuitBreaker = circuitBreaker;
+        this.enabled = clusterSettings.get(SEARCH_PREFETCH_ENABLED_SETTING);
+        this.ttl = clusterSettings.get(SEARCH_PREFETCH_TTL_SETTING);
+        this.maxPages = clusterSettings.get(SEARCH_PREFETCH_MAX_PAGES_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_PREFETCH_ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_PREFETCH_TTL_SETTING, value -> this.ttl = value);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_PREFETCH_MAX_PAGES_SETTING, value -> this.maxPages = value);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            removePages(page -> true);
+        }
+    }
+
+    private void removePages(Predicate<PrefetchedPage> predicate) {
+        for (Map.Entry<PageKey, PrefetchedPage> entry : pages.entrySet()) {
+            PrefetchedPage page = entry.getValue();
+            if (predicate.test(page) && pages.remove(entry.getKey(), page)) {
+                page.release();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the pages of the provided search may be prefetched.
+     */
+    boolean isEnabled(SearchRequest searchRequest) {
+        if (enabled == false || maxPages == 0 || searchRequest.scroll() != null) {
+            return false;
+        }
+        SearchSourceBuilder source = searchRequest.source();
+        if (source == null || source.pointInTimeBuilder() == null || source.sorts() == null || source.sorts().isEmpty()) {
+            return false;
+        }
+        // the next page of a search is only defined by search_after on its own, and without parts computed over all the hits
+        return source.size() != 0
+            && source.from() <= 0
+            && source.aggregations() == null
+            && source.suggest() == null
+            && source.collapse() == null
+            && source.profile() == false;
+    }
+
+    /**
+     * Completes the listener with the page prefetched for the provided search, and returns whether there was one. The search is
+     * run by the fallback if the prefetch of the page failed.
+     */
+    boolean serve(SearchRequest searchRequest, ActionListener<SearchResponse> listener, Runnable fallback) {
+        long now = threadPool.relativeTimeInMillis();
+        removePages(page -> page.expirationMillis < now);
+        PrefetchedPage page = pages.remove(PageKey.of(searchRequest, threadPool.getThreadContext()));
+        if (page == null) {
+            return false;
+        }
+        page.response.whenComplete(response -> {
+            page.release();
+            listener.onResponse(response);
+        }, e -> {
+            page.release();
+            logger.debug("failed to prefetch search page, running the search again", e);
+            fallback.run();
+        });
+        return true;
+    }
+
+    /**
+     * Wraps the listener of a search to prefetch its next page with the provided executor once the search returned a full page.
+     */
+    ActionListener<SearchResponse> prefetchNextPage(
+        SearchRequest searchRequest,
+        ActionListener<SearchResponse> listener,
+        BiConsumer<SearchRequest, ActionListener<SearchResponse>> executor
+    ) {
+        final Supplier<ThreadContext.StoredContext> context = threadPool.getThreadContext().newRestorableContext(false);
+        return ActionListener.wrap(response -> {
+            try (ThreadContext.StoredContext ignored = context.get()) {
+                maybePrefetch(searchRequest, response, executor);
+            } catch (Exception e) {
+                logger.debug("failed to prefetch search page", e);
+            }
+            listener.onResponse(response);
+        }, listener::onFailure);
+    }
+
+    private void maybePrefetch(
+        SearchRequest searchRequest,
+        SearchResponse response,
+        BiConsumer<SearchRequest, ActionListener<SearchResponse>> executor
+    ) {
+        if (enabled == false || response.getShardFailures().length > 0 || response.isTimedOut() || response.getHits() == null) {
+            return;
+        }
+        SearchSourceBuilder source = searchRequest.source();
+        SearchHit[] hits = response.getHits().getHits();
+        int size = source.size() < 0 ? SearchService.DEFAULT_SIZE : source.size();
+        if (hits.length < size) {
+            // the last page
+            return;
+        }
+        Object[] sortValues = hits[hits.length - 1].getSortValues();
+        if (sortValues == null || sortValues.length == 0) {
+            return;
+        }
+        SearchSourceBuilder nextSource = source.shallowCopy().searchAfter(sortValues);
+        if (response.pointInTimeId() != null) {
+            PointInTimeBuilder pointInTime = new PointInTimeBuilder(response.pointInTimeId());
+            pointInTime.setKeepAlive(source.pointInTimeBuilder().getKeepAlive());
+            nextSource.pointInTimeBuilder(pointInTime);
+        }
+        SearchRequest next = new SearchRequest(searchRequest).source(nextSource);
+        long now = threadPool.relativeTimeInMillis();
+        removePages(page -> page.expirationMillis < now);
+        if (pages.size() >= maxPages) {
+            return;
+        }
+        PageKey key = PageKey.of(next, threadPool.getThreadContext());
+        PrefetchedPage page = new PrefetchedPage(now + ttl.millis());
+        if (pages.putIfAbsent(key, page) == null) {
+            executor.accept(next, ActionListener.wrap(nextResponse -> {
+                try {
+                    page.charge(estimateBytes(nextResponse));
+                } catch (CircuitBreakingException e) {
+                    // the page is dropped and the client runs the search on its own
+                    pages.remove(key, page);
+                    page.response.onFailure(e);
+                    return;
+                }
+                page.response.onResponse(nextResponse);
+            }, page.response::onFailure));
+        }
+    }
+
+    private static long estimateBytes(SearchResponse response) {
+        if (response.getHits() == null) {
+            return HIT_OVERHEAD_BYTES;
+        }
+        long bytes = HIT_OVERHEAD_BYTES;
+        for (SearchHit hit : response.getHits().getHits()) {
+            bytes += HIT_OVERHEAD_BYTES + (hit.getSourceRef() == null ? 0 : hit.getSourceRef().length());
+        }
+        return bytes;
+    }
+
+    /**
+     * Registers the task that the search of a prefetched page runs under.
+     */
+    SearchTask registerTask(SearchRequest searchRequest) {
+        return (SearchTask) taskManager.register("transport", PREFETCH_ACTION_NAME, searchRequest);
+    }
+
+    /**
+     * Unregisters the task of a prefetched page once its search completed.
+     */
+    void unregisterTask(SearchTask task) {
+        taskManager.unregister(task);
+    }
+
+    /**
+     * Returns the number of pages that are prefetched or kept by the coordinating node.
+     */
+    int pendingPages() {
+        return pages.size();
+    }
+
+    /**
+     * A prefetched page, whose bytes are held on the request circuit breaker from the time its response arrives until it is
+     * served, expires or prefetching is disabled.
+     */
+    private final class PrefetchedPage {
+        private final StepListener<SearchResponse> response = new StepListener<>();
+        private final long expirationMillis;
+        private long chargedBytes;
+        private boolean released;
+
+        private PrefetchedPage(long expirationMillis) {
+            this.expirationMillis = expirationMillis;
+        }
+
+        synchronized void charge(long bytes) {
+            if (released == false) {
+                circuitBreaker.addEstimateBytesAndMaybeBreak(bytes, "<prefetched_search_page>");
+                chargedBytes = bytes;
+            }
+        }
+
+        synchronized void release() {
+            if (released == false) {
+                released = true;
+                circuitBreaker.addWithoutBreaking(-chargedBytes);
+                chargedBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * The key of a page. The source is compared through its JSON rendering since the {@code search_after} values that a client
+     * sends back are parsed to other types than the sort values of the hits it got. The transient headers hold the authenticated
+     * user and its document and field level security, and are compared as they are, so that transient values that do not
+     * define equality never match and the page is not served.
+     */
+    private record PageKey(SearchRequest parameters, String source, Map<String, String> headers, Map<String, Object> transients) {
+
+        static PageKey of(SearchRequest searchRequest, ThreadContext threadContext) {
+            SearchRequest parameters = new SearchRequest(searchRequest).source(new SearchSourceBuilder());
+            // the search sets whether it reports the took time of its phases on the request it executes
+            parameters.setPhaseTook(null);
+            Map<String, Object> transients = new HashMap<>(threadContext.getTransientHeaders());
+            transients.keySet().removeAll(PER_REQUEST_TRANSIENT_HEADERS);
+            return new PageKey(parameters, searchRequest.source().toString(), Map.copyOf(threadContext.getHeaders()), transients);
+        }
+    }
+}
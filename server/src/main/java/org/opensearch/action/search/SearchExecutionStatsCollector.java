@@ -33,8 +33,10 @@
 package org.opensearch.action.search;
 
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
@@ -53,18 +55,37 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
 
     private final ActionListener<SearchPhaseResult> listener;
     private final String nodeId;
+    private final ShardId shardId;
     private final ResponseCollectorService collector;
     private final long startNanos;
 
     SearchExecutionStatsCollector(ActionListener<SearchPhaseResult> listener, ResponseCollectorService collector, String nodeId) {
+        this(listener, collector, nodeId, null);
+    }
+
+    SearchExecutionStatsCollector(
+        ActionListener<SearchPhaseResult> listener,
+        ResponseCollectorService collector,
+        String nodeId,
+        ShardId shardId
+    ) {
         this.listener = Objects.requireNonNull(listener, "listener cannot be null");
         this.collector = Objects.requireNonNull(collector, "response collector cannot be null");
         this.startNanos = System.nanoTime();
         this.nodeId = nodeId;
+        this.shardId = shardId;
     }
 
     public static BiFunction<Transport.Connection, SearchActionListener, ActionListener> makeWrapper(ResponseCollectorService service) {
-        return (connection, originalListener) -> new SearchExecutionStatsCollector(originalListener, service, connection.getNode().getId());
+        return (connection, originalListener) -> {
+            SearchShardTarget shardTarget = originalListener.getSearchShardTarget();
+            return new SearchExecutionStatsCollector(
+                originalListener,
+                service,
+                connection.getNode().getId(),
+                shardTarget == null ? null : shardTarget.getShardId()
+            );
+        };
     }
 
     @Override
@@ -95,6 +116,15 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
             }
+            if (shardId != null) {
+                collector.addShardCopyStatistics(
+                    nodeId,
+                    shardId,
+                    responseDuration,
+                    queryResult.shardInflightQueries(),
+                    queryResult.shardCacheHitRatio()
+                );
+            }
         }
         listener.onResponse(response);
     }
@@ -155,4 +155,17 @@ public interface SearchPhaseContext extends Executor {
      * Set the resource usage info for this phase
      */
     void setPhaseResourceUsages();
+
+    /**
+     * Returns the recorder of the timeline of the request if it is profiled, {@code null} otherwise
+     */
+    @Nullable
+    default SearchTimelineRecorder getTimelineRecorder() {
+        return null;
+    }
+
+    /**
+     * Records the statistics of the reduce of the query results so that they are returned in the search response
+     */
+    default void setReduceStats(@Nullable SearchResponse.ReduceStats reduceStats) {}
 }
@@ -794,6 +794,34 @@ public final class SearchPhaseController {
         int numShards,
         Consumer<Exception> onPartialMergeFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        return newSearchPhaseResults(
+            executor,
+            circuitBreaker,
+            listener,
+            request,
+            numShards,
+            onPartialMergeFailure,
+            isTaskCancelled,
+            1,
+            Long.MAX_VALUE
+        );
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, running up to
+     * {@code maxConcurrentReduces} partial reduces at a time within a memory budget of {@code reduceMemoryBudget} bytes.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        Consumer<Exception> onPartialMergeFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentReduces,
+        long reduceMemoryBudget
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -804,7 +832,9 @@ public final class SearchPhaseController {
             namedWriteableRegistry,
             numShards,
             onPartialMergeFailure,
-            isTaskCancelled
+            isTaskCancelled,
+            maxConcurrentReduces,
+            reduceMemoryBudget
         );
     }
 
@@ -957,7 +987,8 @@ public final class SearchPhaseController {
                         existingProfile.getQueryProfileResults(),
                         existingProfile.getAggregationProfileResults(),
                         fetchProfile.getFetchProfileResult(), // Use fetch profile data
-                        existingProfile.getNetworkTime()
+                        existingProfile.getNetworkTime(),
+                        existingProfile.getQueueWaitTimeInNanos()
                     );
                     mergedResults.put(shardId, merged);
                 }
@@ -91,4 +91,11 @@ public abstract class SearchPhaseResults<Result extends SearchPhaseResult> {
     SearchPhaseController.ReducedQueryPhase reduce() throws Exception {
         throw new UnsupportedOperationException("reduce is not supported");
     }
+
+    /**
+     * Returns the statistics of the reduce of the collected results, or {@code null} if they were not reduced incrementally
+     */
+    SearchResponse.ReduceStats getReduceStats() {
+        return null;
+    }
 }
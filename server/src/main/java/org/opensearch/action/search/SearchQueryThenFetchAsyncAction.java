@@ -129,13 +129,27 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         final SearchShardIterator shardIt,
         final SearchShardTarget shard,
         final SearchActionListener<SearchPhaseResult> listener
+    ) {
+        sendExecuteQuery(shardIt, shard, getTask(), listener);
+    }
+
+    @Override
+    protected HedgedRequestSender<SearchPhaseResult> hedgedRequestSender() {
+        return this::sendExecuteQuery;
+    }
+
+    private void sendExecuteQuery(
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final SearchTask task,
+        final SearchActionListener<SearchPhaseResult> listener
     ) {
         ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt));
         // update inbound network time with current time before sending request over n/w to data node
         if (request != null) {
             request.setInboundNetworkTime(System.currentTimeMillis());
         }
-        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, task, listener);
     }
 
     @Override
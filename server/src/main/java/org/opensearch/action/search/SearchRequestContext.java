@@ -44,6 +44,9 @@ public class SearchRequestContext {
     private final LinkedBlockingQueue<TaskResourceInfo> phaseResourceUsage;
     private final Supplier<TaskResourceInfo> taskResourceUsageSupplier;
     private boolean streamingRequest;
+    private final SearchTimelineRecorder timelineRecorder;
+    private volatile SearchResponse.ReduceStats reduceStats;
+    private ShardRequestHedging shardRequestHedging;
 
     SearchRequestContext(
         final SearchRequestOperationsListener searchRequestOperationsListener,
@@ -57,6 +60,7 @@ public class SearchRequestContext {
         this.searchRequest = searchRequest;
         this.phaseResourceUsage = new LinkedBlockingQueue<>();
         this.taskResourceUsageSupplier = taskResourceUsageSupplier;
+        this.timelineRecorder = SearchTimelineRecorder.create(searchRequest);
     }
 
     SearchRequestOperationsListener getSearchRequestOperationsListener() {
@@ -165,6 +169,32 @@ public class SearchRequestContext {
     public boolean isStreamingRequest() {
         return streamingRequest;
     }
+
+    /**
+     * The recorder of the timeline of the request if it is profiled, {@code null} otherwise
+     */
+    SearchTimelineRecorder getTimelineRecorder() {
+        return timelineRecorder;
+    }
+
+    /**
+     * The hedging of the shard requests of the query phase if it is enabled for the request, {@code null} otherwise
+     */
+    ShardRequestHedging getShardRequestHedging() {
+        return shardRequestHedging;
+    }
+
+    void setShardRequestHedging(ShardRequestHedging shardRequestHedging) {
+        this.shardRequestHedging = shardRequestHedging;
+    }
+
+    void setReduceStats(SearchResponse.ReduceStats reduceStats) {
+        this.reduceStats = reduceStats;
+    }
+
+    SearchResponse.ReduceStats getReduceStats() {
+        return reduceStats;
+    }
 }
 
 enum ShardStatsFieldNames {
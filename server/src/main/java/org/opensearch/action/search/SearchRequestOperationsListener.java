@@ -53,6 +53,10 @@ public abstract class SearchRequestOperationsListener {
 
     protected void onRequestFailure(SearchPhaseContext context, SearchRequestContext searchRequestContext) {}
 
+    protected void onCanMatchLocalDecisions(SearchPhaseContext context, int savedRequests, int prunedShards) {}
+
+    protected void onShardRequestsHedged(SearchPhaseContext context, int hedgedRequests, int hedgedRequestsWon) {}
+
     protected boolean isEnabled(SearchRequest searchRequest) {
         return isEnabled();
     }
@@ -146,6 +150,28 @@ public abstract class SearchRequestOperationsListener {
             }
         }
 
+        @Override
+        protected void onCanMatchLocalDecisions(SearchPhaseContext context, int savedRequests, int prunedShards) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onCanMatchLocalDecisions(context, savedRequests, prunedShards);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onCanMatchLocalDecisions listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        protected void onShardRequestsHedged(SearchPhaseContext context, int hedgedRequests, int hedgedRequestsWon) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onShardRequestsHedged(context, hedgedRequests, hedgedRequestsWon);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onShardRequestsHedged listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         public List<SearchRequestOperationsListener> getListeners() {
             return listeners;
         }
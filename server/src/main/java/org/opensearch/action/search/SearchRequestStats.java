@@ -28,6 +28,12 @@ import java.util.concurrent.TimeUnit;
 public final class SearchRequestStats extends SearchRequestOperationsListener {
     Map<SearchPhaseName, StatsHolder> phaseStatsMap = new EnumMap<>(SearchPhaseName.class);
     StatsHolder tookStatsHolder;
+    final CounterMetric canMatchSavedRequests = new CounterMetric();
+    final CounterMetric canMatchPrunedShards = new CounterMetric();
+    final CounterMetric hedgedRequests = new CounterMetric();
+    final CounterMetric hedgedRequestsWon = new CounterMetric();
+    final CounterMetric multiSearchSharedRequests = new CounterMetric();
+    final CounterMetric multiSearchSeparateRequests = new CounterMetric();
 
     public static final String SEARCH_REQUEST_STATS_ENABLED_KEY = "search.request_stats_enabled";
     public static final Setting<Boolean> SEARCH_REQUEST_STATS_ENABLED = Setting.boolSetting(
@@ -71,6 +77,58 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         return tookStatsHolder.timing.sum();
     }
 
+    /**
+     * Returns the number of can_match round-trips saved by the shard field summaries of the coordinator.
+     */
+    public long getCanMatchSavedRequests() {
+        return canMatchSavedRequests.count();
+    }
+
+    /**
+     * Returns the number of shards pruned by the can_match phase using the shard field summaries of the coordinator.
+     */
+    public long getCanMatchPrunedShards() {
+        return canMatchPrunedShards.count();
+    }
+
+    /**
+     * Returns the number of hedged shard requests sent by the query phase.
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.count();
+    }
+
+    /**
+     * Returns the number of hedged shard requests that responded before the request they duplicated.
+     */
+    public long getHedgedRequestsWon() {
+        return hedgedRequestsWon.count();
+    }
+
+    /**
+     * Returns the number of multi search sub-requests that ran as part of a search shared with other sub-requests.
+     */
+    public long getMultiSearchSharedRequests() {
+        return multiSearchSharedRequests.count();
+    }
+
+    /**
+     * Returns the number of multi search sub-requests that ran on their own while shared execution was enabled.
+     */
+    public long getMultiSearchSeparateRequests() {
+        return multiSearchSeparateRequests.count();
+    }
+
+    /**
+     * Records how the sub-requests of a multi search request with shared execution enabled ran.
+     */
+    void onMultiSearchExecution(int sharedRequests, int separateRequests) {
+        if (isEnabled()) {
+            multiSearchSharedRequests.inc(sharedRequests);
+            multiSearchSeparateRequests.inc(separateRequests);
+        }
+    }
+
     @Override
     protected void onPhaseStart(SearchPhaseContext context) {
         context.getCurrentPhase().getSearchPhaseNameOptional().ifPresent(name -> phaseStatsMap.get(name).current.inc());
@@ -91,6 +149,18 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         context.getCurrentPhase().getSearchPhaseNameOptional().ifPresent(name -> phaseStatsMap.get(name).current.dec());
     }
 
+    @Override
+    protected void onCanMatchLocalDecisions(SearchPhaseContext context, int savedRequests, int prunedShards) {
+        canMatchSavedRequests.inc(savedRequests);
+        canMatchPrunedShards.inc(prunedShards);
+    }
+
+    @Override
+    protected void onShardRequestsHedged(SearchPhaseContext context, int hedgedRequests, int hedgedRequestsWon) {
+        this.hedgedRequests.inc(hedgedRequests);
+        this.hedgedRequestsWon.inc(hedgedRequestsWon);
+    }
+
     @Override
     protected void onRequestStart(SearchRequestContext searchRequestContext) {
         tookStatsHolder.current.inc();
@@ -102,6 +102,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
     private final Clusters clusters;
     private final long tookInMillis;
     private final PhaseTook phaseTook;
+    private final ReduceStats reduceStats;
 
     public SearchResponse(StreamInput in) throws IOException {
         super(in);
@@ -127,6 +128,11 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         }
         skippedShards = in.readVInt();
         pointInTimeId = in.readOptionalString();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            reduceStats = in.readOptionalWriteable(ReduceStats::new);
+        } else {
+            reduceStats = null;
+        }
     }
 
     public SearchResponse(
@@ -178,6 +184,34 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         ShardSearchFailure[] shardFailures,
         Clusters clusters,
         String pointInTimeId
+    ) {
+        this(
+            internalResponse,
+            scrollId,
+            totalShards,
+            successfulShards,
+            skippedShards,
+            tookInMillis,
+            phaseTook,
+            null,
+            shardFailures,
+            clusters,
+            pointInTimeId
+        );
+    }
+
+    public SearchResponse(
+        SearchResponseSections internalResponse,
+        String scrollId,
+        int totalShards,
+        int successfulShards,
+        int skippedShards,
+        long tookInMillis,
+        PhaseTook phaseTook,
+        ReduceStats reduceStats,
+        ShardSearchFailure[] shardFailures,
+        Clusters clusters,
+        String pointInTimeId
     ) {
         this.internalResponse = internalResponse;
         this.scrollId = scrollId;
@@ -188,6 +222,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         this.skippedShards = skippedShards;
         this.tookInMillis = tookInMillis;
         this.phaseTook = phaseTook;
+        this.reduceStats = reduceStats;
         this.shardFailures = shardFailures;
         assert skippedShards <= totalShards : "skipped: " + skippedShards + " total: " + totalShards;
         assert scrollId == null || pointInTimeId == null : "SearchResponse can't have both scrollId ["
@@ -257,6 +292,14 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         return phaseTook;
     }
 
+    /**
+     * The time spent reducing the shard results and the peak memory that the reduce accounted for, or {@code null}
+     * if the shard results were reduced in a single phase.
+     */
+    public ReduceStats getReduceStats() {
+        return reduceStats;
+    }
+
     /**
      * The total number of shards the search was executed on.
      */
@@ -355,6 +398,9 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         if (getNumReducePhases() != 1) {
             builder.field(NUM_REDUCE_PHASES.getPreferredName(), getNumReducePhases());
         }
+        if (reduceStats != null) {
+            reduceStats.toXContent(builder, params);
+        }
         RestActions.buildBroadcastShardsHeader(
             builder,
             params,
@@ -388,6 +434,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         int numReducePhases = 1;
         long tookInMillis = -1;
         PhaseTook phaseTook = null;
+        ReduceStats reduceStats = null;
         int successfulShards = -1;
         int totalShards = -1;
         int skippedShards = 0; // 0 for BWC
@@ -471,6 +518,8 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
                         }
                     }
                     phaseTook = new PhaseTook(phaseTookMap);
+                } else if (ReduceStats.REDUCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                    reduceStats = ReduceStats.fromXContent(parser);
                 } else if (Clusters._CLUSTERS_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     int successful = -1;
                     int total = -1;
@@ -549,6 +598,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
             skippedShards,
             tookInMillis,
             phaseTook,
+            reduceStats,
             failures.toArray(ShardSearchFailure.EMPTY_ARRAY),
             clusters,
             searchContextId
@@ -573,6 +623,9 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         }
         out.writeVInt(skippedShards);
         out.writeOptionalString(pointInTimeId);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(reduceStats);
+        }
     }
 
     @Override
@@ -751,6 +804,127 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         }
     }
 
+    /**
+     * Holds the time spent in the partial and final reduces of the query results of a search and the peak memory
+     * that these reduces accounted for in the request circuit breaker.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.8.0")
+    public static class ReduceStats implements ToXContentFragment, Writeable {
+        static final ParseField REDUCE = new ParseField("reduce");
+        private static final ParseField PARTIAL_REDUCE_TIME = new ParseField("partial_reduce_time_in_millis");
+        private static final ParseField FINAL_REDUCE_TIME = new ParseField("final_reduce_time_in_millis");
+        private static final ParseField PEAK_MEMORY = new ParseField("peak_memory_in_bytes");
+        private static final ParseField SPILLED_RESULTS = new ParseField("spilled_results");
+
+        private final long partialReduceTimeInMillis;
+        private final long finalReduceTimeInMillis;
+        private final long peakMemoryInBytes;
+        private final int spilledResults;
+
+        public ReduceStats(long partialReduceTimeInMillis, long finalReduceTimeInMillis, long peakMemoryInBytes, int spilledResults) {
+            this.partialReduceTimeInMillis = partialReduceTimeInMillis;
+            this.finalReduceTimeInMillis = finalReduceTimeInMillis;
+            this.peakMemoryInBytes = peakMemoryInBytes;
+            this.spilledResults = spilledResults;
+        }
+
+        private ReduceStats(StreamInput in) throws IOException {
+            this(in.readVLong(), in.readVLong(), in.readVLong(), in.readVInt());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(partialReduceTimeInMillis);
+            out.writeVLong(finalReduceTimeInMillis);
+            out.writeVLong(peakMemoryInBytes);
+            out.writeVInt(spilledResults);
+        }
+
+        /**
+         * The total time spent in partial reduces, which may have run concurrently.
+         */
+        public long getPartialReduceTimeInMillis() {
+            return partialReduceTimeInMillis;
+        }
+
+        public long getFinalReduceTimeInMillis() {
+            return finalReduceTimeInMillis;
+        }
+
+        /**
+         * The maximum number of bytes that the buffered and reduced results accounted for in the request circuit breaker.
+         */
+        public long getPeakMemoryInBytes() {
+            return peakMemoryInBytes;
+        }
+
+        /**
+         * The number of partially reduced results that were kept in serialized form because the reduce was over its memory budget.
+         */
+        public int getSpilledResults() {
+            return spilledResults;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(REDUCE.getPreferredName());
+            builder.field(PARTIAL_REDUCE_TIME.getPreferredName(), partialReduceTimeInMillis);
+            builder.field(FINAL_REDUCE_TIME.getPreferredName(), finalReduceTimeInMillis);
+            builder.field(PEAK_MEMORY.getPreferredName(), peakMemoryInBytes);
+            builder.field(SPILLED_RESULTS.getPreferredName(), spilledResults);
+            builder.endObject();
+            return builder;
+        }
+
+        static ReduceStats fromXContent(XContentParser parser) throws IOException {
+            long partialReduceTime = 0;
+            long finalReduceTime = 0;
+            long peakMemory = 0;
+            int spilledResults = 0;
+            String currentFieldName = null;
+            for (Token token = parser.nextToken(); token != Token.END_OBJECT; token = parser.nextToken()) {
+                if (token == Token.FIELD_NAME) {
+                    currentFieldName = parser.currentName();
+                } else if (token.isValue()) {
+                    if (PARTIAL_REDUCE_TIME.match(currentFieldName, parser.getDeprecationHandler())) {
+                        partialReduceTime = parser.longValue();
+                    } else if (FINAL_REDUCE_TIME.match(currentFieldName, parser.getDeprecationHandler())) {
+                        finalReduceTime = parser.longValue();
+                    } else if (PEAK_MEMORY.match(currentFieldName, parser.getDeprecationHandler())) {
+                        peakMemory = parser.longValue();
+                    } else if (SPILLED_RESULTS.match(currentFieldName, parser.getDeprecationHandler())) {
+                        spilledResults = parser.intValue();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new ReduceStats(partialReduceTime, finalReduceTime, peakMemory, spilledResults);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ReduceStats that = (ReduceStats) o;
+            return partialReduceTimeInMillis == that.partialReduceTimeInMillis
+                && finalReduceTimeInMillis == that.finalReduceTimeInMillis
+                && peakMemoryInBytes == that.peakMemoryInBytes
+                && spilledResults == that.spilledResults;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partialReduceTimeInMillis, finalReduceTimeInMillis, peakMemoryInBytes, spilledResults);
+        }
+    }
+
     static SearchResponse empty(Supplier<Long> tookInMillisSupplier, Clusters clusters) {
         SearchHits searchHits = new SearchHits(new SearchHit[0], new TotalHits(0L, TotalHits.Relation.EQUAL_TO), Float.NaN);
         InternalSearchResponse internalSearchResponse = new InternalSearchResponse(
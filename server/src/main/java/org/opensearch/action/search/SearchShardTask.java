@@ -41,6 +41,7 @@ import org.opensearch.tasks.SearchBackpressureTask;
 import org.opensearch.wlm.WorkloadGroupTask;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
@@ -53,6 +54,8 @@ import java.util.function.Supplier;
 public class SearchShardTask extends WorkloadGroupTask implements SearchBackpressureTask {
     // generating metadata in a lazy way since source can be quite big
     private final MemoizedSupplier<String> metadataSupplier;
+    private final AtomicReference<String> partialResultsReason = new AtomicReference<>();
+    private volatile boolean partialResultsSupported;
 
     public SearchShardTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
         this(id, type, action, description, parentTaskId, headers, () -> "");
@@ -75,6 +78,36 @@ public class SearchShardTask extends WorkloadGroupTask implements SearchBackpres
         return metadataSupplier.get();
     }
 
+    /**
+     * Asks the task to stop collecting and to return the results gathered so far, flagged as timed out, instead of being
+     * cancelled. Only the query phase of requests that allow partial results honours this request.
+     *
+     * @return true if partial results were not requested before
+     */
+    public boolean requestPartialResults(String reason) {
+        return partialResultsReason.compareAndSet(null, reason);
+    }
+
+    /**
+     * Marks whether the task is running a query phase that checks for {@link #requestPartialResults(String)}, so that search
+     * backpressure cancels the task rather than asking it for partial results that it would never return.
+     */
+    public void setPartialResultsSupported(boolean partialResultsSupported) {
+        this.partialResultsSupported = partialResultsSupported;
+    }
+
+    public boolean isPartialResultsSupported() {
+        return partialResultsSupported;
+    }
+
+    public boolean isPartialResultsRequested() {
+        return partialResultsReason.get() != null;
+    }
+
+    public String getPartialResultsReason() {
+        return partialResultsReason.get();
+    }
+
     @Override
     public boolean supportsResourceTracking() {
         return true;
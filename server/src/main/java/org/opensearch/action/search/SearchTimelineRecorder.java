@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.SearchProfileShardResults;
+import org.opensearch.search.profile.SearchTimeline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the timeline of a profiled search request on the coordinating node, see {@link SearchTimeline}. Only created
+ * for requests that are profiled, so requests that are not profiled pay nothing. Phases start and end one at a time,
+ * while shard requests complete concurrently.
+ *
+ * @opensearch.internal
+ */
+public final class SearchTimelineRecorder {
+
+    static final String REDUCE_PHASE = "reduce";
+
+    private final LongSupplier nanoTimeSupplier;
+    private final long startNanos;
+    // phase name to its start and end, guarded by this
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+    private final Queue<ShardExecution> shardExecutions = new ConcurrentLinkedQueue<>();
+
+    SearchTimelineRecorder(LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.startNanos = nanoTimeSupplier.getAsLong();
+    }
+
+    /**
+     * Returns a recorder if the given request is profiled, {@code null} otherwise.
+     */
+    @Nullable
+    static SearchTimelineRecorder create(SearchRequest request) {
+        if (request == null || request.source() == null || request.source().profile() == false) {
+            return null;
+        }
+        return new SearchTimelineRecorder(System::nanoTime);
+    }
+
+    synchronized void onPhaseStart(String phase) {
+        phases.put(phase, new long[] { nanoTimeSupplier.getAsLong(), -1 });
+    }
+
+    synchronized void onPhaseEnd(String phase) {
+        final long[] startAndEnd = phases.get(phase);
+        if (startAndEnd != null && startAndEnd[1] < 0) {
+            startAndEnd[1] = nanoTimeSupplier.getAsLong();
+        }
+    }
+
+    /**
+     * Returns the time to pass to {@link #onReduceEnd} once the final reduce of the shard results completed.
+     */
+    long onReduceStart() {
+        return nanoTimeSupplier.getAsLong();
+    }
+
+    synchronized void onReduceEnd(long reduceStartNanos) {
+        phases.put(REDUCE_PHASE, new long[] { reduceStartNanos, nanoTimeSupplier.getAsLong() });
+    }
+
+    /**
+     * Wraps the listener of a shard request of the given phase so that its round trip is recorded.
+     */
+    <T extends SearchPhaseResult> SearchActionListener<T> trackShard(
+        String phase,
+        SearchShardTarget shardTarget,
+        SearchActionListener<T> listener
+    ) {
+        final long shardStartNanos = nanoTimeSupplier.getAsLong();
+        return new SearchActionListener<T>(shardTarget, listener.requestIndex) {
+            @Override
+            protected void innerOnResponse(T response) {
+                onShardDone(phase, shardTarget, shardStartNanos, false);
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onShardDone(phase, shardTarget, shardStartNanos, true);
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    private void onShardDone(String phase, SearchShardTarget shardTarget, long shardStartNanos, boolean failed) {
+        shardExecutions.add(new ShardExecution(phase, shardTarget, shardStartNanos, nanoTimeSupplier.getAsLong(), failed));
+    }
+
+    /**
+     * Builds the timeline recorded so far. Phases that have not ended yet are reported up to now. The queue wait and
+     * network times of the shard requests of the query phase are taken from the profiled shard results.
+     */
+    synchronized SearchTimeline build(@Nullable SearchProfileShardResults profileResults) {
+        final long nowNanos = nanoTimeSupplier.getAsLong();
+        final Map<String, List<SearchTimeline.Shard>> shardsByPhase = new LinkedHashMap<>();
+        final List<ShardExecution> executions = new ArrayList<>(shardExecutions);
+        executions.sort(Comparator.comparingLong(execution -> execution.startNanos));
+        for (ShardExecution execution : executions) {
+            final String id = execution.shardTarget.toString();
+            long queueWaitTimeInNanos = -1;
+            long inboundNetworkTimeInMillis = -1;
+            long outboundNetworkTimeInMillis = -1;
+            final ProfileShardResult profileShardResult = profileResults == null || carriesProfile(execution.phase) == false
+                ? null
+                : profileResults.getShardResults().get(id);
+            if (profileShardResult != null) {
+                queueWaitTimeInNanos = profileShardResult.getQueueWaitTimeInNanos();
+                if (profileShardResult.getNetworkTime() != null) {
+                    inboundNetworkTimeInMillis = profileShardResult.getNetworkTime().getInboundNetworkTime();
+                    outboundNetworkTimeInMillis = profileShardResult.getNetworkTime().getOutboundNetworkTime();
+                }
+            }
+            shardsByPhase.computeIfAbsent(execution.phase, k -> new ArrayList<>())
+                .add(
+                    new SearchTimeline.Shard(
+                        id,
+                        offset(execution.startNanos),
+                        Math.max(0, execution.endNanos - execution.startNanos),
+                        execution.failed,
+                        queueWaitTimeInNanos,
+                        inboundNetworkTimeInMillis,
+                        outboundNetworkTimeInMillis
+                    )
+                );
+        }
+        final List<SearchTimeline.Phase> timelinePhases = new ArrayList<>(phases.size());
+        for (Map.Entry<String, long[]> entry : phases.entrySet()) {
+            final long phaseStartNanos = entry.getValue()[0];
+            final long phaseEndNanos = entry.getValue()[1] < 0 ? nowNanos : entry.getValue()[1];
+            timelinePhases.add(
+                new SearchTimeline.Phase(
+                    entry.getKey(),
+                    offset(phaseStartNanos),
+                    Math.max(0, phaseEndNanos - phaseStartNanos),
+                    shardsByPhase.getOrDefault(entry.getKey(), List.of())
+                )
+            );
+        }
+        timelinePhases.sort(Comparator.comparingLong(SearchTimeline.Phase::getStartOffsetInNanos));
+        return new SearchTimeline(offset(nowNanos), timelinePhases);
+    }
+
+    private long offset(long nanos) {
+        return Math.max(0, nanos - startNanos);
+    }
+
+    /**
+     * Whether the shard results of the given phase carry the profiled shard results
+     */
+    private static boolean carriesProfile(String phase) {
+        return SearchPhaseName.QUERY.getName().equals(phase) || SearchPhaseName.DFS_QUERY.getName().equals(phase);
+    }
+
+    private record ShardExecution(String phase, SearchShardTarget shardTarget, long startNanos, long endNanos, boolean failed) {}
+}
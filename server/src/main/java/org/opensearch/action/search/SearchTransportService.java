@@ -35,6 +35,7 @@ package org.opensearch.action.search;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.pruning.ShardFieldDomainSubscriptions;
 import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -98,6 +99,7 @@ public class SearchTransportService {
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
     public static final String FETCH_ID_ACTION_NAME = "indices:data/read/search[phase/fetch/id]";
     public static final String QUERY_CAN_MATCH_NAME = "indices:data/read/search[can_match]";
+    public static final String INVALIDATE_FIELD_SUMMARIES_ACTION_NAME = "indices:data/read/search[can_match/invalidate_field_summaries]";
     public static final String CREATE_READER_CONTEXT_ACTION_NAME = "indices:data/read/search[create_context]";
     public static final String UPDATE_READER_CONTEXT_ACTION_NAME = "indices:data/read/search[update_context]";
 
@@ -665,6 +667,16 @@ public class SearchTransportService {
             }
         );
         TransportActionProxy.registerProxyAction(transportService, QUERY_CAN_MATCH_NAME, SearchService.CanMatchResponse::new);
+        transportService.registerRequestHandler(
+            INVALIDATE_FIELD_SUMMARIES_ACTION_NAME,
+            ThreadPool.Names.SAME,
+            ShardFieldDomainSubscriptions.InvalidateRequest::new,
+            (request, channel, task) -> {
+                searchService.getShardFieldDomainCache().invalidate(request.shardId(), request.nodeId(), request.generation());
+                channel.sendResponse(TransportResponse.Empty.INSTANCE);
+            }
+        );
+        searchService.getShardFieldDomainSubscriptions().setTransportService(transportService);
         transportService.registerRequestHandler(
             CREATE_READER_CONTEXT_ACTION_NAME,
             ThreadPool.Names.SAME,
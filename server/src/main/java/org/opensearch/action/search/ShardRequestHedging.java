@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+
+/**
+ * Decides when the query phase of a search sends a duplicate shard request to another copy of a shard whose request has
+ * not responded yet, and keeps track of the tasks of these duplicate requests.
+ *
+ * A shard request is hedged once it has been outstanding for longer than the 95th percentile of the response times that
+ * the coordinating node recorded for the shard copy, see {@link ResponseCollectorService#getShardCopyStatistics}. Copies
+ * without recorded responses are never hedged. Each hedged request runs under its own child task of the search task, so
+ * that it can be cancelled through the task cancellation service when the original request wins, without banning the
+ * other shard requests of the search.
+ *
+ * @opensearch.internal
+ */
+public final class ShardRequestHedging {
+
+    public static final String HEDGE_ACTION_NAME = SearchAction.NAME + "[hedge]";
+
+    /**
+     * Whether the query phase of searches may hedge slow shard requests.
+     */
+    public static final Setting<Boolean> SEARCH_HEDGING_ENABLED_SETTING = Setting.boolSetting(
+        "search.hedging.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The minimum time a shard request is outstanding before it is hedged, whatever the response times of the copy.
+     */
+    public static final Setting<TimeValue> SEARCH_HEDGING_MIN_DELAY_SETTING = Setting.timeSetting(
+        "search.hedging.min_delay",
+        TimeValue.timeValueMillis(20),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of hedged requests of a search, as a ratio of its shard requests.
+     */
+    public static final Setting<Double> SEARCH_HEDGING_MAX_RATIO_SETTING = Setting.doubleSetting(
+        "search.hedging.max_ratio",
+        0.1,
+        0.0,
+        1.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final ResponseCollectorService responseCollectorService;
+    private volatile boolean enabled;
+    private volatile TimeValue minDelay;
+    private volatile double maxRatio;
+
+    public ShardRequestHedging(
+        ClusterSettings clusterSettings,
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        ResponseCollectorService responseCollectorService
+    ) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.responseCollectorService = responseCollectorService;
+        this.enabled = clusterSettings.get(SEARCH_HEDGING_ENABLED_SETTING);
+        this.minDelay = clusterSettings.get(SEARCH_HEDGING_MIN_DELAY_SETTING);
+        this.maxRatio = clusterSettings.get(SEARCH_HEDGING_MAX_RATIO_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_ENABLED_SETTING, value -> this.enabled = value);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_MIN_DELAY_SETTING, value -> this.minDelay = value);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_HEDGING_MAX_RATIO_SETTING, value -> this.maxRatio = value);
+    }
+
+    /**
+     * Returns whether the shard requests of the provided search may be hedged.
+     */
+    boolean isEnabled(SearchRequest searchRequest) {
+        // scroll and point in time contexts are bound to the copy that created them
+        return enabled && maxRatio > 0 && searchRequest.scroll() == null && searchRequest.pointInTimeBuilder() == null;
+    }
+
+    /**
+     * Returns the maximum number of hedged requests of a search that sends the provided number of shard requests.
+     */
+    int maxHedgedRequests(int numShards) {
+        return (int) Math.ceil(maxRatio * numShards);
+    }
+
+    /**
+     * Returns how long a request sent to the provided shard copy is outstanding before it is hedged, or {@code null} if
+     * the coordinating node has no response time of the copy to base the decision on.
+     */
+    @Nullable
+    TimeValue hedgeDelay(SearchShardTarget shard) {
+        if (shard.getClusterAlias() != null) {
+            return null;
+        }
+        return responseCollectorService.getShardCopyStatistics(shard.getNodeId(), shard.getShardId())
+            .map(stats -> TimeValue.timeValueNanos(Math.max(stats.percentile95ResponseTime(), minDelay.nanos())))
+            .orElse(null);
+    }
+
+    Scheduler.ScheduledCancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Registers the task that a hedged request to the provided shard copy runs under. The task is a child of the search
+     * task so that cancelling the search also cancels the hedged request.
+     */
+    HedgeTask registerHedgeTask(SearchTask parentTask, SearchShardTarget shard) {
+        final DiscoveryNode localNode = taskManager.localNode();
+        final TaskId parentTaskId = localNode == null ? TaskId.EMPTY_TASK_ID : new TaskId(localNode.getId(), parentTask.getId());
+        final HedgeTaskRequest request = new HedgeTaskRequest(parentTaskId, shard);
+        final SearchTask task = (SearchTask) taskManager.register("transport", HEDGE_ACTION_NAME, request);
+        final Releasable childNode = localNode == null ? () -> {} : taskManager.registerChildNode(parentTask.getId(), localNode);
+        return new HedgeTask(task, childNode);
+    }
+
+    /**
+     * Cancels the shard request of a hedge task that lost, along with its descendants on the data node.
+     */
+    void cancel(HedgeTask hedgeTask, String reason) {
+        taskManager.cancelTaskAndDescendants(hedgeTask.task, reason, false, ActionListener.wrap(() -> {}));
+    }
+
+    /**
+     * Unregisters a hedge task once its shard request completed.
+     */
+    void unregister(HedgeTask hedgeTask) {
+        taskManager.unregister(hedgeTask.task);
+        hedgeTask.childNode.close();
+    }
+
+    /**
+     * The task of a hedged shard request.
+     *
+     * @opensearch.internal
+     */
+    static final class HedgeTask {
+        final SearchTask task;
+        private final Releasable childNode;
+
+        private HedgeTask(SearchTask task, Releasable childNode) {
+            this.task = task;
+            this.childNode = childNode;
+        }
+    }
+
+    private static final class HedgeTaskRequest implements TaskAwareRequest {
+        private TaskId parentTaskId;
+        private final SearchShardTarget shard;
+
+        private HedgeTaskRequest(TaskId parentTaskId, SearchShardTarget shard) {
+            this.parentTaskId = parentTaskId;
+            this.shard = shard;
+        }
+
+        @Override
+        public void setParentTask(TaskId taskId) {
+            this.parentTaskId = taskId;
+        }
+
+        @Override
+        public TaskId getParentTask() {
+            return parentTaskId;
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new SearchTask(id, type, action, this::getDescription, parentTaskId, headers);
+        }
+
+        @Override
+        public String getDescription() {
+            return "hedged request to " + shard;
+        }
+    }
+}
@@ -76,6 +76,14 @@ public class StreamSearchQueryThenFetchAsyncAction extends SearchQueryThenFetchA
         );
     }
 
+    /**
+     * Streamed results are consumed as they arrive, so a shard can not have two requests outstanding
+     */
+    @Override
+    protected HedgedRequestSender<SearchPhaseResult> hedgedRequestSender() {
+        return null;
+    }
+
     /**
      * Override the extension point to create streaming listeners instead of regular listeners
      */
@@ -24,6 +24,7 @@ import org.opensearch.search.SearchService;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.pipeline.SearchPipelineService;
 import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.telemetry.metrics.BatchingMetricsRecorder;
 import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ThreadPool;
@@ -59,7 +60,8 @@ public class StreamTransportSearchAction extends TransportSearchAction {
         SearchRequestOperationsCompositeListenerFactory searchRequestOperationsCompositeListenerFactory,
         Tracer tracer,
         TaskResourceTrackingService taskResourceTrackingService,
-        IndicesService indicesService
+        IndicesService indicesService,
+        BatchingMetricsRecorder batchingMetricsRecorder
     ) {
         super(
             client,
@@ -78,7 +80,8 @@ public class StreamTransportSearchAction extends TransportSearchAction {
             searchRequestOperationsCompositeListenerFactory,
             tracer,
             taskResourceTrackingService,
-            indicesService
+            indicesService,
+            batchingMetricsRecorder
         );
     }
 
@@ -38,6 +38,8 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlockLevel;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
@@ -51,6 +53,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.node.NodeClient;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
@@ -64,11 +67,23 @@ import java.util.function.LongSupplier;
  */
 public class TransportMultiSearchAction extends HandledTransportAction<MultiSearchRequest, MultiSearchResponse> {
 
+    /**
+     * Whether the sub-requests of a multi search request that only differ in their aggregations run as a single search.
+     */
+    public static final Setting<Boolean> SHARED_EXECUTION_ENABLED_SETTING = Setting.boolSetting(
+        "search.msearch.shared_execution.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final int allocatedProcessors;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
     private final LongSupplier relativeTimeProvider;
     private final NodeClient client;
+    private final SearchRequestStats searchRequestStats;
+    private volatile boolean sharedExecutionEnabled;
 
     @Inject
     public TransportMultiSearchAction(
@@ -77,7 +92,8 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         TransportService transportService,
         ClusterService clusterService,
         ActionFilters actionFilters,
-        NodeClient client
+        NodeClient client,
+        SearchRequestStats searchRequestStats
     ) {
         super(MultiSearchAction.NAME, transportService, actionFilters, (Writeable.Reader<MultiSearchRequest>) MultiSearchRequest::new);
         this.threadPool = threadPool;
@@ -85,6 +101,9 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         this.allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
         this.relativeTimeProvider = System::nanoTime;
         this.client = client;
+        this.searchRequestStats = searchRequestStats;
+        this.sharedExecutionEnabled = clusterService.getClusterSettings().get(SHARED_EXECUTION_ENABLED_SETTING);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SHARED_EXECUTION_ENABLED_SETTING, this::setSharedExecutionEnabled);
     }
 
     TransportMultiSearchAction(
@@ -95,6 +114,19 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         int allocatedProcessors,
         LongSupplier relativeTimeProvider,
         NodeClient client
+    ) {
+        this(threadPool, actionFilters, transportService, clusterService, allocatedProcessors, relativeTimeProvider, client, null);
+    }
+
+    TransportMultiSearchAction(
+        ThreadPool threadPool,
+        ActionFilters actionFilters,
+        TransportService transportService,
+        ClusterService clusterService,
+        int allocatedProcessors,
+        LongSupplier relativeTimeProvider,
+        NodeClient client,
+        SearchRequestStats searchRequestStats
     ) {
         super(MultiSearchAction.NAME, transportService, actionFilters, (Writeable.Reader<MultiSearchRequest>) MultiSearchRequest::new);
         this.threadPool = threadPool;
@@ -102,6 +134,11 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         this.allocatedProcessors = allocatedProcessors;
         this.relativeTimeProvider = relativeTimeProvider;
         this.client = client;
+        this.searchRequestStats = searchRequestStats;
+    }
+
+    void setSharedExecutionEnabled(boolean sharedExecutionEnabled) {
+        this.sharedExecutionEnabled = sharedExecutionEnabled;
     }
 
     @Override
@@ -122,11 +159,21 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
             searchRequest.setParentTask(client.getLocalNodeId(), task.getId());
             searchRequestSlots.add(new SearchRequestSlot(searchRequest, i));
         }
+        if (sharedExecutionEnabled) {
+            searchRequestSlots = MultiSearchRequestGroup.group(searchRequestSlots, clusterState.metadata());
+            int separateRequests = 0;
+            for (SearchRequestSlot slot : searchRequestSlots) {
+                if (slot.group == null) {
+                    separateRequests++;
+                }
+            }
+            onMultiSearchExecution(0, separateRequests);
+        }
 
         int numRequests = request.requests().size();
         final AtomicArray<MultiSearchResponse.Item> responses = new AtomicArray<>(numRequests);
         final AtomicInteger responseCounter = new AtomicInteger(numRequests);
-        int numConcurrentSearches = Math.min(numRequests, maxConcurrentSearches);
+        int numConcurrentSearches = Math.min(searchRequestSlots.size(), maxConcurrentSearches);
         for (int i = 0; i < numConcurrentSearches; i++) {
             executeSearch(searchRequestSlots, responses, responseCounter, listener, relativeStartTime);
         }
@@ -183,30 +230,57 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         client.search(request.request, new ActionListener<SearchResponse>() {
             @Override
             public void onResponse(final SearchResponse searchResponse) {
-                handleResponse(request.responseSlot, new MultiSearchResponse.Item(searchResponse, null));
+                if (request.group == null) {
+                    responses.set(request.responseSlot, new MultiSearchResponse.Item(searchResponse, null));
+                    handleResponses(1);
+                } else if (searchResponse.getShardFailures().length > 0) {
+                    // the shard failures cannot be attributed to the sub-requests, run them on their own
+                    runSeparately();
+                } else {
+                    onMultiSearchExecution(request.group.slots().size(), 0);
+                    for (SearchRequestSlot slot : request.group.slots()) {
+                        SearchResponse response = request.group.split(searchResponse, slot.responseSlot);
+                        responses.set(slot.responseSlot, new MultiSearchResponse.Item(response, null));
+                    }
+                    handleResponses(request.group.slots().size());
+                }
             }
 
             @Override
             public void onFailure(final Exception e) {
-                handleResponse(request.responseSlot, new MultiSearchResponse.Item(null, e));
+                if (request.group == null) {
+                    responses.set(request.responseSlot, new MultiSearchResponse.Item(null, e));
+                    handleResponses(1);
+                } else {
+                    // the failure may come from the aggregations of a single sub-request, run them on their own
+                    runSeparately();
+                }
             }
 
-            private void handleResponse(final int responseSlot, final MultiSearchResponse.Item item) {
-                responses.set(responseSlot, item);
-                if (responseCounter.decrementAndGet() == 0) {
+            private void runSeparately() {
+                onMultiSearchExecution(0, request.group.slots().size());
+                requests.addAll(request.group.slots());
+                handleResponses(0);
+            }
+
+            private void handleResponses(final int numResponses) {
+                if (numResponses > 0 && responseCounter.addAndGet(-numResponses) == 0) {
                     assert requests.isEmpty();
                     finish();
                 } else if (isCancelled(request.request.getParentTask())) {
                     // Drain the rest of the queue
                     SearchRequestSlot request;
                     while ((request = requests.poll()) != null) {
-                        responses.set(
-                            request.responseSlot,
-                            new MultiSearchResponse.Item(null, new TaskCancelledException("Parent task was cancelled"))
-                        );
-                        if (responseCounter.decrementAndGet() == 0) {
-                            assert requests.isEmpty();
-                            finish();
+                        List<SearchRequestSlot> slots = request.group == null ? List.of(request) : request.group.slots();
+                        for (SearchRequestSlot slot : slots) {
+                            responses.set(
+                                slot.responseSlot,
+                                new MultiSearchResponse.Item(null, new TaskCancelledException("Parent task was cancelled"))
+                            );
+                            if (responseCounter.decrementAndGet() == 0) {
+                                assert requests.isEmpty();
+                                finish();
+                            }
                         }
                     }
                 } else {
@@ -236,6 +310,12 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
         });
     }
 
+    private void onMultiSearchExecution(int sharedRequests, int separateRequests) {
+        if (searchRequestStats != null) {
+            searchRequestStats.onMultiSearchExecution(sharedRequests, separateRequests);
+        }
+    }
+
     private boolean isCancelled(TaskId taskId) {
         if (taskId.isSet()) {
             CancellableTask task = taskManager.getCancellableTask(taskId.getId());
@@ -245,7 +325,7 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
     }
 
     /**
-     * Slots a search request
+     * Slots a search request, or the merged search request of a group of sub-requests that share their execution
      *
      * @opensearch.internal
      */
@@ -253,10 +333,18 @@ public class TransportMultiSearchAction extends HandledTransportAction<MultiSear
 
         final SearchRequest request;
         final int responseSlot;
+        final MultiSearchRequestGroup group;
 
         SearchRequestSlot(SearchRequest request, int responseSlot) {
             this.request = request;
             this.responseSlot = responseSlot;
+            this.group = null;
+        }
+
+        SearchRequestSlot(MultiSearchRequestGroup group) {
+            this.request = group.request();
+            this.responseSlot = group.slots().get(0).responseSlot;
+            this.group = group;
         }
     }
 }
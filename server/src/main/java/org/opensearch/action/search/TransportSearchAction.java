@@ -59,6 +59,7 @@ import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
@@ -69,9 +70,11 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.index.fielddomain.ClusterStateFieldDomainProvider;
 import org.opensearch.index.query.Rewriteable;
@@ -93,7 +96,11 @@ import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.telemetry.metrics.BatchingMetricsRecorder;
+import org.opensearch.telemetry.metrics.BoundCounter;
+import org.opensearch.telemetry.metrics.Counter;
 import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanBuilder;
 import org.opensearch.telemetry.tracing.SpanScope;
@@ -173,6 +180,30 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * The maximum number of partial reduces of a single search request that run concurrently on the search_reduce pool. With
+     * more than one, the order in which shard results are merged depends on timing, so floating point aggregation values may
+     * differ in their last digits between executions. A value of 1 merges the results in the same order every time.
+     */
+    public static final Setting<Integer> SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING = Setting.intSetting(
+        "search.max_concurrent_partial_reduces",
+        2,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The memory that the buffered and partially reduced results of a single search request may account for in the request
+     * circuit breaker before newly reduced aggregations are kept in serialized form.
+     */
+    public static final Setting<ByteSizeValue> SEARCH_PARTIAL_REDUCE_MEMORY_BUDGET_SETTING = Setting.memorySizeSetting(
+        "search.partial_reduce.memory_budget",
+        "5%",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -190,10 +221,21 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private final MetricsRegistry metricsRegistry;
 
+    // the search responses by status family, from 1xx to 5xx
+    private final BoundCounter[] searchResponseCounters;
+
     private TaskResourceTrackingService taskResourceTrackingService;
 
     private final SearchIndexPruningService searchIndexPruningService;
 
+    private final ShardRequestHedging shardRequestHedging;
+
+    private final SearchAfterPrefetcher searchAfterPrefetcher;
+
+    private volatile int maxConcurrentPartialReduces;
+
+    private volatile long partialReduceMemoryBudgetInBytes;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -212,7 +254,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         SearchRequestOperationsCompositeListenerFactory searchRequestOperationsCompositeListenerFactory,
         Tracer tracer,
         TaskResourceTrackingService taskResourceTrackingService,
-        IndicesService indicesService
+        IndicesService indicesService,
+        BatchingMetricsRecorder batchingMetricsRecorder
     ) {
         super(SearchAction.NAME, transportService, actionFilters, (Writeable.Reader<SearchRequest>) SearchRequest::new);
         this.client = client;
@@ -232,6 +275,17 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.searchPipelineService = searchPipelineService;
         this.metricsRegistry = metricsRegistry;
+        // every search response is counted, so the counts are batched rather than recorded one by one
+        final Counter searchResponseCounter = metricsRegistry.createCounter(
+            "search.response.count",
+            "Counter for search responses by status family",
+            "1"
+        );
+        this.searchResponseCounters = new BoundCounter[5];
+        for (int i = 0; i < searchResponseCounters.length; i++) {
+            final Tags tags = Tags.of("status_family", (i + 1) + "xx");
+            searchResponseCounters[i] = batchingMetricsRecorder.counter(searchResponseCounter, tags);
+        }
         this.searchRequestOperationsCompositeListenerFactory = searchRequestOperationsCompositeListenerFactory;
         this.tracer = tracer;
         this.taskResourceTrackingService = taskResourceTrackingService;
@@ -240,6 +294,31 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             clusterService.getClusterSettings(),
             new ClusterStateFieldDomainProvider()
         );
+        this.shardRequestHedging = new ShardRequestHedging(
+            clusterService.getClusterSettings(),
+            threadPool,
+            transportService.getTaskManager(),
+            searchService.getResponseCollectorService()
+        );
+        this.searchAfterPrefetcher = new SearchAfterPrefetcher(
+            clusterService.getClusterSettings(),
+            threadPool,
+            transportService.getTaskManager(),
+            circuitBreaker
+        );
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        this.maxConcurrentPartialReduces = clusterSettings.get(SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING, this::setMaxConcurrentPartialReduces);
+        this.partialReduceMemoryBudgetInBytes = clusterSettings.get(SEARCH_PARTIAL_REDUCE_MEMORY_BUDGET_SETTING).getBytes();
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_PARTIAL_REDUCE_MEMORY_BUDGET_SETTING, this::setPartialReduceMemoryBudget);
+    }
+
+    private void setMaxConcurrentPartialReduces(int maxConcurrentPartialReduces) {
+        this.maxConcurrentPartialReduces = maxConcurrentPartialReduces;
+    }
+
+    private void setPartialReduceMemoryBudget(ByteSizeValue partialReduceMemoryBudget) {
+        this.partialReduceMemoryBudgetInBytes = partialReduceMemoryBudget.getBytes();
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -347,20 +426,51 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         final ActionListener<SearchResponse> finalListner = listener;
         searchStatusStatsUpdateListener = ActionListener.wrap((searchResponse) -> {
             try {
-                indicesService.getSearchResponseStatusStats().inc(searchResponse.status());
+                onSearchResponse(searchResponse.status());
             } finally {
                 finalListner.onResponse(searchResponse);
             }
         }, (e) -> {
             try {
-                indicesService.getSearchResponseStatusStats().inc(ExceptionsHelper.status(e));
+                onSearchResponse(ExceptionsHelper.status(e));
             } finally {
                 finalListner.onFailure(e);
             }
         });
+        if (searchAfterPrefetcher.isEnabled(searchRequest)) {
+            final ActionListener<SearchResponse> prefetchListener = searchAfterPrefetcher.prefetchNextPage(
+                searchRequest,
+                searchStatusStatsUpdateListener,
+                this::executePrefetch
+            );
+            final Runnable execute = () -> executeRequest(task, searchRequest, this::searchAsyncAction, prefetchListener);
+            if (searchAfterPrefetcher.serve(searchRequest, prefetchListener, execute) == false) {
+                execute.run();
+            }
+            return;
+        }
         executeRequest(task, searchRequest, this::searchAsyncAction, searchStatusStatsUpdateListener);
     }
 
+    private void onSearchResponse(RestStatus status) {
+        indicesService.getSearchResponseStatusStats().inc(status);
+        searchResponseCounters[status.getStatusFamilyCode() - 1].add(1);
+    }
+
+    /**
+     * Runs the search of a prefetched page under its own task. The search does not go through {@link #doExecute}, so that it
+     * neither counts in the response status stats nor prefetches further pages until the client asks for it.
+     */
+    private void executePrefetch(SearchRequest searchRequest, ActionListener<SearchResponse> listener) {
+        final SearchTask prefetchTask = searchAfterPrefetcher.registerTask(searchRequest);
+        executeRequest(
+            prefetchTask,
+            searchRequest,
+            this::searchAsyncAction,
+            ActionListener.runBefore(listener, () -> searchAfterPrefetcher.unregisterTask(prefetchTask))
+        );
+    }
+
     /**
      * The single phase search action.
      *
@@ -484,6 +594,9 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 taskResourceTrackingService::getTaskResourceUsageFromThreadContext
             );
             searchRequestContext.getSearchRequestOperationsListener().onRequestStart(searchRequestContext);
+            if (shardRequestHedging.isEnabled(originalSearchRequest)) {
+                searchRequestContext.setShardRequestHedging(shardRequestHedging);
+            }
 
             // At this point either the QUERY_GROUP_ID header will be present in ThreadContext either via ActionFilter
             // or HTTP header (HTTP header will be deprecated once ActionFilter is implemented)
@@ -1190,6 +1303,17 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         return onlySystemIndices ? threadPool.executor(ThreadPool.Names.SYSTEM_READ) : threadPool.executor(ThreadPool.Names.SEARCH);
     }
 
+    /**
+     * Searches that only target system indices keep reducing on the system read pool, other searches run their partial
+     * reduces on the dedicated search_reduce pool so that large reduces do not hold search threads.
+     */
+    private Executor partialReduceExecutor(Executor searchExecutor) {
+        if (searchExecutor == threadPool.executor(ThreadPool.Names.SYSTEM_READ)) {
+            return searchExecutor;
+        }
+        return threadPool.executor(ThreadPool.Names.SEARCH_REDUCE);
+    }
+
     static BiFunction<String, String, Transport.Connection> buildConnectionLookup(
         String requestClusterAlias,
         Function<String, DiscoveryNode> localNodes,
@@ -1381,17 +1505,20 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 ),
                 clusters,
                 searchRequestContext,
-                tracer
+                tracer,
+                searchService.getShardFieldDomainCache()
             );
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
-                executor,
+                partialReduceExecutor(executor),
                 circuitBreaker,
                 task.getProgressListener(),
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                maxConcurrentPartialReduces,
+                partialReduceMemoryBudgetInBytes
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
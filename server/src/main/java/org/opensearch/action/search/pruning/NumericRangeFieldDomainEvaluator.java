@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+
+import java.util.OptionalDouble;
+
+/**
+ * Evaluates numeric range bounds against generic range query constraints.
+ *
+ * Bounds are compared as doubles. Unsupported domains, unsupported constraints and parse failures all return
+ * {@code true} so pruning remains conservative.
+ */
+public final class NumericRangeFieldDomainEvaluator implements FieldDomainEvaluator {
+    /**
+     * Returns {@code false} only when the query range is provably disjoint from the finalized numeric range.
+     */
+    @Override
+    public boolean canMatch(FieldDomain domain, QueryConstraint constraint, FieldDomainEvaluationContext context) {
+        if (!(domain instanceof NumericRangeFieldDomain numericDomain) || !(constraint instanceof RangeQueryConstraint rangeConstraint)) {
+            return true;
+        }
+        if (numericDomain.finalized() == false || rangeConstraint.relation() != null) {
+            return true;
+        }
+
+        if (rangeConstraint.hasLowerBound()) {
+            OptionalDouble lower = parseValue(rangeConstraint.lowerValue());
+            if (lower.isPresent()) {
+                double value = lower.getAsDouble();
+                if (value > numericDomain.max() || (value == numericDomain.max() && rangeConstraint.includeLower() == false)) {
+                    return false;
+                }
+            }
+        }
+
+        if (rangeConstraint.hasUpperBound()) {
+            OptionalDouble upper = parseValue(rangeConstraint.upperValue());
+            if (upper.isPresent()) {
+                double value = upper.getAsDouble();
+                if (value < numericDomain.min() || (value == numericDomain.min() && rangeConstraint.includeUpper() == false)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static OptionalDouble parseValue(Object value) {
+        try {
+            if (value instanceof Number number) {
+                return toOptional(number.doubleValue());
+            }
+            if (value instanceof BytesRef bytesRef) {
+                return toOptional(Double.parseDouble(bytesRef.utf8ToString()));
+            }
+            return toOptional(Double.parseDouble(value.toString()));
+        } catch (RuntimeException e) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    private static OptionalDouble toOptional(double value) {
+        return Double.isNaN(value) ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+}
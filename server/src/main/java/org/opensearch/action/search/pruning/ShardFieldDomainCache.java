@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.fielddomain.ShardFieldDomains;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static org.opensearch.common.settings.Setting.Property.Dynamic;
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Coordinator-side table of the per-shard field domains returned by can_match responses.
+ *
+ * Data nodes summarize the configured fields whenever they answer a can_match request, and the coordinating node keeps
+ * the latest summary of each shard copy for {@link #MAX_AGE} so that the can_match phase of the following requests can
+ * decide locally whether the shard may match. Stale or missing summaries make the phase fall back to the can_match
+ * round-trip, which refreshes the table.
+ *
+ * Summaries are tied to the refresh generation of the shard copy they describe. When the copy refreshes, its data node
+ * invalidates the summary before the refreshed reader becomes visible, see {@link ShardFieldDomainSubscriptions}, and the
+ * table ignores the summaries of older generations that were still in flight.
+ */
+public final class ShardFieldDomainCache implements ClusterStateListener {
+
+    /**
+     * Numeric and date fields summarized by the data nodes on can_match. An empty list disables the summaries.
+     */
+    public static final Setting<List<String>> FIELDS = Setting.listSetting(
+        "search.can_match.field_summaries.fields",
+        Collections.emptyList(),
+        Function.identity(),
+        Dynamic,
+        NodeScope
+    );
+
+    /**
+     * How long a summary is trusted by the coordinating node. Refreshes invalidate the summaries, this bounds how long a
+     * summary is trusted when the invalidation of a refresh could not be delivered.
+     */
+    public static final Setting<TimeValue> MAX_AGE = Setting.positiveTimeSetting(
+        "search.can_match.field_summaries.max_age",
+        TimeValue.timeValueSeconds(1),
+        Dynamic,
+        NodeScope
+    );
+
+    private final Map<ShardCopy, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier relativeTimeInNanos;
+    private volatile Set<String> fields;
+    private volatile long maxAgeInNanos;
+
+    public ShardFieldDomainCache(ClusterSettings clusterSettings, LongSupplier relativeTimeInNanos) {
+        this.relativeTimeInNanos = relativeTimeInNanos;
+        setFields(clusterSettings.get(FIELDS));
+        setMaxAge(clusterSettings.get(MAX_AGE));
+        clusterSettings.addSettingsUpdateConsumer(FIELDS, this::setFields);
+        clusterSettings.addSettingsUpdateConsumer(MAX_AGE, this::setMaxAge);
+    }
+
+    private void setFields(List<String> fields) {
+        this.fields = Set.copyOf(fields);
+        entries.clear();
+    }
+
+    private void setMaxAge(TimeValue maxAge) {
+        this.maxAgeInNanos = maxAge.nanos();
+    }
+
+    /**
+     * Returns the fields to summarize, empty if the summaries are disabled.
+     */
+    public Set<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns whether the summaries are enabled.
+     */
+    public boolean enabled() {
+        return fields.isEmpty() == false;
+    }
+
+    /**
+     * Returns how long a summary is trusted.
+     */
+    public long maxAgeInNanos() {
+        return maxAgeInNanos;
+    }
+
+    /**
+     * Returns the summary of the copy of the shard on the provided node if it was received within {@link #MAX_AGE} and
+     * was not invalidated since, {@code null} otherwise.
+     */
+    public ShardFieldDomains get(ShardId shardId, String nodeId) {
+        ShardCopy copy = new ShardCopy(shardId, nodeId);
+        Entry entry = entries.get(copy);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(copy, entry);
+            return null;
+        }
+        return entry.domains;
+    }
+
+    /**
+     * Records the summary returned by a can_match response of the copy of the shard on the provided node, unless the copy
+     * refreshed after the reader the summary was computed from.
+     */
+    public void put(ShardId shardId, String nodeId, ShardFieldDomains domains) {
+        if (enabled()) {
+            entries.compute(new ShardCopy(shardId, nodeId), (copy, entry) -> {
+                if (entry != null && entry.generation > domains.generation() && isExpired(entry) == false) {
+                    return entry;
+                }
+                return new Entry(domains, domains.generation(), relativeTimeInNanos.getAsLong());
+            });
+        }
+    }
+
+    /**
+     * Invalidates the summary of the copy of the shard on the provided node, which refreshed to the provided generation.
+     * Summaries of older generations received within {@link #MAX_AGE} are ignored.
+     */
+    public void invalidate(ShardId shardId, String nodeId, long generation) {
+        entries.compute(new ShardCopy(shardId, nodeId), (copy, entry) -> {
+            if (entry != null && entry.generation > generation && isExpired(entry) == false) {
+                return entry;
+            }
+            return new Entry(null, generation, relativeTimeInNanos.getAsLong());
+        });
+    }
+
+    private boolean isExpired(Entry entry) {
+        return relativeTimeInNanos.getAsLong() - entry.receivedNanos > maxAgeInNanos;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (entries.isEmpty() || (event.indicesDeleted().isEmpty() && event.nodesRemoved() == false)) {
+            return;
+        }
+        Set<Index> deleted = new HashSet<>(event.indicesDeleted());
+        Set<String> removedNodes = event.nodesDelta().removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
+        entries.keySet().removeIf(copy -> deleted.contains(copy.shardId.getIndex()) || removedNodes.contains(copy.nodeId));
+    }
+
+    private record ShardCopy(ShardId shardId, String nodeId) {}
+
+    /**
+     * The summary of a shard copy with its generation, or an invalidation of the copy if the summary is {@code null}.
+     */
+    private record Entry(ShardFieldDomains domains, long generation, long receivedNanos) {}
+}
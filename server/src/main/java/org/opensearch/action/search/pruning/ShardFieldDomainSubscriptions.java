@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.search.SearchTransportService;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data node side of the {@link ShardFieldDomainCache}: tracks the coordinating nodes that hold a summary of the local shard
+ * copies and invalidates their summaries when the copies refresh.
+ *
+ * Invalidations are sent from the refreshing thread before the refreshed reader becomes visible to searches, and the
+ * refresh waits for the coordinating nodes to acknowledge them for at most {@link ShardFieldDomainCache#MAX_AGE}, after
+ * which they stop trusting the summary anyway. A search that follows a refresh is therefore never pruned on a summary of
+ * an older reader.
+ *
+ * @opensearch.internal
+ */
+public final class ShardFieldDomainSubscriptions {
+
+    private static final Logger logger = LogManager.getLogger(ShardFieldDomainSubscriptions.class);
+
+    private final ClusterService clusterService;
+    private final ShardFieldDomainCache cache;
+    private final Map<ShardId, Subscribers> shards = new ConcurrentHashMap<>();
+    private volatile TransportService transportService;
+
+    public ShardFieldDomainSubscriptions(ClusterService clusterService, ShardFieldDomainCache cache) {
+        this.clusterService = clusterService;
+        this.cache = cache;
+    }
+
+    /**
+     * Sets the transport service used to send the invalidations. Summaries are not handed out until it is set.
+     */
+    public void setTransportService(TransportService transportService) {
+        this.transportService = transportService;
+    }
+
+    /**
+     * Registers the coordinating node as a holder of a summary of the shard computed from the reader of the provided
+     * generation. Returns {@code false} if the summary must not be handed out, because the shard already refreshed past
+     * that generation or the coordinating node cannot be notified of the next refresh.
+     */
+    public boolean subscribe(ShardId shardId, String nodeId, long generation) {
+        if (transportService == null) {
+            return false;
+        }
+        DiscoveryNode node = clusterService.state().nodes().get(nodeId);
+        if (node == null) {
+            return false;
+        }
+        Subscribers subscribers = shards.computeIfAbsent(shardId, k -> new Subscribers());
+        synchronized (subscribers) {
+            if (generation < subscribers.generation) {
+                return false;
+            }
+            subscribers.nodes.add(node);
+            return true;
+        }
+    }
+
+    /**
+     * Invalidates the summaries of the shard after it refreshed to the provided generation, and waits for the
+     * coordinating nodes to acknowledge them.
+     */
+    public void onRefresh(ShardId shardId, long generation) {
+        if (cache.enabled() == false) {
+            return;
+        }
+        Subscribers subscribers = shards.computeIfAbsent(shardId, k -> new Subscribers());
+        final Set<DiscoveryNode> nodes;
+        synchronized (subscribers) {
+            if (generation <= subscribers.generation) {
+                return;
+            }
+            subscribers.generation = generation;
+            if (subscribers.nodes.isEmpty()) {
+                return;
+            }
+            nodes = Set.copyOf(subscribers.nodes);
+            subscribers.nodes.clear();
+        }
+        invalidate(shardId, nodes, generation, true);
+    }
+
+    /**
+     * Invalidates the summaries of the shard when its local copy is closed, the next copy allocated to this node may
+     * start from an older generation.
+     */
+    public void onClose(ShardId shardId) {
+        Subscribers subscribers = shards.remove(shardId);
+        if (subscribers == null) {
+            return;
+        }
+        final Set<DiscoveryNode> nodes;
+        synchronized (subscribers) {
+            nodes = Set.copyOf(subscribers.nodes);
+        }
+        if (nodes.isEmpty() == false) {
+            invalidate(shardId, nodes, Long.MAX_VALUE, false);
+        }
+    }
+
+    private void invalidate(ShardId shardId, Set<DiscoveryNode> nodes, long generation, boolean await) {
+        TransportService transportService = this.transportService;
+        TimeValue timeout = TimeValue.timeValueNanos(cache.maxAgeInNanos());
+        InvalidateRequest request = new InvalidateRequest(shardId, transportService.getLocalNode().getId(), generation);
+        CountDownLatch latch = new CountDownLatch(nodes.size());
+        for (DiscoveryNode node : nodes) {
+            transportService.sendRequest(
+                node,
+                SearchTransportService.INVALIDATE_FIELD_SUMMARIES_ACTION_NAME,
+                request,
+                TransportRequestOptions.builder().withTimeout(timeout).build(),
+                new ActionListenerResponseHandler<>(ActionListener.wrap(response -> latch.countDown(), e -> {
+                    logger.debug(
+                        () -> new ParameterizedMessage("failed to invalidate the field summaries of {} on {}", shardId, node),
+                        e
+                    );
+                    latch.countDown();
+                }), in -> TransportResponse.Empty.INSTANCE)
+            );
+        }
+        if (await) {
+            try {
+                if (latch.await(timeout.nanos(), TimeUnit.NANOSECONDS) == false) {
+                    logger.debug("timed out invalidating the field summaries of {} after [{}]", shardId, timeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The latest refresh generation of a shard and the coordinating nodes that received a summary since.
+     */
+    private static final class Subscribers {
+        private long generation = -1;
+        private final Set<DiscoveryNode> nodes = new HashSet<>();
+    }
+
+    /**
+     * Request sent by a data node to invalidate the summary of its copy of a shard on a coordinating node.
+     *
+     * @opensearch.internal
+     */
+    public static final class InvalidateRequest extends TransportRequest {
+        private final ShardId shardId;
+        private final String nodeId;
+        private final long generation;
+
+        public InvalidateRequest(ShardId shardId, String nodeId, long generation) {
+            this.shardId = shardId;
+            this.nodeId = nodeId;
+            this.generation = generation;
+        }
+
+        public InvalidateRequest(StreamInput in) throws IOException {
+            super(in);
+            shardId = new ShardId(in);
+            nodeId = in.readString();
+            generation = in.readLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            shardId.writeTo(out);
+            out.writeString(nodeId);
+            out.writeLong(generation);
+        }
+
+        public ShardId shardId() {
+            return shardId;
+        }
+
+        public String nodeId() {
+            return nodeId;
+        }
+
+        public long generation() {
+            return generation;
+        }
+    }
+}
@@ -349,6 +349,30 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         return new PlainShardIterator(shardId, ordered);
     }
 
+    /**
+     * Returns an iterator over active and initializing shards, ordered by the latency predicted for
+     * each copy of the shard. Copies without statistics come first so that they get sampled, and
+     * initializing shards are the last to iterate through.
+     */
+    public ShardIterator activeInitializingShardCopiesRankedIt(
+        @Nullable ResponseCollectorService collector,
+        @Nullable Map<String, Long> nodeSearchCounts
+    ) {
+        final int seed = shuffler.nextSeed();
+        List<ShardRouting> rankedActiveShards = rankShardCopiesAndUpdateStats(
+            shuffler.shuffle(activeShards, seed),
+            collector,
+            nodeSearchCounts
+        );
+        if (allInitializingShards.isEmpty()) {
+            return new PlainShardIterator(shardId, rankedActiveShards);
+        }
+        ArrayList<ShardRouting> ordered = new ArrayList<>(activeShards.size() + allInitializingShards.size());
+        ordered.addAll(rankedActiveShards);
+        ordered.addAll(rankShardCopiesAndUpdateStats(allInitializingShards, collector, nodeSearchCounts));
+        return new PlainShardIterator(shardId, ordered);
+    }
+
     /**
      * Returns an iterator over active and initializing shards, shards are ordered by weighted
      * round-robin scheduling policy.
@@ -569,6 +593,51 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         return sortedShards;
     }
 
+    /**
+     * Ranks the copies of a shard by their predicted latency, see {@link ResponseCollectorService.ComputedShardCopyStats}.
+     * Like {@link #rankShardsAndUpdateStats}, this method mutates the nodeSearchCounts map and moves the statistics of
+     * the copies that are not selected towards the ones of the selected copy, so that they become candidates again.
+     */
+    public static List<ShardRouting> rankShardCopiesAndUpdateStats(
+        List<ShardRouting> shards,
+        final ResponseCollectorService collector,
+        final Map<String, Long> nodeSearchCounts
+    ) {
+        if (collector == null || nodeSearchCounts == null || shards.size() <= 1) {
+            return shards;
+        }
+
+        final Map<String, ResponseCollectorService.ComputedShardCopyStats> copyStats = new HashMap<>(shards.size());
+        final Map<String, Double> copyRanks = new HashMap<>(shards.size());
+        for (ShardRouting shard : shards) {
+            final String nodeId = shard.currentNodeId();
+            collector.getShardCopyStatistics(nodeId, shard.shardId()).ifPresent(stats -> {
+                copyStats.put(nodeId, stats);
+                copyRanks.put(nodeId, stats.predictedLatency(nodeSearchCounts.getOrDefault(nodeId, 0L)));
+            });
+        }
+
+        ArrayList<ShardRouting> sortedShards = new ArrayList<>(shards);
+        sortedShards.sort(new NodeRankComparator(copyRanks));
+
+        ShardRouting minShard = sortedShards.get(0);
+        if (minShard.started()) {
+            final String minNodeId = minShard.currentNodeId();
+            final ResponseCollectorService.ComputedShardCopyStats minStats = copyStats.get(minNodeId);
+            if (minStats != null) {
+                for (Map.Entry<String, ResponseCollectorService.ComputedShardCopyStats> entry : copyStats.entrySet()) {
+                    if (entry.getKey().equals(minNodeId) == false) {
+                        final long updatedResponse = (long) (minStats.responseTime + entry.getValue().responseTime) / 2;
+                        collector.adjustShardCopyResponseTime(entry.getKey(), minShard.shardId(), updatedResponse);
+                    }
+                }
+                nodeSearchCounts.compute(minNodeId, (id, conns) -> conns == null ? 1 : conns + 1);
+            }
+        }
+
+        return sortedShards;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         this.shardId().getIndex().writeTo(out);
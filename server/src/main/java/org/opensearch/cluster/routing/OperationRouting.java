@@ -78,6 +78,18 @@ public class OperationRouting {
         Setting.Property.NodeScope
     );
 
+    /**
+     * How adaptive replica selection ranks the copies of a shard: by the statistics of the nodes holding them, or by
+     * the latency predicted for each copy.
+     */
+    public static final Setting<AdaptiveReplicaSelectionMode> ADAPTIVE_REPLICA_SELECTION_MODE_SETTING = new Setting<>(
+        "cluster.routing.adaptive_replica_selection.mode",
+        AdaptiveReplicaSelectionMode.NODE.mode,
+        AdaptiveReplicaSelectionMode::parseString,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     public static final String IGNORE_AWARENESS_ATTRIBUTES = "cluster.search.ignore_awareness_attributes";
     public static final Setting<Boolean> IGNORE_AWARENESS_ATTRIBUTES_SETTING = Setting.boolSetting(
         IGNORE_AWARENESS_ATTRIBUTES,
@@ -128,6 +140,7 @@ public class OperationRouting {
 
     private volatile List<String> awarenessAttributes;
     private volatile boolean useAdaptiveReplicaSelection;
+    private volatile AdaptiveReplicaSelectionMode adaptiveReplicaSelectionMode;
     private volatile boolean ignoreAwarenessAttr;
     private volatile double weightedRoutingDefaultWeight;
     private volatile boolean isFailOpenEnabled;
@@ -144,12 +157,14 @@ public class OperationRouting {
             this::setAwarenessAttributes
         );
         this.useAdaptiveReplicaSelection = USE_ADAPTIVE_REPLICA_SELECTION_SETTING.get(settings);
+        this.adaptiveReplicaSelectionMode = ADAPTIVE_REPLICA_SELECTION_MODE_SETTING.get(settings);
         this.weightedRoutingDefaultWeight = WEIGHTED_ROUTING_DEFAULT_WEIGHT.get(settings);
         this.isFailOpenEnabled = WEIGHTED_ROUTING_FAILOPEN_ENABLED.get(settings);
         this.isStrictWeightedShardRouting = STRICT_WEIGHTED_SHARD_ROUTING_ENABLED.get(settings);
         this.ignoreWeightedRouting = IGNORE_WEIGHTED_SHARD_ROUTING.get(settings);
         this.isStrictSearchOnlyShardRouting = STRICT_SEARCH_REPLICA_ROUTING_ENABLED.get(settings);
         clusterSettings.addSettingsUpdateConsumer(USE_ADAPTIVE_REPLICA_SELECTION_SETTING, this::setUseAdaptiveReplicaSelection);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_REPLICA_SELECTION_MODE_SETTING, this::setAdaptiveReplicaSelectionMode);
         clusterSettings.addSettingsUpdateConsumer(IGNORE_AWARENESS_ATTRIBUTES_SETTING, this::setIgnoreAwarenessAttributes);
         clusterSettings.addSettingsUpdateConsumer(WEIGHTED_ROUTING_DEFAULT_WEIGHT, this::setWeightedRoutingDefaultWeight);
         clusterSettings.addSettingsUpdateConsumer(WEIGHTED_ROUTING_FAILOPEN_ENABLED, this::setFailOpenEnabled);
@@ -162,6 +177,10 @@ public class OperationRouting {
         this.useAdaptiveReplicaSelection = useAdaptiveReplicaSelection;
     }
 
+    void setAdaptiveReplicaSelectionMode(AdaptiveReplicaSelectionMode adaptiveReplicaSelectionMode) {
+        this.adaptiveReplicaSelectionMode = adaptiveReplicaSelectionMode;
+    }
+
     void setIgnoreAwarenessAttributes(boolean ignoreAwarenessAttributes) {
         this.ignoreAwarenessAttr = ignoreAwarenessAttributes;
     }
@@ -468,7 +487,9 @@ public class OperationRouting {
                 null
             );
         } else if (ignoreAwarenessAttributes()) {
-            if (useAdaptiveReplicaSelection) {
+            if (useAdaptiveReplicaSelection && adaptiveReplicaSelectionMode == AdaptiveReplicaSelectionMode.SHARD_COPY) {
+                return indexShard.activeInitializingShardCopiesRankedIt(collectorService, nodeCounts);
+            } else if (useAdaptiveReplicaSelection) {
                 return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts);
             } else {
                 return indexShard.activeInitializingShardsRandomIt();
@@ -576,4 +597,38 @@ public class OperationRouting {
             );
         }
     }
+
+    /**
+     * Ranking used by adaptive replica selection.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.8.0")
+    public enum AdaptiveReplicaSelectionMode {
+        /**
+         * Ranks the copies by the C3 formula applied to the statistics of the nodes holding them.
+         */
+        NODE("node"),
+        /**
+         * Ranks the copies by the latency predicted from their own response times, load and cache warmth.
+         */
+        SHARD_COPY("shard_copy");
+
+        public final String mode;
+
+        AdaptiveReplicaSelectionMode(String mode) {
+            this.mode = mode;
+        }
+
+        public static AdaptiveReplicaSelectionMode parseString(String mode) {
+            for (AdaptiveReplicaSelectionMode value : values()) {
+                if (value.mode.equals(mode)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException(
+                "[" + mode + "] adaptive replica selection mode is not supported. supported modes are [node, shard_copy]"
+            );
+        }
+    }
 }
@@ -20,7 +20,8 @@ import java.util.Set;
  */
 @ExperimentalApi
 public enum CacheType {
-    INDICES_REQUEST_CACHE("indices.requests.cache", "request_cache");
+    INDICES_REQUEST_CACHE("indices.requests.cache", "request_cache"),
+    SEGMENT_RESULT_CACHE("indices.segment_result_cache", "segment_result_cache");
 
     private final String settingPrefix;
     private final String value; // The value displayed for this cache type in stats API responses
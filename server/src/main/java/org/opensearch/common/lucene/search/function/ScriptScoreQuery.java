@@ -48,6 +48,7 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TwoPhaseIterator;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.Bits;
 import org.opensearch.Version;
 import org.opensearch.common.Nullable;
@@ -137,6 +138,10 @@ public class ScriptScoreQuery extends Query {
                     public BulkScorer bulkScorer() throws IOException {
                         if (minScore == null) {
                             final BulkScorer subQueryBulkScorer = subQueryScorerSupplier.bulkScorer();
+                            if (scoreMode.needsScores()) {
+                                // every collected doc will be scored, so score them in blocks rather than one at a time
+                                return new BatchScriptScoreBulkScorer(subQueryBulkScorer, needsScore, makeScoreScript(context), boost);
+                            }
                             return new ScriptScoreBulkScorer(subQueryBulkScorer, subQueryScoreMode, makeScoreScript(context), boost);
                         } else {
                             return super.bulkScorer();
@@ -264,6 +269,14 @@ public class ScriptScoreQuery extends Query {
         return Objects.hash(subQuery, script, minScore, indexName, shardId, indexVersion, queryName);
     }
 
+    private static void validateScore(float score, int docId) {
+        if (score < 0f || Float.isNaN(score)) {
+            throw new IllegalArgumentException(
+                "script_score script returned an invalid score [" + score + "] for doc [" + docId + "]. Must be a non-negative score!"
+            );
+        }
+    }
+
     /**
      * A script scorer
      *
@@ -298,16 +311,7 @@ public class ScriptScoreQuery extends Query {
             int docId = docID();
             scoreScript.setDocument(docId);
             float score = (float) scoreScript.execute(explanation);
-            if (score < 0f || Float.isNaN(score)) {
-                throw new IllegalArgumentException(
-                    "script_score script returned an invalid score ["
-                        + score
-                        + "] "
-                        + "for doc ["
-                        + docId
-                        + "]. Must be a non-negative score!"
-                );
-            }
+            validateScore(score, docId);
             return score * boost;
         }
 
@@ -369,16 +373,7 @@ public class ScriptScoreQuery extends Query {
         public float score() throws IOException {
             scoreScript.setDocument(docId);
             float score = (float) scoreScript.execute(explanation);
-            if (score < 0f || Float.isNaN(score)) {
-                throw new IllegalArgumentException(
-                    "script_score script returned an invalid score ["
-                        + score
-                        + "] "
-                        + "for doc ["
-                        + docId
-                        + "]. Must be a non-negative score!"
-                );
-            }
+            validateScore(score, docId);
             return score * boost;
         }
     }
@@ -432,4 +427,102 @@ public class ScriptScoreQuery extends Query {
 
     }
 
+    /**
+     * A {@link BulkScorer} that collects the matches of the sub-query in windows of doc ids, scores each window with a single
+     * {@link ScoreScript#executeBatch} call and then replays the scored docs to the collector. Only used when the collector
+     * needs the score of every doc, since scores are computed eagerly.
+     *
+     * @opensearch.internal
+     */
+    private static class BatchScriptScoreBulkScorer extends BulkScorer {
+        private static final int WINDOW_SIZE = 4096;
+
+        private final BulkScorer subQueryBulkScorer;
+        private final boolean needsSubQueryScores;
+        private final ScoreScript scoreScript;
+        private final float boost;
+        private int[] docs = new int[64];
+        private float[] subQueryScores = new float[64];
+        private float[] scores = new float[64];
+        private int count;
+
+        BatchScriptScoreBulkScorer(BulkScorer subQueryBulkScorer, boolean needsSubQueryScores, ScoreScript scoreScript, float boost) {
+            this.subQueryBulkScorer = subQueryBulkScorer;
+            this.needsSubQueryScores = needsSubQueryScores;
+            this.scoreScript = scoreScript;
+            this.boost = boost;
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            final BatchScorable scorable = new BatchScorable();
+            collector.setScorer(scorable);
+            final LeafCollector bufferingCollector = new LeafCollector() {
+                private Scorable subQueryScorer;
+
+                @Override
+                public void setScorer(Scorable scorer) {
+                    this.subQueryScorer = scorer;
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    add(doc, needsSubQueryScores ? subQueryScorer.score() : 0f);
+                }
+            };
+            int next = min;
+            while (next < max) {
+                final int windowMax = (int) Math.min(max, (long) next + WINDOW_SIZE);
+                count = 0;
+                next = subQueryBulkScorer.score(bufferingCollector, acceptDocs, next, windowMax);
+                flush(collector, scorable);
+            }
+            return next;
+        }
+
+        private void add(int doc, float subQueryScore) {
+            if (count == docs.length) {
+                final int newLength = ArrayUtil.oversize(count + 1, Integer.BYTES);
+                docs = ArrayUtil.growExact(docs, newLength);
+                subQueryScores = ArrayUtil.growExact(subQueryScores, newLength);
+                scores = ArrayUtil.growExact(scores, newLength);
+            }
+            docs[count] = doc;
+            subQueryScores[count] = subQueryScore;
+            count++;
+        }
+
+        private void flush(LeafCollector collector, BatchScorable scorable) throws IOException {
+            if (count == 0) {
+                return;
+            }
+            scoreScript.executeBatch(docs, needsSubQueryScores ? subQueryScores : null, count, scores);
+            for (int i = 0; i < count; i++) {
+                validateScore(scores[i], docs[i]);
+                scorable.score = scores[i] * boost;
+                collector.collect(docs[i]);
+            }
+            count = 0;
+        }
+
+        @Override
+        public long cost() {
+            return subQueryBulkScorer.cost();
+        }
+
+        /**
+         * Exposes the pre-computed score of the doc being replayed to the collector
+         *
+         * @opensearch.internal
+         */
+        private static class BatchScorable extends Scorable {
+            private float score;
+
+            @Override
+            public float score() {
+                return score;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.metrics;
+
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free latency histogram. Latencies are recorded in microseconds into HDR histograms with one significant digit,
+ * which bounds the relative error of any reported percentile to about 6%, up to one hour. Longer latencies are recorded
+ * as one hour.
+ * <p>
+ * Recording threads are spread over a fixed number of stripes by thread id so that hot operations do not contend on
+ * the same counters. Stripes are only allocated once a thread records into them, so an idle metric costs no memory
+ * for its counts. {@link #snapshot()} merges all stripes; it does not block recording and may miss values recorded
+ * concurrently.
+ *
+ * @opensearch.internal
+ */
+public class LatencyHistogramMetric implements Metric {
+
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    public static final int SIGNIFICANT_VALUE_DIGITS = 1;
+
+    private static final int MAX_STRIPES = 8;
+
+    private final AtomicReferenceArray<AtomicHistogram> stripes;
+    private final int mask;
+
+    /**
+     * Creates a metric with a single stripe, for operations that are rarely executed concurrently.
+     */
+    public LatencyHistogramMetric() {
+        this(1);
+    }
+
+    /**
+     * Creates a metric with one stripe per concurrent recorder, rounded up to a power of two and capped at {@value #MAX_STRIPES}.
+     */
+    public LatencyHistogramMetric(int concurrency) {
+        final int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, 2 * concurrency - 1)));
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void inc(long nanos) {
+        final long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        final int index = (int) Thread.currentThread().threadId() & mask;
+        AtomicHistogram stripe = stripes.get(index);
+        if (stripe == null) {
+            stripe = createStripe(index);
+        }
+        stripe.recordValue(micros);
+    }
+
+    private AtomicHistogram createStripe(int index) {
+        final AtomicHistogram created = new AtomicHistogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_VALUE_DIGITS);
+        return stripes.compareAndSet(index, null, created) ? created : stripes.get(index);
+    }
+
+    /**
+     * Returns the number of allocated stripes.
+     */
+    int allocatedStripes() {
+        int allocated = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            if (stripes.get(i) != null) {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Merges all stripes into a new histogram of the recorded latencies in microseconds, or returns {@code null} if
+     * nothing has been recorded yet.
+     */
+    public Histogram snapshot() {
+        Histogram snapshot = null;
+        for (int i = 0; i < stripes.length(); i++) {
+            final AtomicHistogram stripe = stripes.get(i);
+            if (stripe != null) {
+                if (snapshot == null) {
+                    snapshot = newHistogram();
+                }
+                snapshot.add(stripe);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns an empty histogram with the same layout as the snapshots of this metric, so that they can be merged.
+     */
+    public static Histogram newHistogram() {
+        return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_VALUE_DIGITS);
+    }
+}
@@ -35,11 +35,15 @@ import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.search.CreatePitController;
+import org.opensearch.action.search.SearchAfterPrefetcher;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
+import org.opensearch.action.search.ShardRequestHedging;
 import org.opensearch.action.search.StreamSearchTransportService;
+import org.opensearch.action.search.TransportMultiSearchAction;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.search.pruning.SearchIndexPruningSettings;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
 import org.opensearch.action.support.replication.TransportReplicationAction;
@@ -127,11 +131,13 @@ import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
+import org.opensearch.indices.IncrementalAggregationCache;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.indices.SegmentResultCache;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
@@ -160,6 +166,7 @@ import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.CpuBasedAdmissionControllerSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.IoBasedAdmissionControllerSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.NativeMemoryBasedAdmissionControllerSettings;
+import org.opensearch.ratelimitting.admissioncontrol.settings.PredictiveAdmissionControllerSettings;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.repositories.fs.FsRepository;
 import org.opensearch.rest.BaseRestHandler;
@@ -180,6 +187,7 @@ import org.opensearch.storage.common.tiering.TieringUtils;
 import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
 import org.opensearch.tasks.TaskCancellationMonitoringSettings;
 import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskProfiler;
 import org.opensearch.tasks.TaskResourceTrackingService;
 import org.opensearch.tasks.consumer.TopNSearchTasksLogger;
 import org.opensearch.telemetry.TelemetrySettings;
@@ -456,7 +464,16 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING,
+                TransportSearchAction.SEARCH_PARTIAL_REDUCE_MEMORY_BUDGET_SETTING,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
+                ShardRequestHedging.SEARCH_HEDGING_ENABLED_SETTING,
+                ShardRequestHedging.SEARCH_HEDGING_MIN_DELAY_SETTING,
+                ShardRequestHedging.SEARCH_HEDGING_MAX_RATIO_SETTING,
+                TransportMultiSearchAction.SHARED_EXECUTION_ENABLED_SETTING,
+                SearchAfterPrefetcher.SEARCH_PREFETCH_ENABLED_SETTING,
+                SearchAfterPrefetcher.SEARCH_PREFETCH_TTL_SETTING,
+                SearchAfterPrefetcher.SEARCH_PREFETCH_MAX_PAGES_SETTING,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
                 RemoteClusterService.REMOTE_INITIAL_CONNECTION_TIMEOUT_SETTING,
@@ -563,6 +580,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_STALENESS_THRESHOLD_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING,
+                IncrementalAggregationCache.INDICES_REQUEST_CACHE_INCREMENTAL_ENABLED_SETTING,
+                IncrementalAggregationCache.INDICES_REQUEST_CACHE_INCREMENTAL_SIZE_SETTING,
+                IncrementalAggregationCache.INDICES_REQUEST_CACHE_INCREMENTAL_EXPIRE_SETTING,
+                SegmentResultCache.INDICES_SEGMENT_RESULT_CACHE_ENABLED_SETTING,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -596,6 +617,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.MAX_OPEN_SCROLL_CONTEXT,
                 SearchService.MAX_OPEN_PIT_CONTEXT,
                 SearchService.MAX_PIT_KEEPALIVE_SETTING,
+                SearchService.PIT_COMPACT_CONTEXTS_ENABLED,
+                SearchService.PIT_COMPACT_CONTEXTS_IDLE_TIMEOUT,
                 SearchService.MAX_AGGREGATION_REWRITE_FILTERS,
                 SearchService.AGGREGATION_REWRITE_FILTER_SEGMENT_THRESHOLD,
                 SearchService.INDICES_MAX_CLAUSE_COUNT_SETTING,
@@ -661,9 +684,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
                 ResourceWatcherService.RELOAD_INTERVAL_LOW,
                 ThreadPool.ESTIMATED_TIME_INTERVAL_SETTING,
+                ThreadPool.VIRTUAL_THREAD_EXECUTORS_SETTING,
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_MODE_SETTING,
                 OperationRouting.IGNORE_AWARENESS_ATTRIBUTES_SETTING,
                 OperationRouting.WEIGHTED_ROUTING_DEFAULT_WEIGHT,
                 OperationRouting.WEIGHTED_ROUTING_FAILOPEN_ENABLED,
@@ -721,7 +746,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ShardIndexingPressureMemoryManager.SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT,
                 ShardIndexingPressureMemoryManager.MAX_OUTSTANDING_REQUESTS,
                 IndexingPressure.MAX_INDEXING_BYTES,
+                IndexingPressure.STRIPED_COUNTERS_ENABLED,
                 TaskResourceTrackingService.TASK_RESOURCE_TRACKING_ENABLED,
+                TaskProfiler.MAX_CONCURRENT_PROFILES_SETTING,
                 TaskManager.TASK_RESOURCE_CONSUMERS_ENABLED,
                 TopNSearchTasksLogger.LOG_TOP_QUERIES_SIZE_SETTING,
                 TopNSearchTasksLogger.LOG_TOP_QUERIES_FREQUENCY_SETTING,
@@ -756,6 +783,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchShardTaskSettings.SETTING_ELAPSED_TIME_MILLIS_THRESHOLD,
                 SearchShardTaskSettings.SETTING_TOTAL_HEAP_PERCENT_THRESHOLD,
                 SearchShardTaskSettings.SETTING_NATIVE_MEMORY_PERCENT_THRESHOLD,
+                SearchShardTaskSettings.SETTING_PARTIAL_RESULTS_ENABLED,
                 SearchBackpressureSettings.SETTING_CANCELLATION_RATIO,  // deprecated
                 SearchBackpressureSettings.SETTING_CANCELLATION_RATE,   // deprecated
                 SearchBackpressureSettings.SETTING_CANCELLATION_BURST,   // deprecated
@@ -843,6 +871,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 NativeMemoryBasedAdmissionControllerSettings.INDEXING_NATIVE_MEMORY_USAGE_LIMIT,
                 NativeMemoryBasedAdmissionControllerSettings.CLUSTER_ADMIN_NATIVE_MEMORY_USAGE_LIMIT,
                 NativeMemoryBasedAdmissionControllerSettings.INDEXING_NATIVE_MEMORY_POOL_USAGE_LIMIT,
+                PredictiveAdmissionControllerSettings.PREDICTIVE_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
+                PredictiveAdmissionControllerSettings.SEARCH_CPU_BUDGET_PERCENT,
+                PredictiveAdmissionControllerSettings.INDEXING_CPU_BUDGET_PERCENT,
 
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
@@ -881,6 +912,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Composite index settings
                 CompositeIndexSettings.STAR_TREE_INDEX_ENABLED_SETTING,
+                CompositeIndexSettings.STAR_TREE_HYBRID_EXECUTION_ENABLED_SETTING,
                 CompositeIndexSettings.COMPOSITE_INDEX_MAX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING,
 
                 // Pluggable dataformat cluster defaults
@@ -899,6 +931,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 WorkloadManagementSettings.WLM_MODE_SETTING,
                 WorkloadManagementSettings.QUERYGROUP_SERVICE_RUN_INTERVAL_SETTING,
                 WorkloadManagementSettings.QUERYGROUP_SERVICE_DURESS_STREAK_SETTING,
+                WorkloadManagementSettings.SEARCH_ISOLATION_SETTING,
 
                 // Settings to be used for limiting rest requests
                 ResponseLimitSettings.CAT_INDICES_RESPONSE_LIMIT_SETTING,
@@ -916,6 +949,13 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_SETTING.getConcreteSettingForNamespace(
                     CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
                 ),
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.SEGMENT_RESULT_CACHE),
+                OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(
+                    CacheType.SEGMENT_RESULT_CACHE.getSettingPrefix()
+                ),
+                OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_SETTING.getConcreteSettingForNamespace(
+                    CacheType.SEGMENT_RESULT_CACHE.getSettingPrefix()
+                ),
 
                 // Setting related to refresh optimisations
                 IndicesService.CLUSTER_REFRESH_FIXED_INTERVAL_SCHEDULE_ENABLED_SETTING,
@@ -937,7 +977,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TieredStoragePrefetchSettings.STORED_FIELDS_PREFETCH_ENABLED_SETTING,
                 SearchIndexPruningSettings.ENABLED,
                 SearchIndexPruningSettings.MIN_SHARDS,
-                SearchIndexPruningSettings.FIELDS
+                SearchIndexPruningSettings.FIELDS,
+                ShardFieldDomainCache.FIELDS,
+                ShardFieldDomainCache.MAX_AGE
             )
         )
     );
@@ -955,6 +997,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             TelemetrySettings.TRACER_ENABLED_SETTING,
             TelemetrySettings.TRACER_SAMPLER_PROBABILITY,
             TelemetrySettings.METRICS_PUBLISH_INTERVAL_SETTING,
+            TelemetrySettings.METRICS_BATCH_FLUSH_INTERVAL_SETTING,
             TelemetrySettings.TRACER_FEATURE_ENABLED_SETTING,
             TelemetrySettings.METRICS_FEATURE_ENABLED_SETTING
         )
@@ -0,0 +1,435 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An unbounded blocking queue that keeps one FIFO lane per key and hands out elements from the lanes in deficit round-robin
+ * order: each lane holding elements gets up to {@code quantum} elements taken per turn. The lane of an element is resolved
+ * by calling the key supplier on the thread that adds the element, which for a thread pool is the thread submitting the task,
+ * so that a caller submitting many tasks at once only delays its own tasks and not the ones queued by other callers.
+ * <p>
+ * Elements in a single lane are still taken in FIFO order. Lanes are dropped as soon as they are empty, so the number of
+ * lanes is bounded by the number of queued and running elements. Wrap it in a {@link SizeBlockingQueue} to bound the queue.
+ * <p>
+ * Once bound to its executor, the queue can also isolate its lanes with a {@link LaneIsolation}. A lane then gets the next free
+ * thread only while it runs fewer tasks than its reserved share of the threads, unless no lane holding elements is below its
+ * share, in which case the thread is lent to the next lane in turn. A lane can queue elements beyond its reserved share of
+ * the queue slots only while enough slots stay free for the unused reservations of the other lanes. Tasks are not preempted,
+ * so a lane that starts queueing again may have to wait for the lent threads to finish their current task.
+ *
+ * @opensearch.internal
+ */
+final class FairBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final Object DEFAULT_LANE = new Object();
+
+    private final Supplier<?> laneKey;
+    private final int quantum;
+    private final Supplier<LaneIsolation> laneIsolation;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<Object, Lane<E>> lanes = new HashMap<>();
+    // the lanes holding elements, in the order they are served
+    private final ArrayDeque<Lane<E>> activeLanes = new ArrayDeque<>();
+    // the lanes of the elements taken by the executor that have not finished running yet
+    private final Map<E, Lane<E>> running = new IdentityHashMap<>();
+    private int count;
+    private IntSupplier queueCapacity;
+    private IntSupplier poolSize;
+
+    FairBlockingQueue(Supplier<?> laneKey, int quantum) {
+        this(laneKey, quantum, () -> null);
+    }
+
+    FairBlockingQueue(Supplier<?> laneKey, int quantum, Supplier<LaneIsolation> laneIsolation) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("quantum must be positive, got: " + quantum);
+        }
+        this.laneKey = Objects.requireNonNull(laneKey);
+        this.quantum = quantum;
+        this.laneIsolation = Objects.requireNonNull(laneIsolation);
+    }
+
+    private static final class Lane<E> {
+        private final Object key;
+        private final ArrayDeque<E> elements = new ArrayDeque<>();
+        private int deficit;
+        private int running;
+
+        private Lane(Object key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Binds the queue to the executor taking its elements, which must then call {@link #onExecuted} after running each of them.
+     * Lanes are only isolated once the queue is bound.
+     */
+    void bind(IntSupplier queueCapacity, IntSupplier poolSize) {
+        lock.lock();
+        try {
+            this.queueCapacity = Objects.requireNonNull(queueCapacity);
+            this.poolSize = Objects.requireNonNull(poolSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called by the executor the queue is bound to after running an element, with the time the element waited in the queue.
+     */
+    void onExecuted(E e, long queueWaitNanos) {
+        final Object key;
+        lock.lock();
+        try {
+            final Lane<E> lane = running.remove(e);
+            if (lane == null) {
+                // the element did not go through the queue, like the first task of a new worker
+                return;
+            }
+            lane.running--;
+            retireIfIdle(lane);
+            key = lane.key;
+        } finally {
+            lock.unlock();
+        }
+        final LaneIsolation isolation = laneIsolation.get();
+        if (isolation != null && key != DEFAULT_LANE) {
+            isolation.onExecuted(key, queueWaitNanos);
+        }
+    }
+
+    /**
+     * Returns the number of lanes currently holding elements.
+     */
+    int activeLanes() {
+        lock.lock();
+        try {
+            return activeLanes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return enqueue(e, false);
+    }
+
+    /**
+     * Adds the element to its lane without checking the reserved slots of the lanes, so that an element that the executor
+     * forces into the queue, like a rejected task that must run, is never dropped.
+     */
+    @Override
+    public void put(E e) {
+        final boolean added = enqueue(e, true);
+        assert added;
+    }
+
+    private boolean enqueue(E e, boolean force) {
+        Objects.requireNonNull(e);
+        final Object key = laneKey.get();
+        lock.lock();
+        try {
+            final Lane<E> lane = lanes.computeIfAbsent(key == null ? DEFAULT_LANE : key, Lane::new);
+            if (force == false) {
+                final Map<?, Double> shares = reservedShares();
+                if (shares.isEmpty() == false && exceedsReservedSlots(lane, shares)) {
+                    retireIfIdle(lane);
+                    return false;
+                }
+            }
+            if (lane.elements.isEmpty()) {
+                lane.deficit = 0;
+                activeLanes.addLast(lane);
+            }
+            lane.elements.addLast(e);
+            count++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return offer(e);
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            final Lane<E> lane = activeLanes.peekFirst();
+            return lane == null ? null : lane.elements.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next element. {@code dispatch} is true if the element is taken by a worker of the executor to run it.
+     */
+    private E dequeue(boolean dispatch) {
+        assert lock.isHeldByCurrentThread();
+        final Map<?, Double> shares = dispatch ? reservedShares() : Map.of();
+        final Lane<E> lane = shares.isEmpty() ? activeLanes.peekFirst() : nextIsolatedLane(shares);
+        assert lane != null && lane.elements.isEmpty() == false;
+        if (lane.deficit == 0) {
+            lane.deficit = quantum;
+        }
+        final E e = lane.elements.pollFirst();
+        lane.deficit--;
+        count--;
+        if (dispatch && poolSize != null) {
+            running.put(e, lane);
+            lane.running++;
+        }
+        if (lane.elements.isEmpty()) {
+            activeLanes.remove(lane);
+            retireIfIdle(lane);
+        } else if (lane.deficit == 0) {
+            activeLanes.remove(lane);
+            activeLanes.addLast(lane);
+        }
+        return e;
+    }
+
+    /**
+     * Returns the first lane in turn that runs fewer elements than its reserved share of the threads. If there is none, the
+     * lanes with reserved threads left have nothing queued, so one of their threads is lent to the lane whose turn it is.
+     */
+    private Lane<E> nextIsolatedLane(Map<?, Double> shares) {
+        final int threads = poolSize.getAsInt();
+        for (Lane<E> lane : activeLanes) {
+            if (lane.running < reserved(shares.get(lane.key), threads)) {
+                return lane;
+            }
+        }
+        return activeLanes.peekFirst();
+    }
+
+    /**
+     * Returns whether queueing an element in the given lane would exceed its reserved share of the queue slots while taking a
+     * slot that another lane has reserved and not used yet.
+     */
+    private boolean exceedsReservedSlots(Lane<E> lane, Map<?, Double> shares) {
+        final int capacity = queueCapacity.getAsInt();
+        if (lane.elements.size() < reserved(shares.get(lane.key), capacity)) {
+            return false;
+        }
+        int unusedReservedSlots = 0;
+        for (Map.Entry<?, Double> share : shares.entrySet()) {
+            if (share.getKey().equals(lane.key) == false) {
+                final Lane<E> other = lanes.get(share.getKey());
+                final int queued = other == null ? 0 : other.elements.size();
+                unusedReservedSlots += Math.max(0, reserved(share.getValue(), capacity) - queued);
+            }
+        }
+        return count + 1 > capacity - unusedReservedSlots;
+    }
+
+    /**
+     * Returns how many of {@code total} threads or queue slots a share reserves, at least one for any positive share.
+     */
+    static int reserved(Double share, int total) {
+        if (share == null || share <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) (share * total));
+    }
+
+    private Map<?, Double> reservedShares() {
+        if (poolSize == null) {
+            return Map.of();
+        }
+        final LaneIsolation isolation = laneIsolation.get();
+        return isolation == null ? Map.of() : isolation.reservedShares();
+    }
+
+    private void retireIfIdle(Lane<E> lane) {
+        if (lane.elements.isEmpty() && lane.running == 0) {
+            lanes.remove(lane.key);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (Lane<E> lane : activeLanes) {
+                if (lane.elements.remove(o)) {
+                    count--;
+                    if (lane.elements.isEmpty()) {
+                        activeLanes.remove(lane);
+                        retireIfIdle(lane);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("cannot drain a queue into itself");
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                c.add(dequeue(false));
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the queued elements, in the order they would be taken if no element was added.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<>();
+        lock.lock();
+        try {
+            final List<Iterator<E>> iterators = new ArrayList<>();
+            final List<Integer> deficits = new ArrayList<>();
+            for (Lane<E> lane : activeLanes) {
+                iterators.add(lane.elements.iterator());
+                deficits.add(lane.deficit == 0 ? quantum : lane.deficit);
+            }
+            while (iterators.isEmpty() == false) {
+                for (int i = 0; i < iterators.size();) {
+                    final Iterator<E> it = iterators.get(i);
+                    int turn = deficits.get(i);
+                    while (turn > 0 && it.hasNext()) {
+                        snapshot.add(it.next());
+                        turn--;
+                    }
+                    deficits.set(i, quantum);
+                    if (it.hasNext()) {
+                        i++;
+                    } else {
+                        iterators.remove(i);
+                        deficits.remove(i);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<E> it = snapshot.iterator();
+        return new Iterator<E>() {
+            E current;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                current = it.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                FairBlockingQueue.this.remove(current);
+            }
+        };
+    }
+}
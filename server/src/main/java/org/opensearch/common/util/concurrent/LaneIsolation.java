@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import java.util.Map;
+
+/**
+ * Isolates the lanes of the fair queue of a resizable executor from each other by reserving each lane a share of the threads
+ * and queue slots of the executor. What a lane leaves unused of its reservation is lent to the other lanes.
+ *
+ * @opensearch.internal
+ */
+public interface LaneIsolation {
+
+    /**
+     * Returns the lane of a task submitted from the given thread context, or {@code null} if the task goes to the lane the
+     * executor would otherwise use.
+     */
+    Object laneKey(ThreadContext threadContext);
+
+    /**
+     * Returns the share, between 0 and 1, of the threads and queue slots of the executor that is reserved to each lane, by lane
+     * key. Lanes that are not listed have nothing reserved and only use what the other lanes leave unused.
+     */
+    Map<?, Double> reservedShares();
+
+    /**
+     * Called after a task of the given lane ran, with the time it waited in the queue.
+     */
+    void onExecuted(Object laneKey, long queueWaitNanos);
+}
@@ -33,6 +33,7 @@
 package org.opensearch.common.util.concurrent;
 
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.settings.Setting;
@@ -59,6 +60,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Executors.
@@ -154,6 +156,19 @@ public class OpenSearchExecutors {
         return executor;
     }
 
+    /**
+     * Returns an executor that runs every task on a new thread of the given factory, with at most {@code max} tasks running at the
+     * same time, see {@link OpenSearchVirtualThreadExecutor}.
+     */
+    public static OpenSearchVirtualThreadExecutor newVirtualThreadPerTask(
+        String name,
+        int max,
+        ThreadFactory threadFactory,
+        ThreadContext contextHolder
+    ) {
+        return new OpenSearchVirtualThreadExecutor(name, max, threadFactory, contextHolder);
+    }
+
     public static OpenSearchThreadPoolExecutor newFixed(
         String name,
         int size,
@@ -188,6 +203,40 @@ public class OpenSearchExecutors {
         ThreadContext contextHolder,
         AtomicReference<RunnableTaskExecutionListener> runnableTaskListener
     ) {
+        return newResizable(name, size, queueCapacity, threadFactory, contextHolder, runnableTaskListener, null);
+    }
+
+    /**
+     * Return a new resizable executor. If {@code laneKey} is not null, queued tasks are grouped in lanes by the key it returns for
+     * the thread context of the submitting thread, and the lanes take turns to run their tasks instead of running all tasks in
+     * submission order.
+     */
+    public static OpenSearchThreadPoolExecutor newResizable(
+        String name,
+        int size,
+        int queueCapacity,
+        ThreadFactory threadFactory,
+        ThreadContext contextHolder,
+        AtomicReference<RunnableTaskExecutionListener> runnableTaskListener,
+        @Nullable Function<ThreadContext, Object> laneKey
+    ) {
+        return newResizable(name, size, queueCapacity, threadFactory, contextHolder, runnableTaskListener, laneKey, null);
+    }
+
+    /**
+     * Return a new resizable executor with a fair queue as above, whose lanes are isolated from each other by the
+     * {@link LaneIsolation} {@code laneIsolation} returns, if any.
+     */
+    public static OpenSearchThreadPoolExecutor newResizable(
+        String name,
+        int size,
+        int queueCapacity,
+        ThreadFactory threadFactory,
+        ThreadContext contextHolder,
+        AtomicReference<RunnableTaskExecutionListener> runnableTaskListener,
+        @Nullable Function<ThreadContext, Object> laneKey,
+        @Nullable Supplier<LaneIsolation> laneIsolation
+    ) {
 
         if (queueCapacity <= 0) {
             throw new IllegalArgumentException("queue capacity for [" + name + "] executor must be positive, got: " + queueCapacity);
@@ -209,7 +258,16 @@ public class OpenSearchExecutors {
             size,
             0,
             TimeUnit.MILLISECONDS,
-            new ResizableBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), queueCapacity),
+            new ResizableBlockingQueue<>(
+                laneKey == null
+                    ? ConcurrentCollections.<Runnable>newBlockingQueue()
+                    : new FairBlockingQueue<Runnable>(
+                        () -> laneKey.apply(contextHolder),
+                        1,
+                        laneIsolation == null ? () -> null : laneIsolation
+                    ),
+                queueCapacity
+            ),
             runnableWrapper,
             threadFactory,
             new OpenSearchAbortPolicy(),
@@ -382,6 +440,14 @@ public class OpenSearchExecutors {
         return new OpenSearchThreadFactory(namePrefix);
     }
 
+    /**
+     * Returns a thread factory creating virtual threads, named like the threads of {@link #daemonThreadFactory(String)}.
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return r -> Thread.ofVirtual().name(namePrefix + "[VT#" + threadNumber.getAndIncrement() + "]").unstarted(r);
+    }
+
     /**
      * A thread factory
      *
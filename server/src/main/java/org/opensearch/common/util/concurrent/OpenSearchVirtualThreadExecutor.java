@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor that starts a new virtual thread for every task instead of handing the tasks to a pool of threads. The number of
+ * tasks running at the same time is bounded by a semaphore: the threads of the tasks above the maximum are started right away
+ * and wait for a permit, which costs a virtual thread next to nothing, and are reported as queued.
+ *
+ * @opensearch.internal
+ */
+public final class OpenSearchVirtualThreadExecutor extends AbstractExecutorService {
+
+    /**
+     * Name used in error reporting.
+     */
+    private final String name;
+    private final ThreadFactory threadFactory;
+    private final ThreadContext contextHolder;
+    private final ResizableSemaphore permits;
+    // guarded by threads, the threads of the tasks that did not complete yet
+    private final Set<Thread> threads = new HashSet<>();
+    private boolean shutdown;
+    private volatile int maximumPoolSize;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger largest = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @SuppressForbidden(reason = "properly rethrowing errors, see OpenSearchExecutors.rethrowErrors")
+    OpenSearchVirtualThreadExecutor(String name, int maximumPoolSize, ThreadFactory threadFactory, ThreadContext contextHolder) {
+        super();
+        this.name = name;
+        this.threadFactory = threadFactory;
+        this.contextHolder = contextHolder;
+        this.maximumPoolSize = maximumPoolSize;
+        this.permits = new ResizableSemaphore(maximumPoolSize);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        final Runnable wrapped = contextHolder.preserveContext(command);
+        final Thread thread = threadFactory.newThread(() -> run(wrapped));
+        synchronized (threads) {
+            if (shutdown == false) {
+                threads.add(thread);
+                thread.start();
+                return;
+            }
+        }
+        rejected.increment();
+        final OpenSearchRejectedExecutionException e = new OpenSearchRejectedExecutionException(
+            "rejected execution of " + command + " on " + this,
+            true
+        );
+        if (wrapped instanceof AbstractRunnable abstractRunnable) {
+            // If we are an abstract runnable we can handle the rejection
+            // directly and don't need to rethrow it.
+            try {
+                abstractRunnable.onRejection(e);
+            } finally {
+                abstractRunnable.onAfter();
+            }
+        } else {
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            queued.incrementAndGet();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // the executor was shut down now, the task is dropped like the queued tasks of a thread pool
+                return;
+            } finally {
+                queued.decrementAndGet();
+            }
+            largest.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                completed.increment();
+                permits.release();
+            }
+            OpenSearchExecutors.rethrowErrors(contextHolder.unwrap(task));
+        } finally {
+            synchronized (threads) {
+                threads.remove(Thread.currentThread());
+                if (threads.isEmpty()) {
+                    threads.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Changes the maximum number of tasks running at the same time. Running tasks complete if the maximum is lowered below their
+     * number, the next tasks wait until they fit.
+     */
+    public synchronized void setMaximumPoolSize(int maximumPoolSize) {
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("maximum pool size must be positive but was [" + maximumPoolSize + "]");
+        }
+        final int delta = maximumPoolSize - this.maximumPoolSize;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Returns the number of threads of the tasks that did not complete yet, whether they are running or waiting for a permit.
+     */
+    public int getPoolSize() {
+        synchronized (threads) {
+            return threads.size();
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting for a permit to run.
+     */
+    public int getQueueSize() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getLargestPoolSize() {
+        return largest.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (threads) {
+            shutdown = true;
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (threads) {
+            shutdown = true;
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+        }
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (threads) {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (threads) {
+            return shutdown && threads.isEmpty();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (threads) {
+            while (shutdown == false || threads.isEmpty() == false) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(threads, remaining);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName()
+            + "[name = "
+            + name
+            + ", max = "
+            + maximumPoolSize
+            + ", active = "
+            + active.get()
+            + ", queued = "
+            + queued.get()
+            + ", completed = "
+            + completed.sum()
+            + ", shutdown = "
+            + isShutdown()
+            + "]";
+    }
+
+    /**
+     * A semaphore whose permits can be reduced when the maximum is lowered.
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+        private ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
     private final Function<Runnable, WrappedRunnable> runnableWrapper;
     private final ExponentiallyWeightedMovingAverage executionEWMA;
     private final CounterMetric poolWaitTime;
+    private final FairBlockingQueue<Runnable> fairQueue;
 
     /**
      * Create new resizable at runtime thread pool executor
@@ -104,6 +105,12 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
         this.runnableWrapper = runnableWrapper;
         this.executionEWMA = new ExponentiallyWeightedMovingAverage(ewmaAlpha, 0);
         this.poolWaitTime = new CounterMetric();
+        if (workQueue.delegate() instanceof FairBlockingQueue<Runnable> queue) {
+            this.fairQueue = queue;
+            queue.bind(workQueue::capacity, this::getMaximumPoolSize);
+        } else {
+            this.fairQueue = null;
+        }
     }
 
     @Override
@@ -160,6 +167,9 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
             executionEWMA.addValue(taskExecutionNanos);
         }
         poolWaitTime.inc(timedRunnable.getWaitTimeNanos());
+        if (fairQueue != null) {
+            fairQueue.onExecuted(r, Math.max(0L, timedRunnable.getWaitTimeNanos()));
+        }
     }
 
     /**
@@ -68,6 +68,13 @@ public class SizeBlockingQueue<E> extends AbstractQueue<E> implements BlockingQu
         return this.capacity;
     }
 
+    /**
+     * Returns the queue whose size is bounded.
+     */
+    BlockingQueue<E> delegate() {
+        return queue;
+    }
+
     @Override
     public Iterator<E> iterator() {
         final Iterator<E> it = queue.iterator();
@@ -518,6 +518,13 @@ public final class ThreadContext implements Writeable {
         return (T) threadLocal.get().transientHeaders.get(key);
     }
 
+    /**
+     * Returns a snapshot of the transient headers, which may hold the identity of the caller
+     */
+    public Map<String, Object> getTransientHeaders() {
+        return Collections.unmodifiableMap(new HashMap<>(threadLocal.get().transientHeaders));
+    }
+
     /**
      * Add the {@code value} for the specified {@code key} Any duplicate {@code value} is ignored.
      *
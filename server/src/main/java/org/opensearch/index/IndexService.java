@@ -202,6 +202,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final String INDEX_TRANSLOG_RETENTION_CHECK_INTERVAL_SETTING = "index.translog.retention.check_interval";
 
     private final AsyncTrimTranslogTask trimTranslogTask;
+    private final AsyncMappingEvictionTask mappingEvictionTask;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
     private final ScriptService scriptService;
@@ -367,6 +368,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.refreshInterval = getRefreshInterval();
         // kick off async ops for the first shard in this index
         this.trimTranslogTask = new AsyncTrimTranslogTask(this);
+        this.mappingEvictionTask = mapperService != null && mapperService.isLazyLoadEnabled() ? new AsyncMappingEvictionTask(this) : null;
         // disable these checks for ingestion source engine
         if (!indexSettings.getIndexMetadata().useIngestionSource()) {
             this.globalCheckpointTask = new AsyncGlobalCheckpointTask(this);
@@ -605,6 +607,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                     refreshTask,
                     fsyncTask,
                     trimTranslogTask,
+                    mappingEvictionTask,
                     globalCheckpointTask,
                     retentionLeaseSyncTask
                 );
@@ -1829,6 +1832,38 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         }
     }
 
+    /**
+     * Drops the parsed mapping of an index with lazy mapping loading enabled once it has been idle for
+     * {@link MapperService#INDEX_MAPPING_LAZY_LOAD_IDLE_TIMEOUT_SETTING}.
+     *
+     * @opensearch.internal
+     */
+    final class AsyncMappingEvictionTask extends BaseAsyncTask {
+
+        AsyncMappingEvictionTask(IndexService indexService) {
+            super(
+                indexService,
+                MapperService.INDEX_MAPPING_LAZY_LOAD_IDLE_TIMEOUT_SETTING.get(indexService.getIndexSettings().getSettings())
+            );
+        }
+
+        @Override
+        protected void runInternal() {
+            // the task runs once per idle timeout, so a mapping is dropped at most twice the idle timeout after its last use
+            indexService.mapperService().evictMappingIfIdle(getInterval());
+        }
+
+        @Override
+        protected String getThreadPool() {
+            return ThreadPool.Names.GENERIC;
+        }
+
+        @Override
+        public String toString() {
+            return "mapping_eviction";
+        }
+    }
+
     // this setting is intentionally not registered, it is only used in tests
     public static final Setting<TimeValue> GLOBAL_CHECKPOINT_SYNC_INTERVAL_SETTING = Setting.timeSetting(
         "index.global_checkpoint_sync.interval",
@@ -1913,6 +1948,10 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         return trimTranslogTask;
     }
 
+    AsyncMappingEvictionTask getMappingEvictionTask() { // for tests
+        return mappingEvictionTask;
+    }
+
     /**
      * Clears the caches for the given shard id if the shard is still allocated on this node
      */
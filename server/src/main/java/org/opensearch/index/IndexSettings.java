@@ -705,6 +705,19 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Caps the bytes a shard rewrites through natural merges within an hour, {@code -1} for no limit. Forced merges are
+     * not subject to this budget.
+     */
+    public static final Setting<ByteSizeValue> INDEX_MERGE_MAX_MERGED_BYTES_PER_HOUR_SETTING = Setting.byteSizeSetting(
+        "index.merge.max_merged_bytes_per_hour",
+        new ByteSizeValue(-1),
+        new ByteSizeValue(-1),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_MERGE_ON_FLUSH_ENABLED = Setting.boolSetting(
         "index.merge_on_flush.enabled",
         true, /* https://issues.apache.org/jira/browse/LUCENE-10078 */
@@ -1060,6 +1073,10 @@ public final class IndexSettings {
      * Is merge of flush enabled or not
      */
     private volatile boolean mergeOnFlushEnabled;
+    /**
+     * The bytes natural merges may rewrite per hour, {@code -1} if unlimited
+     */
+    private volatile long maxMergedBytesPerHour;
     /**
      * Specialized merge-on-flush policy if provided
      */
@@ -1236,6 +1253,7 @@ public final class IndexSettings {
         mappingDynamicPropertiesLuceneFieldLimit = scopedSettings.get(INDEX_MAPPING_DYNAMIC_PROPERTIES_LUCENE_FIELD_LIMIT_SETTING);
         maxFullFlushMergeWaitTime = scopedSettings.get(INDEX_MERGE_ON_FLUSH_MAX_FULL_FLUSH_MERGE_WAIT_TIME);
         mergeOnFlushEnabled = scopedSettings.get(INDEX_MERGE_ON_FLUSH_ENABLED);
+        maxMergedBytesPerHour = scopedSettings.get(INDEX_MERGE_MAX_MERGED_BYTES_PER_HOUR_SETTING).getBytes();
         setMergeOnFlushPolicy(scopedSettings.get(INDEX_MERGE_ON_FLUSH_POLICY));
         checkPendingFlushEnabled = scopedSettings.get(INDEX_CHECK_PENDING_FLUSH_ENABLED);
         defaultSearchPipeline = scopedSettings.get(DEFAULT_SEARCH_PIPELINE);
@@ -1378,6 +1396,7 @@ public final class IndexSettings {
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_MAX_FULL_FLUSH_MERGE_WAIT_TIME, this::setMaxFullFlushMergeWaitTime);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_ENABLED, this::setMergeOnFlushEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_MAX_MERGED_BYTES_PER_HOUR_SETTING, this::setMaxMergedBytesPerHour);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_POLICY, this::setMergeOnFlushPolicy);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_SEARCH_PIPELINE, this::setDefaultSearchPipeline);
         scopedSettings.addSettingsUpdateConsumer(
@@ -2305,6 +2324,17 @@ public final class IndexSettings {
         return mergeOnFlushEnabled;
     }
 
+    private void setMaxMergedBytesPerHour(ByteSizeValue maxMergedBytesPerHour) {
+        this.maxMergedBytesPerHour = maxMergedBytesPerHour.getBytes();
+    }
+
+    /**
+     * Returns the bytes natural merges of a shard may rewrite per hour, or {@code -1} if unlimited.
+     */
+    public long getMaxMergedBytesPerHour() {
+        return maxMergedBytesPerHour;
+    }
+
     private void setMergeOnFlushPolicy(String policy) {
         if (Strings.isEmpty(policy) || DEFAULT_POLICY.equalsIgnoreCase(policy)) {
             mergeOnFlushPolicy = null;
@@ -38,12 +38,12 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.index.stats.IndexingPressureStats;
 
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Tracks indexing memory pressure
@@ -58,21 +58,32 @@ public class IndexingPressure {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether the node level counters are striped per thread instead of being single atomic counters. Striped counters avoid
+     * contention between writers on nodes with many cores; limit checks on them are exact whenever the in-flight bytes are
+     * within one percent of the limit.
+     */
+    public static final Setting<Boolean> STRIPED_COUNTERS_ENABLED = Setting.boolSetting(
+        "indexing_pressure.striped_counters.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     private static final Logger logger = LogManager.getLogger(IndexingPressure.class);
 
-    protected final AtomicLong currentCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong currentCoordinatingBytes = new AtomicLong(0);
-    protected final AtomicLong currentPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong currentReplicaBytes = new AtomicLong(0);
+    protected final PressureCounter currentCombinedCoordinatingAndPrimaryBytes;
+    protected final PressureCounter currentCoordinatingBytes;
+    protected final PressureCounter currentPrimaryBytes;
+    protected final PressureCounter currentReplicaBytes;
 
-    protected final AtomicLong totalCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong totalCoordinatingBytes = new AtomicLong(0);
-    protected final AtomicLong totalPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong totalReplicaBytes = new AtomicLong(0);
+    protected final PressureCounter totalCombinedCoordinatingAndPrimaryBytes;
+    protected final PressureCounter totalCoordinatingBytes;
+    protected final PressureCounter totalPrimaryBytes;
+    protected final PressureCounter totalReplicaBytes;
 
-    protected final AtomicLong coordinatingRejections = new AtomicLong(0);
-    protected final AtomicLong primaryRejections = new AtomicLong(0);
-    protected final AtomicLong replicaRejections = new AtomicLong(0);
+    protected final PressureCounter coordinatingRejections;
+    protected final PressureCounter primaryRejections;
+    protected final PressureCounter replicaRejections;
 
     protected final long primaryAndCoordinatingLimits;
     protected final long replicaLimits;
@@ -81,6 +92,26 @@ public class IndexingPressure {
     public IndexingPressure(Settings settings) {
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.replicaLimits = (long) (this.primaryAndCoordinatingLimits * 1.5);
+        final boolean striped = STRIPED_COUNTERS_ENABLED.get(settings);
+        final int processors = OpenSearchExecutors.allocatedProcessors(settings);
+        this.currentCombinedCoordinatingAndPrimaryBytes = newCounter(striped, processors, primaryAndCoordinatingLimits / 100);
+        this.currentCoordinatingBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.currentPrimaryBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.currentReplicaBytes = newCounter(striped, processors, replicaLimits / 100);
+        this.totalCombinedCoordinatingAndPrimaryBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.totalCoordinatingBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.totalPrimaryBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.totalReplicaBytes = newCounter(striped, processors, Long.MAX_VALUE);
+        this.coordinatingRejections = newCounter(striped, processors, Long.MAX_VALUE);
+        this.primaryRejections = newCounter(striped, processors, Long.MAX_VALUE);
+        this.replicaRejections = newCounter(striped, processors, Long.MAX_VALUE);
+    }
+
+    /**
+     * Counters that are never checked against a limit get an unbounded error: their stripes are only folded when read.
+     */
+    private static PressureCounter newCounter(boolean striped, int processors, long maxError) {
+        return striped ? PressureCounter.striped(processors, maxError) : PressureCounter.exact();
     }
 
     private static Releasable wrapReleasable(Releasable releasable) {
@@ -96,14 +127,14 @@ public class IndexingPressure {
     }
 
     public Releasable markCoordinatingOperationStarted(long bytes, boolean forceExecution) {
-        long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        long replicaWriteBytes = this.currentReplicaBytes.get();
-        long totalBytes = combinedBytes + replicaWriteBytes;
-        if (forceExecution == false && totalBytes > primaryAndCoordinatingLimits) {
+        this.currentCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        if (forceExecution == false && totalCoordinatingAndPrimaryAndReplicaBytes() > primaryAndCoordinatingLimits) {
+            long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.get();
+            long replicaWriteBytes = this.currentReplicaBytes.get();
             long bytesWithoutOperation = combinedBytes - bytes;
-            long totalBytesWithoutOperation = totalBytes - bytes;
-            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.coordinatingRejections.getAndIncrement();
+            long totalBytesWithoutOperation = combinedBytes + replicaWriteBytes - bytes;
+            this.currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            this.coordinatingRejections.add(1);
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of coordinating operation ["
                     + "coordinating_and_primary_bytes="
@@ -124,30 +155,30 @@ public class IndexingPressure {
                 false
             );
         }
-        currentCoordinatingBytes.getAndAdd(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
-        totalCoordinatingBytes.getAndAdd(bytes);
+        currentCoordinatingBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalCoordinatingBytes.add(bytes);
         return wrapReleasable(() -> {
-            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.currentCoordinatingBytes.getAndAdd(-bytes);
+            this.currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            this.currentCoordinatingBytes.add(-bytes);
         });
     }
 
     public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(long bytes) {
-        currentPrimaryBytes.getAndAdd(bytes);
-        totalPrimaryBytes.getAndAdd(bytes);
-        return wrapReleasable(() -> this.currentPrimaryBytes.getAndAdd(-bytes));
+        currentPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
+        return wrapReleasable(() -> this.currentPrimaryBytes.add(-bytes));
     }
 
     public Releasable markPrimaryOperationStarted(long bytes, boolean forceExecution) {
-        long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        long replicaWriteBytes = this.currentReplicaBytes.get();
-        long totalBytes = combinedBytes + replicaWriteBytes;
-        if (forceExecution == false && totalBytes > primaryAndCoordinatingLimits) {
+        this.currentCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        if (forceExecution == false && totalCoordinatingAndPrimaryAndReplicaBytes() > primaryAndCoordinatingLimits) {
+            long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.get();
+            long replicaWriteBytes = this.currentReplicaBytes.get();
             long bytesWithoutOperation = combinedBytes - bytes;
-            long totalBytesWithoutOperation = totalBytes - bytes;
-            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.primaryRejections.getAndIncrement();
+            long totalBytesWithoutOperation = combinedBytes + replicaWriteBytes - bytes;
+            this.currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            this.primaryRejections.add(1);
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of primary operation ["
                     + "coordinating_and_primary_bytes="
@@ -168,21 +199,21 @@ public class IndexingPressure {
                 false
             );
         }
-        currentPrimaryBytes.getAndAdd(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
-        totalPrimaryBytes.getAndAdd(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
         return wrapReleasable(() -> {
-            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.currentPrimaryBytes.getAndAdd(-bytes);
+            this.currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            this.currentPrimaryBytes.add(-bytes);
         });
     }
 
     public Releasable markReplicaOperationStarted(long bytes, boolean forceExecution) {
-        long replicaWriteBytes = this.currentReplicaBytes.addAndGet(bytes);
-        if (forceExecution == false && replicaWriteBytes > replicaLimits) {
-            long replicaBytesWithoutOperation = replicaWriteBytes - bytes;
-            this.currentReplicaBytes.getAndAdd(-bytes);
-            this.replicaRejections.getAndIncrement();
+        this.currentReplicaBytes.add(bytes);
+        if (forceExecution == false && PressureCounter.value(replicaLimits, currentReplicaBytes) > replicaLimits) {
+            long replicaBytesWithoutOperation = this.currentReplicaBytes.get() - bytes;
+            this.currentReplicaBytes.add(-bytes);
+            this.replicaRejections.add(1);
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of replica operation ["
                     + "replica_bytes="
@@ -197,8 +228,15 @@ public class IndexingPressure {
                 false
             );
         }
-        totalReplicaBytes.getAndAdd(bytes);
-        return wrapReleasable(() -> this.currentReplicaBytes.getAndAdd(-bytes));
+        totalReplicaBytes.add(bytes);
+        return wrapReleasable(() -> this.currentReplicaBytes.add(-bytes));
+    }
+
+    /**
+     * Returns the in-flight coordinating, primary and replica bytes, exact when close to the coordinating and primary limit.
+     */
+    protected long totalCoordinatingAndPrimaryAndReplicaBytes() {
+        return PressureCounter.sum(primaryAndCoordinatingLimits, currentCombinedCoordinatingAndPrimaryBytes, currentReplicaBytes);
     }
 
     public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter of in-flight or total bytes used by {@link IndexingPressure}.
+ * <p>
+ * A counter is either exact, backed by a single {@link AtomicLong}, or striped. A striped counter lets every thread add
+ * to one of several padded stripes and only folds a stripe into the shared value once it holds more than {@code slack}
+ * bytes, so that writers on many cores do not all update the same cache line. Its {@link #estimate()} only reads the shared
+ * value and may be off by at most {@link #maxError()}, while {@link #get()} folds all stripes back into the shared value and
+ * returns the exact count. Limit checks use the estimate and only reconcile the exact value when the estimate is within the
+ * maximum error of the limit, see {@link #sum(long, PressureCounter, PressureCounter)}.
+ *
+ * @opensearch.internal
+ */
+public final class PressureCounter {
+
+    // 16 longs per stripe keep two stripes from sharing a cache line, even with adjacent line prefetching
+    private static final int STRIPE_SHIFT = 4;
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLong value = new AtomicLong();
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long slack;
+
+    private PressureCounter(int stripeCount, long slack) {
+        this.stripes = stripeCount == 0 ? null : new AtomicLongArray(stripeCount << STRIPE_SHIFT);
+        this.mask = stripeCount - 1;
+        this.slack = slack;
+    }
+
+    /**
+     * Returns an exact counter.
+     */
+    public static PressureCounter exact() {
+        return new PressureCounter(0, 0L);
+    }
+
+    /**
+     * Returns a striped counter sized for the given number of processors. Each stripe holds at most {@code maxError / stripes}
+     * bytes before being folded into the shared value, so that estimates are never off by more than {@code maxError}.
+     */
+    public static PressureCounter striped(int processors, long maxError) {
+        final int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, 2 * processors - 1)) << 1);
+        return new PressureCounter(stripeCount, Math.max(0L, maxError / stripeCount));
+    }
+
+    /**
+     * Adds {@code delta} to this counter.
+     */
+    public void add(long delta) {
+        if (stripes == null) {
+            value.addAndGet(delta);
+            return;
+        }
+        final int index = ((int) Thread.currentThread().threadId() & mask) << STRIPE_SHIFT;
+        final long local = stripes.addAndGet(index, delta);
+        if (local > slack || local < -slack) {
+            value.addAndGet(stripes.getAndSet(index, 0L));
+        }
+    }
+
+    /**
+     * Returns an estimate of this counter, at most {@link #maxError()} away from the exact count.
+     */
+    public long estimate() {
+        return value.get();
+    }
+
+    /**
+     * Returns the maximum difference between {@link #estimate()} and the exact count, {@code 0} for exact counters.
+     */
+    public long maxError() {
+        return stripes == null ? 0L : slack * (mask + 1);
+    }
+
+    /**
+     * Folds all stripes into the shared value and returns the exact count.
+     */
+    public long get() {
+        if (stripes != null) {
+            for (int i = 0; i <= mask; i++) {
+                final int index = i << STRIPE_SHIFT;
+                if (stripes.get(index) != 0L) {
+                    value.addAndGet(stripes.getAndSet(index, 0L));
+                }
+            }
+        }
+        return value.get();
+    }
+
+    /**
+     * Returns the sum of the counters, which is only estimated if the estimate plus its maximum error is still at most
+     * {@code limit}, in which case the exact sum is at most {@code limit} too.
+     */
+    public static long sum(long limit, PressureCounter first, PressureCounter second) {
+        final long estimate = first.estimate() + second.estimate();
+        final long maxError = first.maxError() + second.maxError();
+        if (maxError == 0L || estimate + maxError <= limit) {
+            return estimate;
+        }
+        return first.get() + second.get();
+    }
+
+    /**
+     * Returns the value of the counter, which is only estimated if the estimate plus its maximum error is still at most
+     * {@code limit}, in which case the exact value is at most {@code limit} too.
+     */
+    public static long value(long limit, PressureCounter counter) {
+        final long estimate = counter.estimate();
+        final long maxError = counter.maxError();
+        if (maxError == 0L || estimate + maxError <= limit) {
+            return estimate;
+        }
+        return counter.get();
+    }
+}
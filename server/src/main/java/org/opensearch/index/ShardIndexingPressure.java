@@ -55,6 +55,27 @@ public class ShardIndexingPressure extends IndexingPressure {
         this.memoryManager = new ShardIndexingPressureMemoryManager(shardIndexingPressureSettings, clusterSettings, settings);
     }
 
+    /**
+     * Returns the coordinating, primary and replica bytes of the node. The striped counters are only estimated while the node
+     * is certainly below its soft limit, so that both the soft and the hard node limit checks see the exact count.
+     */
+    private long nodeTotalBytes() {
+        final long nodeLimit = shardIndexingPressureSettings.getNodePrimaryAndCoordinatingLimits();
+        return PressureCounter.sum(
+            memoryManager.belowNodeSoftLimitBytes(nodeLimit),
+            currentCombinedCoordinatingAndPrimaryBytes,
+            currentReplicaBytes
+        );
+    }
+
+    /**
+     * Returns the replica bytes of the node, only estimated while the node is certainly below its soft limit for replicas.
+     */
+    private long nodeReplicaBytes() {
+        final long nodeLimit = shardIndexingPressureSettings.getNodeReplicaLimits();
+        return PressureCounter.value(memoryManager.belowNodeSoftLimitBytes(nodeLimit), currentReplicaBytes);
+    }
+
     public Releasable markCoordinatingOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
         if (0 == bytes) {
             return () -> {};
@@ -62,9 +83,8 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         long requestStartTime = System.nanoTime();
         ShardIndexingPressureTracker tracker = getShardIndexingPressureTracker(shardId);
-        long nodeCombinedBytes = currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        long nodeReplicaBytes = currentReplicaBytes.get();
-        long nodeTotalBytes = nodeCombinedBytes + nodeReplicaBytes;
+        currentCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        long nodeTotalBytes = nodeTotalBytes();
         long shardCombinedBytes = tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(bytes);
 
         boolean shardLevelLimitBreached = false;
@@ -75,8 +95,8 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                coordinatingRejections.getAndIncrement();
-                currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
+                coordinatingRejections.add(1);
+                currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
                 tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(-bytes);
                 rejectShardRequest(
                     tracker,
@@ -88,9 +108,9 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        currentCoordinatingBytes.addAndGet(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        totalCoordinatingBytes.addAndGet(bytes);
+        currentCoordinatingBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalCoordinatingBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getCoordinatingOperationTracker().getStatsTracker();
         statsTracker.incrementCurrentBytes(bytes);
@@ -98,8 +118,8 @@ public class ShardIndexingPressure extends IndexingPressure {
         boolean isShadowModeBreach = shardLevelLimitBreached;
 
         return wrapReleasable(() -> {
-            currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
-            currentCoordinatingBytes.addAndGet(-bytes);
+            currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            currentCoordinatingBytes.add(-bytes);
             markShardOperationComplete(
                 bytes,
                 requestStartTime,
@@ -119,13 +139,13 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         ShardIndexingPressureTracker tracker = getShardIndexingPressureTracker(shardId);
 
-        currentPrimaryBytes.addAndGet(bytes);
-        totalPrimaryBytes.addAndGet(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
         tracker.getPrimaryOperationTracker().getStatsTracker().incrementCurrentBytes(bytes);
         tracker.getPrimaryOperationTracker().getStatsTracker().incrementTotalBytes(bytes);
 
         return wrapReleasable(() -> {
-            currentPrimaryBytes.addAndGet(-bytes);
+            currentPrimaryBytes.add(-bytes);
             tracker.getPrimaryOperationTracker().getStatsTracker().incrementCurrentBytes(-bytes);
         });
     }
@@ -137,9 +157,8 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         long requestStartTime = System.nanoTime();
         ShardIndexingPressureTracker tracker = getShardIndexingPressureTracker(shardId);
-        long nodeCombinedBytes = currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        long nodeReplicaBytes = currentReplicaBytes.get();
-        long nodeTotalBytes = nodeCombinedBytes + nodeReplicaBytes;
+        currentCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        long nodeTotalBytes = nodeTotalBytes();
         long shardCombinedBytes = tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(bytes);
 
         boolean shardLevelLimitBreached = false;
@@ -150,8 +169,8 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                primaryRejections.getAndIncrement();
-                currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
+                primaryRejections.add(1);
+                currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
                 tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(-bytes);
                 rejectShardRequest(
                     tracker,
@@ -163,9 +182,9 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        currentPrimaryBytes.addAndGet(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        totalPrimaryBytes.addAndGet(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getPrimaryOperationTracker().getStatsTracker();
         statsTracker.incrementCurrentBytes(bytes);
@@ -173,8 +192,8 @@ public class ShardIndexingPressure extends IndexingPressure {
         boolean isShadowModeBreach = shardLevelLimitBreached;
 
         return wrapReleasable(() -> {
-            currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
-            currentPrimaryBytes.addAndGet(-bytes);
+            currentCombinedCoordinatingAndPrimaryBytes.add(-bytes);
+            currentPrimaryBytes.add(-bytes);
             markShardOperationComplete(
                 bytes,
                 requestStartTime,
@@ -194,7 +213,8 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         long requestStartTime = System.nanoTime();
         ShardIndexingPressureTracker tracker = getShardIndexingPressureTracker(shardId);
-        long nodeReplicaBytes = currentReplicaBytes.addAndGet(bytes);
+        currentReplicaBytes.add(bytes);
+        long nodeReplicaBytes = nodeReplicaBytes();
         long shardReplicaBytes = tracker.getReplicaOperationTracker().getStatsTracker().incrementCurrentBytes(bytes);
 
         boolean shardLevelLimitBreached = false;
@@ -205,8 +225,8 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                replicaRejections.getAndIncrement();
-                currentReplicaBytes.addAndGet(-bytes);
+                replicaRejections.add(1);
+                currentReplicaBytes.add(-bytes);
                 tracker.getReplicaOperationTracker().getStatsTracker().incrementCurrentBytes(-bytes);
                 rejectShardRequest(
                     tracker,
@@ -218,14 +238,14 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        totalReplicaBytes.addAndGet(bytes);
+        totalReplicaBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getReplicaOperationTracker().getStatsTracker();
         markShardOperationStarted(statsTracker, tracker.getReplicaOperationTracker().getPerformanceTracker());
         boolean isShadowModeBreach = shardLevelLimitBreached;
 
         return wrapReleasable(() -> {
-            currentReplicaBytes.addAndGet(-bytes);
+            currentReplicaBytes.add(-bytes);
             markShardOperationComplete(bytes, requestStartTime, isShadowModeBreach, tracker.getReplicaOperationTracker());
             memoryManager.decreaseShardReplicaLimits(tracker);
             tryReleaseTracker(tracker);
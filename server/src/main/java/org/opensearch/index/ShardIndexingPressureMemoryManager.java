@@ -179,6 +179,14 @@ public class ShardIndexingPressureMemoryManager {
         clusterSettings.addSettingsUpdateConsumer(NODE_SOFT_LIMIT, this::setNodeSoftLimit);
     }
 
+    /**
+     * Returns the largest node byte count that is below the soft limit of the given node limit. Node byte counts that are at
+     * most this count do not breach the soft limit, nor the node limit itself.
+     */
+    long belowNodeSoftLimitBytes(long nodeLimit) {
+        return Math.max(0L, (long) (nodeLimit * this.nodeSoftLimit) - 1);
+    }
+
     /**
      * Checks if the node level memory threshold is breached for coordinating operations.
      */
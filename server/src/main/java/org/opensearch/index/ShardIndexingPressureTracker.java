@@ -9,6 +9,7 @@ import org.opensearch.core.index.shard.ShardId;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class is responsible for all the tracking that needs to be performed at every Shard Level for Indexing Operations on the node.
@@ -123,8 +124,8 @@ public class ShardIndexingPressureTracker {
      */
     public static class StatsTracker {
         private final AtomicLong currentBytes = new AtomicLong();
-        private final AtomicLong totalBytes = new AtomicLong();
-        private final AtomicLong requestCount = new AtomicLong();
+        private final LongAdder totalBytes = new LongAdder();
+        private final LongAdder requestCount = new LongAdder();
 
         public long getCurrentBytes() {
             return currentBytes.get();
@@ -135,19 +136,19 @@ public class ShardIndexingPressureTracker {
         }
 
         public long getTotalBytes() {
-            return totalBytes.get();
+            return totalBytes.sum();
         }
 
-        public long incrementTotalBytes(long bytes) {
-            return totalBytes.addAndGet(bytes);
+        public void incrementTotalBytes(long bytes) {
+            totalBytes.add(bytes);
         }
 
         public long getRequestCount() {
-            return requestCount.get();
+            return requestCount.sum();
         }
 
-        public long incrementRequestCount() {
-            return requestCount.incrementAndGet();
+        public void incrementRequestCount() {
+            requestCount.increment();
         }
     }
 
@@ -164,41 +165,41 @@ public class ShardIndexingPressureTracker {
      * @opensearch.internal
      */
     public static class RejectionTracker {
-        private final AtomicLong totalRejections = new AtomicLong();
-        private final AtomicLong nodeLimitsBreachedRejections = new AtomicLong();
-        private final AtomicLong lastSuccessfulRequestLimitsBreachedRejections = new AtomicLong();
-        private final AtomicLong throughputDegradationLimitsBreachedRejections = new AtomicLong();
+        private final LongAdder totalRejections = new LongAdder();
+        private final LongAdder nodeLimitsBreachedRejections = new LongAdder();
+        private final LongAdder lastSuccessfulRequestLimitsBreachedRejections = new LongAdder();
+        private final LongAdder throughputDegradationLimitsBreachedRejections = new LongAdder();
 
         public long getTotalRejections() {
-            return totalRejections.get();
+            return totalRejections.sum();
         }
 
-        public long incrementTotalRejections() {
-            return totalRejections.incrementAndGet();
+        public void incrementTotalRejections() {
+            totalRejections.increment();
         }
 
         public long getNodeLimitsBreachedRejections() {
-            return nodeLimitsBreachedRejections.get();
+            return nodeLimitsBreachedRejections.sum();
         }
 
-        public long incrementNodeLimitsBreachedRejections() {
-            return nodeLimitsBreachedRejections.incrementAndGet();
+        public void incrementNodeLimitsBreachedRejections() {
+            nodeLimitsBreachedRejections.increment();
         }
 
         public long getLastSuccessfulRequestLimitsBreachedRejections() {
-            return lastSuccessfulRequestLimitsBreachedRejections.get();
+            return lastSuccessfulRequestLimitsBreachedRejections.sum();
         }
 
-        public long incrementLastSuccessfulRequestLimitsBreachedRejections() {
-            return lastSuccessfulRequestLimitsBreachedRejections.incrementAndGet();
+        public void incrementLastSuccessfulRequestLimitsBreachedRejections() {
+            lastSuccessfulRequestLimitsBreachedRejections.increment();
         }
 
         public long getThroughputDegradationLimitsBreachedRejections() {
-            return throughputDegradationLimitsBreachedRejections.get();
+            return throughputDegradationLimitsBreachedRejections.sum();
         }
 
-        public long incrementThroughputDegradationLimitsBreachedRejections() {
-            return throughputDegradationLimitsBreachedRejections.incrementAndGet();
+        public void incrementThroughputDegradationLimitsBreachedRejections() {
+            throughputDegradationLimitsBreachedRejections.increment();
         }
     }
 
@@ -286,7 +287,7 @@ public class ShardIndexingPressureTracker {
      */
     public static class CommonOperationTracker {
         private final AtomicLong currentCombinedCoordinatingAndPrimaryBytes = new AtomicLong();
-        private final AtomicLong totalCombinedCoordinatingAndPrimaryBytes = new AtomicLong();
+        private final LongAdder totalCombinedCoordinatingAndPrimaryBytes = new LongAdder();
 
         public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
             return currentCombinedCoordinatingAndPrimaryBytes.get();
@@ -297,11 +298,11 @@ public class ShardIndexingPressureTracker {
         }
 
         public long getTotalCombinedCoordinatingAndPrimaryBytes() {
-            return totalCombinedCoordinatingAndPrimaryBytes.get();
+            return totalCombinedCoordinatingAndPrimaryBytes.sum();
         }
 
-        public long incrementTotalCombinedCoordinatingAndPrimaryBytes(long bytes) {
-            return totalCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
+        public void incrementTotalCombinedCoordinatingAndPrimaryBytes(long bytes) {
+            totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
         }
     }
 }
@@ -32,7 +32,9 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -54,6 +56,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long incrementalHitCount;
+    private long incrementalMissCount;
+    private long incrementalSavedTimeInNanos;
 
     public RequestCacheStats() {}
 
@@ -67,6 +72,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions = builder.evictions;
         this.hitCount = builder.hitCount;
         this.missCount = builder.missCount;
+        this.incrementalHitCount = builder.incrementalHitCount;
+        this.incrementalMissCount = builder.incrementalMissCount;
+        this.incrementalSavedTimeInNanos = builder.incrementalSavedTimeInNanos;
     }
 
     public RequestCacheStats(StreamInput in) throws IOException {
@@ -74,6 +82,11 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            incrementalHitCount = in.readVLong();
+            incrementalMissCount = in.readVLong();
+            incrementalSavedTimeInNanos = in.readVLong();
+        }
     }
 
     /**
@@ -93,6 +106,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.incrementalHitCount += stats.incrementalHitCount;
+        this.incrementalMissCount += stats.incrementalMissCount;
+        this.incrementalSavedTimeInNanos += stats.incrementalSavedTimeInNanos;
     }
 
     public long getMemorySizeInBytes() {
@@ -115,6 +131,27 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * The number of closed date histogram buckets that were served by the incremental cache
+     */
+    public long getIncrementalHitCount() {
+        return this.incrementalHitCount;
+    }
+
+    /**
+     * The number of closed date histogram buckets that had to be computed because they were not in the incremental cache
+     */
+    public long getIncrementalMissCount() {
+        return this.incrementalMissCount;
+    }
+
+    /**
+     * The time it took to compute the buckets that were served by the incremental cache
+     */
+    public TimeValue getIncrementalSavedTime() {
+        return TimeValue.timeValueNanos(incrementalSavedTimeInNanos);
+    }
+
     /**
      * Builder for the {@link RequestCacheStats} class.
      * Provides a fluent API for constructing a RequestCacheStats object.
@@ -124,6 +161,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         private long evictions = 0;
         private long hitCount = 0;
         private long missCount = 0;
+        private long incrementalHitCount = 0;
+        private long incrementalMissCount = 0;
+        private long incrementalSavedTimeInNanos = 0;
 
         public Builder() {}
 
@@ -147,6 +187,21 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder incrementalHitCount(long count) {
+            this.incrementalHitCount = count;
+            return this;
+        }
+
+        public Builder incrementalMissCount(long count) {
+            this.incrementalMissCount = count;
+            return this;
+        }
+
+        public Builder incrementalSavedTimeInNanos(long nanos) {
+            this.incrementalSavedTimeInNanos = nanos;
+            return this;
+        }
+
         /**
          * Creates a {@link RequestCacheStats} object from the builder's current state.
          * @return A new RequestCacheStats instance.
@@ -162,6 +217,11 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(incrementalHitCount);
+            out.writeVLong(incrementalMissCount);
+            out.writeVLong(incrementalSavedTimeInNanos);
+        }
     }
 
     @Override
@@ -171,6 +231,11 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.startObject(Fields.INCREMENTAL);
+        builder.field(Fields.HIT_COUNT, getIncrementalHitCount());
+        builder.field(Fields.MISS_COUNT, getIncrementalMissCount());
+        builder.humanReadableField(Fields.SAVED_TIME_IN_MILLIS, Fields.SAVED_TIME, getIncrementalSavedTime());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -187,5 +252,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String INCREMENTAL = "incremental";
+        static final String SAVED_TIME = "saved_time";
+        static final String SAVED_TIME_IN_MILLIS = "saved_time_in_millis";
     }
 }
@@ -52,15 +52,30 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric incrementalHitCount = new CounterMetric();
+    final CounterMetric incrementalMissCount = new CounterMetric();
+    final CounterMetric incrementalSavedTimeInNanos = new CounterMetric();
 
     public RequestCacheStats stats() {
         return new RequestCacheStats.Builder().memorySize(Math.max(0, totalMetric.count()))
             .evictions(evictionsMetric.count())
             .hitCount(hitCount.count())
             .missCount(missCount.count())
+            .incrementalHitCount(incrementalHitCount.count())
+            .incrementalMissCount(incrementalMissCount.count())
+            .incrementalSavedTimeInNanos(incrementalSavedTimeInNanos.count())
             .build();
     }
 
+    /**
+     * Returns the ratio of the cache lookups that were hits, or {@code -1} if the cache was never looked up.
+     */
+    public double hitRatio() {
+        long hits = hitCount.count();
+        long lookups = hits + missCount.count();
+        return lookups == 0 ? -1 : (double) hits / lookups;
+    }
+
     public void onHit() {
         hitCount.inc();
     }
@@ -69,6 +84,18 @@ public final class ShardRequestCache {
         missCount.inc();
     }
 
+    /**
+     * Called when a closed date histogram bucket is served by the incremental cache, with the time it took to compute it
+     */
+    public void onIncrementalHit(long savedTimeInNanos) {
+        incrementalHitCount.inc();
+        incrementalSavedTimeInNanos.inc(savedTimeInNanos);
+    }
+
+    public void onIncrementalMiss() {
+        incrementalMissCount.inc();
+    }
+
     // Functions used to increment size by passing in the size directly, Used now, as we use ICacheKey<Key> in the IndicesRequestCache..
     public void onCached(long keyRamBytesUsed, BytesReference value) {
         totalMetric.inc(keyRamBytesUsed + value.ramBytesUsed());
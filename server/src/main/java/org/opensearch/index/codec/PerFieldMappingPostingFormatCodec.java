@@ -85,12 +85,26 @@ public class PerFieldMappingPostingFormatCodec extends Lucene104Codec {
 
     @Override
     public PostingsFormat getPostingsFormatForField(String field) {
+        // flushes and merges of a lazily loaded index must not parse its deferred mapping
+        if (mapperService.isMappingDeferred()) {
+            if (mapperService.isCompletionField(field)) {
+                return CompletionFieldMapper.CompletionFieldType.postingsFormat();
+            }
+            return postingsFormatForMappedField(field);
+        }
         final MappedFieldType fieldType = mapperService.fieldType(field);
         if (fieldType == null) {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
         } else if (fieldType.unwrap() instanceof CompletionFieldMapper.CompletionFieldType) {
             return CompletionFieldMapper.CompletionFieldType.postingsFormat();
-        } else if (IdFieldMapper.NAME.equals(field) && mapperService.getIndexSettings().isEnableFuzzySetForDocId()) {
+        } else {
+            return postingsFormatForMappedField(field);
+        }
+        return super.getPostingsFormatForField(field);
+    }
+
+    private PostingsFormat postingsFormatForMappedField(String field) {
+        if (IdFieldMapper.NAME.equals(field) && mapperService.getIndexSettings().isEnableFuzzySetForDocId()) {
             if (docIdPostingsFormat == null) {
                 docIdPostingsFormat = new FuzzyFilterPostingsFormat(super.getPostingsFormatForField(field), fuzzySetFactory);
             }
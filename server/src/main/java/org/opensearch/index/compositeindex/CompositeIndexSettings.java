@@ -29,6 +29,17 @@ public class CompositeIndexSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Whether searches whose query has filters on fields that are not star-tree dimensions may still use the star-tree on the
+     * segments where these filters match all documents
+     */
+    public static final Setting<Boolean> STAR_TREE_HYBRID_EXECUTION_ENABLED_SETTING = Setting.boolSetting(
+        "indices.composite_index.star_tree.hybrid_execution.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     /**
      * This sets the max flush threshold size for composite index
      */
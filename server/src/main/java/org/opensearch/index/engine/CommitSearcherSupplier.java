@@ -0,0 +1,345 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.concurrent.GatedCloseable;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link Engine.SearcherSupplier} backed by an index commit rather than by an open reader.
+ *
+ * The commit keeps the files of its segments on disk, while the reader over these files is only opened when a searcher is
+ * acquired and can be released once the supplier is idle, which reclaims the heap and file handles held by the segment
+ * readers. The reader is opened again from the commit on the next acquisition and sees the same point in time.
+ *
+ * If the shard has a remote segment store, an idle supplier can also move its commit to the remote segment store, see
+ * {@link #offloadCommit()}. The local files of the commit can then be merged away and the supplier only holds a
+ * {@link RemoteCommitReference}, which opens the next reader from the remote segment store.
+ *
+ * @opensearch.internal
+ */
+public final class CommitSearcherSupplier extends Engine.SearcherSupplier {
+
+    private final ShardId shardId;
+    private final Store store;
+    private final Similarity similarity;
+    private final QueryCache queryCache;
+    private final QueryCachingPolicy queryCachingPolicy;
+    private final CheckedFunction<IndexCommit, RemoteCommitReference, IOException> remoteCommitLocker;
+    // guarded by this, the local commit is null once the commit was moved to the remote segment store
+    private GatedCloseable<IndexCommit> commit;
+    private RemoteCommitReference remoteCommit;
+    private OpenSearchDirectoryReader reader;
+    private int opened;
+    private boolean offloading;
+    private boolean opening;
+    private boolean closed;
+
+    /**
+     * Creates a supplier over the provided commit. The supplier takes a reference on the store and owns the commit, both are
+     * released when the supplier is closed. The commit can be moved to the remote segment store with the provided locker, if
+     * any, which returns null if the remote segment store does not have the commit yet.
+     */
+    public CommitSearcherSupplier(
+        ShardId shardId,
+        Store store,
+        GatedCloseable<IndexCommit> commit,
+        Similarity similarity,
+        QueryCache queryCache,
+        QueryCachingPolicy queryCachingPolicy,
+        Function<Engine.Searcher, Engine.Searcher> wrapper,
+        @Nullable CheckedFunction<IndexCommit, RemoteCommitReference, IOException> remoteCommitLocker
+    ) {
+        super(wrapper);
+        this.shardId = shardId;
+        this.store = store;
+        this.commit = commit;
+        this.similarity = similarity;
+        this.queryCache = queryCache;
+        this.queryCachingPolicy = queryCachingPolicy;
+        this.remoteCommitLocker = remoteCommitLocker;
+        store.incRef();
+    }
+
+    @Override
+    protected Engine.Searcher acquireSearcherInternal(String source) {
+        final OpenSearchDirectoryReader reader = acquireReader();
+        return new Engine.Searcher(source, reader, similarity, queryCache, queryCachingPolicy, reader::decRef);
+    }
+
+    /**
+     * Returns the open reader, or opens one over the commit. The commit is rehydrated outside of the monitor since this can
+     * download it from the remote segment store, concurrent acquisitions wait for it and share the reader.
+     */
+    private OpenSearchDirectoryReader acquireReader() {
+        final IndexCommit indexCommit;
+        final RemoteCommitReference reference;
+        synchronized (this) {
+            while (opening) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new EngineException(shardId, "interrupted while waiting for the reader on commit", e);
+                }
+            }
+            if (reader != null) {
+                reader.incRef();
+                return reader;
+            }
+            if (closed) {
+                throw new AlreadyClosedException("SearcherSupplier was closed");
+            }
+            opening = true;
+            indexCommit = commit != null ? commit.get() : null;
+            reference = remoteCommit;
+        }
+        OpenSearchDirectoryReader openedReader = null;
+        try {
+            final DirectoryReader directoryReader = indexCommit != null ? DirectoryReader.open(indexCommit) : reference.openReader();
+            openedReader = OpenSearchDirectoryReader.wrap(
+                new SoftDeletesDirectoryReaderWrapper(directoryReader, Lucene.SOFT_DELETES_FIELD),
+                shardId
+            );
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to open reader on commit", e);
+        } finally {
+            publishReader(openedReader);
+        }
+        return openedReader;
+    }
+
+    /**
+     * Publishes the reader that was opened outside of the monitor and takes a reference on it for the caller, or releases it
+     * together with the commit if the supplier was closed in the meantime.
+     */
+    private void publishReader(@Nullable OpenSearchDirectoryReader openedReader) {
+        final boolean closedWhileOpening;
+        synchronized (this) {
+            opening = false;
+            notifyAll();
+            closedWhileOpening = closed;
+            if (closedWhileOpening == false && openedReader != null) {
+                reader = openedReader;
+                opened++;
+                reader.incRef();
+            }
+        }
+        if (closedWhileOpening) {
+            try {
+                if (openedReader != null) {
+                    openedReader.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to close", e);
+            } finally {
+                closeCommit();
+            }
+            throw new AlreadyClosedException("SearcherSupplier was closed");
+        }
+    }
+
+    /**
+     * Releases the reader over the commit if it is open. Searchers that are still in use keep it open until they are closed.
+     *
+     * @return whether an open reader was released
+     */
+    public synchronized boolean releaseReader() {
+        if (reader == null) {
+            return false;
+        }
+        try {
+            reader.decRef();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to close", e);
+        } finally {
+            reader = null;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the commit to the remote segment store and releases the local commit, if the shard has a remote segment store that
+     * has the commit already. This is only done while no reader is open, and can take some time since it locks the commit in
+     * the remote segment store.
+     *
+     * @return whether the commit was moved
+     */
+    public boolean offloadCommit() throws IOException {
+        final IndexCommit indexCommit;
+        synchronized (this) {
+            if (canOffloadCommit() == false) {
+                return false;
+            }
+            offloading = true;
+            indexCommit = commit.get();
+        }
+        final RemoteCommitReference reference;
+        try {
+            reference = remoteCommitLocker.apply(indexCommit);
+        } finally {
+            synchronized (this) {
+                offloading = false;
+            }
+        }
+        if (reference == null) {
+            return false;
+        }
+        final GatedCloseable<IndexCommit> localCommit;
+        synchronized (this) {
+            if (commit == null || reader != null || opening || closed) {
+                localCommit = null;
+            } else {
+                localCommit = commit;
+                commit = null;
+                remoteCommit = reference;
+            }
+        }
+        if (localCommit == null) {
+            reference.close();
+            return false;
+        }
+        closeLocalCommit(localCommit);
+        return true;
+    }
+
+    /**
+     * Returns whether the commit can be moved to the remote segment store now, see {@link #offloadCommit()}.
+     */
+    public synchronized boolean canOffloadCommit() {
+        return remoteCommitLocker != null
+            && commit != null
+            && reader == null
+            && opening == false
+            && offloading == false
+            && closed == false;
+    }
+
+    /**
+     * Returns whether the reader over the commit is currently open.
+     */
+    public synchronized boolean isReaderOpen() {
+        return reader != null;
+    }
+
+    /**
+     * Returns whether the commit was moved to the remote segment store, see {@link #offloadCommit()}.
+     */
+    public synchronized boolean isOffloaded() {
+        return remoteCommit != null;
+    }
+
+    /**
+     * Returns how many times a reader was opened over the commit.
+     */
+    public synchronized int openedReaders() {
+        return opened;
+    }
+
+    /**
+     * Adds the files that the commit keeps in the local store, with their length, to the provided map. Nothing is added once
+     * the commit was moved to the remote segment store.
+     */
+    public synchronized void collectPinnedFiles(Map<String, Long> files) throws IOException {
+        if (commit == null) {
+            return;
+        }
+        for (String file : commit.get().getFileNames()) {
+            if (files.containsKey(file) == false) {
+                files.put(file, store.directory().fileLength(file));
+            }
+        }
+    }
+
+    /**
+     * Reads the segment infos of the commit without opening a reader over it. Once the commit was moved to the remote segment
+     * store, they are read from its locked metadata, see {@link RemoteCommitReference#readSegmentInfos()}.
+     */
+    public SegmentInfos segmentInfos() throws IOException {
+        final RemoteCommitReference reference;
+        synchronized (this) {
+            if (closed) {
+                throw new AlreadyClosedException("SearcherSupplier was closed");
+            }
+            if (commit != null) {
+                final IndexCommit indexCommit = commit.get();
+                return SegmentInfos.readCommit(indexCommit.getDirectory(), indexCommit.getSegmentsFileName());
+            }
+            reference = remoteCommit;
+        }
+        return reference.readSegmentInfos();
+    }
+
+    private static void closeLocalCommit(GatedCloseable<IndexCommit> commit) {
+        try {
+            commit.close();
+        } catch (AlreadyClosedException e) {
+            // the engine was closed, its files are cleaned up when the shard is recovered
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to close", e);
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        final boolean opening;
+        synchronized (this) {
+            closed = true;
+            opening = this.opening;
+        }
+        if (opening) {
+            // the reader that is being opened still uses the commit, it is released once the reader is opened
+            return;
+        }
+        try {
+            releaseReader();
+        } finally {
+            closeCommit();
+        }
+    }
+
+    private void closeCommit() {
+        final GatedCloseable<IndexCommit> localCommit;
+        final RemoteCommitReference reference;
+        synchronized (this) {
+            localCommit = commit;
+            reference = remoteCommit;
+        }
+        try {
+            if (localCommit != null) {
+                closeLocalCommit(localCommit);
+            }
+            if (reference != null) {
+                reference.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to close", e);
+        } finally {
+            store.decRef();
+        }
+    }
+}
@@ -1502,6 +1502,11 @@ public abstract class Engine implements LifecycleAware, Closeable {
          * Called when a fatal exception occurred
          */
         default void onFailedEngine(String reason, @Nullable Exception e) {}
+
+        /**
+         * Called when a merge completed, whether or not it succeeded
+         */
+        default void onMergeCompleted(long tookInNanos) {}
     }
 
     /**
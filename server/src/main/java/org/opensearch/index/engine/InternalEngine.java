@@ -2160,6 +2160,13 @@ public class InternalEngine extends Engine {
             }
         }
 
+        @Override
+        protected void onMergeCompleted(long tookInNanos) {
+            if (eventListener != null) {
+                eventListener.onMergeCompleted(tookInNanos);
+            }
+        }
+
         @Override
         protected void handleMergeException(final Throwable exc) {
             engineConfig.getThreadPool().generic().execute(new AbstractRunnable() {
@@ -169,6 +169,13 @@ public class NativeLuceneIndexWriterFactory implements IndexWriterFactory {
                     new PrunePostingsMergePolicy(mergePolicy, IdFieldMapper.NAME)
                 )
             );
+            if (mergeScheduler instanceof OpenSearchConcurrentMergeScheduler openSearchMergeScheduler) {
+                mergePolicy = new WriteAmplificationAwareMergePolicy(
+                    mergePolicy,
+                    engineConfig.getIndexSettings()::getMaxMergedBytesPerHour,
+                    openSearchMergeScheduler::onSegmentFlushed
+                );
+            }
             boolean shuffleForcedMerge = Booleans.parseBoolean(
                 System.getProperty("opensearch.shuffle_forced_merge", Boolean.TRUE.toString())
             );
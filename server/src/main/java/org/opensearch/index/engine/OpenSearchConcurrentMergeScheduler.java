@@ -121,10 +121,12 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             beforeMerge(onGoingMerge);
             super.doMerge(mergeSource, merge);
         } finally {
-            long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
+            long tookNS = System.nanoTime() - timeNS;
+            long tookMS = TimeValue.nsecToMSec(tookNS);
 
             onGoingMerges.remove(onGoingMerge);
             afterMerge(onGoingMerge);
+            onMergeCompleted(tookNS);
 
             mergeStatsTracker.afterMerge(tookMS, totalNumDocs, totalSizeInBytes);
 
@@ -166,6 +168,11 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
      */
     protected void afterMerge(OnGoingMerge merge) {}
 
+    /**
+     * A callback allowing for custom logic once a merge completed, with the time it took.
+     */
+    protected void onMergeCompleted(long tookInNanos) {}
+
     @Override
     public MergeScheduler clone() {
         // Lucene IW makes a clone internally but since we hold on to this instance
@@ -191,6 +198,13 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return thread;
     }
 
+    /**
+     * Records the size of a segment written by a flush, see {@link WriteAmplificationAwareMergePolicy}.
+     */
+    void onSegmentFlushed(long sizeInBytes) {
+        mergeStatsTracker.incFlushedSize(sizeInBytes);
+    }
+
     MergeStats stats() {
         final MergeStats mergeStats = mergeStatsTracker.toMergeStats(
             config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.store.RemoteSegmentStoreDirectory;
+import org.opensearch.index.store.remote.metadata.RemoteSegmentMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A reference on an index commit that is locked in the remote segment store rather than kept in the local store, so that the
+ * local files of the commit can be merged away while the reference only holds a few identifiers.
+ * <p>
+ * A reader over the commit is opened in a directory that is private to the reader. The files that the local store still has are
+ * hard linked into it and the other ones are downloaded from the remote segment store. The directory is deleted once the reader
+ * is closed.
+ *
+ * @opensearch.internal
+ */
+public final class RemoteCommitReference implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RemoteCommitReference.class);
+    private static final String SEGMENT_INFO_EXTENSION = "si";
+
+    private final RemoteSegmentStoreDirectory remoteDirectory;
+    private final Directory localDirectory;
+    private final Path rehydrationPath;
+    private final String metadataFile;
+    private final String acquirerId;
+
+    private RemoteCommitReference(
+        RemoteSegmentStoreDirectory remoteDirectory,
+        Directory localDirectory,
+        Path rehydrationPath,
+        String metadataFile,
+        String acquirerId
+    ) {
+        this.remoteDirectory = remoteDirectory;
+        this.localDirectory = localDirectory;
+        this.rehydrationPath = rehydrationPath;
+        this.metadataFile = metadataFile;
+        this.acquirerId = acquirerId;
+    }
+
+    /**
+     * Locks the given local commit in the remote segment store.
+     *
+     * @param remoteDirectory  the remote segment store of the shard
+     * @param localDirectory   the local store of the shard
+     * @param rehydrationPath  the path under which the readers over the commit are opened
+     * @param primaryTerm      the primary term that the commit was uploaded with
+     * @param commit           the local commit
+     * @return the reference, or null if the remote segment store has no metadata for the point in time of the commit yet
+     */
+    public static RemoteCommitReference lock(
+        RemoteSegmentStoreDirectory remoteDirectory,
+        Directory localDirectory,
+        Path rehydrationPath,
+        long primaryTerm,
+        IndexCommit commit
+    ) throws IOException {
+        final long version = SegmentInfos.readCommit(commit.getDirectory(), commit.getSegmentsFileName()).getVersion();
+        final String acquirerId = "pit_" + UUIDs.randomBase64UUID();
+        final String metadataFile = remoteDirectory.acquireLock(primaryTerm, commit.getGeneration(), version, acquirerId);
+        if (metadataFile == null) {
+            return null;
+        }
+        return new RemoteCommitReference(remoteDirectory, localDirectory, rehydrationPath, metadataFile, acquirerId);
+    }
+
+    /**
+     * Opens a reader over the commit, see {@link RemoteCommitReference}.
+     */
+    public DirectoryReader openReader() throws IOException {
+        final RemoteSegmentMetadata metadata = remoteDirectory.readLockedMetadataFile(metadataFile);
+        final Path path = rehydrationPath.resolve(UUIDs.randomBase64UUID());
+        Files.createDirectories(path);
+        final FSDirectory directory = FSDirectory.open(path);
+        boolean success = false;
+        try {
+            final Directory unwrapped = FilterDirectory.unwrap(localDirectory);
+            final Path localPath = unwrapped instanceof FSDirectory fsDirectory ? fsDirectory.getDirectory() : null;
+            for (RemoteSegmentStoreDirectory.UploadedSegmentMetadata file : metadata.getMetadata().values()) {
+                if (localPath == null || link(localPath, directory, file) == false) {
+                    download(file, directory);
+                }
+            }
+            final DirectoryReader reader = StandardDirectoryReader.open(directory, readSegmentInfos(metadata, directory), null, null, null);
+            reader.getReaderCacheHelper().addClosedListener(key -> {
+                try {
+                    IOUtils.close(directory);
+                } finally {
+                    IOUtils.rm(path);
+                }
+            });
+            success = true;
+            return reader;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(directory);
+                IOUtils.rm(path);
+            }
+        }
+    }
+
+    /**
+     * Reads the segment infos of the commit without opening a reader over it. Only the segment info files are downloaded, the
+     * length of the other files is taken from the metadata of the commit.
+     */
+    public SegmentInfos readSegmentInfos() throws IOException {
+        final RemoteSegmentMetadata metadata = remoteDirectory.readLockedMetadataFile(metadataFile);
+        final Map<String, Long> lengths = new HashMap<>();
+        final Directory directory = new FilterDirectory(new ByteBuffersDirectory()) {
+            @Override
+            public long fileLength(String name) throws IOException {
+                final Long length = lengths.get(name);
+                if (length == null) {
+                    throw new NoSuchFileException(name);
+                }
+                return length;
+            }
+        };
+        for (RemoteSegmentStoreDirectory.UploadedSegmentMetadata file : metadata.getMetadata().values()) {
+            lengths.put(file.getOriginalFilename(), file.getLength());
+            if (SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file.getOriginalFilename()))) {
+                download(file, directory);
+            }
+        }
+        return readSegmentInfos(metadata, directory);
+    }
+
+    /**
+     * Hard links the given file from the local store if it still has it with the same content.
+     */
+    private static boolean link(Path localPath, FSDirectory directory, RemoteSegmentStoreDirectory.UploadedSegmentMetadata file) {
+        final Path target = directory.getDirectory().resolve(file.getOriginalFilename());
+        try {
+            Files.createLink(target, localPath.resolve(file.getOriginalFilename()));
+            try (IndexInput input = directory.openInput(file.getOriginalFilename(), IOContext.READONCE)) {
+                if (input.length() == file.getLength() && Long.toString(CodecUtil.retrieveChecksum(input)).equals(file.getChecksum())) {
+                    return true;
+                }
+            }
+            Files.delete(target);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.trace(() -> new ParameterizedMessage("failed to link [{}] from the local store", file.getOriginalFilename()), e);
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException inner) {
+                e.addSuppressed(inner);
+            }
+        }
+        return false;
+    }
+
+    private void download(RemoteSegmentStoreDirectory.UploadedSegmentMetadata file, Directory directory) throws IOException {
+        try (
+            IndexInput input = remoteDirectory.openInput(file, IOContext.READONCE);
+            IndexOutput output = directory.createOutput(file.getOriginalFilename(), IOContext.DEFAULT)
+        ) {
+            output.copyBytes(input, file.getLength());
+        }
+    }
+
+    private static SegmentInfos readSegmentInfos(RemoteSegmentMetadata metadata, Directory directory) throws IOException {
+        final byte[] bytes = metadata.getSegmentInfosBytes();
+        try (ChecksumIndexInput input = new BufferedChecksumIndexInput(new ByteArrayIndexInput("Snapshot of SegmentInfos", bytes))) {
+            return SegmentInfos.readCommit(directory, input, metadata.getGeneration());
+        }
+    }
+
+    /**
+     * Releases the lock on the commit in the remote segment store.
+     */
+    @Override
+    public void close() throws IOException {
+        remoteDirectory.releaseLock(metadataFile, acquirerId);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.FilterMergePolicy;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A merge policy wrapper that accounts for the write amplification of merges.
+ * <p>
+ * It reports the size of every newly flushed segment, which is the baseline the bytes rewritten by merges are compared
+ * against in {@link org.opensearch.index.merge.MergeStats#getWriteAmplification()}.
+ * <p>
+ * When a merge budget is configured, natural merges are additionally limited to rewriting that many bytes per hour. The
+ * merges proposed by the wrapped policy are then ranked by the fraction of their bytes that are deleted documents, so
+ * that the budget is first spent on the merges that reclaim the most space per rewritten byte, and smaller merges go
+ * first among merges that reclaim equally. Merges that do not fit in the budget are left for a later round, once the
+ * budget has been replenished. Forced merges and merges on flush are not subject to the budget.
+ *
+ * @opensearch.internal
+ */
+final class WriteAmplificationAwareMergePolicy extends FilterMergePolicy {
+
+    private static final long NANOS_PER_HOUR = TimeUnit.HOURS.toNanos(1);
+
+    private final LongSupplier maxMergedBytesPerHour;
+    private final LongConsumer onSegmentFlushed;
+    private final LongSupplier nanoTimeSupplier;
+
+    private Set<String> knownSegments = new HashSet<>();
+    private long budgetPerHour = -1;
+    private double availableBytes;
+    private long lastRefillNanos;
+
+    WriteAmplificationAwareMergePolicy(MergePolicy in, LongSupplier maxMergedBytesPerHour, LongConsumer onSegmentFlushed) {
+        this(in, maxMergedBytesPerHour, onSegmentFlushed, System::nanoTime);
+    }
+
+    WriteAmplificationAwareMergePolicy(
+        MergePolicy in,
+        LongSupplier maxMergedBytesPerHour,
+        LongConsumer onSegmentFlushed,
+        LongSupplier nanoTimeSupplier
+    ) {
+        super(in);
+        this.maxMergedBytesPerHour = maxMergedBytesPerHour;
+        this.onSegmentFlushed = onSegmentFlushed;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    @Override
+    public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos, MergeContext mergeContext)
+        throws IOException {
+        trackFlushedSegments(segmentInfos);
+        return applyBudget(super.findMerges(mergeTrigger, segmentInfos, mergeContext), mergeContext);
+    }
+
+    @Override
+    public MergeSpecification findFullFlushMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos, MergeContext mergeContext)
+        throws IOException {
+        trackFlushedSegments(segmentInfos);
+        return super.findFullFlushMerges(mergeTrigger, segmentInfos, mergeContext);
+    }
+
+    private synchronized void trackFlushedSegments(SegmentInfos segmentInfos) throws IOException {
+        final Set<String> segments = new HashSet<>(segmentInfos.size());
+        for (SegmentCommitInfo info : segmentInfos) {
+            segments.add(info.info.name);
+            if (knownSegments.contains(info.info.name) == false
+                && IndexWriter.SOURCE_FLUSH.equals(info.info.getDiagnostics().get(IndexWriter.SOURCE))) {
+                onSegmentFlushed.accept(info.sizeInBytes());
+            }
+        }
+        knownSegments = segments;
+    }
+
+    private MergeSpecification applyBudget(MergeSpecification spec, MergeContext mergeContext) throws IOException {
+        final long budget = maxMergedBytesPerHour.getAsLong();
+        if (spec == null || budget < 0) {
+            return spec;
+        }
+        final List<CandidateMerge> candidates = new ArrayList<>(spec.merges.size());
+        for (OneMerge merge : spec.merges) {
+            long rewrittenBytes = 0;
+            double reclaimedBytes = 0;
+            for (SegmentCommitInfo info : merge.segments) {
+                final long size = info.sizeInBytes();
+                final int maxDoc = info.info.maxDoc();
+                rewrittenBytes += size;
+                if (maxDoc > 0) {
+                    reclaimedBytes += (double) size * mergeContext.numDeletesToMerge(info) / maxDoc;
+                }
+            }
+            candidates.add(new CandidateMerge(merge, rewrittenBytes, rewrittenBytes == 0 ? 0 : reclaimedBytes / rewrittenBytes));
+        }
+        candidates.sort(
+            Comparator.comparingDouble(CandidateMerge::reclaimedRatio).reversed().thenComparingLong(CandidateMerge::rewrittenBytes)
+        );
+
+        final MergeSpecification admitted = new MergeSpecification();
+        synchronized (this) {
+            refill(budget);
+            for (CandidateMerge candidate : candidates) {
+                // a merge may overdraw the budget so that merges larger than the hourly budget still make progress,
+                // the debt is paid back before the next merge is admitted
+                if (availableBytes <= 0) {
+                    break;
+                }
+                availableBytes -= candidate.rewrittenBytes();
+                admitted.add(candidate.merge());
+            }
+        }
+        return admitted.merges.isEmpty() ? null : admitted;
+    }
+
+    private void refill(long budget) {
+        assert Thread.holdsLock(this);
+        final long nowNanos = nanoTimeSupplier.getAsLong();
+        if (budget != budgetPerHour) {
+            // start with a full budget whenever it is enabled or changed
+            budgetPerHour = budget;
+            availableBytes = budget;
+        } else {
+            final double refilled = (double) budget * (nowNanos - lastRefillNanos) / NANOS_PER_HOUR;
+            availableBytes = Math.min(budget, availableBytes + refilled);
+        }
+        lastRefillNanos = nowNanos;
+    }
+
+    private record CandidateMerge(OneMerge merge, long rewrittenBytes, double reclaimedRatio) {
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Objects;
+
+/**
+ * Field domain implementation for numeric range metadata.
+ *
+ * The bounds are held as doubles regardless of the numeric type of the field. Producers of long-valued domains must
+ * widen the bounds when they cannot be represented exactly, so that the domain always contains every indexed value.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class NumericRangeFieldDomain implements FieldDomain {
+    /**
+     * Metadata type for numeric range field domains.
+     */
+    public static final String TYPE = "numeric_range";
+
+    private final String field;
+    private final double min;
+    private final double max;
+    private final boolean finalized;
+    private final String source;
+
+    /**
+     * Creates numeric range bounds.
+     *
+     * @param field field name this domain describes
+     * @param min inclusive lower bound
+     * @param max inclusive upper bound
+     * @param finalized whether this domain is trusted as complete for consumers that require finalized metadata
+     * @param source optional producer identifier
+     */
+    public NumericRangeFieldDomain(String field, double min, double max, boolean finalized, String source) {
+        Objects.requireNonNull(field, "field must not be null");
+        if (field.isEmpty()) {
+            throw new IllegalArgumentException("field must not be empty");
+        }
+        if (Double.isNaN(min) || Double.isNaN(max)) {
+            throw new IllegalArgumentException("numeric range field domain bounds must not be NaN");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("numeric range field domain min must be less than or equal to max");
+        }
+        this.field = field;
+        this.min = min;
+        this.max = max;
+        this.finalized = finalized;
+        this.source = source;
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Returns {@link #TYPE}.
+     */
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    /**
+     * Inclusive lower bound.
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * Inclusive upper bound.
+     */
+    public double max() {
+        return max;
+    }
+
+    @Override
+    public boolean finalized() {
+        return finalized;
+    }
+
+    /**
+     * Optional identifier for the component that produced these bounds.
+     */
+    public String source() {
+        return source;
+    }
+}
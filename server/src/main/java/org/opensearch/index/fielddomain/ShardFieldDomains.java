@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.PointValues;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compact min/max summary of the values a shard holds for a set of numeric and date fields.
+ *
+ * The summary is computed from the point values of the searcher used by the can_match phase and is sent back to the
+ * coordinating node along with the can_match response, which keeps it to decide whether the shard can match later
+ * requests without a round-trip. Bounds include deleted documents so the summary is always a superset of the
+ * searchable values. The summary records the version of the reader it was computed from, which identifies the refresh
+ * generation of the shard copy it describes.
+ *
+ * @opensearch.internal
+ */
+public final class ShardFieldDomains implements Writeable {
+    /**
+     * Producer identifier of the domains computed from the point values of a shard.
+     */
+    public static final String SOURCE = "shard_point_values";
+
+    private final Map<String, FieldDomain> domains;
+    private final long generation;
+
+    /**
+     * Creates a summary from the provided domains keyed by field name, computed from the reader of the provided version.
+     */
+    public ShardFieldDomains(Map<String, FieldDomain> domains, long generation) {
+        this.domains = Collections.unmodifiableMap(domains);
+        this.generation = generation;
+    }
+
+    public ShardFieldDomains(StreamInput in) throws IOException {
+        this.generation = in.readVLong();
+        int size = in.readVInt();
+        Map<String, FieldDomain> domains = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            String type = in.readString();
+            String field = in.readString();
+            FieldDomain domain = switch (type) {
+                case DateRangeFieldDomain.TYPE -> new DateRangeFieldDomain(
+                    field,
+                    in.readString(),
+                    in.readString(),
+                    true,
+                    SOURCE,
+                    in.readOptionalString(),
+                    in.readString()
+                );
+                case NumericRangeFieldDomain.TYPE -> new NumericRangeFieldDomain(field, in.readDouble(), in.readDouble(), true, SOURCE);
+                default -> throw new IllegalStateException("unknown field domain type [" + type + "]");
+            };
+            domains.put(field, domain);
+        }
+        this.domains = Collections.unmodifiableMap(domains);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(generation);
+        out.writeVInt(domains.size());
+        for (FieldDomain domain : domains.values()) {
+            out.writeString(domain.type());
+            out.writeString(domain.field());
+            if (domain instanceof DateRangeFieldDomain dateDomain) {
+                out.writeString(dateDomain.min());
+                out.writeString(dateDomain.max());
+                out.writeOptionalString(dateDomain.format());
+                out.writeString(dateDomain.resolution());
+            } else if (domain instanceof NumericRangeFieldDomain numericDomain) {
+                out.writeDouble(numericDomain.min());
+                out.writeDouble(numericDomain.max());
+            } else {
+                throw new IllegalStateException("unsupported field domain type [" + domain.type() + "]");
+            }
+        }
+    }
+
+    /**
+     * Returns the domain of the provided field, or {@code null} if the shard has no summary for it.
+     */
+    public FieldDomain get(String field) {
+        return domains.get(field);
+    }
+
+    /**
+     * Returns the summarized domains keyed by field name.
+     */
+    public Map<String, FieldDomain> domains() {
+        return domains;
+    }
+
+    /**
+     * Returns the version of the reader the summary was computed from.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Computes the summary of the provided fields from the point values of the reader. Fields that are not mapped,
+     * not indexed, not numeric or date, or that have no values in the reader are left out of the summary.
+     */
+    public static ShardFieldDomains of(DirectoryReader reader, Function<String, MappedFieldType> fieldTypes, Collection<String> fields)
+        throws IOException {
+        Map<String, FieldDomain> domains = new HashMap<>();
+        for (String field : fields) {
+            MappedFieldType fieldType = fieldTypes.apply(field);
+            if (fieldType == null || fieldType.isSearchable() == false) {
+                continue;
+            }
+            if (fieldType instanceof DateFieldMapper.DateFieldType == false
+                && fieldType instanceof NumberFieldMapper.NumberFieldType == false) {
+                continue;
+            }
+            byte[] minPackedValue = PointValues.getMinPackedValue(reader, fieldType.name());
+            byte[] maxPackedValue = PointValues.getMaxPackedValue(reader, fieldType.name());
+            if (minPackedValue == null || maxPackedValue == null) {
+                continue;
+            }
+            if (fieldType instanceof DateFieldMapper.DateFieldType dateFieldType) {
+                domains.put(
+                    field,
+                    new DateRangeFieldDomain(
+                        field,
+                        Long.toString(LongPoint.decodeDimension(minPackedValue, 0)),
+                        Long.toString(LongPoint.decodeDimension(maxPackedValue, 0)),
+                        true,
+                        SOURCE,
+                        dateFieldType.dateTimeFormatter().pattern(),
+                        dateFieldType.resolution().name().toLowerCase(Locale.ROOT)
+                    )
+                );
+            } else {
+                NumberFieldMapper.NumberFieldType numberFieldType = (NumberFieldMapper.NumberFieldType) fieldType;
+                Number min = numberFieldType.parsePoint(minPackedValue);
+                Number max = numberFieldType.parsePoint(maxPackedValue);
+                NumberFieldMapper.NumberType type = numberFieldType.numberType();
+                domains.put(field, new NumericRangeFieldDomain(field, lowerBound(type, min), upperBound(type, max), true, SOURCE));
+            }
+        }
+        return new ShardFieldDomains(domains, reader.getVersion());
+    }
+
+    /**
+     * The bounds are compared with the query bounds parsed as doubles, while the field rounds the query bounds to its own
+     * precision. Bounds are widened by one unit in the precision of the field, so that the domain contains every value a
+     * query bound may round to, and by one double unit for integral values that may not be exactly representable as doubles.
+     */
+    private static double lowerBound(NumberFieldMapper.NumberType type, Number value) {
+        return switch (type) {
+            case DOUBLE -> value.doubleValue();
+            case FLOAT -> Math.nextDown(value.floatValue());
+            case HALF_FLOAT -> HalfFloatPoint.nextDown(value.floatValue());
+            default -> Math.nextDown(value.doubleValue());
+        };
+    }
+
+    private static double upperBound(NumberFieldMapper.NumberType type, Number value) {
+        return switch (type) {
+            case DOUBLE -> value.doubleValue();
+            case FLOAT -> Math.nextUp(value.floatValue());
+            case HALF_FLOAT -> HalfFloatPoint.nextUp(value.floatValue());
+            default -> Math.nextUp(value.doubleValue());
+        };
+    }
+}
@@ -167,12 +167,14 @@ public class DocumentMapper implements ToXContentFragment {
     private final String type;
     private final Text typeText;
 
-    private final CompressedXContent mappingSource;
+    private volatile CompressedXContent mappingSource;
 
     private final Mapping mapping;
 
     private final DocumentParser documentParser;
 
+    private final DocumentParsePlan parsePlan;
+
     private final MappingLookup fieldMappers;
 
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
@@ -191,6 +193,7 @@ public class DocumentMapper implements ToXContentFragment {
         final IndexSettings indexSettings = mapperService.getIndexSettings();
         this.mapping = mapping;
         this.documentParser = new DocumentParser(indexSettings, mapperService.documentMapperParser(), this);
+        this.parsePlan = DocumentParsePlan.isApplicable(mapping) ? DocumentParsePlan.build(mapping) : null;
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
         this.fieldMappers = MappingLookup.fromMapping(
@@ -241,6 +244,13 @@ public class DocumentMapper implements ToXContentFragment {
         return mapping;
     }
 
+    /**
+     * The precompiled field resolution table used to parse documents, or {@code null} if the mapping is dynamic.
+     */
+    DocumentParsePlan parsePlan() {
+        return parsePlan;
+    }
+
     public String type() {
         return this.type;
     }
@@ -257,6 +267,14 @@ public class DocumentMapper implements ToXContentFragment {
         return this.mappingSource;
     }
 
+    /**
+     * Replaces the mapping source of this mapper with an equal instance shared with other indices.
+     */
+    void useSharedMappingSource(CompressedXContent sharedMappingSource) {
+        assert sharedMappingSource.equals(mappingSource);
+        this.mappingSource = sharedMappingSource;
+    }
+
     public long getVersion() {
         return this.version;
     }
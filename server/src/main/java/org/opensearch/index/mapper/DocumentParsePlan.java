@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.core.common.Strings;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parse plan precompiled from a {@link Mapping} whose root is not dynamic. For every object of the mapping, it maps the
+ * field names that may appear directly under that object in a document, including dotted names that traverse plain
+ * sub-objects, to the mapper that parses them. This lets {@link DocumentParser} resolve known fields with a single hash
+ * lookup instead of building the full path, checking metadata mappers and splitting the field name on every token.
+ * <p>
+ * Only resolutions that are guaranteed to be identical to the generic lookup are recorded: objects using
+ * {@code disable_objects}, disabled or nested intermediate objects and metadata field names are left out, so that
+ * those fields and all unknown fields keep going through the generic parser.
+ *
+ * @opensearch.internal
+ */
+final class DocumentParsePlan {
+
+    private final Map<ObjectMapper, Map<String, Mapper>> tables;
+
+    private DocumentParsePlan(Map<ObjectMapper, Map<String, Mapper>> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Returns whether a plan should be built for this mapping, i.e. whether its root object rejects or ignores unmapped fields.
+     */
+    static boolean isApplicable(Mapping mapping) {
+        final ObjectMapper.Dynamic dynamic = mapping.root().dynamic();
+        return dynamic == ObjectMapper.Dynamic.STRICT || dynamic == ObjectMapper.Dynamic.FALSE;
+    }
+
+    static DocumentParsePlan build(Mapping mapping) {
+        final Set<String> metadataFields = new HashSet<>();
+        for (MetadataFieldMapper metadataMapper : mapping.metadataMappers) {
+            metadataFields.add(metadataMapper.name());
+        }
+        final Map<ObjectMapper, Map<String, Mapper>> tables = new IdentityHashMap<>();
+        addTables(mapping.root(), metadataFields, tables);
+        return new DocumentParsePlan(tables);
+    }
+
+    private static void addTables(ObjectMapper objectMapper, Set<String> metadataFields, Map<ObjectMapper, Map<String, Mapper>> tables) {
+        if (objectMapper.disableObjects()) {
+            // flattened objects resolve their fields differently, leave them to the generic parser
+            return;
+        }
+        final Map<String, Mapper> table = new HashMap<>();
+        addEntries(objectMapper, "", metadataFields, table);
+        tables.put(objectMapper, Map.copyOf(table));
+        for (Mapper mapper : objectMapper) {
+            if (mapper instanceof ObjectMapper child) {
+                addTables(child, metadataFields, tables);
+            }
+        }
+    }
+
+    private static void addEntries(ObjectMapper objectMapper, String prefix, Set<String> metadataFields, Map<String, Mapper> table) {
+        for (Mapper mapper : objectMapper) {
+            final String simpleName = mapper.simpleName();
+            if (Strings.hasText(simpleName) == false || simpleName.indexOf('.') >= 0) {
+                continue;
+            }
+            final String name = prefix + simpleName;
+            if (metadataFields.contains(name)) {
+                continue;
+            }
+            table.put(name, mapper);
+            if (mapper instanceof ObjectMapper child
+                && child.isEnabled()
+                && child.nested().isNested() == false
+                && child.disableObjects() == false) {
+                addEntries(child, name + ".", metadataFields, table);
+            }
+        }
+    }
+
+    /**
+     * Returns the mapper for a field name found directly under the given object, or {@code null} if the field must be
+     * resolved by the generic parser.
+     */
+    Mapper resolve(ObjectMapper parent, String fieldName) {
+        final Map<String, Mapper> table = tables.get(parent);
+        return table == null ? null : table.get(fieldName);
+    }
+}
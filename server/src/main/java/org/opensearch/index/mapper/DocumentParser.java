@@ -636,15 +636,21 @@ final class DocumentParser {
         try {
             assert token == XContentParser.Token.FIELD_NAME || token == XContentParser.Token.END_OBJECT;
             String[] paths = null;
+            final DocumentParsePlan parsePlan = context.docMapper() == null ? null : context.docMapper().parsePlan();
             context.incrementFieldCurrentDepth();
             context.checkFieldDepthLimit();
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = resolvePathForParsing(mapper, currentFieldName);
-                    if (containsDisabledObjectMapper(mapper, paths)) {
-                        parser.nextToken();
-                        parser.skipChildren();
+                    if (parsePlan != null && parsePlan.resolve(mapper, currentFieldName) != null) {
+                        // a planned field is resolved by getMapper without looking at its path elements
+                        paths = null;
+                    } else {
+                        paths = resolvePathForParsing(mapper, currentFieldName);
+                        if (containsDisabledObjectMapper(mapper, paths)) {
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
                     }
                 } else {
                     // Process different token types during object parsing
@@ -1719,6 +1725,13 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final DocumentParsePlan parsePlan = context.docMapper().parsePlan();
+        if (parsePlan != null) {
+            Mapper planned = parsePlan.resolve(objectMapper, fieldName);
+            if (planned != null) {
+                return planned;
+            }
+        }
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
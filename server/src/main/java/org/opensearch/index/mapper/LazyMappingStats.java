@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about the indices of a node whose mapping is parsed on first access, see
+ * {@link MapperService#INDEX_MAPPING_LAZY_LOAD_SETTING}
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.8.0")
+public class LazyMappingStats implements Writeable, ToXContentFragment {
+
+    private final long lazyIndices;
+    private final long materializedIndices;
+    private final long materializations;
+    private final long materializationTimeInMillis;
+    private final long evictions;
+
+    public LazyMappingStats(
+        long lazyIndices,
+        long materializedIndices,
+        long materializations,
+        long materializationTimeInMillis,
+        long evictions
+    ) {
+        this.lazyIndices = lazyIndices;
+        this.materializedIndices = materializedIndices;
+        this.materializations = materializations;
+        this.materializationTimeInMillis = materializationTimeInMillis;
+        this.evictions = evictions;
+    }
+
+    public LazyMappingStats(StreamInput in) throws IOException {
+        this.lazyIndices = in.readVLong();
+        this.materializedIndices = in.readVLong();
+        this.materializations = in.readVLong();
+        this.materializationTimeInMillis = in.readVLong();
+        this.evictions = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(lazyIndices);
+        out.writeVLong(materializedIndices);
+        out.writeVLong(materializations);
+        out.writeVLong(materializationTimeInMillis);
+        out.writeVLong(evictions);
+    }
+
+    /**
+     * The number of indices of the node with lazy mapping loading enabled.
+     */
+    public long getLazyIndices() {
+        return lazyIndices;
+    }
+
+    /**
+     * The number of those indices whose mapping is currently parsed and held in memory.
+     */
+    public long getMaterializedIndices() {
+        return materializedIndices;
+    }
+
+    /**
+     * The number of times a deferred mapping was parsed.
+     */
+    public long getMaterializations() {
+        return materializations;
+    }
+
+    /**
+     * The total time spent parsing deferred mappings.
+     */
+    public TimeValue getMaterializationTime() {
+        return new TimeValue(materializationTimeInMillis);
+    }
+
+    /**
+     * The number of times a parsed mapping was dropped after being idle.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.LAZY_MAPPINGS);
+        builder.field(Fields.INDICES, lazyIndices);
+        builder.field(Fields.MATERIALIZED_INDICES, materializedIndices);
+        builder.field(Fields.MATERIALIZATIONS, materializations);
+        builder.humanReadableField(Fields.MATERIALIZATION_TIME_IN_MILLIS, Fields.MATERIALIZATION_TIME, getMaterializationTime());
+        builder.field(Fields.EVICTIONS, evictions);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LazyMappingStats that = (LazyMappingStats) o;
+        return lazyIndices == that.lazyIndices
+            && materializedIndices == that.materializedIndices
+            && materializations == that.materializations
+            && materializationTimeInMillis == that.materializationTimeInMillis
+            && evictions == that.evictions;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lazyIndices, materializedIndices, materializations, materializationTimeInMillis, evictions);
+    }
+
+    /**
+     * Fields for lazy mapping statistics
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String LAZY_MAPPINGS = "lazy_mappings";
+        static final String INDICES = "indices";
+        static final String MATERIALIZED_INDICES = "materialized_indices";
+        static final String MATERIALIZATIONS = "materializations";
+        static final String MATERIALIZATION_TIME = "materialization_time";
+        static final String MATERIALIZATION_TIME_IN_MILLIS = "materialization_time_in_millis";
+        static final String EVICTIONS = "evictions";
+    }
+}
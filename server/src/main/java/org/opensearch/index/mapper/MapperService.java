@@ -36,16 +36,20 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
 import org.opensearch.Version;
+import org.opensearch.cluster.metadata.DataStream;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentConstraints;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -210,6 +214,23 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * When enabled, the mapping received with the cluster state is only parsed when it is first needed, e.g. by a search
+     * or an indexing operation, and the parsed mapping is dropped again once it has not been used for
+     * {@link #INDEX_MAPPING_LAZY_LOAD_IDLE_TIMEOUT_SETTING}. This trades the latency of the first request against the
+     * heap held by the mappings of rarely used indices.
+     */
+    public static final Setting<Boolean> INDEX_MAPPING_LAZY_LOAD_SETTING = Setting.boolSetting(
+        "index.mapping.lazy_load.enabled",
+        false,
+        Property.IndexScope
+    );
+    public static final Setting<TimeValue> INDEX_MAPPING_LAZY_LOAD_IDLE_TIMEOUT_SETTING = Setting.timeSetting(
+        "index.mapping.lazy_load.idle_timeout",
+        TimeValue.timeValueMinutes(30),
+        TimeValue.timeValueSeconds(1),
+        Property.IndexScope
+    );
     public static final boolean INDEX_MAPPER_DYNAMIC_DEFAULT = true;
     @Deprecated
     public static final Setting<Boolean> INDEX_MAPPER_DYNAMIC_SETTING = Setting.boolSetting(
@@ -231,6 +252,28 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
     private volatile DocumentMapper mapper;
 
+    private volatile MappingSourceCache mappingSourceCache;
+
+    private final boolean lazyLoad;
+    /**
+     * The mapping to parse on next access when {@link #INDEX_MAPPING_LAZY_LOAD_SETTING} is enabled and the parsed mapping
+     * has not been materialized yet or has been evicted. Always written before {@link #mapper} is cleared.
+     */
+    private volatile MappingMetadata deferredMapping;
+    /**
+     * What the shards need to know about the deferred mapping to open and to write segments, always written before
+     * {@link #deferredMapping}.
+     */
+    private volatile DeferredMappingSummary deferredMappingSummary;
+    private volatile long lastAccessNanos = System.nanoTime();
+    /**
+     * How stale {@link #lastAccessNanos} may get, so that hot paths that get the mapper on every document do not write it on
+     * every access. Half the idle timeout that the mapping was last checked against.
+     */
+    private volatile long accessResolutionNanos;
+    private final MeanMetric materializationMetric = new MeanMetric();
+    private final CounterMetric evictionMetric = new CounterMetric();
+
     private final DocumentMapperParser documentParser;
     private final Version indexVersionCreated;
 
@@ -292,6 +335,7 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
         this.indexVersionCreated = indexSettings.getIndexVersionCreated();
         this.indexAnalyzers = indexAnalyzers;
+        this.lazyLoad = INDEX_MAPPING_LAZY_LOAD_SETTING.get(indexSettings.getSettings());
         this.documentParser = new DocumentMapperParser(
             indexSettings,
             this,
@@ -325,7 +369,8 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
     }
 
     public boolean hasNested() {
-        return this.mapper != null && this.mapper.hasNestedObjects();
+        final DocumentMapper mapper = mapper();
+        return mapper != null && mapper.hasNestedObjects();
     }
 
     public IndexAnalyzers getIndexAnalyzers() {
@@ -369,6 +414,10 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
             + " but was "
             + newIndexMetadata.getIndex();
 
+        if (lazyLoad && deferMapping(newIndexMetadata)) {
+            return false;
+        }
+
         if (currentIndexMetadata != null && currentIndexMetadata.getMappingVersion() == newIndexMetadata.getMappingVersion()) {
             assertMappingVersion(currentIndexMetadata, newIndexMetadata, Collections.emptyMap());
             return false;
@@ -571,6 +620,10 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
     }
 
     private synchronized Map<String, DocumentMapper> internalMerge(DocumentMapper mapper, MergeReason reason) {
+        if (deferredMapping != null) {
+            // merges must apply on top of the current mapping
+            materializeDeferredMapping();
+        }
         Map<String, DocumentMapper> results = new LinkedHashMap<>(2);
         DocumentMapper newMapper = null;
         if (mapper != null) {
@@ -599,7 +652,15 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
         // commit the change
         if (newMapper != null) {
+            final DocumentMapper previousMapper = this.mapper;
             this.mapper = newMapper;
+            final MappingSourceCache cache = this.mappingSourceCache;
+            if (cache != null) {
+                newMapper.useSharedMappingSource(cache.acquire(newMapper.mappingSource()));
+                if (previousMapper != null) {
+                    cache.release(previousMapper.mappingSource());
+                }
+            }
         }
 
         assert results.values().stream().allMatch(this::assertSerialization);
@@ -662,9 +723,135 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
      * Return the document mapper, or {@code null} if no mapping has been put yet.
      */
     public DocumentMapper documentMapper() {
+        return mapper();
+    }
+
+    private DocumentMapper mapper() {
+        DocumentMapper mapper = this.mapper;
+        if (lazyLoad) {
+            final long nowNanos = System.nanoTime();
+            if (nowNanos - lastAccessNanos >= accessResolutionNanos) {
+                lastAccessNanos = nowNanos;
+            }
+            if (mapper == null) {
+                // synchronizes with a concurrent materialization that has cleared the deferred mapping but not yet committed
+                mapper = materializeDeferredMapping();
+            }
+        }
         return mapper;
     }
 
+    /**
+     * Records the mapping of the given index metadata to be parsed on first access instead of parsing it now, which is
+     * only possible as long as no mapping has been materialized. Returns whether the mapping was deferred.
+     */
+    private synchronized boolean deferMapping(IndexMetadata indexMetadata) {
+        final MappingMetadata mappingMetadata = indexMetadata.mapping();
+        if (this.mapper != null || mappingMetadata == null) {
+            return false;
+        }
+        this.deferredMappingSummary = DeferredMappingSummary.of(mappingMetadata.sourceAsMap());
+        this.deferredMapping = mappingMetadata;
+        return true;
+    }
+
+    private synchronized DocumentMapper materializeDeferredMapping() {
+        final MappingMetadata mappingMetadata = this.deferredMapping;
+        if (mappingMetadata != null) {
+            final long startNanos = System.nanoTime();
+            this.deferredMapping = null;
+            boolean success = false;
+            try {
+                internalMerge(Collections.singletonMap(mappingMetadata.type(), mappingMetadata.source()), MergeReason.MAPPING_RECOVERY);
+                success = true;
+            } finally {
+                if (success == false) {
+                    this.deferredMapping = mappingMetadata;
+                }
+            }
+            final long tookNanos = System.nanoTime() - startNanos;
+            materializationMetric.inc(tookNanos);
+            logger.debug("[{}] materialized deferred mapping in [{}]", index(), TimeValue.timeValueNanos(tookNanos));
+        }
+        return this.mapper;
+    }
+
+    /**
+     * Drops the parsed mapping if lazy loading is enabled and the mapping has not been accessed for at least the given
+     * idle timeout. The mapping is parsed again from its source on next access. Returns whether the mapping was evicted.
+     */
+    public synchronized boolean evictMappingIfIdle(TimeValue idleTimeout) {
+        final DocumentMapper mapper = this.mapper;
+        if (lazyLoad == false || mapper == null) {
+            return false;
+        }
+        // the mapping may have been accessed up to the resolution after the recorded last access
+        accessResolutionNanos = idleTimeout.nanos() / 2;
+        if (System.nanoTime() - lastAccessNanos < idleTimeout.nanos() + accessResolutionNanos) {
+            return false;
+        }
+        this.deferredMappingSummary = DeferredMappingSummary.of(
+            mapper,
+            compositeMappedFieldTypes.stream().anyMatch(fieldType -> fieldType instanceof CompositeDataCubeFieldType)
+        );
+        this.deferredMapping = new MappingMetadata(mapper);
+        this.mapper = null;
+        final MappingSourceCache cache = this.mappingSourceCache;
+        if (cache != null) {
+            cache.release(mapper.mappingSource());
+        }
+        evictionMetric.inc();
+        logger.debug("[{}] evicted idle mapping", index());
+        return true;
+    }
+
+    /**
+     * Whether the mapping of this index is parsed on first access, see {@link #INDEX_MAPPING_LAZY_LOAD_SETTING}.
+     */
+    public boolean isLazyLoadEnabled() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the mapping of this index is currently parsed and held in memory.
+     */
+    public boolean isMappingMaterialized() {
+        return this.mapper != null;
+    }
+
+    /**
+     * Whether the mapping of this index is waiting to be parsed on next access, see {@link #INDEX_MAPPING_LAZY_LOAD_SETTING}.
+     */
+    public boolean isMappingDeferred() {
+        return deferredMappingSummary() != null;
+    }
+
+    private DeferredMappingSummary deferredMappingSummary() {
+        final DeferredMappingSummary summary = this.deferredMappingSummary;
+        return lazyLoad && this.mapper == null && this.deferredMapping != null ? summary : null;
+    }
+
+    /**
+     * The number of times the deferred mapping of this index was parsed.
+     */
+    public long getMappingMaterializations() {
+        return materializationMetric.count();
+    }
+
+    /**
+     * The total time spent parsing the deferred mapping of this index.
+     */
+    public long getMappingMaterializationTimeInNanos() {
+        return materializationMetric.sum();
+    }
+
+    /**
+     * The number of times the parsed mapping of this index was dropped after being idle.
+     */
+    public long getMappingEvictions() {
+        return evictionMetric.count();
+    }
+
     /**
      * Returns {@code true} if the given {@code mappingSource} includes a type
      * as a top-level object.
@@ -688,6 +875,7 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
      */
     public String resolveDocumentType(String type) {
         if (MapperService.SINGLE_MAPPING_NAME.equals(type)) {
+            final DocumentMapper mapper = mapper();
             if (mapper != null) {
                 return mapper.type();
             }
@@ -712,7 +900,8 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
      * Given the full name of a field, returns its {@link MappedFieldType}.
      */
     public MappedFieldType fieldType(String fullName) {
-        return this.mapper == null ? null : this.mapper.fieldTypes().get(fullName);
+        final DocumentMapper mapper = mapper();
+        return mapper == null ? null : mapper.fieldTypes().get(fullName);
     }
 
     /**
@@ -724,7 +913,8 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
             // no wildcards
             return Collections.singleton(pattern);
         }
-        return this.mapper == null ? Collections.emptySet() : this.mapper.fieldTypes().simpleMatchToFullName(pattern);
+        final DocumentMapper mapper = mapper();
+        return mapper == null ? Collections.emptySet() : mapper.fieldTypes().simpleMatchToFullName(pattern);
     }
 
     /**
@@ -732,21 +922,54 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
      * the 'source path' for a multi-field is the path to its parent field.
      */
     public Set<String> sourcePath(String fullName) {
-        return this.mapper == null ? Collections.emptySet() : this.mapper.fieldTypes().sourcePaths(fullName);
+        final DocumentMapper mapper = mapper();
+        return mapper == null ? Collections.emptySet() : mapper.fieldTypes().sourcePaths(fullName);
     }
 
     /**
      * Returns all mapped field types.
      */
     public Iterable<MappedFieldType> fieldTypes() {
-        return this.mapper == null ? Collections.emptySet() : this.mapper.fieldTypes();
+        final DocumentMapper mapper = mapper();
+        return mapper == null ? Collections.emptySet() : mapper.fieldTypes();
     }
 
     public boolean isCompositeIndexPresent() {
-        return this.mapper != null && !getCompositeFieldTypes().isEmpty();
+        final DeferredMappingSummary summary = deferredMappingSummary();
+        if (summary != null) {
+            return summary.compositeIndexPresent();
+        }
+        return mapper() != null && !getCompositeFieldTypes().isEmpty();
+    }
+
+    /**
+     * Whether the given field is mapped as a completion field. Answered without parsing a deferred mapping, so that the
+     * codec can pick the postings format of the field when writing segments of a lazily loaded index.
+     */
+    public boolean isCompletionField(String field) {
+        final DeferredMappingSummary summary = deferredMappingSummary();
+        if (summary != null) {
+            return summary.completionFields().contains(field);
+        }
+        final MappedFieldType fieldType = fieldType(field);
+        return fieldType != null && fieldType.unwrap() instanceof CompletionFieldMapper.CompletionFieldType;
+    }
+
+    /**
+     * Whether the mapping maps the timestamp field of time series indices as a date. Answered without parsing a deferred
+     * mapping, so that the shards of a lazily loaded index can open.
+     */
+    public boolean containsTimeStampField() {
+        final DeferredMappingSummary summary = deferredMappingSummary();
+        if (summary != null) {
+            return summary.containsTimeStampField();
+        }
+        final DocumentMapper mapper = mapper();
+        return mapper != null && mapper.mappers().containsTimeStampField();
     }
 
     public Set<CompositeMappedFieldType> getCompositeFieldTypes() {
+        mapper(); // materializes a deferred mapping
         return compositeMappedFieldTypes.stream()
             .filter(compositeMappedFieldType -> compositeMappedFieldType instanceof CompositeDataCubeFieldType)
             .collect(Collectors.toSet());
@@ -766,16 +989,19 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
     }
 
     public boolean isFieldPartOfCompositeIndex(String field) {
+        mapper(); // materializes a deferred mapping
         return fieldsPartOfCompositeMappings.contains(field);
     }
 
     public boolean isCompositeIndexFieldNestedField(String field) {
+        mapper(); // materializes a deferred mapping
         return nestedFieldsPartOfCompositeMappings.contains(field);
 
     }
 
     public ObjectMapper getObjectMapper(String name) {
-        return this.mapper == null ? null : this.mapper.objectMappers().get(name);
+        final DocumentMapper mapper = mapper();
+        return mapper == null ? null : mapper.objectMappers().get(name);
     }
 
     /**
@@ -827,9 +1053,30 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
     @Override
     public void close() throws IOException {
+        // released under the same lock as merges and evictions, so that the reference of a concurrently merged mapping is not leaked
+        synchronized (this) {
+            final MappingSourceCache cache = this.mappingSourceCache;
+            final DocumentMapper mapper = this.mapper;
+            if (cache != null && mapper != null) {
+                cache.release(mapper.mappingSource());
+            }
+            this.mappingSourceCache = null;
+        }
         indexAnalyzers.close();
     }
 
+    /**
+     * Shares the mapping source of this index with the other indices of the node that have the same mapping.
+     */
+    public synchronized void setMappingSourceCache(MappingSourceCache mappingSourceCache) {
+        assert this.mappingSourceCache == null : "mapping source cache is already set";
+        this.mappingSourceCache = mappingSourceCache;
+        final DocumentMapper mapper = this.mapper;
+        if (mapper != null) {
+            mapper.useSharedMappingSource(mappingSourceCache.acquire(mapper.mappingSource()));
+        }
+    }
+
     /**
      * @return Whether a field is a metadata field.
      * this method considers all mapper plugins
@@ -912,4 +1159,57 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         return reloadedAnalyzers;
     }
 
+    /**
+     * The parts of a deferred mapping the shards need to open and to write segments, read from the mapping source or
+     * kept from the evicted mapping.
+     */
+    private record DeferredMappingSummary(boolean compositeIndexPresent, boolean containsTimeStampField, Set<String> completionFields) {
+
+        static DeferredMappingSummary of(DocumentMapper mapper, boolean compositeIndexPresent) {
+            Set<String> completionFields = new HashSet<>();
+            for (MappedFieldType fieldType : mapper.fieldTypes()) {
+                if (fieldType.unwrap() instanceof CompletionFieldMapper.CompletionFieldType) {
+                    completionFields.add(fieldType.name());
+                }
+            }
+            return new DeferredMappingSummary(
+                compositeIndexPresent,
+                mapper.mappers().containsTimeStampField(),
+                Collections.unmodifiableSet(completionFields)
+            );
+        }
+
+        static DeferredMappingSummary of(Map<String, Object> mapping) {
+            Set<String> completionFields = new HashSet<>();
+            boolean compositeIndexPresent = collectFields(null, mapping, completionFields);
+            boolean containsTimeStampField = false;
+            if (mapping.get("properties") instanceof Map<?, ?> properties
+                && properties.get(DataStream.TIMESERIES_FIELDNAME) instanceof Map<?, ?> timestamp) {
+                Object type = timestamp.get("type");
+                containsTimeStampField = DateFieldMapper.CONTENT_TYPE.equals(type) || DateFieldMapper.DATE_NANOS_CONTENT_TYPE.equals(type);
+            }
+            return new DeferredMappingSummary(compositeIndexPresent, containsTimeStampField, Collections.unmodifiableSet(completionFields));
+        }
+
+        /**
+         * Collects the completion fields of an object mapping and its sub-fields, and returns whether it declares composite fields.
+         */
+        private static boolean collectFields(String path, Map<?, ?> object, Set<String> completionFields) {
+            boolean compositeIndexPresent = object.get("composite") instanceof Map<?, ?> composite && composite.isEmpty() == false;
+            for (String key : List.of("properties", "fields")) {
+                if (object.get(key) instanceof Map<?, ?> fields) {
+                    for (Map.Entry<?, ?> field : fields.entrySet()) {
+                        if (field.getValue() instanceof Map<?, ?> fieldMapping) {
+                            String name = path == null ? field.getKey().toString() : path + "." + field.getKey();
+                            if (CompletionFieldMapper.CONTENT_TYPE.equals(fieldMapping.get("type"))) {
+                                completionFields.add(name);
+                            }
+                            compositeIndexPresent |= collectFields(name, fieldMapping, completionFields);
+                        }
+                    }
+                }
+            }
+            return compositeIndexPresent;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A node-level, content-addressed cache of the mapping sources held by the {@link DocumentMapper}s of all indices on the node.
+ * Indices whose mappings serialize to the same bytes, such as daily time-series indices created from one template, share a
+ * single {@link CompressedXContent} instead of each keeping its own copy. Entries are reference-counted by the
+ * {@link MapperService}s that use them and dropped once the last one releases its reference.
+ * <p>
+ * Only the compressed source is shared. The parsed {@link DocumentMapper}, {@link MappingLookup} and {@link FieldTypeLookup}
+ * stay per index even if the source and the index-scoped settings are equal: the document mapper and its parser hold the
+ * {@link MapperService} of their index, and the field types hold the {@link org.opensearch.index.analysis.NamedAnalyzer}
+ * instances of their index, which are closed together with it. Sharing them would leave the other indices with closed
+ * analyzers once the first one is removed from the node.
+ *
+ * @opensearch.internal
+ */
+public final class MappingSourceCache {
+
+    private final ConcurrentMap<CompressedXContent, Entry> entries = ConcurrentCollections.newConcurrentMap();
+
+    /**
+     * Records that a mapper service now uses the given mapping source and returns the instance shared by all users of an
+     * equal source, which is the given one if no other index on this node uses it.
+     */
+    public CompressedXContent acquire(CompressedXContent source) {
+        return entries.compute(source, (key, entry) -> {
+            if (entry == null) {
+                entry = new Entry(source);
+            }
+            entry.refCount++;
+            return entry;
+        }).source;
+    }
+
+    /**
+     * Records that a mapper service no longer uses the given mapping source.
+     */
+    public void release(CompressedXContent source) {
+        entries.computeIfPresent(source, (key, entry) -> --entry.refCount == 0 ? null : entry);
+    }
+
+    public MappingSourceCacheStats stats() {
+        long uniqueSources = 0;
+        long references = 0;
+        long deduplicatedBytes = 0;
+        for (Entry entry : entries.values()) {
+            final int refCount = entry.refCount;
+            if (refCount > 0) {
+                uniqueSources++;
+                references += refCount;
+                deduplicatedBytes += (long) (refCount - 1) * entry.source.compressed().length;
+            }
+        }
+        return new MappingSourceCacheStats(uniqueSources, references, deduplicatedBytes);
+    }
+
+    /**
+     * A shared mapping source and the number of mapper services using it
+     *
+     * @opensearch.internal
+     */
+    private static final class Entry {
+        private final CompressedXContent source;
+        private volatile int refCount;
+
+        private Entry(CompressedXContent source) {
+            this.source = source;
+        }
+    }
+}
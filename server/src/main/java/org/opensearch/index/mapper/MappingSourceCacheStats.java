@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about the compressed mapping sources shared between the indices of a node, see {@link MappingSourceCache}
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.8.0")
+public class MappingSourceCacheStats implements Writeable, ToXContentFragment {
+
+    private final long uniqueSources;
+    private final long references;
+    private final long deduplicatedSizeInBytes;
+
+    public MappingSourceCacheStats(long uniqueSources, long references, long deduplicatedSizeInBytes) {
+        this.uniqueSources = uniqueSources;
+        this.references = references;
+        this.deduplicatedSizeInBytes = deduplicatedSizeInBytes;
+    }
+
+    public MappingSourceCacheStats(StreamInput in) throws IOException {
+        this.uniqueSources = in.readVLong();
+        this.references = in.readVLong();
+        this.deduplicatedSizeInBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(uniqueSources);
+        out.writeVLong(references);
+        out.writeVLong(deduplicatedSizeInBytes);
+    }
+
+    /**
+     * The number of distinct mapping sources used by the indices of the node.
+     */
+    public long getUniqueSources() {
+        return uniqueSources;
+    }
+
+    /**
+     * The number of indices referencing one of the shared mapping sources.
+     */
+    public long getReferences() {
+        return references;
+    }
+
+    /**
+     * The heap saved by sharing mapping sources rather than keeping one copy per index.
+     */
+    public ByteSizeValue getDeduplicatedSize() {
+        return new ByteSizeValue(deduplicatedSizeInBytes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.MAPPING_SOURCES);
+        builder.field(Fields.UNIQUE, uniqueSources);
+        builder.field(Fields.REFERENCES, references);
+        builder.humanReadableField(Fields.DEDUPLICATED_SIZE_IN_BYTES, Fields.DEDUPLICATED_SIZE, getDeduplicatedSize());
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MappingSourceCacheStats that = (MappingSourceCacheStats) o;
+        return uniqueSources == that.uniqueSources
+            && references == that.references
+            && deduplicatedSizeInBytes == that.deduplicatedSizeInBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uniqueSources, references, deduplicatedSizeInBytes);
+    }
+
+    /**
+     * Fields for mapping source cache statistics
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String MAPPING_SOURCES = "mapping_sources";
+        static final String UNIQUE = "unique";
+        static final String REFERENCES = "references";
+        static final String DEDUPLICATED_SIZE = "deduplicated_size";
+        static final String DEDUPLICATED_SIZE_IN_BYTES = "deduplicated_size_in_bytes";
+    }
+}
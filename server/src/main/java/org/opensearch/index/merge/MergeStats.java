@@ -70,6 +70,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long unreferencedFileCleanUpsPerformed;
 
+    /** Total bytes of the segments written by flushes, the baseline against which merge write amplification is measured. */
+    private long totalFlushedSizeInBytes;
+
     private final MergedSegmentWarmerStats warmerStats;
 
     public MergeStats() {
@@ -96,6 +99,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         } else {
             this.warmerStats = new MergedSegmentWarmerStats();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            totalFlushedSizeInBytes = in.readVLong();
+        }
     }
 
     public void add(
@@ -187,6 +193,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
         addUnreferencedFileCleanUpStats(mergeStats.unreferencedFileCleanUpsPerformed);
+        addFlushedSize(mergeStats.totalFlushedSizeInBytes);
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -195,6 +202,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.warmerStats.addTotals(mergeStats.warmerStats);
     }
 
+    public void addFlushedSize(long flushedSizeInBytes) {
+        this.totalFlushedSizeInBytes += flushedSizeInBytes;
+    }
+
     public void addUnreferencedFileCleanUpStats(long unreferencedFileCleanUpsPerformed) {
         this.unreferencedFileCleanUpsPerformed += unreferencedFileCleanUpsPerformed;
     }
@@ -287,6 +298,25 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(currentSizeInBytes);
     }
 
+    public long getTotalFlushedSizeInBytes() {
+        return this.totalFlushedSizeInBytes;
+    }
+
+    public ByteSizeValue getTotalFlushedSize() {
+        return new ByteSizeValue(totalFlushedSizeInBytes);
+    }
+
+    /**
+     * The ratio of the bytes written by flushes and merges to the bytes written by flushes alone, or {@code 0} if nothing
+     * has been flushed yet. A value of {@code 1} means that no flushed byte has been rewritten by a merge.
+     */
+    public double getWriteAmplification() {
+        if (totalFlushedSizeInBytes == 0) {
+            return 0;
+        }
+        return (double) (totalFlushedSizeInBytes + totalSizeInBytes) / totalFlushedSizeInBytes;
+    }
+
     public MergedSegmentWarmerStats getWarmerStats() {
         return warmerStats;
     }
@@ -308,6 +338,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
         builder.field(Fields.UNREFERENCED_FILE_CLEANUPS_PERFORMED, unreferencedFileCleanUpsPerformed);
+        builder.humanReadableField(Fields.TOTAL_FLUSHED_SIZE_IN_BYTES, Fields.TOTAL_FLUSHED_SIZE, getTotalFlushedSize());
+        builder.field(Fields.WRITE_AMPLIFICATION, getWriteAmplification());
         this.warmerStats.toXContent(builder, params);
         builder.endObject();
         return builder;
@@ -337,6 +369,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
         static final String UNREFERENCED_FILE_CLEANUPS_PERFORMED = "unreferenced_file_cleanups_performed";
+        static final String TOTAL_FLUSHED_SIZE = "total_flushed_size";
+        static final String TOTAL_FLUSHED_SIZE_IN_BYTES = "total_flushed_size_in_bytes";
+        static final String WRITE_AMPLIFICATION = "write_amplification";
     }
 
     @Override
@@ -358,5 +393,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             this.warmerStats.writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(totalFlushedSizeInBytes);
+        }
     }
 }
@@ -29,6 +29,7 @@ public class MergeStatsTracker {
     private final CounterMetric currentMergesSizeInBytes = new CounterMetric();
     private final CounterMetric totalMergeStoppedTime = new CounterMetric();
     private final CounterMetric totalMergeThrottledTime = new CounterMetric();
+    private final CounterMetric totalFlushedSizeInBytes = new CounterMetric();
 
     /**
      * Records the start of a merge operation, incrementing current merge counters.
@@ -64,6 +65,13 @@ public class MergeStatsTracker {
         totalMergeThrottledTime.inc(timeMillis);
     }
 
+    /**
+     * Records the size of a newly flushed segment, used to compute the write amplification of merges.
+     */
+    public void incFlushedSize(long sizeInBytes) {
+        totalFlushedSizeInBytes.inc(sizeInBytes);
+    }
+
     /**
      * Creates a snapshot of the current merge statistics.
      *
@@ -85,6 +93,7 @@ public class MergeStatsTracker {
             totalMergeThrottledTime.count(),
             mbPerSecAutoThrottle
         );
+        mergeStats.addFlushedSize(totalFlushedSizeInBytes.count());
         return mergeStats;
     }
 }
@@ -44,6 +44,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentFragment;
@@ -124,11 +125,41 @@ public class SearchStats implements Writeable, ToXContentFragment {
     public static class RequestStatsLongHolder {
 
         Map<String, PhaseStatsLongHolder> requestStatsHolder = new HashMap<>();
+        long canMatchSavedRequests;
+        long canMatchPrunedShards;
+        long hedgedRequests;
+        long hedgedRequestsWon;
+        long multiSearchSharedRequests;
+        long multiSearchSeparateRequests;
 
         public Map<String, PhaseStatsLongHolder> getRequestStatsHolder() {
             return requestStatsHolder;
         }
 
+        public long getCanMatchSavedRequests() {
+            return canMatchSavedRequests;
+        }
+
+        public long getCanMatchPrunedShards() {
+            return canMatchPrunedShards;
+        }
+
+        public long getHedgedRequests() {
+            return hedgedRequests;
+        }
+
+        public long getHedgedRequestsWon() {
+            return hedgedRequestsWon;
+        }
+
+        public long getMultiSearchSharedRequests() {
+            return multiSearchSharedRequests;
+        }
+
+        public long getMultiSearchSeparateRequests() {
+            return multiSearchSeparateRequests;
+        }
+
         RequestStatsLongHolder() {
             requestStatsHolder.put(Fields.TOOK, new PhaseStatsLongHolder());
             for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
@@ -170,6 +201,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long pitCount;
         private long pitTimeInMillis;
         private long pitCurrent;
+        private long pitPinnedSizeInBytes;
 
         private long searchIdleReactivateCount;
 
@@ -221,6 +253,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.pitCount = builder.pitCount;
             this.pitTimeInMillis = builder.pitTimeInMillis;
             this.pitCurrent = builder.pitCurrent;
+            this.pitPinnedSizeInBytes = builder.pitPinnedSizeInBytes;
 
             this.searchIdleReactivateCount = builder.searchIdleReactivateCount;
 
@@ -334,6 +367,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 queryFailedCount = in.readVLong();
                 starTreeQueryFailed = in.readVLong();
             }
+
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                requestStatsLongHolder.canMatchSavedRequests = in.readVLong();
+                requestStatsLongHolder.canMatchPrunedShards = in.readVLong();
+                requestStatsLongHolder.hedgedRequests = in.readVLong();
+                requestStatsLongHolder.hedgedRequestsWon = in.readVLong();
+                requestStatsLongHolder.multiSearchSharedRequests = in.readVLong();
+                requestStatsLongHolder.multiSearchSeparateRequests = in.readVLong();
+                pitPinnedSizeInBytes = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -362,6 +405,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             pitCount += stats.pitCount;
             pitTimeInMillis += stats.pitTimeInMillis;
             pitCurrent += stats.pitCurrent;
+            pitPinnedSizeInBytes += stats.pitPinnedSizeInBytes;
 
             searchIdleReactivateCount += stats.searchIdleReactivateCount;
 
@@ -393,6 +437,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             pitCount += stats.pitCount;
             pitTimeInMillis += stats.pitTimeInMillis;
             pitCurrent += stats.pitCurrent;
+            pitPinnedSizeInBytes += stats.pitPinnedSizeInBytes;
             queryConcurrency += stats.queryConcurrency;
 
             searchIdleReactivateCount += stats.searchIdleReactivateCount;
@@ -494,6 +539,14 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return pitCurrent;
         }
 
+        public ByteSizeValue getPitPinnedSize() {
+            return new ByteSizeValue(pitPinnedSizeInBytes);
+        }
+
+        public long getPitPinnedSizeInBytes() {
+            return pitPinnedSizeInBytes;
+        }
+
         public long getSuggestCount() {
             return suggestCount;
         }
@@ -603,6 +656,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(queryFailedCount);
                 out.writeVLong(starTreeQueryFailed);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeVLong(requestStatsLongHolder.canMatchSavedRequests);
+                out.writeVLong(requestStatsLongHolder.canMatchPrunedShards);
+                out.writeVLong(requestStatsLongHolder.hedgedRequests);
+                out.writeVLong(requestStatsLongHolder.hedgedRequestsWon);
+                out.writeVLong(requestStatsLongHolder.multiSearchSharedRequests);
+                out.writeVLong(requestStatsLongHolder.multiSearchSeparateRequests);
+                out.writeVLong(pitPinnedSizeInBytes);
+            }
         }
 
         @Override
@@ -633,6 +696,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.field(Fields.PIT_TOTAL, pitCount);
             builder.humanReadableField(Fields.PIT_TIME_IN_MILLIS, Fields.PIT_TIME, getPitTime());
             builder.field(Fields.PIT_CURRENT, pitCurrent);
+            builder.humanReadableField(Fields.PIT_PINNED_SIZE_IN_BYTES, Fields.PIT_PINNED_SIZE, getPitPinnedSize());
 
             builder.field(Fields.SUGGEST_TOTAL, suggestCount);
             builder.humanReadableField(Fields.SUGGEST_TIME_IN_MILLIS, Fields.SUGGEST_TIME, getSuggestTime());
@@ -663,6 +727,21 @@ public class SearchStats implements Writeable, ToXContentFragment {
                     builder.field(Fields.TOTAL, statsLongHolder.total);
                     builder.endObject();
                 }
+
+                builder.startObject(Fields.CAN_MATCH_FIELD_SUMMARIES);
+                builder.field(Fields.SAVED_REQUESTS, requestStatsLongHolder.canMatchSavedRequests);
+                builder.field(Fields.PRUNED_SHARDS, requestStatsLongHolder.canMatchPrunedShards);
+                builder.endObject();
+
+                builder.startObject(Fields.HEDGED_SHARD_REQUESTS);
+                builder.field(Fields.ISSUED, requestStatsLongHolder.hedgedRequests);
+                builder.field(Fields.WON, requestStatsLongHolder.hedgedRequestsWon);
+                builder.endObject();
+
+                builder.startObject(Fields.MSEARCH_SHARED_EXECUTION);
+                builder.field(Fields.SHARED_REQUESTS, requestStatsLongHolder.multiSearchSharedRequests);
+                builder.field(Fields.SEPARATE_REQUESTS, requestStatsLongHolder.multiSearchSeparateRequests);
+                builder.endObject();
                 builder.endObject();
             }
             return builder;
@@ -693,6 +772,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long pitCount = 0;
             private long pitTimeInMillis = 0;
             private long pitCurrent = 0;
+            private long pitPinnedSizeInBytes = 0;
             private long searchIdleReactivateCount = 0;
             private long starTreeQueryCount = 0;
             private long starTreeQueryTimeInMillis = 0;
@@ -803,6 +883,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder pitPinnedSizeInBytes(long size) {
+                this.pitPinnedSizeInBytes = size;
+                return this;
+            }
+
             public Builder searchIdleReactivateCount(long count) {
                 this.searchIdleReactivateCount = count;
                 return this;
@@ -875,6 +960,13 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 )
             );
         }
+
+        totalStats.requestStatsLongHolder.canMatchSavedRequests = searchRequestStats.getCanMatchSavedRequests();
+        totalStats.requestStatsLongHolder.canMatchPrunedShards = searchRequestStats.getCanMatchPrunedShards();
+        totalStats.requestStatsLongHolder.hedgedRequests = searchRequestStats.getHedgedRequests();
+        totalStats.requestStatsLongHolder.hedgedRequestsWon = searchRequestStats.getHedgedRequestsWon();
+        totalStats.requestStatsLongHolder.multiSearchSharedRequests = searchRequestStats.getMultiSearchSharedRequests();
+        totalStats.requestStatsLongHolder.multiSearchSeparateRequests = searchRequestStats.getMultiSearchSeparateRequests();
     }
 
     public SearchStats(Stats totalStats, long openContexts, @Nullable Map<String, Stats> groupStats) {
@@ -994,6 +1086,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String PIT_TIME = "point_in_time_time";
         static final String PIT_TIME_IN_MILLIS = "point_in_time_time_in_millis";
         static final String PIT_CURRENT = "point_in_time_current";
+        static final String PIT_PINNED_SIZE = "point_in_time_pinned_size";
+        static final String PIT_PINNED_SIZE_IN_BYTES = "point_in_time_pinned_size_in_bytes";
         static final String SUGGEST_TOTAL = "suggest_total";
         static final String SUGGEST_TIME = "suggest_time";
         static final String SUGGEST_TIME_IN_MILLIS = "suggest_time_in_millis";
@@ -1005,6 +1099,15 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = "search_idle_reactivate_count_total";
         static final String TOOK = "took";
+        static final String CAN_MATCH_FIELD_SUMMARIES = "can_match_field_summaries";
+        static final String SAVED_REQUESTS = "saved_requests";
+        static final String PRUNED_SHARDS = "pruned_shards";
+        static final String HEDGED_SHARD_REQUESTS = "hedged_shard_requests";
+        static final String ISSUED = "issued";
+        static final String WON = "won";
+        static final String MSEARCH_SHARED_EXECUTION = "msearch_shared_execution";
+        static final String SHARED_REQUESTS = "shared_requests";
+        static final String SEPARATE_REQUESTS = "separate_requests";
 
     }
 
@@ -36,13 +36,19 @@ import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.search.internal.PitReaderContext;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryContext;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -58,6 +64,7 @@ public final class ShardSearchStats implements SearchOperationListener {
     private final StatsHolder totalStats = new StatsHolder();
     private final CounterMetric openContexts = new CounterMetric();
     private volatile Map<String, StatsHolder> groupsStats = emptyMap();
+    private final Set<PitReaderContext> pitContexts = ConcurrentCollections.newConcurrentSet();
 
     /**
      * Returns the stats, including group specific stats. If the groups are null/0 length, then nothing
@@ -65,18 +72,18 @@ public final class ShardSearchStats implements SearchOperationListener {
      * {@code _all} for all groups.
      */
     public SearchStats stats(String... groups) {
-        SearchStats.Stats total = totalStats.stats();
+        SearchStats.Stats total = totalStats.stats(pitPinnedSizeInBytes());
         Map<String, SearchStats.Stats> groupsSt = null;
         if (CollectionUtils.isEmpty(groups) == false) {
             groupsSt = new HashMap<>(groupsStats.size());
             if (groups.length == 1 && groups[0].equals("_all")) {
                 for (Map.Entry<String, StatsHolder> entry : groupsStats.entrySet()) {
-                    groupsSt.put(entry.getKey(), entry.getValue().stats());
+                    groupsSt.put(entry.getKey(), entry.getValue().stats(0));
                 }
             } else {
                 for (Map.Entry<String, StatsHolder> entry : groupsStats.entrySet()) {
                     if (Regex.simpleMatch(groups, entry.getKey())) {
-                        groupsSt.put(entry.getKey(), entry.getValue().stats());
+                        groupsSt.put(entry.getKey(), entry.getValue().stats(0));
                     }
                 }
             }
@@ -84,6 +91,28 @@ public final class ShardSearchStats implements SearchOperationListener {
         return new SearchStats(total, openContexts.count(), groupsSt);
     }
 
+    /**
+     * Returns the size of the segment files that the point in time contexts of the shard keep on disk. Files that several
+     * contexts share are counted once.
+     */
+    private long pitPinnedSizeInBytes() {
+        if (pitContexts.isEmpty()) {
+            return 0;
+        }
+        final Map<String, Long> files = new HashMap<>();
+        for (PitReaderContext pitContext : pitContexts) {
+            pitContext.collectPinnedFiles(files);
+        }
+        return files.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the number of query phases currently executing on the shard.
+     */
+    public long queryCurrent() {
+        return totalStats.queryCurrent.count();
+    }
+
     @Override
     public void onPreQueryPhase(SearchContext searchContext) {
         computeStats(searchContext, statsHolder -> {
@@ -94,7 +123,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 if (searchContext.shouldUseConcurrentSearch()) {
                     statsHolder.concurrentQueryCurrent.inc();
                 }
-                if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
+                if (isStarTreeQuery(searchContext)) {
                     statsHolder.starTreeCurrent.inc();
                 }
             }
@@ -115,7 +144,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                     statsHolder.concurrentQueryCurrent.dec();
                     assert statsHolder.concurrentQueryCurrent.count() >= 0;
                 }
-                if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
+                if (isStarTreeQuery(searchContext)) {
                     statsHolder.starTreeQueryFailed.inc();
                     statsHolder.starTreeCurrent.dec();
                     assert statsHolder.starTreeCurrent.count() >= 0;
@@ -142,7 +171,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                     assert searchContext.searcher().getSlices() != null;
                     statsHolder.queryConcurrencyMetric.inc(searchContext.searcher().getSlices().length);
                 }
-                if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
+                if (isStarTreeQuery(searchContext)) {
                     statsHolder.starTreeQueryMetric.inc(tookInNanos);
                     statsHolder.starTreeCurrent.dec();
                     assert statsHolder.starTreeCurrent.count() >= 0;
@@ -170,7 +199,23 @@ public final class ShardSearchStats implements SearchOperationListener {
         });
     }
 
-    private void computeStats(SearchContext searchContext, Consumer<StatsHolder> consumer) {
+    /**
+     * Whether the query uses the star tree, which a query with hybrid execution only does if the star tree can be used on at
+     * least one of the segments it searches.
+     */
+    private static boolean isStarTreeQuery(SearchContext searchContext) {
+        final StarTreeQueryContext starTreeQueryContext = searchContext.getQueryShardContext().getStarTreeQueryContext();
+        if (starTreeQueryContext == null) {
+            return false;
+        }
+        try {
+            return starTreeQueryContext.usesStarTree(searchContext.searcher().getIndexReader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+        private void computeStats(SearchContext searchContext, Consumer<StatsHolder> consumer) {
         consumer.accept(totalStats);
         if (searchContext.groupStats() != null) {
             for (String group : searchContext.groupStats()) {
@@ -218,12 +263,18 @@ public final class ShardSearchStats implements SearchOperationListener {
     @Override
     public void onNewPitContext(ReaderContext readerContext) {
         totalStats.pitCurrent.inc();
+        if (readerContext instanceof PitReaderContext pitReaderContext) {
+            pitContexts.add(pitReaderContext);
+        }
     }
 
     @Override
     public void onFreePitContext(ReaderContext readerContext) {
         totalStats.pitCurrent.dec();
         assert totalStats.pitCurrent.count() >= 0;
+        if (readerContext instanceof PitReaderContext pitReaderContext) {
+            pitContexts.remove(pitReaderContext);
+        }
         totalStats.pitMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
     }
 
@@ -264,7 +315,7 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric starTreeCurrent = new CounterMetric();
         final CounterMetric starTreeQueryFailed = new CounterMetric();
 
-        SearchStats.Stats stats() {
+        SearchStats.Stats stats(long pitPinnedSizeInBytes) {
             return new SearchStats.Stats.Builder().queryCount(queryMetric.count())
                 .queryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()))
                 .queryCurrent(queryCurrent.count())
@@ -282,6 +333,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .pitCount(pitMetric.count())
                 .pitTimeInMillis(TimeUnit.MICROSECONDS.toMillis(pitMetric.sum()))
                 .pitCurrent(pitCurrent.count())
+                .pitPinnedSizeInBytes(pitPinnedSizeInBytes)
                 .suggestCount(suggestMetric.count())
                 .suggestTimeInMillis(TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()))
                 .suggestCurrent(suggestCurrent.count())
@@ -106,6 +106,7 @@ import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AsyncIOProcessor;
 import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
 import org.opensearch.common.util.concurrent.FutureUtils;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.RunOnce;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.io.IOUtils;
@@ -130,6 +131,7 @@ import org.opensearch.index.cache.IndexCache;
 import org.opensearch.index.cache.bitset.ShardBitsetFilterCache;
 import org.opensearch.index.cache.request.ShardRequestCache;
 import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.engine.CommitSearcherSupplier;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.DataFormatAwareEngine;
 import org.opensearch.index.engine.DataFormatAwareReadOnlyEngine;
@@ -143,6 +145,7 @@ import org.opensearch.index.engine.IngestionEngine;
 import org.opensearch.index.engine.MergedSegmentWarmerFactory;
 import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.ReadOnlyEngine;
+import org.opensearch.index.engine.RemoteCommitReference;
 import org.opensearch.index.engine.RefreshFailedEngineException;
 import org.opensearch.index.engine.SafeCommitInfo;
 import org.opensearch.index.engine.Segment;
@@ -239,6 +242,7 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -267,6 +271,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -297,6 +302,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final Store store;
     private final InternalIndexingStats internalIndexingStats;
     private final ShardSearchStats searchStats = new ShardSearchStats();
+    private final ShardLatencyTracker latencyTracker;
     private final ShardGetService getService;
     private final ShardIndexWarmerService shardWarmerService;
     private final ShardRequestCache requestCacheStats;
@@ -346,6 +352,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RecoveryStats recoveryStats = new RecoveryStats();
     private final MeanMetric refreshMetric = new MeanMetric();
     private final MeanMetric externalRefreshMetric = new MeanMetric();
+    // the refresh count when the shard was last flushed for a point in time reader backed by a commit
+    private final AtomicLong commitSearcherRefreshes = new AtomicLong(-1);
     private final MeanMetric flushMetric = new MeanMetric();
     private final CounterMetric periodicFlushMetric = new CounterMetric();
 
@@ -390,6 +398,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory;
 
     private final List<ReferenceManager.RefreshListener> internalRefreshListener = new ArrayList<>();
+    private final List<LongConsumer> readerVersionListeners = new CopyOnWriteArrayList<>();
     private final RemoteStoreFileDownloader fileDownloader;
     private final RecoverySettings recoverySettings;
     private final RemoteStoreSettings remoteStoreSettings;
@@ -418,6 +427,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private static final long REPLICA_SYNC_POLL_INTERVAL_MS = 500;
 
+    // the folder of the shard data path under which the point in time readers over remote commits are opened
+    private static final String PIT_COMMITS_FOLDER_NAME = "pit";
+
     private final DataFormatRegistry dataFormatRegistry;
 
     private final Map<String, FormatChecksumStrategy> checksumStrategies;
@@ -490,13 +502,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats(threadPool);
+        this.latencyTracker = new ShardLatencyTracker(OpenSearchExecutors.allocatedProcessors(indexSettings.getNodeSettings()));
         final List<IndexingOperationListener> listenersList = new ArrayList<>(listeners);
         listenersList.add(internalIndexingStats);
+        listenersList.add(latencyTracker);
         this.indexingOperationListeners = new IndexingOperationListener.CompositeListener(listenersList, logger);
         this.globalCheckpointSyncer = globalCheckpointSyncer;
         this.retentionLeaseSyncer = Objects.requireNonNull(retentionLeaseSyncer);
         final List<SearchOperationListener> searchListenersList = new ArrayList<>(searchOperationListener);
         searchListenersList.add(searchStats);
+        searchListenersList.add(latencyTracker);
         this.searchOperationListener = new SearchOperationListener.CompositeListener(searchListenersList, logger);
         this.getService = new ShardGetService(indexSettings, this, mapperService);
         this.shardWarmerService = new ShardIndexWarmerService(shardId, indexSettings);
@@ -567,9 +582,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.checkpointPublisher = checkpointPublisher;
         this.remoteStore = remoteStore;
         this.translogFactorySupplier = translogFactorySupplier;
-        this.isTimeSeriesIndex = (mapperService == null || mapperService.documentMapper() == null)
-            ? false
-            : mapperService.documentMapper().mappers().containsTimeStampField();
+        this.isTimeSeriesIndex = mapperService != null && mapperService.containsTimeStampField();
         this.remoteStoreStatsTrackerFactory = remoteStoreStatsTrackerFactory;
         this.recoverySettings = recoverySettings;
         this.remoteStoreSettings = remoteStoreSettings;
@@ -1621,6 +1634,24 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return searchStats.stats(groups);
     }
 
+    /**
+     * Returns the number of query phases currently executing on this shard, for all coordinating nodes.
+     */
+    public long currentSearchQueries() {
+        return searchStats.queryCurrent();
+    }
+
+    /**
+     * Returns the hit ratio of the request cache of this shard, or {@code -1} if it was never looked up.
+     */
+    public double requestCacheHitRatio() {
+        return requestCacheStats.hitRatio();
+    }
+
+    public LatencyStats latencyStats() {
+        return latencyTracker.stats();
+    }
+
     public GetStats getStats() {
         return getService.stats();
     }
@@ -1771,7 +1802,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         verifyNotClosed();
         final long time = System.nanoTime();
         getIndexer().flush(force, waitIfOngoing);
-        flushMetric.inc(System.nanoTime() - time);
+        final long took = System.nanoTime() - time;
+        flushMetric.inc(took);
+        latencyTracker.onFlush(took);
     }
 
     /**
@@ -2481,6 +2514,56 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return applyOnEngine(engine, eng -> eng.acquireSearcherSupplier(this::wrapSearcher, scope));
     }
 
+    /**
+     * Acquires a point-in-time reader backed by an index commit, see {@link CommitSearcherSupplier}. The shard is flushed
+     * first so that the commit holds all the operations that are visible to searches, unless it was flushed for a point in
+     * time reader already since its last refresh. If the shard has a remote segment store, the commit can be moved there.
+     */
+    public CommitSearcherSupplier acquireCommitSearcherSupplier() {
+        readAllowed();
+        markSearcherAccessed();
+        final long refreshes = refreshMetric.count();
+        final boolean flush = commitSearcherRefreshes.get() != refreshes;
+        final GatedCloseable<IndexCommit> commit = acquireLastIndexCommit(flush);
+        if (flush) {
+            // the flush may refresh, the commit holds everything that was refreshed until now
+            commitSearcherRefreshes.set(refreshMetric.count());
+        }
+        final CheckedFunction<IndexCommit, RemoteCommitReference, IOException> remoteCommitLocker;
+        if (indexSettings.isRemoteStoreEnabled()) {
+            final long primaryTerm = getOperationPrimaryTerm();
+            final Path rehydrationPath = shardPath().getDataPath().resolve(PIT_COMMITS_FOLDER_NAME);
+            remoteCommitLocker = indexCommit -> RemoteCommitReference.lock(
+                getRemoteDirectory(),
+                store.directory(),
+                rehydrationPath,
+                primaryTerm,
+                indexCommit
+            );
+        } else {
+            remoteCommitLocker = null;
+        }
+        boolean success = false;
+        try {
+            final CommitSearcherSupplier searcherSupplier = new CommitSearcherSupplier(
+                shardId,
+                store,
+                commit,
+                similarityService.similarity(mapperService),
+                indexCache != null ? indexCache.query() : null,
+                cachingPolicy,
+                this::wrapSearcher,
+                remoteCommitLocker
+            );
+            success = true;
+            return searcherSupplier;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(commit);
+            }
+        }
+    }
+
     public Engine.Searcher acquireSearcher(String source) {
         return acquireSearcher(source, Engine.SearcherScope.EXTERNAL);
     }
@@ -3162,6 +3245,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         getIndexer().translogManager().skipTranslogRecovery();
     }
 
+    /**
+     * Deletes the readers that compact point in time contexts opened over commits of the remote segment store, which are left
+     * behind if the node stopped while such contexts were open. No context is open while the shard recovers.
+     */
+    private void deletePitCommits() throws IOException {
+        IOUtils.rm(shardPath().getDataPath().resolve(PIT_COMMITS_FOLDER_NAME));
+    }
+
     private void innerOpenEngineAndTranslog(LongSupplier globalCheckpointSupplier) throws IOException {
         innerOpenEngineAndTranslog(globalCheckpointSupplier, true);
     }
@@ -3186,6 +3277,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         synchronized (engineMutex) {
             assert currentEngineReference.get() == null : "engine is running";
             verifyNotClosed();
+            deletePitCommits();
             if (indexSettings.isRemoteStoreEnabled() || this.isRemoteSeeded()) {
                 // Download missing segments from remote segment store.
                 if (syncFromRemote) {
@@ -4660,6 +4752,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 }
             }
         }
+
+        @Override
+        public void onMergeCompleted(long tookInNanos) {
+            latencyTracker.onMerge(tookInNanos);
+        }
     }
 
     private static void persistMetadata(
@@ -4715,7 +4812,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         };
 
         internalRefreshListener.clear();
-        internalRefreshListener.add(new RefreshMetricUpdater(refreshMetric));
+        internalRefreshListener.add(new RefreshMetricUpdater(refreshMetric, latencyTracker));
         if (indexSettings.isSegRepEnabledOrRemoteNode()) {
             internalRefreshListener.add(new ReplicationCheckpointUpdater());
         }
@@ -4751,6 +4848,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             });
         }
 
+        if (indexSettings.isPluggableDataFormatEnabled() == false) {
+            internalRefreshListener.add(new ReaderVersionNotifier());
+        }
+
         if (isRemoteStoreEnabled() || isMigratingToRemote()) {
             internalRefreshListener.add(
                 new RemoteStoreRefreshListener(
@@ -5564,6 +5665,45 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Add a listener notified with the version of the new reader after each refresh that opened one. The listener runs on the
+     * refreshing thread before the refreshed reader becomes visible to searches.
+     */
+    public void addReaderVersionListener(LongConsumer listener) {
+        readerVersionListeners.add(listener);
+    }
+
+    /**
+     * Notifies the {@link #addReaderVersionListener(LongConsumer) reader version listeners} of the internal refreshes
+     *
+     * @opensearch.internal
+     */
+    private class ReaderVersionNotifier implements ReferenceManager.RefreshListener {
+        @Override
+        public void beforeRefresh() {}
+
+        @Override
+        public void afterRefresh(boolean didRefresh) {
+            if (didRefresh == false || readerVersionListeners.isEmpty()) {
+                return;
+            }
+            final long version;
+            try (
+                Engine.Searcher searcher = applyOnEngine(
+                    getIndexer(),
+                    engine -> engine.acquireSearcher("reader_version", Engine.SearcherScope.INTERNAL)
+                )
+            ) {
+                version = searcher.getDirectoryReader().getVersion();
+            } catch (AlreadyClosedException | IllegalIndexShardStateException e) {
+                return;
+            }
+            for (LongConsumer listener : readerVersionListeners) {
+                listener.accept(version);
+            }
+        }
+    }
+
     /**
      * Metrics updater for a refresh
      *
@@ -5572,11 +5712,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private static class RefreshMetricUpdater implements ReferenceManager.RefreshListener {
 
         private final MeanMetric refreshMetric;
+        private final ShardLatencyTracker latencyTracker;
         private long currentRefreshStartTime;
         private Thread callingThread = null;
 
-        private RefreshMetricUpdater(MeanMetric refreshMetric) {
+        private RefreshMetricUpdater(MeanMetric refreshMetric, ShardLatencyTracker latencyTracker) {
             this.refreshMetric = refreshMetric;
+            this.latencyTracker = latencyTracker;
         }
 
         @Override
@@ -5601,7 +5743,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     + "]";
                 callingThread = null;
             }
-            refreshMetric.inc(System.nanoTime() - currentRefreshStartTime);
+            final long took = System.nanoTime() - currentRefreshStartTime;
+            refreshMetric.inc(took);
+            latencyTracker.onRefresh(took);
         }
     }
 
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.HdrHistogram.Histogram;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.metrics.LatencyHistogramMetric;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+
+/**
+ * Latency distributions of the hot path operations of a shard, in microseconds. The histograms are sent over the wire
+ * and merged, so percentiles of indices and nodes are exact percentiles over all of their shards.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class LatencyStats implements Writeable, ToXContentFragment {
+
+    static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+    /**
+     * The operations whose latency is tracked
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public enum Operation {
+        QUERY,
+        FETCH,
+        INDEX,
+        REFRESH,
+        FLUSH,
+        MERGE;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // operations without any recorded latency are left out
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+
+    public LatencyStats() {}
+
+    public LatencyStats(StreamInput in) throws IOException {
+        final int size = in.readVInt();
+        for (int i = 0; i < size; i++) {
+            final Operation operation = in.readEnum(Operation.class);
+            final int serializedLen = in.readVInt();
+            final byte[] bytes = new byte[serializedLen];
+            in.readBytes(bytes, 0, serializedLen);
+            try {
+                histograms.put(
+                    operation,
+                    Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), LatencyHistogramMetric.HIGHEST_TRACKABLE_MICROS)
+                );
+            } catch (DataFormatException e) {
+                throw new IOException("Failed to decode latency histogram of [" + operation.getName() + "]", e);
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(histograms.size());
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            out.writeEnum(entry.getKey());
+            final Histogram histogram = entry.getValue();
+            final ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            final int serializedLen = histogram.encodeIntoCompressedByteBuffer(buffer);
+            out.writeVInt(serializedLen);
+            out.writeBytes(buffer.array(), 0, serializedLen);
+        }
+    }
+
+    /**
+     * Adds a snapshot of a {@link LatencyHistogramMetric}, which may be {@code null} if nothing has been recorded. The
+     * snapshot is kept rather than copied, so the caller must not use it afterwards.
+     */
+    void add(Operation operation, Histogram snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        final Histogram histogram = histograms.putIfAbsent(operation, snapshot);
+        if (histogram != null) {
+            histogram.add(snapshot);
+        }
+    }
+
+    public void add(LatencyStats latencyStats) {
+        if (latencyStats == null) {
+            return;
+        }
+        for (Map.Entry<Operation, Histogram> entry : latencyStats.histograms.entrySet()) {
+            final Histogram histogram = histograms.get(entry.getKey());
+            if (histogram == null) {
+                histograms.put(entry.getKey(), entry.getValue().copy());
+            } else {
+                histogram.add(entry.getValue());
+            }
+        }
+    }
+
+    public void addTotals(LatencyStats latencyStats) {
+        add(latencyStats);
+    }
+
+    public long getCount(Operation operation) {
+        final Histogram histogram = histograms.get(operation);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    /**
+     * Returns the latency at the given percentile in microseconds, or {@code 0} if nothing has been recorded.
+     */
+    public long getValueAtPercentile(Operation operation, double percentile) {
+        final Histogram histogram = histograms.get(operation);
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile);
+    }
+
+    public long getMax(Operation operation) {
+        final Histogram histogram = histograms.get(operation);
+        return histogram == null ? 0 : histogram.getMaxValue();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.LATENCY);
+        for (Operation operation : Operation.values()) {
+            builder.startObject(operation.getName());
+            builder.field(Fields.COUNT, getCount(operation));
+            builder.startObject(Fields.PERCENTILES_IN_MICROS);
+            for (double percentile : PERCENTILES) {
+                builder.field(String.valueOf(percentile), getValueAtPercentile(operation, percentile));
+            }
+            builder.endObject();
+            builder.field(Fields.MAX_IN_MICROS, getMax(operation));
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return histograms.equals(((LatencyStats) o).histograms);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(histograms);
+    }
+
+    /**
+     * Fields for latency statistics
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String LATENCY = "latency";
+        static final String COUNT = "count";
+        static final String PERCENTILES_IN_MICROS = "percentiles_in_micros";
+        static final String MAX_IN_MICROS = "max_in_micros";
+    }
+}
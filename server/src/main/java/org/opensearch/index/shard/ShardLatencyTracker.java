@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.metrics.LatencyHistogramMetric;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.LatencyStats.Operation;
+import org.opensearch.search.internal.SearchContext;
+
+/**
+ * Always-on latency histograms of the hot path operations of a shard. Search and indexing operations are recorded as
+ * a listener, refreshes, flushes and merges are recorded by the shard itself. The histograms of operations that run
+ * on many threads at once are striped by the given concurrency.
+ *
+ * @opensearch.internal
+ */
+final class ShardLatencyTracker implements SearchOperationListener, IndexingOperationListener {
+
+    private final LatencyHistogramMetric queryMetric;
+    private final LatencyHistogramMetric fetchMetric;
+    private final LatencyHistogramMetric indexMetric;
+    private final LatencyHistogramMetric refreshMetric = new LatencyHistogramMetric();
+    private final LatencyHistogramMetric flushMetric = new LatencyHistogramMetric();
+    private final LatencyHistogramMetric mergeMetric = new LatencyHistogramMetric();
+
+    ShardLatencyTracker(int concurrency) {
+        this.queryMetric = new LatencyHistogramMetric(concurrency);
+        this.fetchMetric = new LatencyHistogramMetric(concurrency);
+        this.indexMetric = new LatencyHistogramMetric(concurrency);
+    }
+
+    @Override
+    public void onQueryPhase(SearchContext searchContext, long tookInNanos) {
+        if (searchContext.hasOnlySuggest() == false) {
+            queryMetric.inc(tookInNanos);
+        }
+    }
+
+    @Override
+    public void onFetchPhase(SearchContext searchContext, long tookInNanos) {
+        fetchMetric.inc(tookInNanos);
+    }
+
+    @Override
+    public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
+        if (result.getResultType() == Engine.Result.Type.SUCCESS && index.origin().isRecovery() == false) {
+            indexMetric.inc(result.getTook());
+        }
+    }
+
+    void onRefresh(long tookInNanos) {
+        refreshMetric.inc(tookInNanos);
+    }
+
+    void onFlush(long tookInNanos) {
+        flushMetric.inc(tookInNanos);
+    }
+
+    void onMerge(long tookInNanos) {
+        mergeMetric.inc(tookInNanos);
+    }
+
+    LatencyStats stats() {
+        final LatencyStats stats = new LatencyStats();
+        stats.add(Operation.QUERY, queryMetric.snapshot());
+        stats.add(Operation.FETCH, fetchMetric.snapshot());
+        stats.add(Operation.INDEX, indexMetric.snapshot());
+        stats.add(Operation.REFRESH, refreshMetric.snapshot());
+        stats.add(Operation.FLUSH, flushMetric.snapshot());
+        stats.add(Operation.MERGE, mergeMetric.snapshot());
+        return stats;
+    }
+}
@@ -588,6 +588,51 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
         }
     }
 
+    /**
+     * Opens a stream for reading the given uploaded file, which does not need to be part of the latest metadata. The file must
+     * belong to a commit that is locked, see {@link #acquireLock(long, long, String)}, so that it is not deleted meanwhile.
+     */
+    public IndexInput openInput(UploadedSegmentMetadata uploadedSegment, IOContext context) throws IOException {
+        return remoteDataDirectory.openInput(uploadedSegment.getUploadedFilename(), uploadedSegment.getLength(), context);
+    }
+
+    /**
+     * Locks the metadata file of the given commit generation whose segment infos have the given version, among the metadata files
+     * that were uploaded for this generation. Unlike {@link #acquireLock(long, long, String)}, this locks the metadata file of
+     * exactly the given point in time even if later refreshes uploaded newer metadata files for the same generation.
+     *
+     * @return the name of the locked metadata file, or null if no metadata file was uploaded for this point in time
+     * @throws IOException in case i) listing or reading the metadata files failed or ii) writing the lock file failed.
+     */
+    public String acquireLock(long primaryTerm, long generation, long segmentInfosVersion, String acquirerId) throws IOException {
+        final List<String> metadataFiles = remoteMetadataDirectory.listFilesByPrefixInLexicographicOrder(
+            MetadataFilenameUtils.getMetadataFilePrefixForCommit(primaryTerm, generation),
+            Integer.MAX_VALUE
+        );
+        for (String metadataFile : metadataFiles) {
+            final RemoteSegmentMetadata metadata = readMetadataFile(metadataFile);
+            if (metadata.getReplicationCheckpoint().getSegmentInfosVersion() == segmentInfosVersion) {
+                mdLockManager.acquire(FileLockInfo.getLockInfoBuilder().withFileToLock(metadataFile).withAcquirerId(acquirerId).build());
+                return metadataFile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Releases a lock which was acquired with {@link #acquireLock(long, long, long, String)}.
+     */
+    public void releaseLock(String metadataFile, String acquirerId) throws IOException {
+        mdLockManager.release(FileLockInfo.getLockInfoBuilder().withFileToLock(metadataFile).withAcquirerId(acquirerId).build());
+    }
+
+    /**
+     * Reads the given metadata file, which should be locked so that it is not deleted meanwhile.
+     */
+    public RemoteSegmentMetadata readLockedMetadataFile(String metadataFile) throws IOException {
+        return readMetadataFile(metadataFile);
+    }
+
     /**
      * Opens a stream for reading one block from the existing file and returns {@link RemoteIndexInput} enclosing
      * the block stream.
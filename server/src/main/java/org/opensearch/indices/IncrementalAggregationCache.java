@@ -0,0 +1,574 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Rounding;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the closed buckets of date histograms, bucket by bucket, for the requests that filter on a range of the histogram field
+ * that moves forward as time passes, like the requests of dashboards that show the last minutes of a time series. The
+ * {@link IndicesRequestCache} cannot cache such requests when the range is relative to {@code now}, and never sees the same
+ * range twice otherwise.
+ * <p>
+ * Such a request is split in two: the buckets that are entirely within its range, which are closed, and the remainder of the
+ * range. The partial result of each closed bucket is cached on its own, keyed by the request with the range left out, so that it
+ * is reused as the range moves forward. A cached bucket stays valid while the segments it was computed from are unchanged, and
+ * the segments that were added since have no value of the field within the bucket, so that a refresh only recomputes the buckets
+ * that received documents. The closed buckets that are not cached are computed at once, then the remainder of the range is
+ * computed and merged with them like a partial reduce would.
+ *
+ * @opensearch.internal
+ */
+public final class IncrementalAggregationCache
+    implements
+        RemovalListener<IncrementalAggregationCache.Key, IncrementalAggregationCache.Entry>,
+        Closeable {
+
+    public static final Setting<Boolean> INDICES_REQUEST_CACHE_INCREMENTAL_ENABLED_SETTING = Setting.boolSetting(
+        "indices.requests.cache.incremental.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<ByteSizeValue> INDICES_REQUEST_CACHE_INCREMENTAL_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.requests.cache.incremental.size",
+        "1%",
+        Property.NodeScope
+    );
+    public static final Setting<TimeValue> INDICES_REQUEST_CACHE_INCREMENTAL_EXPIRE_SETTING = Setting.positiveTimeSetting(
+        "indices.requests.cache.incremental.expire",
+        TimeValue.timeValueMinutes(30),
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of closed buckets of a request, requests with more buckets are not cached
+     */
+    static final int MAX_CLOSED_BUCKETS = 1000;
+
+    private static final String EPOCH_MILLIS_FORMAT = "epoch_millis";
+    private static final long BASE_KEY_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+    private static final long BASE_ENTRY_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Entry.class);
+
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Cache<Key, Entry> cache;
+    private volatile boolean enabled;
+
+    public IncrementalAggregationCache(Settings settings, ClusterSettings clusterSettings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.enabled = INDICES_REQUEST_CACHE_INCREMENTAL_ENABLED_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_REQUEST_CACHE_INCREMENTAL_ENABLED_SETTING, this::setEnabled);
+        final long sizeInBytes = INDICES_REQUEST_CACHE_INCREMENTAL_SIZE_SETTING.get(settings).getBytes();
+        final CacheBuilder<Key, Entry> cacheBuilder = CacheBuilder.<Key, Entry>builder()
+            .setExpireAfterAccess(INDICES_REQUEST_CACHE_INCREMENTAL_EXPIRE_SETTING.get(settings))
+            .removalListener(this);
+        if (sizeInBytes > 0) {
+            cacheBuilder.setMaximumWeight(sizeInBytes).weigher((key, entry) -> key.ramBytesUsed() + entry.ramBytesUsed());
+        }
+        this.cache = cacheBuilder.build();
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns how to split the given request into its closed buckets and the remainder of its range, or {@code null} if the
+     * request cannot be split. The request must have been parsed into the given context already.
+     */
+    @Nullable
+    public Plan plan(ShardSearchRequest request, SearchContext context) throws IOException {
+        if (enabled == false) {
+            return null;
+        }
+        final DirectoryReader reader = context.searcher().getDirectoryReader();
+        // the reader of a scroll or a point in time does not move forward, so its buckets are never reused
+        if (request.scroll() != null
+            || request.readerId() != null
+            || context.isStreamSearch()
+            || context.searchType() != SearchType.QUERY_THEN_FETCH
+            || reader.getReaderCacheHelper() instanceof OpenSearchDirectoryReader.DelegatingCacheHelper == false) {
+            return null;
+        }
+        final SearchSourceBuilder source = request.source();
+        if (source == null
+            || source.profile()
+            || source.size() != 0
+            || source.query() == null
+            || source.postFilter() != null
+            || source.suggest() != null
+            || source.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || source.aggregations() == null) {
+            return null;
+        }
+        if (request.requestCache() == null
+            ? context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false
+            : request.requestCache() == false) {
+            return null;
+        }
+        final AggregatorFactories.Builder aggregations = source.aggregations();
+        if (aggregations.getAggregatorFactories().size() != 1 || aggregations.getPipelineAggregatorFactories().isEmpty() == false) {
+            return null;
+        }
+        final AggregationBuilder aggregation = aggregations.getAggregatorFactories().iterator().next();
+        if ((aggregation instanceof DateHistogramAggregationBuilder histogram) == false
+            || histogram.field() == null
+            || histogram.script() != null
+            || histogram.hardBounds() != null) {
+            return null;
+        }
+        final RangeQueryBuilder range = findRange(source.query(), histogram.field());
+        if (range == null || range.from() == null) {
+            return null;
+        }
+        final MappedFieldType fieldType = context.getQueryShardContext().fieldMapper(histogram.field());
+        if ((fieldType instanceof DateFieldMapper.DateFieldType dateFieldType) == false
+            || dateFieldType.resolution() != DateFieldMapper.Resolution.MILLISECONDS
+            || dateFieldType.isSearchable() == false
+            || dateFieldType.hasDocValues() == false) {
+            return null;
+        }
+
+        final long from;
+        final long to;
+        final LongSupplier nowInMillis = request::nowInMillis;
+        try {
+            final ZoneId timeZone = range.timeZone() == null ? null : ZoneId.of(range.timeZone());
+            final DateMathParser parser = range.format() == null ? null : DateFormatter.forPattern(range.format()).toDateMathParser();
+            from = dateFieldType.parseToLong(range.from(), range.includeLower() == false, timeZone, parser, nowInMillis)
+                + (range.includeLower() ? 0 : 1);
+            to = range.to() == null
+                ? request.nowInMillis()
+                : dateFieldType.parseToLong(range.to(), range.includeUpper(), timeZone, parser, nowInMillis)
+                    - (range.includeUpper() ? 0 : 1);
+        } catch (OpenSearchParseException | IllegalArgumentException e) {
+            // the query phase reports the error
+            return null;
+        }
+        if (to == Long.MAX_VALUE) {
+            return null;
+        }
+
+        final Rounding.Prepared rounding = histogram.rounding().prepareForUnknown();
+        final long end = rounding.round(to + 1);
+        long bucketKey = rounding.round(from);
+        if (bucketKey < from) {
+            bucketKey = rounding.nextRoundingValue(bucketKey);
+        }
+        final List<Long> bucketKeys = new ArrayList<>();
+        while (bucketKey < end) {
+            if (bucketKeys.size() == MAX_CLOSED_BUCKETS) {
+                return null;
+            }
+            bucketKeys.add(bucketKey);
+            bucketKey = rounding.nextRoundingValue(bucketKey);
+        }
+        if (bucketKeys.isEmpty()) {
+            return null;
+        }
+        return new Plan(request, context.indexShard(), histogram, range, bucketKeys.stream().mapToLong(Long::longValue).toArray(), end);
+    }
+
+    /**
+     * Returns the range on the given field that the documents matching the query must be in, if any
+     */
+    @Nullable
+    static RangeQueryBuilder findRange(QueryBuilder query, String field) {
+        if (query instanceof RangeQueryBuilder range) {
+            return field.equals(range.fieldName()) ? range : null;
+        }
+        if (query instanceof BoolQueryBuilder bool) {
+            RangeQueryBuilder found = null;
+            for (List<QueryBuilder> clauses : List.of(bool.must(), bool.filter())) {
+                for (QueryBuilder clause : clauses) {
+                    if (clause instanceof RangeQueryBuilder range && field.equals(range.fieldName())) {
+                        if (found != null) {
+                            return null;
+                        }
+                        found = range;
+                    }
+                }
+            }
+            return found;
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the closed buckets of the plan in the cache. The cached buckets that are still valid for the given reader are
+     * returned, except the ones that lie between two buckets that have to be computed, since all the buckets that have to be
+     * computed are computed at once.
+     */
+    public Lookup lookup(Plan plan, DirectoryReader reader) throws IOException {
+        final ShardRequestCache stats = plan.indexShard.requestCache();
+        final Map<LeafKey, LeafReader> leaves = leaves(reader);
+        final Entry[] entries = new Entry[plan.bucketKeys.length];
+        int firstMissing = -1;
+        int lastMissing = -1;
+        for (int i = 0; i < entries.length; i++) {
+            final Entry entry = cache.get(new Key(plan, plan.bucketKeys[i]));
+            if (entry != null && isValid(entry, leaves, plan.range.fieldName(), plan.bucketKeys[i], plan.bucketEnd(i))) {
+                entries[i] = entry;
+            } else {
+                firstMissing = firstMissing == -1 ? i : firstMissing;
+                lastMissing = i;
+            }
+        }
+        final List<CachedBucket> cachedBuckets = new ArrayList<>();
+        for (int i = 0; i < entries.length; i++) {
+            if (firstMissing != -1 && i >= firstMissing && i <= lastMissing) {
+                stats.onIncrementalMiss();
+            } else {
+                stats.onIncrementalHit(entries[i].tookInNanos);
+                cachedBuckets.add(new CachedBucket(readAggregations(entries[i].value), entries[i].docCount));
+            }
+        }
+        return new Lookup(cachedBuckets, firstMissing, lastMissing);
+    }
+
+    /**
+     * Caches the given partial result of the closed buckets of the plan from {@code fromIndex} to {@code toIndex}, inclusive,
+     * that was computed on the given reader in {@code tookInNanos}. The buckets are only cached if each document has at most one
+     * value of the histogram field, since the number of documents of the closed buckets is then the sum of their doc counts.
+     */
+    public void put(Plan plan, DirectoryReader reader, int fromIndex, int toIndex, InternalAggregations aggregations, long tookInNanos)
+        throws IOException {
+        final Map<LeafKey, LeafReader> leaves = leaves(reader);
+        if (isSingleValued(leaves.values(), plan.range.fieldName()) == false) {
+            return;
+        }
+        final InternalDateHistogram histogram = (InternalDateHistogram) aggregations.get(plan.histogram.getName());
+        final Map<Long, InternalDateHistogram.Bucket> buckets = new HashMap<>();
+        for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+            buckets.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), bucket);
+        }
+        final Set<LeafKey> leafKeys = Set.copyOf(leaves.keySet());
+        final long tookPerBucketInNanos = tookInNanos / (toIndex - fromIndex + 1);
+        final ShardRequestCache stats = plan.indexShard.requestCache();
+        for (int i = fromIndex; i <= toIndex; i++) {
+            final InternalDateHistogram.Bucket bucket = buckets.get(plan.bucketKeys[i]);
+            final InternalAggregation single = histogram.create(bucket == null ? List.of() : List.of(bucket));
+            final BytesReference value;
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                InternalAggregations.from(List.of(single)).writeTo(out);
+                value = out.copyBytes();
+            }
+            final Key key = new Key(plan, plan.bucketKeys[i]);
+            final Entry entry = new Entry(leafKeys, value, bucket == null ? 0 : bucket.getDocCount(), tookPerBucketInNanos, stats);
+            stats.onCached(key.ramBytesUsed(), value);
+            cache.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the cached buckets of the given shard
+     */
+    public void clear(IndexShard indexShard) {
+        final int indexShardHashCode = System.identityHashCode(indexShard);
+        for (Key key : cache.keys()) {
+            if (key.shardId.equals(indexShard.shardId()) && key.indexShardHashCode == indexShardHashCode) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Entry> notification) {
+        final Entry entry = notification.getValue();
+        entry.stats.onRemoval(notification.getKey().ramBytesUsed(), entry.value, notification.getRemovalReason() == RemovalReason.EVICTED);
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    private InternalAggregations readAggregations(BytesReference value) throws IOException {
+        try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+            return InternalAggregations.readFrom(in);
+        }
+    }
+
+    /**
+     * Whether a cached bucket is still valid: the segments it was computed from must still be there, with the same live
+     * documents, and the segments that were added since must not have values of the field within the bucket.
+     */
+    static boolean isValid(Entry entry, Map<LeafKey, LeafReader> leaves, String field, long from, long to) throws IOException {
+        if (leaves.keySet().containsAll(entry.leaves) == false) {
+            return false;
+        }
+        for (Map.Entry<LeafKey, LeafReader> leaf : leaves.entrySet()) {
+            if (entry.leaves.contains(leaf.getKey())) {
+                continue;
+            }
+            final PointValues points = leaf.getValue().getPointValues(field);
+            if (points != null
+                && LongPoint.decodeDimension(points.getMaxPackedValue(), 0) >= from
+                && LongPoint.decodeDimension(points.getMinPackedValue(), 0) < to) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Map<LeafKey, LeafReader> leaves(DirectoryReader reader) {
+        final Map<LeafKey, LeafReader> leaves = new HashMap<>();
+        for (LeafReaderContext leaf : reader.leaves()) {
+            final IndexReader.CacheHelper coreCacheHelper = FilterLeafReader.unwrap(leaf.reader()).getCoreCacheHelper();
+            leaves.put(new LeafKey(coreCacheHelper.getKey(), leaf.reader().numDocs()), leaf.reader());
+        }
+        return leaves;
+    }
+
+    private static boolean isSingleValued(Collection<LeafReader> leaves, String field) throws IOException {
+        for (LeafReader leaf : leaves) {
+            if (DocValues.unwrapSingleton(DocValues.getSortedNumeric(leaf, field)) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * How a request is split into its closed buckets and the remainder of its range
+     *
+     * @opensearch.internal
+     */
+    public static final class Plan {
+        private final ShardSearchRequest request;
+        private final IndexShard indexShard;
+        private final DateHistogramAggregationBuilder histogram;
+        private final RangeQueryBuilder range;
+        private final long[] bucketKeys;
+        private final long end;
+        private final BytesReference shapeKey;
+
+        Plan(
+            ShardSearchRequest request,
+            IndexShard indexShard,
+            DateHistogramAggregationBuilder histogram,
+            RangeQueryBuilder range,
+            long[] bucketKeys,
+            long end
+        ) throws IOException {
+            this.request = request;
+            this.indexShard = indexShard;
+            this.histogram = histogram;
+            this.range = range;
+            this.bucketKeys = bucketKeys;
+            this.end = end;
+            // the closed buckets depend neither on the bounds of the range nor on the extended bounds of the histogram, so requests
+            // over different ranges share them
+            this.shapeKey = closedRequest(replaceRange(new RangeQueryBuilder(range.fieldName()))).cacheKey();
+        }
+
+        public int numberOfBuckets() {
+            return bucketKeys.length;
+        }
+
+        public long bucketKey(int index) {
+            return bucketKeys[index];
+        }
+
+        public long bucketEnd(int index) {
+            return index + 1 < bucketKeys.length ? bucketKeys[index + 1] : end;
+        }
+
+        /**
+         * The request for the documents of the closed buckets from {@code fromIndex} to {@code toIndex}, inclusive
+         */
+        public ShardSearchRequest closedRequest(int fromIndex, int toIndex) {
+            return closedRequest(replaceRange(closedRange(bucketKey(fromIndex), bucketEnd(toIndex))));
+        }
+
+        /**
+         * The request for the documents that are not in any closed bucket
+         */
+        public ShardSearchRequest remainderRequest() {
+            final QueryBuilder query = new BoolQueryBuilder().must(request.source().query()).mustNot(closedRange(bucketKeys[0], end));
+            final ShardSearchRequest copy = new ShardSearchRequest(request);
+            copy.source(request.source().shallowCopy().query(query));
+            return copy;
+        }
+
+        private RangeQueryBuilder closedRange(long from, long to) {
+            return new RangeQueryBuilder(range.fieldName()).from(from, true).to(to, false).format(EPOCH_MILLIS_FORMAT).boost(range.boost());
+        }
+
+        private QueryBuilder replaceRange(RangeQueryBuilder replacement) {
+            final QueryBuilder query = request.source().query();
+            if (query == range) {
+                return replacement;
+            }
+            final BoolQueryBuilder bool = (BoolQueryBuilder) query;
+            final BoolQueryBuilder copy = new BoolQueryBuilder().minimumShouldMatch(bool.minimumShouldMatch())
+                .adjustPureNegative(bool.adjustPureNegative())
+                .boost(bool.boost())
+                .queryName(bool.queryName());
+            bool.must().forEach(clause -> copy.must(clause == range ? replacement : clause));
+            bool.filter().forEach(clause -> copy.filter(clause == range ? replacement : clause));
+            bool.mustNot().forEach(copy::mustNot);
+            bool.should().forEach(copy::should);
+            return copy;
+        }
+
+        private ShardSearchRequest closedRequest(QueryBuilder query) {
+            final ShardSearchRequest copy = new ShardSearchRequest(request);
+            copy.source(
+                request.source()
+                    .shallowCopy()
+                    .query(query)
+                    .aggregations(new AggregatorFactories.Builder().addAggregator(histogram.withoutExtendedBounds()))
+            );
+            return copy;
+        }
+    }
+
+    /**
+     * The result of looking up the closed buckets of a plan: the cached buckets that can be used, and the closed buckets that
+     * have to be computed, from {@link #firstMissing()} to {@link #lastMissing()}, inclusive, or none if they are {@code -1}.
+     *
+     * @opensearch.internal
+     */
+    public record Lookup(List<CachedBucket> cachedBuckets, int firstMissing, int lastMissing) {}
+
+    /**
+     * The partial result of a closed bucket and its number of documents
+     *
+     * @opensearch.internal
+     */
+    public record CachedBucket(InternalAggregations aggregations, long docCount) {}
+
+    /**
+     * A segment, with the number of its live documents since deletes do not change its core
+     */
+    record LeafKey(IndexReader.CacheKey coreKey, int numDocs) {}
+
+    static final class Key {
+        private final ShardId shardId;
+        private final int indexShardHashCode;
+        private final BytesReference shapeKey;
+        private final long bucketKey;
+
+        Key(Plan plan, long bucketKey) {
+            this.shardId = plan.indexShard.shardId();
+            this.indexShardHashCode = System.identityHashCode(plan.indexShard);
+            this.shapeKey = plan.shapeKey;
+            this.bucketKey = bucketKey;
+        }
+
+        long ramBytesUsed() {
+            return BASE_KEY_RAM_BYTES_USED + shapeKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return indexShardHashCode == key.indexShardHashCode
+                && bucketKey == key.bucketKey
+                && shardId.equals(key.shardId)
+                && shapeKey.equals(key.shapeKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shardId.hashCode();
+            result = 31 * result + indexShardHashCode;
+            result = 31 * result + shapeKey.hashCode();
+            result = 31 * result + Long.hashCode(bucketKey);
+            return result;
+        }
+    }
+
+    static final class Entry {
+        private final Set<LeafKey> leaves;
+        private final BytesReference value;
+        private final long docCount;
+        private final long tookInNanos;
+        private final ShardRequestCache stats;
+
+        Entry(Set<LeafKey> leaves, BytesReference value, long docCount, long tookInNanos, ShardRequestCache stats) {
+            this.leaves = leaves;
+            this.value = value;
+            this.docCount = docCount;
+            this.tookInNanos = tookInNanos;
+            this.stats = stats;
+        }
+
+        long ramBytesUsed() {
+            return BASE_ENTRY_RAM_BYTES_USED + value.ramBytesUsed();
+        }
+    }
+}
@@ -132,7 +132,9 @@ import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.LazyMappingStats;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MappingSourceCache;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.BaseQueryRewriteContext;
 import org.opensearch.index.query.QueryBuilder;
@@ -151,6 +153,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.IndexingStats;
+import org.opensearch.index.shard.LatencyStats;
 import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
@@ -449,6 +452,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    private final IncrementalAggregationCache incrementalAggregationCache;
+    private final SegmentResultCache segmentResultCache;
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -482,6 +487,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile int maxSizeInRequestCache;
     private volatile int defaultMaxMergeAtOnce;
     private final StatusCounterStats statusCounterStats;
+    private final MappingSourceCache mappingSourceCache = new MappingSourceCache();
     private volatile List<SearchStatsContributor> searchStatsContributors = Collections.emptyList();
     private final ClusterMergeSchedulerConfig clusterMergeSchedulerConfig;
     private final DataFormatRegistry dataFormatRegistry;
@@ -549,6 +555,19 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
+        this.incrementalAggregationCache = new IncrementalAggregationCache(
+            settings,
+            clusterService.getClusterSettings(),
+            namedWriteableRegistry
+        );
+        this.segmentResultCache = new SegmentResultCache(
+            settings,
+            cacheService,
+            threadPool,
+            clusterService,
+            nodeEnv,
+            namedWriteableRegistry
+        );
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -610,6 +629,8 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        incrementalAggregationCache,
+                        segmentResultCache,
                         indicesQueryCache
                     );
                 } catch (IOException e) {
@@ -917,16 +938,62 @@ public class IndicesService extends AbstractLifecycleComponent
                 case Flush:
                     commonStats.flush.add(oldShardsStats.flushStats);
                     break;
+                case Latency:
+                    commonStats.latency.add(oldShardsStats.latencyStats);
+                    break;
             }
         }
         if (flags.getIncludeIndicesStatsByLevel()) {
             NodeIndicesStats.StatsLevel statsLevel = NodeIndicesStats.getAcceptedLevel(flags.getLevels());
-            return new NodeIndicesStats(commonStats, statsByShard(this, flags), searchRequestStats, statusCounterStats, statsLevel);
+            return new NodeIndicesStats(
+                commonStats,
+                statsByShard(this, flags),
+                searchRequestStats,
+                statusCounterStats,
+                mappingSourceCache.stats(),
+                lazyMappingStats(),
+                statsLevel
+            );
         } else {
-            return new NodeIndicesStats(commonStats, statsByShard(this, flags), searchRequestStats, statusCounterStats);
+            return new NodeIndicesStats(
+                commonStats,
+                statsByShard(this, flags),
+                searchRequestStats,
+                statusCounterStats,
+                mappingSourceCache.stats(),
+                lazyMappingStats()
+            );
         }
     }
 
+    private LazyMappingStats lazyMappingStats() {
+        long lazyIndices = 0;
+        long materializedIndices = 0;
+        long materializations = 0;
+        long materializationTimeInNanos = 0;
+        long evictions = 0;
+        for (IndexService indexService : indices.values()) {
+            final MapperService mapperService = indexService.mapperService();
+            if (mapperService == null || mapperService.isLazyLoadEnabled() == false) {
+                continue;
+            }
+            lazyIndices++;
+            if (mapperService.isMappingMaterialized()) {
+                materializedIndices++;
+            }
+            materializations += mapperService.getMappingMaterializations();
+            materializationTimeInNanos += mapperService.getMappingMaterializationTimeInNanos();
+            evictions += mapperService.getMappingEvictions();
+        }
+        return new LazyMappingStats(
+            lazyIndices,
+            materializedIndices,
+            materializations,
+            TimeUnit.NANOSECONDS.toMillis(materializationTimeInNanos),
+            evictions
+        );
+    }
+
     Map<Index, List<IndexShardStats>> statsByShard(final IndicesService indicesService, final CommonStatsFlags flags) {
         final Map<Index, List<IndexShardStats>> statsByShard = new HashMap<>();
 
@@ -1071,6 +1138,14 @@ public class IndicesService extends AbstractLifecycleComponent
                     indicesRefCount.decRef();
                 }
             }
+
+            @Override
+            public void afterIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+                // the cached buckets are keyed by the shard instance, so they can never be hit again once it is closed
+                if (indexShard != null) {
+                    incrementalAggregationCache.clear(indexShard);
+                }
+            }
         };
         finalListeners.add(onStoreClose);
         finalListeners.add(oldShardsStats);
@@ -1085,6 +1160,9 @@ public class IndicesService extends AbstractLifecycleComponent
         );
         boolean success = false;
         try {
+            if (indexService.mapperService() != null) {
+                indexService.mapperService().setMappingSourceCache(mappingSourceCache);
+            }
             if (writeDanglingIndices && nodeWriteDanglingIndicesInfo) {
                 indexService.addMetadataListener(imd -> updateDanglingIndicesInfo(index));
             }
@@ -1537,6 +1615,7 @@ public class IndicesService extends AbstractLifecycleComponent
         final RefreshStats refreshStats = new RefreshStats();
         final FlushStats flushStats = new FlushStats();
         final RecoveryStats recoveryStats = new RecoveryStats();
+        final LatencyStats latencyStats = new LatencyStats();
 
         @Override
         public synchronized void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
@@ -1549,6 +1628,7 @@ public class IndicesService extends AbstractLifecycleComponent
                 refreshStats.addTotals(indexShard.refreshStats());
                 flushStats.addTotals(indexShard.flushStats());
                 recoveryStats.addTotals(indexShard.recoveryStats());
+                latencyStats.addTotals(indexShard.latencyStats());
             }
         }
     }
@@ -2122,7 +2202,7 @@ public class IndicesService extends AbstractLifecycleComponent
         boolean[] loadedFromCache = new boolean[] { true };
         BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(), out -> {
             long beforeQueryPhase = System.nanoTime();
-            queryPhase.execute(context);
+            segmentResultCache.executeQueryPhase(request, context, queryPhase);
             // Write relevant info for cache tier policies before the whole QuerySearchResult, so we don't have to read
             // the whole QSR into memory when we decide whether to allow it into a particular cache tier based on took time/other info
             CachedQueryResult cachedQueryResult = new CachedQueryResult(context.queryResult(), System.nanoTime() - beforeQueryPhase);
@@ -2200,6 +2280,10 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesRequestCache.getOrCompute(new IndexShardCacheEntity(shard), supplier, reader, cacheKey);
     }
 
+    public IncrementalAggregationCache getIncrementalAggregationCache() {
+        return incrementalAggregationCache;
+    }
+
     /**
      * An item in the index shard cache
      *
@@ -2298,6 +2382,8 @@ public class IndicesService extends AbstractLifecycleComponent
             final boolean clearedAtLeastOne = service.clearCaches(queryCache, fieldDataCache, fields);
             if ((requestCache || (clearedAtLeastOne == false && fields.length == 0)) && shard != null) {
                 indicesRequestCache.clear(new IndexShardCacheEntity(shard));
+                incrementalAggregationCache.clear(shard);
+                segmentResultCache.clear(shard);
             }
         }
     }
@@ -52,12 +52,15 @@ import org.opensearch.index.engine.SegmentsStats;
 import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
+import org.opensearch.index.mapper.LazyMappingStats;
+import org.opensearch.index.mapper.MappingSourceCacheStats;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.DocsStats;
 import org.opensearch.index.shard.IndexingStats;
+import org.opensearch.index.shard.LatencyStats;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.WarmerStats;
@@ -82,6 +85,8 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
     protected Map<Index, CommonStats> statsByIndex;
     protected Map<Index, List<IndexShardStats>> statsByShard;
     protected StatusCounterStats statusCounterStats;
+    protected MappingSourceCacheStats mappingSourceCacheStats;
+    protected LazyMappingStats lazyMappingStats;
 
     public NodeIndicesStats(StreamInput in) throws IOException {
         stats = new CommonStats(in);
@@ -100,6 +105,11 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statusCounterStats = new StatusCounterStats(in);
             }
         }
+
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            mappingSourceCacheStats = in.readOptionalWriteable(MappingSourceCacheStats::new);
+            lazyMappingStats = in.readOptionalWriteable(LazyMappingStats::new);
+        }
     }
 
     /**
@@ -133,8 +143,26 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         Map<Index, List<IndexShardStats>> statsByShard,
         SearchRequestStats searchRequestStats,
         StatusCounterStats statusCounterStats
+    ) {
+        this(oldStats, statsByShard, searchRequestStats, statusCounterStats, null, null);
+    }
+
+    /**
+     * Without passing the information of the levels to the constructor, we return the Node-level aggregated stats as
+     * {@link CommonStats} along with a hash-map containing Index to List of Shard Stats, the StatusCounterStats, the
+     * stats of the mapping sources shared between indices and the stats of lazily loaded mappings.
+     */
+    public NodeIndicesStats(
+        CommonStats oldStats,
+        Map<Index, List<IndexShardStats>> statsByShard,
+        SearchRequestStats searchRequestStats,
+        StatusCounterStats statusCounterStats,
+        MappingSourceCacheStats mappingSourceCacheStats,
+        LazyMappingStats lazyMappingStats
     ) {
         this.statsByShard = statsByShard;
+        this.mappingSourceCacheStats = mappingSourceCacheStats;
+        this.lazyMappingStats = lazyMappingStats;
 
         // statusCounterStats should be a snapshot of the statusCounters at a point in time, just like all the items in
         // NodeIndicesStats should be.
@@ -206,6 +234,24 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         StatusCounterStats statusCounterStats,
         StatsLevel level
     ) {
+        this(oldStats, statsByShard, searchRequestStats, statusCounterStats, null, null, level);
+    }
+
+    /**
+     * Same as {@link #NodeIndicesStats(CommonStats, Map, SearchRequestStats, StatusCounterStats, StatsLevel)}, also
+     * reporting the stats of the mapping sources shared between indices and of lazily loaded mappings.
+     */
+    public NodeIndicesStats(
+        CommonStats oldStats,
+        Map<Index, List<IndexShardStats>> statsByShard,
+        SearchRequestStats searchRequestStats,
+        StatusCounterStats statusCounterStats,
+        MappingSourceCacheStats mappingSourceCacheStats,
+        LazyMappingStats lazyMappingStats,
+        StatsLevel level
+    ) {
+        this.mappingSourceCacheStats = mappingSourceCacheStats;
+        this.lazyMappingStats = lazyMappingStats;
         // make a total common stats from old ones and current ones
         this.stats = oldStats;
         for (List<IndexShardStats> shardStatsList : statsByShard.values()) {
@@ -360,11 +406,26 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         return stats.getRecoveryStats();
     }
 
+    @Nullable
+    public LatencyStats getLatency() {
+        return stats.getLatency();
+    }
+
     @Nullable
     public StatusCounterStats getStatusCounterStats() {
         return statusCounterStats;
     }
 
+    @Nullable
+    public MappingSourceCacheStats getMappingSourceCacheStats() {
+        return mappingSourceCacheStats;
+    }
+
+    @Nullable
+    public LazyMappingStats getLazyMappingStats() {
+        return lazyMappingStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         stats.writeTo(out);
@@ -387,6 +448,11 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statusCounterStats.writeTo(out);
             }
         }
+
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(mappingSourceCacheStats);
+            out.writeOptionalWriteable(lazyMappingStats);
+        }
     }
 
     private void writeStatsByIndex(StreamOutput out) throws IOException {
@@ -438,6 +504,12 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         if (statusCounterStats != null) {
             statusCounterStats.toXContent(builder, params);
         }
+        if (mappingSourceCacheStats != null) {
+            mappingSourceCacheStats.toXContent(builder, params);
+        }
+        if (lazyMappingStats != null) {
+            lazyMappingStats.toXContent(builder, params);
+        }
 
         if (StatsLevel.INDICES.getRestName().equals(level)) {
             assert statsByIndex != null || statsByShard != null : "Expected shard stats or index stats in response for generating ["
@@ -0,0 +1,595 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.EWMATrackingThreadPoolExecutor;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.StatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QueryPhase;
+import org.opensearch.search.query.QueryPhaseExecutionException;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A cache of the results of size 0 requests per segment. The request cache keys its entries by the reader of the shard,
+ * so that a refresh invalidates them all although most segments did not change. This cache keys the hit count and the
+ * partial aggregations of a request on a segment by the segment and its number of live documents, and combines them
+ * like the shard level reduce of a concurrent search would. After a refresh only the new and changed segments are
+ * computed.
+ * <p>
+ * Only requests that the request cache could cache are considered, and only with the aggregations whose partial results
+ * of the segments combine exactly into the result of the shard. The cache is a {@link CacheType#SEGMENT_RESULT_CACHE}
+ * {@link ICache}, so it can be tiered, and reports its stats per index and shard.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentResultCache implements RemovalListener<ICacheKey<IndicesRequestCache.Key>, BytesReference>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(SegmentResultCache.class);
+
+    public static final Setting<Boolean> INDICES_SEGMENT_RESULT_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "indices.segment_result_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The aggregations whose partial results can be computed per segment
+     */
+    static final Set<String> CACHEABLE_AGGREGATIONS = Set.of(
+        DateHistogramAggregationBuilder.NAME,
+        HistogramAggregationBuilder.NAME,
+        RangeAggregationBuilder.NAME,
+        DateRangeAggregationBuilder.NAME,
+        FilterAggregationBuilder.NAME,
+        FiltersAggregationBuilder.NAME,
+        MissingAggregationBuilder.NAME,
+        MinAggregationBuilder.NAME,
+        MaxAggregationBuilder.NAME,
+        SumAggregationBuilder.NAME,
+        AvgAggregationBuilder.NAME,
+        ValueCountAggregationBuilder.NAME,
+        StatsAggregationBuilder.NAME,
+        ExtendedStatsAggregationBuilder.NAME,
+        CardinalityAggregationBuilder.NAME
+    );
+
+    private final ICache<IndicesRequestCache.Key, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    // the segments that a closed listener was registered for, and the ones that were closed since the last cleanup
+    private final Set<String> registeredSegments = ConcurrentCollections.newConcurrentSet();
+    private final Set<String> closedSegments = ConcurrentCollections.newConcurrentSet();
+    // the request keys of the cached entries, so that the entries of a request on the segments do not each keep a copy
+    private final Map<BytesReference, SharedRequestKey> requestKeys = ConcurrentCollections.newConcurrentMap();
+    private final Scheduler.Cancellable scheduledCleanup;
+    private volatile boolean enabled;
+
+    SegmentResultCache(
+        Settings settings,
+        CacheService cacheService,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        NodeEnvironment nodeEnvironment,
+        NamedWriteableRegistry namedWriteableRegistry
+    ) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.enabled = INDICES_SEGMENT_RESULT_CACHE_ENABLED_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(INDICES_SEGMENT_RESULT_CACHE_ENABLED_SETTING, this::setEnabled);
+        final CacheConfig.Builder<IndicesRequestCache.Key, BytesReference> configBuilder = new CacheConfig.Builder<>();
+        configBuilder.setSettings(settings)
+            .setWeigher((k, v) -> k.ramBytesUsed(k.key.ramBytesUsed()) + v.ramBytesUsed())
+            .setValueType(BytesReference.class)
+            .setKeyType(IndicesRequestCache.Key.class)
+            .setRemovalListener(this)
+            .setDimensionNames(List.of(IndicesRequestCache.INDEX_DIMENSION_NAME, IndicesRequestCache.SHARD_ID_DIMENSION_NAME))
+            .setCachedResultParser(bytesReference -> {
+                try {
+                    return CachedQueryResult.getPolicyValues(bytesReference);
+                } catch (IOException e) {
+                    // Set took time to -1, which will always be rejected by the policy.
+                    return new CachedQueryResult.PolicyValues(-1);
+                }
+            })
+            .setKeySerializer(new IRCKeyWriteableSerializer())
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setClusterSettings(clusterService.getClusterSettings())
+            .setStoragePath(nodeEnvironment.nodePaths()[0].path.toString() + "/segment_result_cache");
+        if (CacheService.storeNamePresent(CacheType.SEGMENT_RESULT_CACHE, settings) == false) {
+            final Setting<?> sizeSetting = OpenSearchOnHeapCacheSettings.getSettingListForCacheType(CacheType.SEGMENT_RESULT_CACHE)
+                .get(OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY);
+            configBuilder.setMaxSizeInBytes(((ByteSizeValue) sizeSetting.get(settings)).getBytes());
+        }
+        this.cache = cacheService.createCache(configBuilder.build(), CacheType.SEGMENT_RESULT_CACHE);
+        this.scheduledCleanup = threadPool.scheduleWithFixedDelay(
+            this::cleanCache,
+            IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING.get(settings),
+            ThreadPool.Names.GENERIC
+        );
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Executes the query phase of a request that the request cache can cache, segment by segment if the results of the
+     * segments can be cached, or with the given query phase otherwise. The segments whose results are not cached are searched
+     * together, through the regular search of the searcher, with a collector that keeps the results of each segment apart.
+     */
+    public void executeQueryPhase(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws IOException {
+        if (canCache(request, context) == false) {
+            queryPhase.execute(context);
+            return;
+        }
+        final IndexShard indexShard = context.indexShard();
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<String> dimensions = List.of(indexShard.shardId().getIndexName(), indexShard.shardId().toString());
+        final BytesReference[] values = new BytesReference[leaves.size()];
+        final boolean[] missed = new boolean[leaves.size()];
+        final BytesReference cacheKey = request.cacheKey();
+        int misses = 0;
+        for (LeafReaderContext leaf : leaves) {
+            values[leaf.ord] = cache.get(new ICacheKey<>(key(indexShard, cacheKey, leaf), dimensions));
+            if (values[leaf.ord] == null) {
+                missed[leaf.ord] = true;
+                misses++;
+            }
+        }
+        if (misses > 0) {
+            final long startNanos = System.nanoTime();
+            final SegmentResult[] results = searchMissedSegments(context, missed);
+            // the took time of the search of all the missed segments is what a miss costs, rather than the time of the segment
+            final CachedQueryResult.PolicyValues policyValues = new CachedQueryResult.PolicyValues(System.nanoTime() - startNanos);
+            final BytesReference requestKey = acquireRequestKey(cacheKey, misses);
+            for (LeafReaderContext leaf : leaves) {
+                if (missed[leaf.ord]) {
+                    values[leaf.ord] = results[leaf.ord].toBytes(policyValues);
+                    cache.put(new ICacheKey<>(key(indexShard, requestKey, leaf), dimensions), values[leaf.ord]);
+                    registerClosedListener(leaf);
+                }
+            }
+        }
+
+        final List<InternalAggregations> aggregations = new ArrayList<>();
+        long hitCount = 0;
+        for (BytesReference value : values) {
+            try (StreamInput in = new NamedWriteableAwareStreamInput(value.streamInput(), namedWriteableRegistry)) {
+                new CachedQueryResult.PolicyValues(in);
+                hitCount += in.readVLong();
+                final InternalAggregations leafAggregations = in.readOptionalWriteable(InternalAggregations::readFrom);
+                if (leafAggregations != null) {
+                    aggregations.add(leafAggregations);
+                }
+            }
+        }
+
+        final QuerySearchResult queryResult = context.queryResult();
+        queryResult.searchTimedOut(false);
+        queryResult.from(context.from());
+        queryResult.size(context.size());
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(totalHits(hitCount, context.trackTotalHitsUpTo()), Lucene.EMPTY_SCORE_DOCS), Float.NaN),
+            null
+        );
+        if (context.aggregations() != null) {
+            queryResult.aggregations(InternalAggregations.reduce(aggregations, context.partialOnShard()));
+        }
+        final ExecutorService executor = indexShard.getThreadPool().executor(ThreadPool.Names.SEARCH);
+        if (executor instanceof EWMATrackingThreadPoolExecutor rExecutor) {
+            queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
+            queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+        }
+        queryResult.shardInflightQueries((int) Math.max(0, indexShard.currentSearchQueries() - 1));
+        queryResult.shardCacheHitRatio(indexShard.requestCacheHitRatio());
+    }
+
+    private static IndicesRequestCache.Key key(IndexShard indexShard, BytesReference requestKey, LeafReaderContext leaf) {
+        return new IndicesRequestCache.Key(indexShard.shardId(), requestKey, segmentKeyId(leaf), System.identityHashCode(indexShard));
+    }
+
+    /**
+     * Searches the missed segments with the searcher of the context, so that they are searched concurrently if the request uses
+     * concurrent segment search and the search checks the cancellation of the task like the query phase does.
+     */
+    private static SegmentResult[] searchMissedSegments(SearchContext context, boolean[] missed) {
+        final ContextIndexSearcher searcher = context.searcher();
+        final Runnable cancellation;
+        if (context.lowLevelCancellation()) {
+            cancellation = searcher.addQueryCancellation(() -> {
+                final SearchShardTask task = context.getTask();
+                if (task != null && task.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
+                }
+            });
+        } else {
+            cancellation = null;
+        }
+        try {
+            return searcher.search(new ConstantScoreQuery(context.query()), new SegmentCollectorManager(context, missed));
+        } catch (Exception e) {
+            throw new QueryPhaseExecutionException(context.shardTarget(), "Failed to execute main query", e);
+        } finally {
+            if (cancellation != null) {
+                searcher.removeQueryCancellation(cancellation);
+            }
+            if (context.aggregations() != null) {
+                context.aggregations().resetBucketMultiConsumer();
+            }
+        }
+    }
+
+    /**
+     * Whether the results of the given request can be computed and cached per segment. The request must be cacheable by
+     * the request cache and must have been parsed into the given context already.
+     */
+    boolean canCache(ShardSearchRequest request, SearchContext context) {
+        if (enabled == false
+            || context.size() != 0
+            || context.from() > 0
+            || context.sort() != null
+            || context.searchAfter() != null
+            || context.collapse() != null
+            || context.parsedPostFilter() != null
+            || context.minimumScore() != null
+            || context.rescore().isEmpty() == false
+            || context.suggest() != null
+            || context.getProfilers() != null
+            || context.shouldUseIntraSegmentSearch()
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || (context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false)) {
+            return false;
+        }
+        final ContextIndexSearcher searcher = context.searcher();
+        if (searcher.getDirectoryReader().getReaderCacheHelper() instanceof OpenSearchDirectoryReader.DelegatingCacheHelper == false) {
+            return false;
+        }
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            if (FilterLeafReader.unwrap(leaf.reader()) instanceof SegmentReader == false) {
+                return false;
+            }
+        }
+        if (context.aggregations() != null) {
+            if (request.source() == null || request.source().aggregations() == null) {
+                return false;
+            }
+            return isCacheable(request.source().aggregations().getAggregatorFactories());
+        }
+        return true;
+    }
+
+    /**
+     * Whether the partial results of the given aggregations and their sub aggregations on the segments combine exactly into
+     * their result on the shard. Scripts are not supported since they could use the score, which depends on the statistics of
+     * the shard.
+     */
+    static boolean isCacheable(Collection<AggregationBuilder> aggregations) {
+        for (AggregationBuilder aggregation : aggregations) {
+            if (CACHEABLE_AGGREGATIONS.contains(aggregation.getType()) == false) {
+                return false;
+            }
+            if (aggregation instanceof ValuesSourceAggregationBuilder<?> valuesSource && valuesSource.script() != null) {
+                return false;
+            }
+            if (isCacheable(aggregation.getSubAggregations()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identifies the live documents of a segment: the documents of a segment never change and deletions only ever remove
+     * documents, so the segment and its number of live documents identify them.
+     */
+    static String segmentKeyId(LeafReaderContext leaf) {
+        return segmentId(leaf.reader()) + "_" + leaf.reader().numDocs();
+    }
+
+    private static String segmentId(LeafReader reader) {
+        final SegmentReader segmentReader = (SegmentReader) FilterLeafReader.unwrap(reader);
+        return StringHelper.idToString(segmentReader.getSegmentInfo().info.getId());
+    }
+
+    static TotalHits totalHits(long hitCount, int trackTotalHitsUpTo) {
+        if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+            return new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        if (hitCount > trackTotalHitsUpTo) {
+            return new TotalHits(trackTotalHitsUpTo, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        return new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+    }
+
+    /**
+     * Returns the shared copy of the given request key and counts the given number of entries that are added with it, so that
+     * the entries of a request on all the segments reference a single copy of the request key.
+     */
+    private BytesReference acquireRequestKey(BytesReference requestKey, int entries) {
+        return requestKeys.compute(requestKey, (key, shared) -> {
+            if (shared == null) {
+                shared = new SharedRequestKey(key);
+            }
+            shared.entries += entries;
+            return shared;
+        }).bytes;
+    }
+
+    private void registerClosedListener(LeafReaderContext leaf) {
+        final String segmentId = segmentId(leaf.reader());
+        if (registeredSegments.add(segmentId)) {
+            FilterLeafReader.unwrap(leaf.reader()).getCoreCacheHelper().addClosedListener(key -> {
+                registeredSegments.remove(segmentId);
+                closedSegments.add(segmentId);
+            });
+        }
+    }
+
+    /**
+     * Removes the results of the segments that were closed since the last cleanup
+     */
+    void cleanCache() {
+        if (closedSegments.isEmpty()) {
+            return;
+        }
+        final Set<String> segments = new HashSet<>(closedSegments);
+        try {
+            for (Iterator<ICacheKey<IndicesRequestCache.Key>> iterator = cache.keys().iterator(); iterator.hasNext();) {
+                final String segmentKeyId = iterator.next().key.readerCacheKeyId;
+                if (segments.contains(segmentKeyId.substring(0, segmentKeyId.lastIndexOf('_')))) {
+                    iterator.remove();
+                }
+            }
+            cache.refresh();
+        } catch (Exception e) {
+            logger.warn("failed to clean the segment result cache", e);
+        }
+        closedSegments.removeAll(segments);
+    }
+
+    /**
+     * Removes the results of the given shard
+     */
+    public void clear(IndexShard indexShard) {
+        final int indexShardHashCode = System.identityHashCode(indexShard);
+        for (Iterator<ICacheKey<IndicesRequestCache.Key>> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            final IndicesRequestCache.Key key = iterator.next().key;
+            if (key.shardId.equals(indexShard.shardId()) && key.indexShardHashCode == indexShardHashCode) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<ICacheKey<IndicesRequestCache.Key>, BytesReference> notification) {
+        // the stats are tracked by the cache itself, per index and shard
+        final ICacheKey<IndicesRequestCache.Key> key = notification.getKey();
+        if (key != null && key.key != null) {
+            requestKeys.computeIfPresent(key.key.value, (k, shared) -> --shared.entries > 0 ? shared : null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduledCleanup.cancel();
+        cache.invalidateAll();
+        cache.close();
+    }
+
+    /**
+     * The request key that the cached entries of a request on the segments share, with the number of these entries
+     */
+    private static final class SharedRequestKey {
+
+        private final BytesReference bytes;
+        private int entries;
+
+        SharedRequestKey(BytesReference bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * The hit count and the partial aggregations of a request on a segment
+     */
+    private record SegmentResult(long hitCount, InternalAggregations aggregations) {
+
+        BytesReference toBytes(CachedQueryResult.PolicyValues policyValues) throws IOException {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                // the took time goes first for the policies of the cache tiers, see CachedQueryResult
+                policyValues.writeTo(out);
+                out.writeVLong(hitCount);
+                out.writeOptionalWriteable(aggregations);
+                return out.bytes();
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link SegmentCollector} per slice and gathers the results of the missed segments, by segment ordinal
+     */
+    private static class SegmentCollectorManager implements CollectorManager<SegmentCollector, SegmentResult[]> {
+
+        private final SearchContext context;
+        private final boolean[] missed;
+
+        SegmentCollectorManager(SearchContext context, boolean[] missed) {
+            this.context = context;
+            this.missed = missed;
+        }
+
+        @Override
+        public SegmentCollector newCollector() {
+            return new SegmentCollector(context, missed);
+        }
+
+        @Override
+        public SegmentResult[] reduce(Collection<SegmentCollector> collectors) {
+            final SegmentResult[] results = new SegmentResult[missed.length];
+            for (SegmentCollector collector : collectors) {
+                for (Map.Entry<Integer, SegmentResult> result : collector.results.entrySet()) {
+                    results[result.getKey()] = result.getValue();
+                }
+            }
+            for (int ord = 0; ord < missed.length; ord++) {
+                assert missed[ord] == false || results[ord] != null : "no result for segment [" + ord + "]";
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Collects the hit count and the aggregations of each missed segment with its own collectors, and skips the segments whose
+     * results are cached. The aggregations of a segment are built when its collection finishes, on the thread that collected it.
+     */
+    private static class SegmentCollector implements Collector {
+
+        private final SearchContext context;
+        private final boolean[] missed;
+        private final Map<Integer, SegmentResult> results = new HashMap<>();
+
+        SegmentCollector(SearchContext context, boolean[] missed) {
+            this.context = context;
+            this.missed = missed;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext leaf) throws IOException {
+            if (missed[leaf.ord] == false) {
+                throw new CollectionTerminatedException();
+            }
+            final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+            final BucketCollector bucketCollector;
+            final Collector collector;
+            if (context.aggregations() != null) {
+                bucketCollector = MultiBucketCollector.wrap(context.aggregations().factories().createTopLevelAggregators(context));
+                bucketCollector.preCollection();
+                assert bucketCollector.scoreMode().needsScores() == false;
+                collector = MultiCollector.wrap(hitCountCollector, bucketCollector);
+            } else {
+                bucketCollector = null;
+                collector = hitCountCollector;
+            }
+            final LeafCollector leafCollector;
+            try {
+                leafCollector = collector.getLeafCollector(leaf);
+            } catch (CollectionTerminatedException e) {
+                // the hit count is known without collecting the segment and the aggregations have nothing to collect
+                finish(leaf, hitCountCollector, bucketCollector);
+                throw e;
+            }
+            return new FilterLeafCollector(leafCollector) {
+                @Override
+                public void finish() throws IOException {
+                    super.finish();
+                    SegmentCollector.this.finish(leaf, hitCountCollector, bucketCollector);
+                }
+            };
+        }
+
+        private void finish(LeafReaderContext leaf, TotalHitCountCollector hitCountCollector, BucketCollector bucketCollector)
+            throws IOException {
+            InternalAggregations aggregations = null;
+            if (bucketCollector != null) {
+                final BucketCollectorProcessor processor = context.bucketCollectorProcessor();
+                processor.processPostCollection(bucketCollector);
+                aggregations = InternalAggregations.from(processor.toInternalAggregations(List.of(bucketCollector)));
+            }
+            results.put(leaf.ord, new SegmentResult(hitCountCollector.getTotalHits(), aggregations));
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -294,6 +294,7 @@ import org.opensearch.tasks.TaskResultsService;
 import org.opensearch.tasks.consumer.TopNSearchTasksLogger;
 import org.opensearch.telemetry.TelemetryModule;
 import org.opensearch.telemetry.TelemetrySettings;
+import org.opensearch.telemetry.metrics.BatchingMetricsRecorder;
 import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.telemetry.metrics.MetricsRegistryFactory;
 import org.opensearch.telemetry.metrics.NoopMetricsRegistryFactory;
@@ -744,6 +745,12 @@ public class Node implements Closeable {
             metricsRegistry = metricsRegistryFactory.getMetricsRegistry();
             resourcesToClose.add(tracer::close);
             resourcesToClose.add(metricsRegistry::close);
+            final BatchingMetricsRecorder batchingMetricsRecorder = new BatchingMetricsRecorder();
+            threadPool.scheduleWithFixedDelay(
+                batchingMetricsRecorder::flush,
+                TelemetrySettings.METRICS_BATCH_FLUSH_INTERVAL_SETTING.get(settings),
+                ThreadPool.Names.GENERIC
+            );
 
             final ClusterManagerMetrics clusterManagerMetrics = new ClusterManagerMetrics(metricsRegistry);
 
@@ -1312,6 +1319,7 @@ public class Node implements Closeable {
                 workloadGroupsStateAccessor
             );
             taskResourceTrackingService.addTaskCompletionListener(workloadGroupService);
+            threadPool.setSearchLaneIsolation(workloadGroupService.getSearchIsolation());
 
             final WorkloadGroupRequestOperationListener workloadGroupRequestOperationListener = new WorkloadGroupRequestOperationListener(
                 workloadGroupService,
@@ -1863,6 +1871,7 @@ public class Node implements Closeable {
                 b.bind(SearchRequestStats.class).toInstance(searchRequestStats);
                 b.bind(SearchRequestSlowLog.class).toInstance(searchRequestSlowLog);
                 b.bind(MetricsRegistry.class).toInstance(metricsRegistry);
+                b.bind(BatchingMetricsRecorder.class).toInstance(batchingMetricsRecorder);
                 b.bind(RemoteClusterStateService.class).toProvider(() -> remoteClusterStateService);
                 b.bind(RemoteIndexPathUploader.class).toProvider(() -> remoteIndexPathUploader);
                 b.bind(RemoteStorePinnedTimestampService.class).toProvider(() -> remoteStorePinnedTimestampService);
@@ -2050,6 +2059,8 @@ public class Node implements Closeable {
 
         TaskResourceTrackingService taskResourceTrackingService = injector.getInstance(TaskResourceTrackingService.class);
         transportService.getTaskManager().setTaskResourceTrackingService(taskResourceTrackingService);
+        injector.getInstance(AdmissionControlService.class)
+            .registerTaskListeners(transportService.getTaskManager(), taskResourceTrackingService);
 
         runnableTaskListener.set(taskResourceTrackingService);
         // start streamTransportService before transportService so that transport service has access to publish address
@@ -2327,6 +2338,8 @@ public class Node implements Closeable {
         toClose.add(stopWatch::stop);
         if (FeatureFlags.isEnabled(TELEMETRY)) {
             toClose.add(injector.getInstance(Tracer.class));
+            // forward what was batched since the last flush before the registry is closed
+            toClose.add(injector.getInstance(BatchingMetricsRecorder.class));
             toClose.add(injector.getInstance(MetricsRegistry.class));
         }
 
@@ -42,18 +42,26 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. Response times are also tracked per shard copy, along
+ * with the load and the cache warmth reported by the copy, in order to predict
+ * the latency of the next request sent to it.
  *
  * @opensearch.api
  */
@@ -62,7 +70,13 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * Number of recent response times kept per shard copy to estimate their 95th percentile.
+     */
+    static final int SHARD_COPY_SAMPLES = 32;
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<ShardCopy, ShardCopyStatistics> shardCopyStats = ConcurrentCollections.newConcurrentMap();
 
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
@@ -75,10 +89,15 @@ public final class ResponseCollectorService implements ClusterStateListener {
                 removeNode(removedNode.getId());
             }
         }
+        if (shardCopyStats.isEmpty() == false && event.indicesDeleted().isEmpty() == false) {
+            Set<Index> deleted = new HashSet<>(event.indicesDeleted());
+            shardCopyStats.keySet().removeIf(copy -> deleted.contains(copy.shardId.getIndex()));
+        }
     }
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        shardCopyStats.keySet().removeIf(copy -> copy.nodeId.equals(nodeId));
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
@@ -96,6 +115,52 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Records the response of a shard copy.
+     *
+     * @param nodeId the node holding the copy
+     * @param shardId the shard of the copy
+     * @param responseTimeNanos the response time of the request, as seen by the coordinating node
+     * @param inflightQueries the number of other queries executing on the copy, or {@code -1} if unknown
+     * @param cacheHitRatio the request cache hit ratio of the copy, or {@code -1} if unknown
+     */
+    public void addShardCopyStatistics(String nodeId, ShardId shardId, long responseTimeNanos, int inflightQueries, double cacheHitRatio) {
+        shardCopyStats.compute(new ShardCopy(nodeId, shardId), (copy, stats) -> {
+            if (stats == null) {
+                stats = new ShardCopyStatistics(responseTimeNanos);
+            } else {
+                stats.responseTime.addValue(responseTimeNanos);
+            }
+            stats.addSample(responseTimeNanos);
+            if (inflightQueries >= 0) {
+                stats.inflightQueries = inflightQueries;
+            }
+            if (cacheHitRatio >= 0) {
+                stats.cacheHitRatio = cacheHitRatio;
+            }
+            return stats;
+        });
+    }
+
+    /**
+     * Moves the response time average of a shard copy towards the provided value, without recording it as a sample of
+     * its response time distribution. This lets copies that are not selected become candidates again.
+     */
+    public void adjustShardCopyResponseTime(String nodeId, ShardId shardId, long responseTimeNanos) {
+        shardCopyStats.computeIfPresent(new ShardCopy(nodeId, shardId), (copy, stats) -> {
+            stats.responseTime.addValue(responseTimeNanos);
+            return stats;
+        });
+    }
+
+    /**
+     * Optionally return the statistics of a shard copy, if responses of the copy were recorded.
+     */
+    public Optional<ComputedShardCopyStats> getShardCopyStatistics(String nodeId, ShardId shardId) {
+        return Optional.ofNullable(shardCopyStats.get(new ShardCopy(nodeId, shardId)))
+            .map(stats -> new ComputedShardCopyStats(nodeId, shardId, stats));
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
@@ -226,6 +291,125 @@ public final class ResponseCollectorService implements ClusterStateListener {
         }
     }
 
+    /**
+     * Struct-like class encapsulating a point-in-time snapshot of the statistics of a shard copy.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.8.0")
+    public static class ComputedShardCopyStats {
+        /**
+         * How much a fully warm request cache is expected to shorten the response time of the copy.
+         */
+        private static final double CACHE_HIT_DISCOUNT = 0.5;
+        private static final double FACTOR = 1000000.0;
+
+        public final String nodeId;
+        public final ShardId shardId;
+        public final double responseTime;
+        public final int inflightQueries;
+        public final double cacheHitRatio;
+        private final LongSupplier percentile95ResponseTime;
+
+        public ComputedShardCopyStats(
+            String nodeId,
+            ShardId shardId,
+            double responseTime,
+            long percentile95ResponseTime,
+            int inflightQueries,
+            double cacheHitRatio
+        ) {
+            this(nodeId, shardId, responseTime, () -> percentile95ResponseTime, inflightQueries, cacheHitRatio);
+        }
+
+        ComputedShardCopyStats(String nodeId, ShardId shardId, ShardCopyStatistics stats) {
+            this(nodeId, shardId, stats.responseTime.getAverage(), stats::percentile95, stats.inflightQueries, stats.cacheHitRatio);
+        }
+
+        private ComputedShardCopyStats(
+            String nodeId,
+            ShardId shardId,
+            double responseTime,
+            LongSupplier percentile95ResponseTime,
+            int inflightQueries,
+            double cacheHitRatio
+        ) {
+            this.nodeId = nodeId;
+            this.shardId = shardId;
+            this.responseTime = responseTime;
+            this.percentile95ResponseTime = percentile95ResponseTime;
+            this.inflightQueries = inflightQueries;
+            this.cacheHitRatio = cacheHitRatio;
+        }
+
+        /**
+         * Returns the 95th percentile of the recent response times of the copy, in nanoseconds. It is only needed to hedge
+         * requests, unlike the other statistics that every routing decision uses, so it is computed on each call from the
+         * current samples of the copy.
+         */
+        public long percentile95ResponseTime() {
+            return percentile95ResponseTime.getAsLong();
+        }
+
+        /**
+         * Predicts the latency, in milliseconds, of the next request sent to the copy. The average response time of
+         * the copy is scaled by the number of queries that would be executing on it, which are the ones reported by
+         * the copy for all coordinating nodes plus the outstanding requests of this node, and discounted by the
+         * warmth of its request cache.
+         */
+        public double predictedLatency(long outstandingRequests) {
+            double queue = 1 + Math.max(0, inflightQueries) + outstandingRequests;
+            double warmth = cacheHitRatio < 0 ? 1 : 1 - CACHE_HIT_DISCOUNT * cacheHitRatio;
+            return responseTime / FACTOR * queue * warmth;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("ComputedShardCopyStats[");
+            sb.append(nodeId).append("][").append(shardId).append("](");
+            sb.append("response time: ").append(String.format(Locale.ROOT, "%.1f", responseTime));
+            sb.append(", p95 response time: ").append(percentile95ResponseTime());
+            sb.append(", in-flight queries: ").append(inflightQueries);
+            sb.append(", cache hit ratio: ").append(String.format(Locale.ROOT, "%.2f", cacheHitRatio));
+            sb.append(")");
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Identifies a copy of a shard by the node that holds it.
+     */
+    private record ShardCopy(String nodeId, ShardId shardId) {}
+
+    /**
+     * Mutable accounting of the responses of a shard copy, intended only to be used internally by
+     * {@code ResponseCollectorService}. It is only modified within the compute functions of the map holding it.
+     */
+    private static class ShardCopyStatistics {
+        final ExponentiallyWeightedMovingAverage responseTime;
+        final long[] samples = new long[SHARD_COPY_SAMPLES];
+        int numSamples;
+        int nextSample;
+        volatile int inflightQueries = -1;
+        volatile double cacheHitRatio = -1;
+
+        ShardCopyStatistics(long responseTimeNanos) {
+            this.responseTime = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
+        }
+
+        synchronized void addSample(long responseTimeNanos) {
+            samples[nextSample] = responseTimeNanos;
+            nextSample = (nextSample + 1) % samples.length;
+            numSamples = Math.min(numSamples + 1, samples.length);
+        }
+
+        synchronized long percentile95() {
+            long[] sorted = Arrays.copyOf(samples, numSamples);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(0.95 * sorted.length) - 1];
+        }
+    }
+
     /**
      * Class encapsulating a node's exponentially weighted queue size, response
      * time, and service time, however, this class is private and intended only
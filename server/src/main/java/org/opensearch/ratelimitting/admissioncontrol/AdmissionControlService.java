@@ -19,10 +19,15 @@ import org.opensearch.ratelimitting.admissioncontrol.controllers.AdmissionContro
 import org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.NativeMemoryBasedAdmissionController;
+import org.opensearch.ratelimitting.admissioncontrol.controllers.PredictiveAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControlStats;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControllerStats;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +38,7 @@ import java.util.function.Supplier;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController.CPU_BASED_ADMISSION_CONTROLLER;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController.IO_BASED_ADMISSION_CONTROLLER;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.NativeMemoryBasedAdmissionController.NATIVE_MEMORY_BASED_ADMISSION_CONTROLLER;
+import static org.opensearch.ratelimitting.admissioncontrol.controllers.PredictiveAdmissionController.PREDICTIVE_ADMISSION_CONTROLLER;
 
 /**
  * Admission control Service that bootstraps and manages all the Admission Controllers in OpenSearch.
@@ -79,6 +85,7 @@ public class AdmissionControlService {
     private void initialize() {
         // Initialise different type of admission controllers
         registerAdmissionController(CPU_BASED_ADMISSION_CONTROLLER);
+        registerAdmissionController(PREDICTIVE_ADMISSION_CONTROLLER);
         if (Constants.LINUX) {
             registerAdmissionController(IO_BASED_ADMISSION_CONTROLLER);
             registerAdmissionController(NATIVE_MEMORY_BASED_ADMISSION_CONTROLLER);
@@ -96,6 +103,34 @@ public class AdmissionControlService {
         );
     }
 
+    /**
+     *
+     * @param action Transport action name
+     * @param admissionControlActionType admissionControllerActionType value
+     * @param request Transport request that is about to be executed
+     * @param task Task the request will execute under
+     */
+    public void applyTransportAdmissionControl(
+        String action,
+        AdmissionControlActionType admissionControlActionType,
+        TransportRequest request,
+        Task task
+    ) {
+        this.admissionControllers.forEach(
+            (name, admissionController) -> { admissionController.apply(action, admissionControlActionType, request, task); }
+        );
+    }
+
+    /**
+     * Registers the task listeners through which admission controllers learn the actual cost of the requests they admitted
+     */
+    public void registerTaskListeners(TaskManager taskManager, TaskResourceTrackingService taskResourceTrackingService) {
+        AdmissionController admissionController = getAdmissionController(PREDICTIVE_ADMISSION_CONTROLLER);
+        if (admissionController instanceof PredictiveAdmissionController predictiveAdmissionController) {
+            predictiveAdmissionController.registerTaskListeners(taskManager, taskResourceTrackingService);
+        }
+    }
+
     /**
      *
      * @param admissionControllerName admissionControllerName to register into the service.
@@ -117,6 +152,13 @@ public class AdmissionControlService {
                     this.clusterService,
                     this.settings
                 );
+            case PREDICTIVE_ADMISSION_CONTROLLER:
+                return new PredictiveAdmissionController(
+                    admissionControllerName,
+                    this.resourceUsageCollectorService,
+                    this.clusterService,
+                    this.settings
+                );
             case IO_BASED_ADMISSION_CONTROLLER:
                 return new IoBasedAdmissionController(
                     admissionControllerName,
@@ -13,7 +13,11 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.ratelimitting.admissioncontrol.stats.CostPredictionStats;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportRequest;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -66,6 +70,14 @@ public abstract class AdmissionController {
      */
     public abstract void apply(String action, AdmissionControlActionType admissionControlActionType);
 
+    /**
+     * Apply admission control for an action, given the request and the task it will execute under. Controllers that
+     * only look at node level resource usage ignore the request and the task.
+     */
+    public void apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request, Task task) {
+        apply(action, admissionControlActionType);
+    }
+
     /**
      * @return name of the admission-controller
      */
@@ -101,4 +113,11 @@ public abstract class AdmissionController {
         rejectionCountMap.forEach((actionType, count) -> rejectionStats.put(actionType, count.get()));
         return rejectionStats;
     }
+
+    /**
+     * Get per action type cost prediction stats, only reported by controllers that estimate request costs
+     */
+    public Map<String, CostPredictionStats> getCostPredictionStats() {
+        return Collections.emptyMap();
+    }
 }
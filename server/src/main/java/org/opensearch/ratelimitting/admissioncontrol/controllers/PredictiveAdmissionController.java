@@ -0,0 +1,382 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.node.ResourceUsageCollectorService;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.ratelimitting.admissioncontrol.settings.PredictiveAdmissionControllerSettings;
+import org.opensearch.ratelimitting.admissioncontrol.stats.CostPredictionStats;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ *  Class for the predictive admission controller in OpenSearch. Instead of rejecting requests once the node is already
+ *  saturated, it estimates the cost of every search and indexing request before it runs and admits it against a token
+ *  budget that refills with the configured share of the node's processors.
+ *  <p>
+ *  The estimate is the request's cost units (derived from its shape: aggregations for a shard search, bytes for a bulk
+ *  shard request) times a per action type average of the observed cost per unit. The search budget is in CPU time and
+ *  learns from the CPU time recorded by {@link TaskResourceTrackingService}; searches whose CPU time was not measured keep
+ *  their estimate charged and do not teach the model. Bulk shard tasks do not support resource tracking, so the indexing
+ *  budget is a separate budget in elapsed time, which learns from how long admitted requests took. On completion the
+ *  difference between the estimate and the observed cost goes back to the budget.
+ */
+public class PredictiveAdmissionController extends AdmissionController {
+    public static final String PREDICTIVE_ADMISSION_CONTROLLER = "predictive_cost";
+    private static final Logger LOGGER = LogManager.getLogger(PredictiveAdmissionController.class);
+
+    /**
+     * Weight of the latest observation in the average cost per unit
+     */
+    static final double EWMA_ALPHA = 0.1;
+    /**
+     * The token budget holds at most this much refill, so that an idle node does not bank an unbounded burst
+     */
+    static final long BUDGET_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Admissions awaiting feedback are no longer recorded past this many, so that lost completions cannot leak memory
+     */
+    static final int MAX_PENDING_ADMISSIONS = 100_000;
+    static final long BULK_BYTES_PER_UNIT = 1024;
+    static final long DEFAULT_SEARCH_NANOS_PER_UNIT = TimeUnit.MILLISECONDS.toNanos(2);
+    static final long DEFAULT_INDEXING_NANOS_PER_UNIT = TimeUnit.MICROSECONDS.toNanos(20);
+
+    public final PredictiveAdmissionControllerSettings settings;
+    private final LongSupplier relativeNanoTimeSupplier;
+    private final Map<AdmissionControlActionType, CostModel> costModels;
+    private final ConcurrentMap<Long, Admission> pendingAdmissions;
+    private volatile TaskResourceTrackingService taskResourceTrackingService;
+
+    /**
+     * @param admissionControllerName       Name of the admission controller
+     * @param resourceUsageCollectorService Instance used to get node resource usage stats
+     * @param clusterService                ClusterService Instance
+     * @param settings                      Immutable settings instance
+     */
+    public PredictiveAdmissionController(
+        String admissionControllerName,
+        ResourceUsageCollectorService resourceUsageCollectorService,
+        ClusterService clusterService,
+        Settings settings
+    ) {
+        this(
+            admissionControllerName,
+            resourceUsageCollectorService,
+            clusterService,
+            settings,
+            OpenSearchExecutors.allocatedProcessors(settings),
+            System::nanoTime
+        );
+    }
+
+    PredictiveAdmissionController(
+        String admissionControllerName,
+        ResourceUsageCollectorService resourceUsageCollectorService,
+        ClusterService clusterService,
+        Settings settings,
+        int processors,
+        LongSupplier relativeNanoTimeSupplier
+    ) {
+        super(admissionControllerName, resourceUsageCollectorService, clusterService);
+        this.settings = new PredictiveAdmissionControllerSettings(clusterService.getClusterSettings(), settings);
+        this.relativeNanoTimeSupplier = relativeNanoTimeSupplier;
+        this.pendingAdmissions = ConcurrentCollections.newConcurrentMap();
+        final long now = relativeNanoTimeSupplier.getAsLong();
+        final Map<AdmissionControlActionType, CostModel> costModels = new EnumMap<>(AdmissionControlActionType.class);
+        costModels.put(
+            AdmissionControlActionType.SEARCH,
+            new CostModel(DEFAULT_SEARCH_NANOS_PER_UNIT, true, processors, this.settings::getSearchCpuBudgetPercent, now)
+        );
+        costModels.put(
+            AdmissionControlActionType.INDEXING,
+            new CostModel(DEFAULT_INDEXING_NANOS_PER_UNIT, false, processors, this.settings::getIndexingCpuBudgetPercent, now)
+        );
+        this.costModels = Collections.unmodifiableMap(costModels);
+    }
+
+    /**
+     * Registers the listeners through which completed tasks report their actual cost back to the cost models
+     */
+    public void registerTaskListeners(TaskManager taskManager, TaskResourceTrackingService taskResourceTrackingService) {
+        this.taskResourceTrackingService = taskResourceTrackingService;
+        // tasks supporting resource tracking report once their last thread is done, with the final CPU time
+        taskResourceTrackingService.addTaskCompletionListener(task -> onTaskCompleted(task, true));
+        taskManager.addTaskEventListeners(new TaskManager.TaskEventListeners() {
+            @Override
+            public void onTaskCompleted(Task task) {
+                if (task.supportsResourceTracking() == false) {
+                    PredictiveAdmissionController.this.onTaskCompleted(task, false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Apply admission control without knowledge of the request, which is charged a single cost unit
+     */
+    @Override
+    public void apply(String action, AdmissionControlActionType admissionControlActionType) {
+        apply(action, admissionControlActionType, null, null);
+    }
+
+    /**
+     * Apply admission control based on the estimated cost of the request
+     * @param action is the transport action
+     */
+    @Override
+    public void apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request, Task task) {
+        final AdmissionControlMode mode = this.settings.getTransportLayerAdmissionControllerMode();
+        if (this.isEnabledForTransportLayer(mode) == false) {
+            return;
+        }
+        final CostModel costModel = costModels.get(admissionControlActionType);
+        if (costModel == null) {
+            return;
+        }
+        final long units = costUnits(request);
+        final long now = relativeNanoTimeSupplier.getAsLong();
+        final long estimate = costModel.estimate(units);
+        final boolean admitted = costModel.tryAcquire(estimate, now);
+        if (admitted == false) {
+            this.addRejectionCount(admissionControlActionType.getType(), 1);
+            if (this.isAdmissionControllerEnforced(mode)) {
+                throw new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "Predictive admission controller rejected the request for action [%s] as its estimated cost [%d] nanos "
+                            + "exceeds the remaining budget for action-type [%s]",
+                        action,
+                        estimate,
+                        admissionControlActionType.name()
+                    )
+                );
+            }
+            LOGGER.debug(
+                "PredictiveAdmissionController would have rejected action [{}] with estimated cost [{}] nanos in admissionControlMode [{}]",
+                action,
+                estimate,
+                mode
+            );
+        }
+        if (task != null && pendingAdmissions.size() < MAX_PENDING_ADMISSIONS) {
+            // requests let through in monitor mode were not charged but still consume budget and still teach the model
+            pendingAdmissions.put(task.getId(), new Admission(costModel, units, estimate, admitted ? estimate : 0, now));
+        }
+    }
+
+    private void onTaskCompleted(Task task, boolean resourceTracked) {
+        final Admission admission = pendingAdmissions.remove(task.getId());
+        if (admission == null) {
+            return;
+        }
+        final long now = relativeNanoTimeSupplier.getAsLong();
+        final CostModel costModel = admission.costModel();
+        if (costModel.cpuTime() == false) {
+            final long elapsed = Math.max(0, now - admission.startNanos());
+            costModel.complete(admission.units(), admission.estimate(), admission.charged(), elapsed, now);
+            return;
+        }
+        final TaskResourceTrackingService trackingService = this.taskResourceTrackingService;
+        if (resourceTracked && trackingService != null && trackingService.isTaskResourceTrackingEnabled()) {
+            final long cpuTime = Math.max(0, task.getTotalResourceStats().getCpuTimeInNanos());
+            costModel.complete(admission.units(), admission.estimate(), admission.charged(), cpuTime, now);
+        } else {
+            // the elapsed time is no measure of CPU time, so the estimate stays charged and the model does not learn
+            costModel.completeUnmeasured(admission.estimate(), admission.charged(), now);
+        }
+    }
+
+    /**
+     * @return the number of cost units of a request, derived from its shape
+     */
+    static long costUnits(TransportRequest request) {
+        if (request instanceof TransportReplicationAction.ConcreteShardRequest<?> concreteShardRequest) {
+            request = concreteShardRequest.getRequest();
+        }
+        if (request instanceof ShardSearchRequest shardSearchRequest) {
+            final SearchSourceBuilder source = shardSearchRequest.source();
+            if (source == null || source.aggregations() == null) {
+                return 1;
+            }
+            final AggregatorFactories.Builder aggregations = source.aggregations();
+            return 1 + countAggregations(aggregations.getAggregatorFactories()) + aggregations.getPipelineAggregatorFactories().size();
+        }
+        if (request instanceof BulkShardRequest bulkShardRequest) {
+            return Math.max(1, bulkShardRequest.ramBytesUsed() / BULK_BYTES_PER_UNIT);
+        }
+        return 1;
+    }
+
+    private static long countAggregations(Collection<AggregationBuilder> aggregations) {
+        long count = 0;
+        for (AggregationBuilder aggregation : aggregations) {
+            count += 1 + countAggregations(aggregation.getSubAggregations()) + aggregation.getPipelineAggregations().size();
+        }
+        return count;
+    }
+
+    int pendingAdmissions() {
+        return pendingAdmissions.size();
+    }
+
+    @Override
+    public Map<String, CostPredictionStats> getCostPredictionStats() {
+        final long now = relativeNanoTimeSupplier.getAsLong();
+        final Map<String, CostPredictionStats> stats = new HashMap<>();
+        costModels.forEach((actionType, costModel) -> stats.put(actionType.getType(), costModel.stats(now)));
+        return stats;
+    }
+
+    private record Admission(CostModel costModel, long units, long estimate, long charged, long startNanos) {
+    }
+
+    /**
+     * Cost model and token budget of one action type. All costs and tokens are in nanoseconds, of processor time if the model
+     * measures CPU time and of elapsed time otherwise. The budget and the statistics are updated without locking, since every
+     * admission and completion of the action type goes through them.
+     */
+    static final class CostModel {
+        private final boolean cpuTime;
+        private final int processors;
+        private final IntSupplier budgetPercent;
+        // the raw bits of the average cost per unit, a double
+        private final AtomicLong nanosPerUnit;
+        private final AtomicLong tokens;
+        private final AtomicLong lastRefillNanos;
+        private final LongAdder admittedCount = new LongAdder();
+        private final LongAdder completedCount = new LongAdder();
+        private final LongAdder estimatedNanosTotal = new LongAdder();
+        private final LongAdder actualNanosTotal = new LongAdder();
+        private final LongAdder absoluteErrorNanosTotal = new LongAdder();
+
+        CostModel(long initialNanosPerUnit, boolean cpuTime, int processors, IntSupplier budgetPercent, long now) {
+            this.cpuTime = cpuTime;
+            this.nanosPerUnit = new AtomicLong(Double.doubleToRawLongBits(initialNanosPerUnit));
+            this.processors = processors;
+            this.budgetPercent = budgetPercent;
+            this.tokens = new AtomicLong(capacity());
+            this.lastRefillNanos = new AtomicLong(now);
+        }
+
+        /**
+         * @return whether the budget is in CPU time rather than in elapsed time
+         */
+        boolean cpuTime() {
+            return cpuTime;
+        }
+
+        long estimate(long units) {
+            return (long) Math.ceil(Double.longBitsToDouble(nanosPerUnit.get()) * units);
+        }
+
+        /**
+         * Charges the estimate against the budget if it fits. A full budget admits any request, so that requests estimated
+         * to cost more than the whole budget still run on an idle node.
+         */
+        boolean tryAcquire(long estimate, long now) {
+            refill(now);
+            final long capacity = capacity();
+            while (true) {
+                final long current = tokens.get();
+                if (current < capacity && current < estimate) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - estimate)) {
+                    admittedCount.increment();
+                    return true;
+                }
+            }
+        }
+
+        void complete(long units, long estimate, long charged, long actual, long now) {
+            settle(charged - actual, now);
+            nanosPerUnit.getAndUpdate(bits -> {
+                final double current = Double.longBitsToDouble(bits);
+                return Double.doubleToRawLongBits(current + EWMA_ALPHA * ((double) actual / units - current));
+            });
+            completedCount.increment();
+            estimatedNanosTotal.add(estimate);
+            actualNanosTotal.add(actual);
+            absoluteErrorNanosTotal.add(Math.abs(estimate - actual));
+        }
+
+        /**
+         * Completes a request whose actual cost was not measured, which is assumed to have cost its estimate.
+         */
+        void completeUnmeasured(long estimate, long charged, long now) {
+            settle(charged - estimate, now);
+        }
+
+        CostPredictionStats stats(long now) {
+            refill(now);
+            return new CostPredictionStats(
+                admittedCount.sum(),
+                completedCount.sum(),
+                (long) Double.longBitsToDouble(nanosPerUnit.get()),
+                estimatedNanosTotal.sum(),
+                actualNanosTotal.sum(),
+                absoluteErrorNanosTotal.sum(),
+                tokens.get()
+            );
+        }
+
+        private double refillPerNano() {
+            return processors * budgetPercent.getAsInt() / 100.0;
+        }
+
+        private long capacity() {
+            return (long) (refillPerNano() * BUDGET_WINDOW_NANOS);
+        }
+
+        private void settle(long delta, long now) {
+            refill(now);
+            final long capacity = capacity();
+            tokens.accumulateAndGet(delta, (current, change) -> Math.min(capacity, current + change));
+        }
+
+        private void refill(long now) {
+            final long last = lastRefillNanos.get();
+            // the thread that moves the refill time forward adds the tokens of the elapsed time
+            if (now > last && lastRefillNanos.compareAndSet(last, now)) {
+                final long refill = (long) ((now - last) * refillPerNano());
+                final long capacity = capacity();
+                tokens.accumulateAndGet(refill, (current, change) -> Math.min(capacity, current + change));
+            }
+        }
+    }
+}
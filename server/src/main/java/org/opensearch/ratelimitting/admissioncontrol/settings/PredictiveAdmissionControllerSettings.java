@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.settings;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+
+/**
+ * Settings related to the predictive, cost model based admission controller.
+ * @opensearch.internal
+ */
+public class PredictiveAdmissionControllerSettings {
+
+    /**
+     * Default parameters for the PredictiveAdmissionControllerSettings
+     */
+    public static class Defaults {
+        public static final String MODE = AdmissionControlMode.DISABLED.getMode();
+        public static final int CPU_BUDGET_PERCENT = 90;
+    }
+
+    private volatile AdmissionControlMode transportLayerMode;
+    private volatile int searchCpuBudgetPercent;
+    private volatile int indexingCpuBudgetPercent;
+
+    /**
+     * Feature level setting to operate in shadow-mode or in enforced-mode. Unlike the usage based controllers this one
+     * does not follow {@code admission_control.transport.mode}, since it needs some traffic to learn its cost models
+     * before its decisions are meaningful.
+     */
+    public static final Setting<AdmissionControlMode> PREDICTIVE_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE = new Setting<>(
+        "admission_control.transport.predictive_cost.mode_override",
+        Defaults.MODE,
+        AdmissionControlMode::fromName,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of the node's CPU time, in percent of all processors, that admitted search requests may be predicted to use
+     */
+    public static final Setting<Integer> SEARCH_CPU_BUDGET_PERCENT = Setting.intSetting(
+        "admission_control.search.predictive_cost.cpu_budget_percent",
+        Defaults.CPU_BUDGET_PERCENT,
+        1,
+        100,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of the node's processors, in percent, that admitted indexing requests may be predicted to keep busy. Bulk shard
+     * requests do not report their CPU time, so this budget is in elapsed time.
+     */
+    public static final Setting<Integer> INDEXING_CPU_BUDGET_PERCENT = Setting.intSetting(
+        "admission_control.indexing.predictive_cost.cpu_budget_percent",
+        Defaults.CPU_BUDGET_PERCENT,
+        1,
+        100,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public PredictiveAdmissionControllerSettings(ClusterSettings clusterSettings, Settings settings) {
+        this.transportLayerMode = PREDICTIVE_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.get(settings);
+        this.searchCpuBudgetPercent = SEARCH_CPU_BUDGET_PERCENT.get(settings);
+        this.indexingCpuBudgetPercent = INDEXING_CPU_BUDGET_PERCENT.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(PREDICTIVE_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE, this::setTransportLayerMode);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_CPU_BUDGET_PERCENT, this::setSearchCpuBudgetPercent);
+        clusterSettings.addSettingsUpdateConsumer(INDEXING_CPU_BUDGET_PERCENT, this::setIndexingCpuBudgetPercent);
+    }
+
+    private void setTransportLayerMode(AdmissionControlMode admissionControlMode) {
+        this.transportLayerMode = admissionControlMode;
+    }
+
+    public AdmissionControlMode getTransportLayerAdmissionControllerMode() {
+        return transportLayerMode;
+    }
+
+    public int getSearchCpuBudgetPercent() {
+        return searchCpuBudgetPercent;
+    }
+
+    public int getIndexingCpuBudgetPercent() {
+        return indexingCpuBudgetPercent;
+    }
+
+    public void setSearchCpuBudgetPercent(int searchCpuBudgetPercent) {
+        this.searchCpuBudgetPercent = searchCpuBudgetPercent;
+    }
+
+    public void setIndexingCpuBudgetPercent(int indexingCpuBudgetPercent) {
+        this.indexingCpuBudgetPercent = indexingCpuBudgetPercent;
+    }
+}
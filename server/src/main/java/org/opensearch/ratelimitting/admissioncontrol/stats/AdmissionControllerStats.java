@@ -8,6 +8,7 @@
 
 package org.opensearch.ratelimitting.admissioncontrol.stats;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -16,6 +17,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.AdmissionController;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -25,15 +27,22 @@ import java.util.Map;
 public class AdmissionControllerStats implements Writeable, ToXContentFragment {
     public Map<String, Long> rejectionCount;
     public String admissionControllerName;
+    public Map<String, CostPredictionStats> costPrediction;
 
     public AdmissionControllerStats(AdmissionController admissionController) {
         this.rejectionCount = admissionController.getRejectionStats();
         this.admissionControllerName = admissionController.getName();
+        this.costPrediction = admissionController.getCostPredictionStats();
     }
 
     public AdmissionControllerStats(StreamInput in) throws IOException {
         this.rejectionCount = in.readMap(StreamInput::readString, StreamInput::readLong);
         this.admissionControllerName = in.readString();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.costPrediction = in.readMap(StreamInput::readString, CostPredictionStats::new);
+        } else {
+            this.costPrediction = Collections.emptyMap();
+        }
     }
 
     public String getAdmissionControllerName() {
@@ -44,6 +53,13 @@ public class AdmissionControllerStats implements Writeable, ToXContentFragment {
         return rejectionCount;
     }
 
+    /**
+     * @return per action type cost model stats, empty unless the admission controller predicts request costs
+     */
+    public Map<String, CostPredictionStats> getCostPrediction() {
+        return costPrediction;
+    }
+
     /**
      * Writes this instance into a {@link StreamOutput}
      * @param out the {@link StreamOutput} to write to
@@ -53,6 +69,9 @@ public class AdmissionControllerStats implements Writeable, ToXContentFragment {
     public void writeTo(StreamOutput out) throws IOException {
         out.writeMap(this.rejectionCount, StreamOutput::writeString, StreamOutput::writeLong);
         out.writeString(this.admissionControllerName);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeMap(this.costPrediction, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     @Override
@@ -67,6 +86,15 @@ public class AdmissionControllerStats implements Writeable, ToXContentFragment {
                 }
             }
             builder.endObject();
+            if (this.costPrediction.isEmpty() == false) {
+                builder.startObject("cost_prediction");
+                for (Map.Entry<String, CostPredictionStats> costPredictionEntry : this.costPrediction.entrySet()) {
+                    builder.startObject(costPredictionEntry.getKey());
+                    costPredictionEntry.getValue().toXContent(builder, params);
+                    builder.endObject();
+                }
+                builder.endObject();
+            }
         }
         builder.endObject();
         return builder.endObject();
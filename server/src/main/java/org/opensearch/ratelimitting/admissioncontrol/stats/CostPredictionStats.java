@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.stats;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Decisions and estimation error of a predictive admission controller's cost model for one action type
+ * @opensearch.internal
+ */
+public class CostPredictionStats implements Writeable, ToXContentFragment {
+    private final long admittedCount;
+    private final long completedCount;
+    private final long estimatedNanosPerUnit;
+    private final long estimatedNanosTotal;
+    private final long actualNanosTotal;
+    private final long absoluteErrorNanosTotal;
+    private final long availableTokenNanos;
+
+    public CostPredictionStats(
+        long admittedCount,
+        long completedCount,
+        long estimatedNanosPerUnit,
+        long estimatedNanosTotal,
+        long actualNanosTotal,
+        long absoluteErrorNanosTotal,
+        long availableTokenNanos
+    ) {
+        this.admittedCount = admittedCount;
+        this.completedCount = completedCount;
+        this.estimatedNanosPerUnit = estimatedNanosPerUnit;
+        this.estimatedNanosTotal = estimatedNanosTotal;
+        this.actualNanosTotal = actualNanosTotal;
+        this.absoluteErrorNanosTotal = absoluteErrorNanosTotal;
+        this.availableTokenNanos = availableTokenNanos;
+    }
+
+    public CostPredictionStats(StreamInput in) throws IOException {
+        this.admittedCount = in.readVLong();
+        this.completedCount = in.readVLong();
+        this.estimatedNanosPerUnit = in.readVLong();
+        this.estimatedNanosTotal = in.readVLong();
+        this.actualNanosTotal = in.readVLong();
+        this.absoluteErrorNanosTotal = in.readVLong();
+        this.availableTokenNanos = in.readZLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(admittedCount);
+        out.writeVLong(completedCount);
+        out.writeVLong(estimatedNanosPerUnit);
+        out.writeVLong(estimatedNanosTotal);
+        out.writeVLong(actualNanosTotal);
+        out.writeVLong(absoluteErrorNanosTotal);
+        out.writeZLong(availableTokenNanos);
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public long getEstimatedNanosPerUnit() {
+        return estimatedNanosPerUnit;
+    }
+
+    public long getEstimatedNanosTotal() {
+        return estimatedNanosTotal;
+    }
+
+    public long getActualNanosTotal() {
+        return actualNanosTotal;
+    }
+
+    public long getAvailableTokenNanos() {
+        return availableTokenNanos;
+    }
+
+    /**
+     * @return the mean absolute error of the completed estimates relative to the observed cost, in percent
+     */
+    public double getMeanAbsoluteErrorPercent() {
+        return actualNanosTotal == 0 ? 0 : 100.0 * absoluteErrorNanosTotal / actualNanosTotal;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("admitted", admittedCount);
+        builder.field("completed", completedCount);
+        builder.field("estimated_nanos_per_unit", estimatedNanosPerUnit);
+        builder.field("estimated_nanos_total", estimatedNanosTotal);
+        builder.field("actual_nanos_total", actualNanosTotal);
+        builder.field("mean_absolute_error_percent", getMeanAbsoluteErrorPercent());
+        builder.field("available_token_nanos", availableTokenNanos);
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CostPredictionStats that = (CostPredictionStats) o;
+        return admittedCount == that.admittedCount
+            && completedCount == that.completedCount
+            && estimatedNanosPerUnit == that.estimatedNanosPerUnit
+            && estimatedNanosTotal == that.estimatedNanosTotal
+            && actualNanosTotal == that.actualNanosTotal
+            && absoluteErrorNanosTotal == that.absoluteErrorNanosTotal
+            && availableTokenNanos == that.availableTokenNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            admittedCount,
+            completedCount,
+            estimatedNanosPerUnit,
+            estimatedNanosTotal,
+            actualNanosTotal,
+            absoluteErrorNanosTotal,
+            availableTokenNanos
+        );
+    }
+}
@@ -58,7 +58,7 @@ public class AdmissionControlTransportHandler<T extends TransportRequest> implem
         if (!this.forceExecution) {
             // intercept the transport requests here and apply admission control
             try {
-                this.admissionControlService.applyTransportAdmissionControl(this.action, this.admissionControlActionType);
+                this.admissionControlService.applyTransportAdmissionControl(this.action, this.admissionControlActionType, request, task);
             } catch (final OpenSearchRejectedExecutionException openSearchRejectedExecutionException) {
                 log.warn(openSearchRejectedExecutionException.getMessage());
                 channel.sendResponse(openSearchRejectedExecutionException);
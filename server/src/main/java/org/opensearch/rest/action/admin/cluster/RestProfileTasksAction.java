@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.action.admin.cluster.node.tasks.profile.ProfileTasksAction;
+import org.opensearch.action.admin.cluster.node.tasks.profile.ProfileTasksRequest;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Transport action to sample the stack traces of running tasks
+ *
+ * @opensearch.api
+ */
+public class RestProfileTasksAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "profile_tasks_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(new Route(GET, "/_tasks/_profile"), new Route(GET, "/_tasks/{task_id}/_profile")));
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        ProfileTasksRequest profileTasksRequest = new ProfileTasksRequest();
+        profileTasksRequest.setTaskId(new TaskId(request.param("task_id")));
+        profileTasksRequest.setNodes(Strings.splitStringByCommaToArray(request.param("nodes")));
+        profileTasksRequest.setActions(Strings.splitStringByCommaToArray(request.param("actions")));
+        profileTasksRequest.setParentTaskId(new TaskId(request.param("parent_task_id")));
+        profileTasksRequest.setDuration(request.paramAsTime("duration", profileTasksRequest.getDuration()));
+        profileTasksRequest.setInterval(request.paramAsTime("interval", profileTasksRequest.getInterval()));
+        profileTasksRequest.setTimeout(request.paramAsTime("timeout", null));
+        return channel -> client.execute(ProfileTasksAction.INSTANCE, profileTasksRequest, new RestToXContentListener<>(channel));
+    }
+
+    @Override
+    public boolean canTripCircuitBreaker() {
+        return false;
+    }
+}
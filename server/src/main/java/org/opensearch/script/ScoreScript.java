@@ -142,6 +142,33 @@ public abstract class ScoreScript {
 
     public abstract double execute(ExplanationHolder explanation);
 
+    /**
+     * Scores a block of documents of the segment this script was created for in a single call. The default
+     * implementation positions the script on each document in turn and calls {@link #execute(ExplanationHolder)};
+     * script engines that can evaluate several documents at once may override it.
+     *
+     * @param docIds the segment-relative ids of the documents to score, in increasing order
+     * @param subQueryScores the sub-query score of each document, or {@code null} if the script does not need {@code _score}
+     * @param count the number of documents to score
+     * @param scores receives the score of each document
+     */
+    public void executeBatch(int[] docIds, float[] subQueryScores, int count, float[] scores) {
+        final DoubleSupplier previousScoreSupplier = scoreSupplier;
+        final int[] current = new int[1];
+        if (subQueryScores != null) {
+            scoreSupplier = () -> subQueryScores[current[0]];
+        }
+        try {
+            for (int i = 0; i < count; i++) {
+                current[0] = i;
+                setDocument(docIds[i]);
+                scores[i] = (float) execute(null);
+            }
+        } finally {
+            scoreSupplier = previousScoreSupplier;
+        }
+    }
+
     /** Return the parameters for this script. */
     public Map<String, Object> getParams() {
         return params;
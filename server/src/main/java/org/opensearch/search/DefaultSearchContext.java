@@ -34,6 +34,7 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
@@ -1398,8 +1399,25 @@ final class DefaultSearchContext extends SearchContext {
         return Boolean.TRUE.equals(requestShouldUseIntraSegmentSearch.get());
     }
 
+    private boolean isStarTreeUsedOnAllSegments() {
+        if (getQueryShardContext().getStarTreeQueryContext() == null) {
+            return false;
+        }
+        try {
+            for (LeafReaderContext leaf : searcher().getIndexReader().leaves()) {
+                if (StarTreeQueryHelper.getSupportedStarTree(getQueryShardContext(), leaf) == null) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
     /**
      * Evaluate if request should use intra-segment search based on partition strategy and query/aggregation analysis.
+     * The star tree query context must have been set already.
      */
     public void evaluateRequestShouldUseIntraSegmentSearch() {
         String partitionStrategy = getPartitionStrategy();
@@ -1407,8 +1425,9 @@ final class DefaultSearchContext extends SearchContext {
             requestShouldUseIntraSegmentSearch.set(false);
             return;
         }
-        // StarTree precomputes aggregations at index time - intra-segment adds no benefit
-        if (aggregations() != null && StarTreeQueryHelper.getSupportedStarTree(getQueryShardContext()) != null) {
+        // StarTree precomputes aggregations at index time - intra-segment adds no benefit, unless hybrid execution aggregates some
+        // segments from their documents
+        if (aggregations() != null && isStarTreeUsedOnAllSegments()) {
             logger.debug("partition strategy decision: StarTree detected, disabling intra-segment");
             requestShouldUseIntraSegmentSearch.set(false);
             return;
@@ -34,12 +34,15 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
@@ -51,6 +54,8 @@ import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.action.search.UpdatePitContextRequest;
 import org.opensearch.action.search.UpdatePitContextResponse;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
+import org.opensearch.action.search.pruning.ShardFieldDomainSubscriptions;
 import org.opensearch.action.support.StreamSearchChannelListener;
 import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
@@ -62,11 +67,13 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
 import org.opensearch.common.util.io.IOUtils;
@@ -82,7 +89,9 @@ import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fielddomain.ShardFieldDomains;
 import org.opensearch.index.mapper.DerivedFieldResolver;
 import org.opensearch.index.mapper.DerivedFieldResolverFactory;
 import org.opensearch.index.query.InnerHitContextBuilder;
@@ -97,6 +106,7 @@ import org.opensearch.index.search.QueryStringQueryParser;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.indices.IncrementalAggregationCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
 import org.opensearch.node.ResponseCollectorService;
@@ -107,6 +117,7 @@ import org.opensearch.search.aggregations.AggregationInitializationException;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.SearchContextAggregations;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
@@ -272,6 +283,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Whether new point in time contexts are backed by a flushed index commit rather than by an open reader, so that the
+     * reader can be released while the context is idle.
+     */
+    public static final Setting<Boolean> PIT_COMPACT_CONTEXTS_ENABLED = Setting.boolSetting(
+        "search.pit.compact_contexts.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * How long a compact point in time context is unused before its reader is released.
+     */
+    public static final Setting<TimeValue> PIT_COMPACT_CONTEXTS_IDLE_TIMEOUT = Setting.positiveTimeSetting(
+        "search.pit.compact_contexts.idle_timeout",
+        timeValueMinutes(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Boolean> CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING = Setting.boolSetting(
         "search.concurrent_segment_search.enabled",
         false,
@@ -499,8 +531,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenPitContext;
 
+    private volatile boolean compactPitContexts;
+
+    private volatile long compactPitContextIdleTimeInMillis;
+
     private volatile boolean allowDerivedField;
 
+    private volatile boolean starTreeHybridExecutionEnabled;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -517,6 +555,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final List<SearchPlugin.ProfileMetricsProvider> pluginProfilers;
 
+    private final ShardFieldDomainCache shardFieldDomainCache;
+
+    private final ShardFieldDomainSubscriptions shardFieldDomainSubscriptions;
+
     public SearchService(
         ClusterService clusterService,
         IndicesService indicesService,
@@ -579,6 +621,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         maxOpenPitContext = MAX_OPEN_PIT_CONTEXT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_OPEN_PIT_CONTEXT, this::setMaxOpenPitContext);
 
+        compactPitContexts = PIT_COMPACT_CONTEXTS_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PIT_COMPACT_CONTEXTS_ENABLED, this::setCompactPitContexts);
+        compactPitContextIdleTimeInMillis = PIT_COMPACT_CONTEXTS_IDLE_TIMEOUT.get(settings).millis();
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(PIT_COMPACT_CONTEXTS_IDLE_TIMEOUT, value -> this.compactPitContextIdleTimeInMillis = value.millis());
+
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
 
@@ -598,10 +646,21 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         allowDerivedField = CLUSTER_ALLOW_DERIVED_FIELD_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(CLUSTER_ALLOW_DERIVED_FIELD_SETTING, this::setAllowDerivedField);
 
+        starTreeHybridExecutionEnabled = CompositeIndexSettings.STAR_TREE_HYBRID_EXECUTION_ENABLED_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                CompositeIndexSettings.STAR_TREE_HYBRID_EXECUTION_ENABLED_SETTING,
+                value -> this.starTreeHybridExecutionEnabled = value
+            );
+
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
 
         this.pluginProfilers = pluginProfilers;
 
+        this.shardFieldDomainCache = new ShardFieldDomainCache(clusterService.getClusterSettings(), threadPool::relativeTimeInNanos);
+        clusterService.addListener(shardFieldDomainCache);
+        this.shardFieldDomainSubscriptions = new ShardFieldDomainSubscriptions(clusterService, shardFieldDomainCache);
+
         // Initialize QueryRewriterRegistry with cluster settings so TermsMergingRewriter
         // can register its settings update consumer
         QueryRewriterRegistry.INSTANCE.initialize(settings, clusterService.getClusterSettings());
@@ -681,10 +740,24 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.maxOpenPitContext = maxOpenPitContext;
     }
 
+    private void setCompactPitContexts(boolean compactPitContexts) {
+        this.compactPitContexts = compactPitContexts;
+    }
+
     private void setLowLevelCancellation(Boolean lowLevelCancellation) {
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    @Override
+    public void afterIndexShardCreated(IndexShard indexShard) {
+        indexShard.addReaderVersionListener(generation -> shardFieldDomainSubscriptions.onRefresh(indexShard.shardId(), generation));
+    }
+
+    @Override
+    public void afterIndexShardClosed(ShardId shardId, IndexShard indexShard, Settings indexSettings) {
+        shardFieldDomainSubscriptions.onClose(shardId);
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -784,13 +857,91 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     private void loadOrExecuteQueryPhase(final ShardSearchRequest request, final SearchContext context) throws Exception {
         final boolean canCache = indicesService.canCache(request, context);
         context.getQueryShardContext().freezeContext();
-        if (canCache) {
+        final IncrementalAggregationCache.Plan incrementalPlan = indicesService.getIncrementalAggregationCache().plan(request, context);
+        if (incrementalPlan != null) {
+            executeIncrementalQueryPhase(incrementalPlan, context);
+        } else if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
         }
     }
 
+    /**
+     * Executes the query phase of a request whose closed date histogram buckets can be cached, see {@link IncrementalAggregationCache}.
+     * The closed buckets that are not cached and the remainder of the range are executed in their own search contexts, on the same
+     * reader, and their results are merged with the cached buckets into the query result of the given context.
+     */
+    private void executeIncrementalQueryPhase(IncrementalAggregationCache.Plan plan, SearchContext context) throws Exception {
+        final IncrementalAggregationCache incrementalAggregationCache = indicesService.getIncrementalAggregationCache();
+        final IncrementalAggregationCache.Lookup lookup = incrementalAggregationCache.lookup(plan, context.searcher().getDirectoryReader());
+        final QuerySearchResult result = context.queryResult();
+        final List<InternalAggregations> aggregations = new ArrayList<>();
+        final TopDocsAndMaxScore remainderTopDocs;
+        final DocValueFormat[] sortValueFormats;
+        try (SearchContext remainderContext = createContext(context.readerContext(), plan.remainderRequest(), context.getTask(), true)) {
+            remainderContext.getQueryShardContext().freezeContext();
+            queryPhase.execute(remainderContext);
+            final QuerySearchResult remainderResult = remainderContext.queryResult();
+            if (remainderResult.hasAggs()) {
+                // the remainder goes first so that its empty buckets, that cover the whole range, are the ones that are kept
+                aggregations.add(remainderResult.consumeAggs().expand());
+            }
+            remainderTopDocs = remainderResult.consumeTopDocs();
+            sortValueFormats = remainderResult.sortValueFormats();
+            result.from(remainderResult.from()).size(remainderResult.size());
+            result.serviceTimeEWMA(remainderResult.serviceTimeEWMA()).nodeQueueSize(remainderResult.nodeQueueSize());
+            result.shardInflightQueries(remainderResult.shardInflightQueries()).shardCacheHitRatio(remainderResult.shardCacheHitRatio());
+            result.searchTimedOut(remainderResult.searchTimedOut());
+        }
+        long closedHits = 0;
+        TotalHits.Relation relation = remainderTopDocs.topDocs.totalHits.relation();
+        for (IncrementalAggregationCache.CachedBucket cachedBucket : lookup.cachedBuckets()) {
+            aggregations.add(cachedBucket.aggregations());
+            closedHits += cachedBucket.docCount();
+        }
+        if (lookup.firstMissing() != -1) {
+            final long startNanos = System.nanoTime();
+            final ShardSearchRequest closedRequest = plan.closedRequest(lookup.firstMissing(), lookup.lastMissing());
+            try (SearchContext closedContext = createContext(context.readerContext(), closedRequest, context.getTask(), true)) {
+                closedContext.getQueryShardContext().freezeContext();
+                queryPhase.execute(closedContext);
+                final QuerySearchResult closedResult = closedContext.queryResult();
+                final InternalAggregations closedAggregations = closedResult.hasAggs()
+                    ? closedResult.consumeAggs().expand()
+                    : InternalAggregations.EMPTY;
+                aggregations.add(closedAggregations);
+                final TotalHits closedTotalHits = closedResult.topDocs().topDocs.totalHits;
+                closedHits += closedTotalHits.value();
+                if (closedTotalHits.relation() == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                    relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+                }
+                if (closedResult.searchTimedOut()) {
+                    result.searchTimedOut(true);
+                } else if (closedContext.getQueryShardContext().isCacheable() && closedResult.hasAggs()) {
+                    incrementalAggregationCache.put(
+                        plan,
+                        context.searcher().getDirectoryReader(),
+                        lookup.firstMissing(),
+                        lookup.lastMissing(),
+                        closedAggregations,
+                        System.nanoTime() - startNanos
+                    );
+                }
+            }
+        }
+        final TotalHits totalHits = context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+            ? remainderTopDocs.topDocs.totalHits
+            : new TotalHits(remainderTopDocs.topDocs.totalHits.value() + closedHits, relation);
+        result.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(totalHits, remainderTopDocs.topDocs.scoreDocs), remainderTopDocs.maxScore),
+            sortValueFormats
+        );
+        result.aggregations(
+            InternalAggregations.reduce(aggregations, aggReduceContextBuilder(context.request().source()).forPartialReduction())
+        );
+    }
+
     public void executeQueryPhase(
         ShardSearchRequest request,
         boolean keepStatesInContext,
@@ -841,11 +992,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                 }
                 // fork the execution in the search thread pool
-                runAsync(
-                    getExecutor(executorName, shard),
-                    () -> executeQueryPhase(orig, task, keepStatesInContext, isStreamSearch, listener),
-                    listener
-                );
+                final boolean profile = orig.source() != null && orig.source().profile();
+                final long enqueuedNanos = profile ? System.nanoTime() : 0;
+                runAsync(getExecutor(executorName, shard), () -> {
+                    if (profile) {
+                        orig.setQueueWaitTimeInNanos(System.nanoTime() - enqueuedNanos);
+                    }
+                    return executeQueryPhase(orig, task, keepStatesInContext, isStreamSearch, listener);
+                }, listener);
             }
 
             @Override
@@ -1216,7 +1370,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                             + "] setting."
                     );
                 }
-                searcherSupplier = shard.acquireSearcherSupplier();
+                searcherSupplier = compactPitContexts ? shard.acquireCommitSearcherSupplier() : shard.acquireSearcherSupplier();
                 final ShardSearchContextId id = new ShardSearchContextId(sessionId, idGenerator.incrementAndGet());
                 readerContext = new PitReaderContext(id, indexService, shard, searcherSupplier, keepAlive.millis(), false);
                 final ReaderContext finalReaderContext = readerContext;
@@ -1768,7 +1922,6 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             context.collapse(collapseContext);
         }
         context.evaluateRequestShouldUseConcurrentSearch();
-        context.evaluateRequestShouldUseIntraSegmentSearch();
         if (source.profile()) {
             final Function<Query, Collection<Supplier<ProfileMetric>>> pluginProfileMetricsSupplier = (query) -> pluginProfilers.stream()
                 .flatMap(p -> p.getQueryProfileMetrics(context, query).stream())
@@ -1779,11 +1932,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         if (context.getStarTreeIndexEnabled() && StarTreeQueryHelper.isStarTreeSupported(context)) {
             StarTreeQueryContext starTreeQueryContext = new StarTreeQueryContext(context, source.query());
-            boolean consolidated = starTreeQueryContext.consolidateAllFilters(context);
+            boolean consolidated = starTreeQueryContext.consolidateAllFilters(context, starTreeHybridExecutionEnabled);
             if (consolidated) {
                 queryShardContext.setStarTreeQueryContext(starTreeQueryContext);
             }
         }
+        // depends on whether the star tree is used
+        context.evaluateRequestShouldUseIntraSegmentSearch();
     }
 
     /**
@@ -1845,6 +2000,20 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return this.activeReaders.size();
     }
 
+    /**
+     * Returns the coordinator-side table of the field domains returned by can_match responses.
+     */
+    public ShardFieldDomainCache getShardFieldDomainCache() {
+        return shardFieldDomainCache;
+    }
+
+    /**
+     * Returns the data node side of the field domain summaries, which invalidates them when the local shards refresh.
+     */
+    public ShardFieldDomainSubscriptions getShardFieldDomainSubscriptions() {
+        return shardFieldDomainSubscriptions;
+    }
+
     public ResponseCollectorService getResponseCollectorService() {
         return this.responseCollectorService;
     }
@@ -1856,6 +2025,29 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 if (context.isExpired()) {
                     logger.debug("freeing search context [{}]", context.id());
                     freeReaderContext(context.id());
+                } else if (context instanceof PitReaderContext pitReaderContext) {
+                    if (pitReaderContext.releaseIdleReader(compactPitContextIdleTimeInMillis)) {
+                        logger.debug("released the reader of idle point in time context [{}]", context.id());
+                    }
+                    if (pitReaderContext.canOffloadCommit(compactPitContextIdleTimeInMillis)) {
+                        // locking the commit in the remote segment store is remote I/O, which must not block the reaper
+                        threadPool.generic().execute(new AbstractRunnable() {
+                            @Override
+                            protected void doRun() throws IOException {
+                                if (pitReaderContext.offloadCommit()) {
+                                    logger.debug("moved the commit of idle point in time context [{}] to the remote store", context.id());
+                                }
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                logger.warn(
+                                    () -> new ParameterizedMessage("failed to move the commit of point in time context [{}]", context.id()),
+                                    e
+                                );
+                            }
+                        });
+                    }
                 }
             }
         }
@@ -1924,7 +2116,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final Integer trackTotalHitsUpto = request.source() == null ? null : request.source().trackTotalHitsUpTo();
                 canMatch = canMatch && canMatchSearchAfter(searchAfterFieldDoc, minMax, sortBuilder, trackTotalHitsUpto);
 
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                // summarize the current reader for the can_match phase only, the query phase shortcut drops the summary and point in
+                // time readers and pending refreshes would not describe later requests
+                ShardFieldDomains fieldDomains = null;
+                if (checkRefreshPending
+                    && readerContext == null
+                    && hasRefreshPending == false
+                    && request.getClusterAlias() == null
+                    && request.getParentTask().isSet()
+                    && shardFieldDomainCache.enabled()
+                    && shardFieldDomainSubscriptions.subscribe(
+                        request.shardId(),
+                        request.getParentTask().getNodeId(),
+                        canMatchSearcher.getDirectoryReader().getVersion()
+                    )) {
+                    fieldDomains = ShardFieldDomains.of(
+                        canMatchSearcher.getDirectoryReader(),
+                        context::fieldMapper,
+                        shardFieldDomainCache.fields()
+                    );
+                }
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, fieldDomains);
             }
         }
     }
@@ -2061,16 +2273,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final ShardFieldDomains fieldDomains;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
             this.canMatch = in.readBoolean();
             this.estimatedMinAndMax = in.readOptionalWriteable(MinAndMax::new);
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                this.fieldDomains = in.readOptionalWriteable(ShardFieldDomains::new);
+            } else {
+                this.fieldDomains = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, ShardFieldDomains fieldDomains) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.fieldDomains = fieldDomains;
         }
 
         @Override
@@ -2078,6 +2301,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             super.writeTo(out);
             out.writeBoolean(canMatch);
             out.writeOptionalWriteable(estimatedMinAndMax);
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeOptionalWriteable(fieldDomains);
+            }
         }
 
         public boolean canMatch() {
@@ -2087,6 +2313,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * Returns the summary of the configured fields on the shard, or {@code null} if none was computed.
+         */
+        public ShardFieldDomains fieldDomains() {
+            return fieldDomains;
+        }
     }
 
     /**
@@ -54,7 +54,6 @@ import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
 
 import java.io.IOException;
-import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -330,6 +329,11 @@ public class DateHistogramAggregationBuilder extends ValuesSourceAggregationBuil
         ).millis();
     }
 
+    /** Return the rounding that computes the keys of the buckets of this histogram. */
+    public Rounding rounding() {
+        return dateHistogramInterval.createRounding(timeZone(), offset);
+    }
+
     /** Return extended bounds for this histogram, or {@code null} if none are set. */
     public LongBounds extendedBounds() {
         return extendedBounds;
@@ -345,6 +349,14 @@ public class DateHistogramAggregationBuilder extends ValuesSourceAggregationBuil
         return this;
     }
 
+    /** Return a copy of this histogram without extended bounds, which collects the same buckets on each shard since extended
+     *  bounds only add empty buckets when the results of the shards are reduced. */
+    public DateHistogramAggregationBuilder withoutExtendedBounds() {
+        final DateHistogramAggregationBuilder copy = new DateHistogramAggregationBuilder(this, factoriesBuilder, metadata);
+        copy.extendedBounds = null;
+        return copy;
+    }
+
     /** Return hard bounds for this histogram, or {@code null} if none are set. */
     public LongBounds hardBounds() {
         return hardBounds;
@@ -473,8 +485,7 @@ public class DateHistogramAggregationBuilder extends ValuesSourceAggregationBuil
         AggregatorFactory parent,
         AggregatorFactories.Builder subFactoriesBuilder
     ) throws IOException {
-        final ZoneId tz = timeZone();
-        final Rounding rounding = dateHistogramInterval.createRounding(tz, offset);
+        final Rounding rounding = rounding();
 
         LongBounds roundedBounds = null;
         if (this.extendedBounds != null) {
@@ -329,7 +329,7 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
 
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
-        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext(), ctx);
         if (supportedStarTree != null) {
             preComputeWithStarTree(ctx, supportedStarTree);
             return true;
@@ -244,7 +244,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
 
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
-        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext(), ctx);
         if (supportedStarTree != null) {
             preComputeWithStarTree(ctx, supportedStarTree);
             return true;
@@ -90,7 +90,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
         if (valuesSource instanceof ValuesSource.Numeric) {
-            CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+            CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext(), ctx);
             if (supportedStarTree != null) {
                 if (parent != null && subAggregators.length == 0) {
                     // If this a child aggregator, then the parent will trigger star-tree pre-computation.
@@ -311,10 +311,28 @@ public class SearchBackpressureService extends AbstractLifecycleComponent implem
                 break;
             }
 
+            if (requestPartialResults(taskCancellation)) {
+                logger.debug("asked task [{}] to return partial results instead of cancelling it", taskCancellation.getTask().getId());
+                searchBackpressureState.incrementPartialResultCount();
+                continue;
+            }
+
             taskCancellation.cancelTaskAndDescendants(taskManager);
         }
     }
 
+    /**
+     * Asks a search shard task to stop collecting and return the results it has so far, if partial results are enabled, the
+     * task is in a query phase that checks for the request and it was not asked before. A task that keeps breaching its limits
+     * after being asked is cancelled on a later run.
+     */
+    private boolean requestPartialResults(TaskCancellation taskCancellation) {
+        return taskCancellation.getTask() instanceof SearchShardTask searchShardTask
+            && getSettings().getSearchShardTaskSettings().isPartialResultsEnabled()
+            && searchShardTask.isPartialResultsSupported()
+            && searchShardTask.requestPartialResults(taskCancellation.getReasonString());
+    }
+
     /**
      * Had to define this method to help mock this static method to test the scenario where SearchTraffic should not be
      * penalised when not breaching the threshold
@@ -328,7 +346,12 @@ public class SearchBackpressureService extends AbstractLifecycleComponent implem
 
     private TaskCancellation addSBPStateUpdateCallback(TaskCancellation taskCancellation) {
         CancellableTask task = taskCancellation.getTask();
-        Runnable toAddCancellationCallbackForSBPState = searchBackpressureStates.get(SearchShardTask.class)::incrementCancellationCount;
+        SearchBackpressureState shardTaskState = searchBackpressureStates.get(SearchShardTask.class);
+        Runnable toAddCancellationCallbackForSBPState = () -> {
+            shardTaskState.incrementCancellationCount();
+            // the work done so far by a cancelled shard task is thrown away, unlike with partial results
+            shardTaskState.addCancelledCpuTimeNanos(task.getTotalResourceStats().getCpuTimeInNanos());
+        };
         if (task instanceof SearchTask) {
             toAddCancellationCallbackForSBPState = searchBackpressureStates.get(SearchTask.class)::incrementCancellationCount;
         }
@@ -526,6 +549,8 @@ public class SearchBackpressureService extends AbstractLifecycleComponent implem
             searchBackpressureStates.get(SearchShardTask.class).getCancellationCount(),
             searchBackpressureStates.get(SearchShardTask.class).getLimitReachedCount(),
             searchBackpressureStates.get(SearchShardTask.class).getCompletionCount(),
+            searchBackpressureStates.get(SearchShardTask.class).getPartialResultCount(),
+            searchBackpressureStates.get(SearchShardTask.class).getCancelledCpuTimeNanos(),
             taskTrackers.get(SearchShardTask.class)
                 .all()
                 .stream()
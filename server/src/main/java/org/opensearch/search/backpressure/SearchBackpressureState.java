@@ -35,6 +35,14 @@ public class SearchBackpressureState implements CancellationSettingsListener {
      * The number of times task cancellation limit was reached.
      */
     private final AtomicLong limitReachedCount = new AtomicLong();
+    /**
+     * The number of tasks asked to return partial results instead of being cancelled.
+     */
+    private final AtomicLong partialResultCount = new AtomicLong();
+    /**
+     * The CPU time spent by cancelled tasks, whose work is thrown away.
+     */
+    private final AtomicLong cancelledCpuTimeNanos = new AtomicLong();
     private volatile double cancellationBurst;
     private volatile double cancellationRate;
     private volatile double cancellationRatio;
@@ -78,6 +86,22 @@ public class SearchBackpressureState implements CancellationSettingsListener {
         return limitReachedCount.incrementAndGet();
     }
 
+    public long getPartialResultCount() {
+        return partialResultCount.get();
+    }
+
+    long incrementPartialResultCount() {
+        return partialResultCount.incrementAndGet();
+    }
+
+    public long getCancelledCpuTimeNanos() {
+        return cancelledCpuTimeNanos.get();
+    }
+
+    long addCancelledCpuTimeNanos(long cpuTimeNanos) {
+        return cancelledCpuTimeNanos.addAndGet(cpuTimeNanos);
+    }
+
     public TokenBucket getRateLimiter() {
         return rateLimiter.get();
     }
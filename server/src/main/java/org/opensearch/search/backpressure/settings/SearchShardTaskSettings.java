@@ -39,6 +39,7 @@ public class SearchShardTaskSettings {
         // The per-task threshold is a fraction of the backend-installed native memory budget,
         // mirroring HEAP_PERCENT_THRESHOLD.
         private static final double NATIVE_MEMORY_PERCENT_THRESHOLD = 0.05;
+        private static final boolean PARTIAL_RESULTS_ENABLED = false;
     }
 
     /**
@@ -184,6 +185,18 @@ public class SearchShardTaskSettings {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Defines whether a SearchShardTask breaching its limits is first asked to stop collecting and return partial results,
+     * and only cancelled if it still breaches its limits on a later iteration.
+     */
+    private volatile boolean partialResultsEnabled;
+    public static final Setting<Boolean> SETTING_PARTIAL_RESULTS_ENABLED = Setting.boolSetting(
+        "search_backpressure.search_shard_task.partial_results_enabled",
+        Defaults.PARTIAL_RESULTS_ENABLED,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     public SearchShardTaskSettings(Settings settings, ClusterSettings clusterSettings) {
         totalHeapPercentThreshold = SETTING_TOTAL_HEAP_PERCENT_THRESHOLD.get(settings);
         this.cpuTimeMillisThreshold = SETTING_CPU_TIME_MILLIS_THRESHOLD.get(settings);
@@ -195,6 +208,7 @@ public class SearchShardTaskSettings {
         this.cancellationRate = SETTING_CANCELLATION_RATE.get(settings);
         this.cancellationBurst = SETTING_CANCELLATION_BURST.get(settings);
         this.nativeMemoryPercentThreshold = SETTING_NATIVE_MEMORY_PERCENT_THRESHOLD.get(settings);
+        this.partialResultsEnabled = SETTING_PARTIAL_RESULTS_ENABLED.get(settings);
 
         clusterSettings.addSettingsUpdateConsumer(SETTING_TOTAL_HEAP_PERCENT_THRESHOLD, this::setTotalHeapPercentThreshold);
         clusterSettings.addSettingsUpdateConsumer(SETTING_CPU_TIME_MILLIS_THRESHOLD, this::setCpuTimeMillisThreshold);
@@ -206,6 +220,7 @@ public class SearchShardTaskSettings {
         clusterSettings.addSettingsUpdateConsumer(SETTING_CANCELLATION_RATE, this::setCancellationRate);
         clusterSettings.addSettingsUpdateConsumer(SETTING_CANCELLATION_BURST, this::setCancellationBurst);
         clusterSettings.addSettingsUpdateConsumer(SETTING_NATIVE_MEMORY_PERCENT_THRESHOLD, this::setNativeMemoryPercentThreshold);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_PARTIAL_RESULTS_ENABLED, this::setPartialResultsEnabled);
     }
 
     public double getTotalHeapPercentThreshold() {
@@ -264,6 +279,14 @@ public class SearchShardTaskSettings {
         this.nativeMemoryPercentThreshold = nativeMemoryPercentThreshold;
     }
 
+    public boolean isPartialResultsEnabled() {
+        return partialResultsEnabled;
+    }
+
+    void setPartialResultsEnabled(boolean partialResultsEnabled) {
+        this.partialResultsEnabled = partialResultsEnabled;
+    }
+
     public double getCancellationRatio() {
         return cancellationRatio;
     }
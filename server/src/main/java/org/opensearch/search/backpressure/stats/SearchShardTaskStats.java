@@ -33,6 +33,8 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
     private final long cancellationCount;
     private final long limitReachedCount;
     private final long completionCount;
+    private final long partialResultCount;
+    private final long cancelledCpuTimeNanos;
     private final Map<TaskResourceUsageTrackerType, TaskResourceUsageTracker.Stats> resourceUsageTrackerStats;
 
     public SearchShardTaskStats(
@@ -40,10 +42,23 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
         long limitReachedCount,
         long completionCount,
         Map<TaskResourceUsageTrackerType, TaskResourceUsageTracker.Stats> resourceUsageTrackerStats
+    ) {
+        this(cancellationCount, limitReachedCount, completionCount, 0, 0, resourceUsageTrackerStats);
+    }
+
+    public SearchShardTaskStats(
+        long cancellationCount,
+        long limitReachedCount,
+        long completionCount,
+        long partialResultCount,
+        long cancelledCpuTimeNanos,
+        Map<TaskResourceUsageTrackerType, TaskResourceUsageTracker.Stats> resourceUsageTrackerStats
     ) {
         this.cancellationCount = cancellationCount;
         this.limitReachedCount = limitReachedCount;
         this.completionCount = completionCount;
+        this.partialResultCount = partialResultCount;
+        this.cancelledCpuTimeNanos = cancelledCpuTimeNanos;
         this.resourceUsageTrackerStats = resourceUsageTrackerStats;
     }
 
@@ -55,6 +70,13 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
         } else {
             completionCount = -1;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            partialResultCount = in.readVLong();
+            cancelledCpuTimeNanos = in.readVLong();
+        } else {
+            partialResultCount = 0;
+            cancelledCpuTimeNanos = 0;
+        }
 
         MapBuilder<TaskResourceUsageTrackerType, TaskResourceUsageTracker.Stats> builder = new MapBuilder<>();
         builder.put(TaskResourceUsageTrackerType.CPU_USAGE_TRACKER, in.readOptionalWriteable(CpuUsageTracker.Stats::new));
@@ -85,6 +107,8 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
         builder.startObject("cancellation_stats")
             .field("cancellation_count", cancellationCount)
             .field("cancellation_limit_reached_count", limitReachedCount)
+            .field("partial_result_count", partialResultCount)
+            .field("cancelled_cpu_time_nanos", cancelledCpuTimeNanos)
             .endObject();
 
         return builder.endObject();
@@ -97,6 +121,10 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
         if (out.getVersion().onOrAfter(Version.V_3_0_0)) {
             out.writeVLong(completionCount);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeVLong(partialResultCount);
+            out.writeVLong(cancelledCpuTimeNanos);
+        }
 
         out.writeOptionalWriteable(resourceUsageTrackerStats.get(TaskResourceUsageTrackerType.CPU_USAGE_TRACKER));
         out.writeOptionalWriteable(resourceUsageTrackerStats.get(TaskResourceUsageTrackerType.HEAP_USAGE_TRACKER));
@@ -114,11 +142,20 @@ public class SearchShardTaskStats implements ToXContentObject, Writeable {
         return cancellationCount == that.cancellationCount
             && limitReachedCount == that.limitReachedCount
             && completionCount == that.completionCount
+            && partialResultCount == that.partialResultCount
+            && cancelledCpuTimeNanos == that.cancelledCpuTimeNanos
             && resourceUsageTrackerStats.equals(that.resourceUsageTrackerStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cancellationCount, limitReachedCount, resourceUsageTrackerStats, completionCount);
+        return Objects.hash(
+            cancellationCount,
+            limitReachedCount,
+            resourceUsageTrackerStats,
+            completionCount,
+            partialResultCount,
+            cancelledCpuTimeNanos
+        );
     }
 }
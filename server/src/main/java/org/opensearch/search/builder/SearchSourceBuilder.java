@@ -746,6 +746,14 @@ public final class SearchSourceBuilder implements Writeable, ToXContentObject, R
         return aggregations;
     }
 
+    /**
+     * Sets the aggregations to perform as part of the search, replacing the ones that were added.
+     */
+    public SearchSourceBuilder aggregations(AggregatorFactories.Builder aggregations) {
+        this.aggregations = aggregations;
+        return this;
+    }
+
     /**
      * Adds highlight to perform as part of the search.
      */
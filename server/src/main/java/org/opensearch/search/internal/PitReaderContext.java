@@ -8,23 +8,39 @@
 
 package org.opensearch.search.internal;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.CommitSearcherSupplier;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.Segment;
 import org.opensearch.index.shard.IndexShard;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * PIT reader context containing PIT specific information such as pit id, create time etc.
  */
 public class PitReaderContext extends ReaderContext {
 
+    private static final Logger logger = LogManager.getLogger(PitReaderContext.class);
+
     // Storing the encoded PIT ID as part of PIT reader context for use cases such as list pit API
     private final SetOnce<String> pitId = new SetOnce<>();
     // Creation time of PIT contexts which helps users to differentiate between multiple PIT reader contexts
@@ -35,7 +51,9 @@ public class PitReaderContext extends ReaderContext {
     private final ShardRouting shardRouting;
 
     /**
-     * Encapsulates segments constituting the shard at the time of creation of PIT Reader Context.
+     * Encapsulates segments constituting the shard at the time of creation of PIT Reader Context. Compact contexts do not
+     * keep them and read them from the segment infos of their commit instead, without opening a reader, see
+     * {@link #getSegments()}.
      */
     private final List<Segment> segments;
 
@@ -49,7 +67,7 @@ public class PitReaderContext extends ReaderContext {
     ) {
         super(id, indexService, indexShard, searcherSupplier, keepAliveInMillis, singleSession);
         shardRouting = indexShard.routingEntry();
-        segments = indexShard.segments(true);
+        segments = searcherSupplier instanceof CommitSearcherSupplier ? null : indexShard.segments(true);
     }
 
     public String getPitId() {
@@ -89,6 +107,107 @@ public class PitReaderContext extends ReaderContext {
     }
 
     public List<Segment> getSegments() {
-        return Collections.unmodifiableList(segments);
+        if (segments != null) {
+            return Collections.unmodifiableList(segments);
+        }
+        final SegmentInfos segmentInfos;
+        try {
+            segmentInfos = ((CommitSearcherSupplier) searcherSupplier).segmentInfos();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read the segments of the commit", e);
+        }
+        final List<Segment> commitSegments = new ArrayList<>();
+        for (SegmentCommitInfo info : segmentInfos) {
+            final Segment segment = new Segment(info.info.name);
+            segment.search = true;
+            segment.committed = true;
+            segment.delDocCount = info.getDelCount() + info.getSoftDelCount();
+            segment.docCount = info.info.maxDoc() - segment.delDocCount;
+            segment.version = info.info.getVersion();
+            segment.compound = info.info.getUseCompoundFile();
+            try {
+                segment.sizeInBytes = info.sizeInBytes();
+            } catch (IOException e) {
+                logger.trace(() -> new ParameterizedMessage("failed to get size for [{}]", info.info.name), e);
+            }
+            segment.segmentSort = info.info.getIndexSort();
+            segment.attributes = info.info.getAttributes();
+            commitSegments.add(segment);
+        }
+        return Collections.unmodifiableList(commitSegments);
+    }
+
+    /**
+     * Adds the segment files that the context keeps on disk, with their length, to the provided map. Files that are already
+     * in the map are not looked up again, so that files that several contexts share are counted once.
+     */
+    public void collectPinnedFiles(Map<String, Long> files) {
+        try {
+            if (searcherSupplier instanceof CommitSearcherSupplier commitSearcherSupplier) {
+                commitSearcherSupplier.collectPinnedFiles(files);
+                return;
+            }
+            try (Engine.Searcher searcher = searcherSupplier.acquireSearcher("pit_pinned_files")) {
+                for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                    final SegmentReader segmentReader = Lucene.segmentReader(leaf.reader());
+                    for (String file : segmentReader.getSegmentInfo().files()) {
+                        if (files.containsKey(file) == false) {
+                            try {
+                                files.put(file, segmentReader.directory().fileLength(file));
+                            } catch (IOException e) {
+                                // the file was deleted from the store while the reader keeps it open, its length is unknown
+                                logger.trace(() -> new ParameterizedMessage("failed to get the length of [{}]", file), e);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (AlreadyClosedException | IOException e) {
+            // the context was freed concurrently or its files can not be read, it is not accounted for
+            logger.trace(() -> new ParameterizedMessage("failed to collect the pinned files of [{}]", id()), e);
+        }
+    }
+
+    /**
+     * Returns whether the commit of a compact context that was not used for longer than the provided time can be moved to the
+     * remote segment store now.
+     */
+    public boolean canOffloadCommit(long idleTimeInMillis) {
+        return searcherSupplier instanceof CommitSearcherSupplier commitSearcherSupplier
+            && commitSearcherSupplier.canOffloadCommit()
+            && isIdle(idleTimeInMillis);
+    }
+
+    /**
+     * Moves the commit of a compact context to the remote segment store, see {@link CommitSearcherSupplier#offloadCommit()}.
+     *
+     * @return whether the commit was moved
+     */
+    public boolean offloadCommit() throws IOException {
+        if (searcherSupplier instanceof CommitSearcherSupplier commitSearcherSupplier) {
+            return commitSearcherSupplier.offloadCommit();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the context is backed by an index commit that only opens a reader while it is in use, see
+     * {@link CommitSearcherSupplier}.
+     */
+    public boolean isCompact() {
+        return searcherSupplier instanceof CommitSearcherSupplier;
+    }
+
+    /**
+     * Releases the reader of a compact context that was not used for longer than the provided time. The reader is opened
+     * again from the index commit of the context on the next search.
+     *
+     * @return whether a reader was released
+     */
+    public boolean releaseIdleReader(long idleTimeInMillis) {
+        if (searcherSupplier instanceof CommitSearcherSupplier commitSearcherSupplier && isIdle(idleTimeInMillis)) {
+            return commitSearcherSupplier.releaseReader();
+        }
+        return false;
     }
 }
@@ -176,11 +176,18 @@ public class ReaderContext implements Releasable {
     }
 
     public boolean isExpired() {
+        return isIdle(keepAlive.get());
+    }
+
+    /**
+     * Returns whether the reader was not used for longer than the provided time.
+     */
+    protected boolean isIdle(long idleTimeInMillis) {
         if (refCounted.refCount() > 1) {
             return false; // being used by markAsUsed
         }
         final long elapsed = nowInMillis() - lastAccessTime.get();
-        return elapsed > keepAlive.get();
+        return elapsed > idleTimeInMillis;
     }
 
     // BWC
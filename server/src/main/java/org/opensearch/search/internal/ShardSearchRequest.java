@@ -99,6 +99,8 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
     private final long nowInMillis;
     private long inboundNetworkTime;
     private long outboundNetworkTime;
+    // not serialized, measured on the node executing the request when it is profiled
+    private long queueWaitTimeInNanos = -1;
     private final boolean allowPartialSearchResults;
     private final String[] indexRoutings;
     private final String preference;
@@ -280,6 +282,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.nowInMillis = clone.nowInMillis;
         this.inboundNetworkTime = clone.inboundNetworkTime;
         this.outboundNetworkTime = clone.outboundNetworkTime;
+        this.queueWaitTimeInNanos = clone.queueWaitTimeInNanos;
         this.requestCache = clone.requestCache;
         this.clusterAlias = clone.clusterAlias;
         this.allowPartialSearchResults = clone.allowPartialSearchResults;
@@ -405,6 +408,18 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.outboundNetworkTime = newTime;
     }
 
+    /**
+     * The time the request waited in the search thread pool queue of the node executing it, or {@code -1} if unknown.
+     * Only measured when the request is profiled.
+     */
+    public long getQueueWaitTimeInNanos() {
+        return queueWaitTimeInNanos;
+    }
+
+    public void setQueueWaitTimeInNanos(long queueWaitTimeInNanos) {
+        this.queueWaitTimeInNanos = queueWaitTimeInNanos;
+    }
+
     public Boolean requestCache() {
         return requestCache;
     }
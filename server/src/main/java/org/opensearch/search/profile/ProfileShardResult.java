@@ -62,16 +62,29 @@ public class ProfileShardResult implements Writeable {
 
     private NetworkTime networkTime;
 
+    private final long queueWaitTimeInNanos;
+
     public ProfileShardResult(
         List<QueryProfileShardResult> queryProfileResults,
         AggregationProfileShardResult aggProfileShardResult,
         FetchProfileShardResult fetchProfileResult,
         NetworkTime networkTime
+    ) {
+        this(queryProfileResults, aggProfileShardResult, fetchProfileResult, networkTime, -1);
+    }
+
+    public ProfileShardResult(
+        List<QueryProfileShardResult> queryProfileResults,
+        AggregationProfileShardResult aggProfileShardResult,
+        FetchProfileShardResult fetchProfileResult,
+        NetworkTime networkTime,
+        long queueWaitTimeInNanos
     ) {
         this.aggProfileShardResult = aggProfileShardResult;
         this.fetchProfileResult = fetchProfileResult;
         this.queryProfileResults = Collections.unmodifiableList(queryProfileResults);
         this.networkTime = networkTime;
+        this.queueWaitTimeInNanos = queueWaitTimeInNanos;
     }
 
     /**
@@ -102,6 +115,11 @@ public class ProfileShardResult implements Writeable {
             this.fetchProfileResult = new FetchProfileShardResult(Collections.emptyList());
         }
         this.networkTime = new NetworkTime(in);
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.queueWaitTimeInNanos = in.readZLong();
+        } else {
+            this.queueWaitTimeInNanos = -1;
+        }
     }
 
     @Override
@@ -115,6 +133,9 @@ public class ProfileShardResult implements Writeable {
             fetchProfileResult.writeTo(out);
         }
         networkTime.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeZLong(queueWaitTimeInNanos);
+        }
     }
 
     public List<QueryProfileShardResult> getQueryProfileResults() {
@@ -133,6 +154,13 @@ public class ProfileShardResult implements Writeable {
         return networkTime;
     }
 
+    /**
+     * The time the shard request waited in the search thread pool queue of the data node, or {@code -1} if unknown
+     */
+    public long getQueueWaitTimeInNanos() {
+        return queueWaitTimeInNanos;
+    }
+
     public void setNetworkTime(NetworkTime newTime) {
         networkTime.setInboundNetworkTime(newTime.getInboundNetworkTime());
         networkTime.setOutboundNetworkTime(newTime.getOutboundNetworkTime());
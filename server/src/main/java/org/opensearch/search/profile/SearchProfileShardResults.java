@@ -32,6 +32,8 @@
 
 package org.opensearch.search.profile;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -72,6 +74,9 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
 
     private Map<String, ProfileShardResult> shardResults;
 
+    @Nullable
+    private SearchTimeline timeline;
+
     public SearchProfileShardResults(Map<String, ProfileShardResult> shardResults) {
         this.shardResults = Collections.unmodifiableMap(shardResults);
     }
@@ -86,12 +91,27 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             shardResults.put(key, shardResult);
         }
         shardResults = Collections.unmodifiableMap(shardResults);
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            timeline = in.readOptionalWriteable(SearchTimeline::new);
+        }
     }
 
     public Map<String, ProfileShardResult> getShardResults() {
         return this.shardResults;
     }
 
+    /**
+     * The timeline of the request assembled by the coordinating node, or {@code null} if there is none
+     */
+    @Nullable
+    public SearchTimeline getTimeline() {
+        return timeline;
+    }
+
+    public void setTimeline(@Nullable SearchTimeline timeline) {
+        this.timeline = timeline;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeInt(shardResults.size());
@@ -99,6 +119,9 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             out.writeString(entry.getKey());
             entry.getValue().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(timeline);
+        }
     }
 
     @Override
@@ -122,7 +145,11 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             profileShardResult.getFetchProfileResult().toXContent(builder, params);
             builder.endObject();
         }
-        builder.endArray().endObject();
+        builder.endArray();
+        if (timeline != null) {
+            timeline.toXContent(builder, params);
+        }
+        builder.endObject();
         return builder;
     }
 
@@ -226,7 +253,8 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             networkTime.setInboundNetworkTime(request.getInboundNetworkTime());
             networkTime.setOutboundNetworkTime(request.getOutboundNetworkTime());
         }
-        return new ProfileShardResult(queryResults, aggResults, fetchResult, networkTime);
+        final long queueWaitTimeInNanos = request != null ? request.getQueueWaitTimeInNanos() : -1;
+        return new ProfileShardResult(queryResults, aggResults, fetchResult, networkTime, queueWaitTimeInNanos);
     }
 
     /**
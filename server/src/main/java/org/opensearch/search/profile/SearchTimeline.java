@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The timeline of a profiled search request as seen by the coordinating node: when each phase started and how long it
+ * took, and for the phases that run on shards, when each shard request was sent and how long it took to come back.
+ * Offsets are relative to the start of the request. The slowest shard of a phase and the slowest phase are on the
+ * critical path of the request and are reported as such.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class SearchTimeline implements Writeable, ToXContentFragment {
+
+    public static final String TIMELINE_FIELD = "timeline";
+
+    private final long tookInNanos;
+    private final List<Phase> phases;
+
+    public SearchTimeline(long tookInNanos, List<Phase> phases) {
+        this.tookInNanos = tookInNanos;
+        this.phases = phases;
+    }
+
+    public SearchTimeline(StreamInput in) throws IOException {
+        this.tookInNanos = in.readVLong();
+        this.phases = in.readList(Phase::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(tookInNanos);
+        out.writeList(phases);
+    }
+
+    public long getTookInNanos() {
+        return tookInNanos;
+    }
+
+    /**
+     * The phases of the request, in the order they started
+     */
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    /**
+     * The phase that took the longest, or {@code null} if there is none
+     */
+    public Phase getCriticalPhase() {
+        Phase critical = null;
+        for (Phase phase : phases) {
+            if (critical == null || phase.tookInNanos > critical.tookInNanos) {
+                critical = phase;
+            }
+        }
+        return critical;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(TIMELINE_FIELD);
+        builder.field("took_in_nanos", tookInNanos);
+        final Phase criticalPhase = getCriticalPhase();
+        if (criticalPhase != null) {
+            builder.field("critical_phase", criticalPhase.name);
+        }
+        builder.startArray("phases");
+        for (Phase phase : phases) {
+            phase.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchTimeline that = (SearchTimeline) o;
+        return tookInNanos == that.tookInNanos && phases.equals(that.phases);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tookInNanos, phases);
+    }
+
+    /**
+     * A phase of the request, like {@code can_match}, {@code query}, {@code reduce} or {@code fetch}
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class Phase implements Writeable, ToXContentObject {
+        private final String name;
+        private final long startOffsetInNanos;
+        private final long tookInNanos;
+        private final List<Shard> shards;
+
+        public Phase(String name, long startOffsetInNanos, long tookInNanos, List<Shard> shards) {
+            this.name = name;
+            this.startOffsetInNanos = startOffsetInNanos;
+            this.tookInNanos = tookInNanos;
+            this.shards = shards;
+        }
+
+        public Phase(StreamInput in) throws IOException {
+            this.name = in.readString();
+            this.startOffsetInNanos = in.readVLong();
+            this.tookInNanos = in.readVLong();
+            this.shards = in.readList(Shard::new);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeVLong(startOffsetInNanos);
+            out.writeVLong(tookInNanos);
+            out.writeList(shards);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getStartOffsetInNanos() {
+            return startOffsetInNanos;
+        }
+
+        public long getTookInNanos() {
+            return tookInNanos;
+        }
+
+        /**
+         * The shard requests of the phase, in the order they were sent
+         */
+        public List<Shard> getShards() {
+            return shards;
+        }
+
+        /**
+         * The shard request that took the longest, or {@code null} if the phase did not run on shards
+         */
+        public Shard getCriticalShard() {
+            Shard critical = null;
+            for (Shard shard : shards) {
+                if (critical == null || shard.tookInNanos > critical.tookInNanos) {
+                    critical = shard;
+                }
+            }
+            return critical;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("name", name);
+            builder.field("start_offset_in_nanos", startOffsetInNanos);
+            builder.field("took_in_nanos", tookInNanos);
+            final Shard criticalShard = getCriticalShard();
+            if (criticalShard != null) {
+                builder.field("critical_shard", criticalShard.id);
+                builder.startArray("shards");
+                for (Shard shard : shards) {
+                    shard.toXContent(builder, params);
+                }
+                builder.endArray();
+            }
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Phase phase = (Phase) o;
+            return startOffsetInNanos == phase.startOffsetInNanos
+                && tookInNanos == phase.tookInNanos
+                && name.equals(phase.name)
+                && shards.equals(phase.shards);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, startOffsetInNanos, tookInNanos, shards);
+        }
+    }
+
+    /**
+     * A shard request of a phase. The time it took is the round trip seen by the coordinating node. The parts of it spent
+     * on the network and waiting in the queue of the data node are reported when they are known.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class Shard implements Writeable, ToXContentObject {
+        private final String id;
+        private final long startOffsetInNanos;
+        private final long tookInNanos;
+        private final boolean failed;
+        private final long queueWaitTimeInNanos;
+        private final long inboundNetworkTimeInMillis;
+        private final long outboundNetworkTimeInMillis;
+
+        public Shard(
+            String id,
+            long startOffsetInNanos,
+            long tookInNanos,
+            boolean failed,
+            long queueWaitTimeInNanos,
+            long inboundNetworkTimeInMillis,
+            long outboundNetworkTimeInMillis
+        ) {
+            this.id = id;
+            this.startOffsetInNanos = startOffsetInNanos;
+            this.tookInNanos = tookInNanos;
+            this.failed = failed;
+            this.queueWaitTimeInNanos = queueWaitTimeInNanos;
+            this.inboundNetworkTimeInMillis = inboundNetworkTimeInMillis;
+            this.outboundNetworkTimeInMillis = outboundNetworkTimeInMillis;
+        }
+
+        public Shard(StreamInput in) throws IOException {
+            this.id = in.readString();
+            this.startOffsetInNanos = in.readVLong();
+            this.tookInNanos = in.readVLong();
+            this.failed = in.readBoolean();
+            this.queueWaitTimeInNanos = in.readZLong();
+            this.inboundNetworkTimeInMillis = in.readZLong();
+            this.outboundNetworkTimeInMillis = in.readZLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(id);
+            out.writeVLong(startOffsetInNanos);
+            out.writeVLong(tookInNanos);
+            out.writeBoolean(failed);
+            out.writeZLong(queueWaitTimeInNanos);
+            out.writeZLong(inboundNetworkTimeInMillis);
+            out.writeZLong(outboundNetworkTimeInMillis);
+        }
+
+        /**
+         * The shard target, in the same format as the ids of the profiled shards
+         */
+        public String getId() {
+            return id;
+        }
+
+        public long getStartOffsetInNanos() {
+            return startOffsetInNanos;
+        }
+
+        public long getTookInNanos() {
+            return tookInNanos;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        /**
+         * The time the request waited in the search thread pool queue of the data node, or {@code -1} if unknown
+         */
+        public long getQueueWaitTimeInNanos() {
+            return queueWaitTimeInNanos;
+        }
+
+        /**
+         * The time the request took to reach the data node, or {@code -1} if unknown
+         */
+        public long getInboundNetworkTimeInMillis() {
+            return inboundNetworkTimeInMillis;
+        }
+
+        /**
+         * The time the response took to reach the coordinating node, or {@code -1} if unknown
+         */
+        public long getOutboundNetworkTimeInMillis() {
+            return outboundNetworkTimeInMillis;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("id", id);
+            builder.field("start_offset_in_nanos", startOffsetInNanos);
+            builder.field("took_in_nanos", tookInNanos);
+            if (failed) {
+                builder.field("failed", true);
+            }
+            if (queueWaitTimeInNanos >= 0) {
+                builder.field("queue_wait_time_in_nanos", queueWaitTimeInNanos);
+            }
+            if (inboundNetworkTimeInMillis >= 0) {
+                builder.field(SearchProfileShardResults.INBOUND_NETWORK_FIELD, inboundNetworkTimeInMillis);
+            }
+            if (outboundNetworkTimeInMillis >= 0) {
+                builder.field(SearchProfileShardResults.OUTBOUND_NETWORK_FIELD, outboundNetworkTimeInMillis);
+            }
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Shard shard = (Shard) o;
+            return startOffsetInNanos == shard.startOffsetInNanos
+                && tookInNanos == shard.tookInNanos
+                && failed == shard.failed
+                && queueWaitTimeInNanos == shard.queueWaitTimeInNanos
+                && inboundNetworkTimeInMillis == shard.inboundNetworkTimeInMillis
+                && outboundNetworkTimeInMillis == shard.outboundNetworkTimeInMillis
+                && id.equals(shard.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                id,
+                startOffsetInNanos,
+                tookInNanos,
+                failed,
+                queueWaitTimeInNanos,
+                inboundNetworkTimeInMillis,
+                outboundNetworkTimeInMillis
+            );
+        }
+    }
+}
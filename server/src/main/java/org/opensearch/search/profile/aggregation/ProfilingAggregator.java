@@ -42,6 +42,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.ProfilingWrapper;
 import org.opensearch.search.profile.Timer;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.search.startree.StarTreeQueryContext;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -109,6 +110,18 @@ public class ProfilingAggregator extends Aggregator implements ProfilingWrapper<
         } finally {
             timer.stop();
             delegate.collectDebugInfo(profileBreakdown::addDebugInfo);
+            collectStarTreeDebugInfo();
+        }
+    }
+
+    private void collectStarTreeDebugInfo() {
+        SearchContext context = delegate.context();
+        if (context == null || context.getQueryShardContext() == null) {
+            return;
+        }
+        StarTreeQueryContext starTreeQueryContext = context.getQueryShardContext().getStarTreeQueryContext();
+        if (starTreeQueryContext != null) {
+            starTreeQueryContext.collectDebugInfo(profileBreakdown::addDebugInfo);
         }
     }
 
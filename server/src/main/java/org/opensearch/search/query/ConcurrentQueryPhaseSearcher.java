@@ -92,7 +92,7 @@ public class ConcurrentQueryPhaseSearcher extends DefaultQueryPhaseSearcher {
             rethrowCauseIfPossible(re, searchContext);
         }
         if (searchContext.isSearchTimedOut()) {
-            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            assert timeoutSet : "TimeExceededException thrown even though neither timeout nor partial results checks were set";
             if (searchContext.request().allowPartialSearchResults() == false) {
                 throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
             }
@@ -270,6 +270,7 @@ public class QueryPhase {
                 timeoutRunnable = null;
             }
 
+            final Runnable partialResultsRunnable;
             if (searchContext.lowLevelCancellation()) {
                 searcher.addQueryCancellation(() -> {
                     SearchShardTask task = searchContext.getTask();
@@ -277,6 +278,14 @@ public class QueryPhase {
                         throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
                     }
                 });
+                if (scrollContext == null && searchContext.getTask() != null && searchContext.request().allowPartialSearchResults()) {
+                    partialResultsRunnable = searcher.addQueryCancellation(createPartialResultsChecker(searchContext.getTask()));
+                    searchContext.getTask().setPartialResultsSupported(true);
+                } else {
+                    partialResultsRunnable = null;
+                }
+            } else {
+                partialResultsRunnable = null;
             }
 
             try {
@@ -286,7 +295,7 @@ public class QueryPhase {
                     query,
                     collectors,
                     hasFilterCollector,
-                    timeoutSet
+                    timeoutSet || partialResultsRunnable != null
                 );
 
                 ExecutorService executor = searchContext.indexShard().getThreadPool().executor(ThreadPool.Names.SEARCH);
@@ -294,6 +303,9 @@ public class QueryPhase {
                     queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
                     queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
                 }
+                // this query is still accounted as executing on the shard
+                queryResult.shardInflightQueries((int) Math.max(0, searchContext.indexShard().currentSearchQueries() - 1));
+                queryResult.shardCacheHitRatio(searchContext.indexShard().requestCacheHitRatio());
 
                 return shouldRescore;
             } finally {
@@ -302,6 +314,10 @@ public class QueryPhase {
                 if (timeoutRunnable != null) {
                     searcher.removeQueryCancellation(timeoutRunnable);
                 }
+                if (partialResultsRunnable != null) {
+                    searchContext.getTask().setPartialResultsSupported(false);
+                    searcher.removeQueryCancellation(partialResultsRunnable);
+                }
             }
         } catch (Exception e) {
             throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
@@ -330,6 +346,20 @@ public class QueryPhase {
         };
     }
 
+    /**
+     * Create runnable which throws {@link TimeExceededException} once search backpressure asked the task to stop collecting,
+     * so that the shard returns the hits and aggregations it has collected so far, flagged as timed out
+     * @param task the task executing the query phase
+     * @return the created runnable
+     */
+    static Runnable createPartialResultsChecker(final SearchShardTask task) {
+        return () -> {
+            if (task.isPartialResultsRequested()) {
+                throw new TimeExceededException();
+            }
+        };
+    }
+
     private static boolean searchWithCollector(
         SearchContext searchContext,
         ContextIndexSearcher searcher,
@@ -360,7 +390,7 @@ public class QueryPhase {
             queryResult.terminatedEarly(true);
         }
         if (searchContext.isSearchTimedOut()) {
-            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            assert timeoutSet : "TimeExceededException thrown even though neither timeout nor partial results checks were set";
             if (searchContext.request().allowPartialSearchResults() == false) {
                 throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
             }
@@ -34,6 +34,7 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -87,6 +88,8 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private int shardInflightQueries = -1;
+    private double shardCacheHitRatio = -1;
 
     private final boolean isNull;
 
@@ -327,6 +330,31 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the number of other queries that were executing on the shard, from any coordinating node, when this
+     * query completed, or {@code -1} if unknown.
+     */
+    public int shardInflightQueries() {
+        return this.shardInflightQueries;
+    }
+
+    public QuerySearchResult shardInflightQueries(int shardInflightQueries) {
+        this.shardInflightQueries = shardInflightQueries;
+        return this;
+    }
+
+    /**
+     * Returns the hit ratio of the request cache of the shard, or {@code -1} if unknown.
+     */
+    public double shardCacheHitRatio() {
+        return this.shardCacheHitRatio;
+    }
+
+    public QuerySearchResult shardCacheHitRatio(double shardCacheHitRatio) {
+        this.shardCacheHitRatio = shardCacheHitRatio;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -364,6 +392,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
         hasProfileResults = profileShardResults != null;
         serviceTimeEWMA = in.readZLong();
         nodeQueueSize = in.readInt();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            shardInflightQueries = in.readInt();
+            shardCacheHitRatio = in.readDouble();
+        }
         setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
         setRescoreDocIds(new RescoreDocIds(in));
     }
@@ -406,6 +438,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
         out.writeOptionalWriteable(profileShardResults);
         out.writeZLong(serviceTimeEWMA);
         out.writeInt(nodeQueueSize);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeInt(shardInflightQueries);
+            out.writeDouble(shardCacheHitRatio);
+        }
         out.writeOptionalWriteable(getShardSearchRequest());
         getRescoreDocIds().writeTo(out);
     }
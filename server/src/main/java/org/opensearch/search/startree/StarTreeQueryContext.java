@@ -8,6 +8,12 @@
 
 package org.opensearch.search.startree;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -19,6 +25,7 @@ import org.opensearch.index.compositeindex.datacube.NumericDimension;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
@@ -31,9 +38,13 @@ import org.opensearch.search.startree.filter.StarTreeFilter;
 import org.opensearch.search.startree.filter.provider.StarTreeFilterProvider;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +66,16 @@ public class StarTreeQueryContext {
     private final QueryBuilder baseQueryBuilder;
     private StarTreeFilter baseStarTreeFilter;
 
+    /**
+     * Filters of the base query on fields that are not dimensions of the star tree, for hybrid execution. The star tree is
+     * only used on the segments where they match all documents, the other segments are aggregated from their documents.
+     */
+    private Weight residualFilterWeight;
+    private final Map<Integer, Boolean> perSegmentStarTreeUsage = new ConcurrentHashMap<>();
+    private final AtomicInteger starTreeSegments = new AtomicInteger();
+    private final AtomicInteger residualSegments = new AtomicInteger();
+    private volatile Boolean usesStarTree;
+
     // TODO : Implement storing and aggregating aggregation specific filters.
 
     public StarTreeQueryContext(SearchContext context, QueryBuilder baseQueryBuilder) {
@@ -106,6 +127,15 @@ public class StarTreeQueryContext {
      * @return true if recursively all filters were consolidated, else false.
      */
     public boolean consolidateAllFilters(SearchContext context) {
+        return consolidateAllFilters(context, false);
+    }
+
+    /**
+     * Same as {@link #consolidateAllFilters(SearchContext)}, but when hybrid execution is allowed a base query that has
+     * filters on fields that are not dimensions of the star tree is split into a star tree filter and residual filters.
+     * @return true if recursively all filters were consolidated, else false.
+     */
+    public boolean consolidateAllFilters(SearchContext context, boolean hybridExecution) {
         // Validate the fields and metrics required by aggregations are supported in star tree
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
             if (validateNestedAggregationStructure(compositeMappedFieldType, aggregatorFactory)) {
@@ -118,12 +148,126 @@ public class StarTreeQueryContext {
         // Generate the base Star Tree Filter
         if (baseQueryBuilder != null) {
             baseStarTreeFilter = getStarTreeFilter(context, baseQueryBuilder, compositeMappedFieldType);
+            if (baseStarTreeFilter == null && hybridExecution) {
+                return consolidateHybridFilters(context);
+            }
             return baseStarTreeFilter != null; // Base Query is not supported by star tree filter.
         }
         // TODO : Generate StarTreeFilter specific to aggregations by merging base and their parents.
         return true;
     }
 
+    /**
+     * Splits the conjunctive clauses of the base query between the ones that the star tree supports and the residual ones.
+     * @return true if the supported clauses form a star tree filter and the residual ones can be evaluated per segment.
+     */
+    private boolean consolidateHybridFilters(SearchContext context) {
+        List<QueryBuilder> clauses = new ArrayList<>();
+        if (baseQueryBuilder instanceof BoolQueryBuilder boolQuery) {
+            if (boolQuery.should().isEmpty() == false || boolQuery.mustNot().isEmpty() == false) {
+                return false;
+            }
+            clauses.addAll(boolQuery.must());
+            clauses.addAll(boolQuery.filter());
+        } else {
+            clauses.add(baseQueryBuilder);
+        }
+        BoolQueryBuilder starTreeQuery = new BoolQueryBuilder();
+        List<QueryBuilder> residualClauses = new ArrayList<>();
+        for (QueryBuilder clause : clauses) {
+            if (getStarTreeFilter(context, clause, compositeMappedFieldType) != null) {
+                starTreeQuery.filter(clause);
+            } else {
+                residualClauses.add(clause);
+            }
+        }
+        if (residualClauses.isEmpty()) {
+            return false;
+        }
+        QueryBuilder residualQuery = residualClauses.get(0);
+        if (residualClauses.size() > 1) {
+            BoolQueryBuilder residualBoolQuery = new BoolQueryBuilder();
+            residualClauses.forEach(residualBoolQuery::filter);
+            residualQuery = residualBoolQuery;
+        }
+        baseStarTreeFilter = starTreeQuery.hasClauses()
+            ? getStarTreeFilter(context, starTreeQuery, compositeMappedFieldType)
+            : new StarTreeFilter(Collections.emptyMap());
+        if (baseStarTreeFilter == null) {
+            return false;
+        }
+        try {
+            // a plain searcher keeps the residual filters out of the query cache and of the profiled queries
+            IndexSearcher searcher = new IndexSearcher(context.searcher().getIndexReader());
+            searcher.setQueryCache(null);
+            Query query = searcher.rewrite(context.getQueryShardContext().toQuery(residualQuery).query());
+            residualFilterWeight = searcher.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the star tree can be used to aggregate the provided segment. With hybrid execution, this is only the
+     * case if the residual filters can be proven to match all the documents of the segment without visiting them.
+     */
+    public boolean canUseStarTree(LeafReaderContext ctx) throws IOException {
+        if (residualFilterWeight == null) {
+            return true;
+        }
+        Boolean useStarTree = perSegmentStarTreeUsage.get(ctx.ord);
+        if (useStarTree == null) {
+            // the star tree includes deleted documents, so segments with deletions are aggregated from their live documents
+            useStarTree = ctx.reader().hasDeletions() == false && residualFilterWeight.count(ctx) == ctx.reader().maxDoc();
+            if (perSegmentStarTreeUsage.putIfAbsent(ctx.ord, useStarTree) == null) {
+                AtomicInteger segments = useStarTree ? starTreeSegments : residualSegments;
+                segments.incrementAndGet();
+            }
+        }
+        return useStarTree;
+    }
+
+    /**
+     * Returns whether the star tree is used to aggregate at least one segment of the given reader, which is always the case
+     * without hybrid execution. The answer is computed once, so that all the phases of the request agree on it.
+     */
+    public boolean usesStarTree(IndexReader reader) throws IOException {
+        if (isHybridExecution() == false) {
+            return true;
+        }
+        Boolean usesStarTree = this.usesStarTree;
+        if (usesStarTree == null) {
+            usesStarTree = false;
+            for (LeafReaderContext ctx : reader.leaves()) {
+                if (canUseStarTree(ctx)) {
+                    usesStarTree = true;
+                    break;
+                }
+            }
+            this.usesStarTree = usesStarTree;
+        }
+        return usesStarTree;
+    }
+
+    /**
+     * Whether the star tree is only used on the segments where the residual filters of the base query match all documents.
+     */
+    public boolean isHybridExecution() {
+        return residualFilterWeight != null;
+    }
+
+    /**
+     * Adds the plan of the star tree execution to the profile of an aggregation.
+     */
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        add.accept("star_tree_plan", isHybridExecution() ? "hybrid" : "star_tree");
+        if (isHybridExecution()) {
+            add.accept("star_tree_segments", starTreeSegments.get());
+            add.accept("residual_filter_segments", residualSegments.get());
+        }
+    }
+
     public StarTreeFilter getBaseQueryStarTreeFilter() {
         if (baseStarTreeFilter == null) {
             return new StarTreeFilter(Collections.emptyMap());
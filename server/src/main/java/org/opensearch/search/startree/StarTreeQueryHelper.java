@@ -59,6 +59,15 @@ public class StarTreeQueryHelper {
         return (starTreeQueryContext != null) ? starTreeQueryContext.getStarTree() : null;
     }
 
+    /**
+     * Returns the star tree to aggregate the provided segment with, or null if the segment has to be aggregated from its
+     * documents.
+     */
+    public static CompositeIndexFieldInfo getSupportedStarTree(QueryShardContext context, LeafReaderContext ctx) throws IOException {
+        StarTreeQueryContext starTreeQueryContext = context.getStarTreeQueryContext();
+        return (starTreeQueryContext != null && starTreeQueryContext.canUseStarTree(ctx)) ? starTreeQueryContext.getStarTree() : null;
+    }
+
     public static StarTreeValues getStarTreeValues(LeafReaderContext context, CompositeIndexFieldInfo starTree) throws IOException {
         SegmentReader reader = Lucene.segmentReader(context.reader());
         if (!(reader.getDocValuesReader() instanceof CompositeIndexReader starTreeDocValuesReader)) {
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of sampling the stack traces of the threads running a task, see {@link TaskProfiler}. Stacks are in the
+ * folded format used by flame graph tools: frames from the outermost to the innermost call, separated by {@code ;}.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class TaskProfile implements Writeable, ToXContentObject {
+
+    private final TaskInfo task;
+    private final TimeValue interval;
+    private final TimeValue duration;
+    private final long samples;
+    private final long idleSamples;
+    private final List<Stack> stacks;
+
+    public TaskProfile(TaskInfo task, TimeValue interval, TimeValue duration, long samples, long idleSamples, List<Stack> stacks) {
+        this.task = task;
+        this.interval = interval;
+        this.duration = duration;
+        this.samples = samples;
+        this.idleSamples = idleSamples;
+        this.stacks = stacks;
+    }
+
+    public TaskProfile(StreamInput in) throws IOException {
+        this.task = new TaskInfo(in);
+        this.interval = in.readTimeValue();
+        this.duration = in.readTimeValue();
+        this.samples = in.readVLong();
+        this.idleSamples = in.readVLong();
+        this.stacks = in.readList(Stack::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        task.writeTo(out);
+        out.writeTimeValue(interval);
+        out.writeTimeValue(duration);
+        out.writeVLong(samples);
+        out.writeVLong(idleSamples);
+        out.writeList(stacks);
+    }
+
+    /**
+     * The profiled task, as it was when profiling ended
+     */
+    public TaskInfo getTask() {
+        return task;
+    }
+
+    public TimeValue getInterval() {
+        return interval;
+    }
+
+    public TimeValue getDuration() {
+        return duration;
+    }
+
+    /**
+     * The number of times the threads of the task were sampled
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * The number of samples at which no thread was running the task
+     */
+    public long getIdleSamples() {
+        return idleSamples;
+    }
+
+    /**
+     * The distinct sampled stacks, most frequently sampled first
+     */
+    public List<Stack> getStacks() {
+        return stacks;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject("task");
+        task.toXContent(builder, params);
+        builder.endObject();
+        builder.humanReadableField("interval_in_millis", "interval", interval);
+        builder.humanReadableField("duration_in_millis", "duration", duration);
+        builder.field("samples", samples);
+        builder.field("idle_samples", idleSamples);
+        builder.startArray("stacks");
+        for (Stack stack : stacks) {
+            stack.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskProfile that = (TaskProfile) o;
+        return samples == that.samples
+            && idleSamples == that.idleSamples
+            && task.equals(that.task)
+            && interval.equals(that.interval)
+            && duration.equals(that.duration)
+            && stacks.equals(that.stacks);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(task, interval, duration, samples, idleSamples, stacks);
+    }
+
+    /**
+     * A folded stack and what was attributed to it. The CPU time and allocated bytes of a thread since its previous
+     * sample are attributed to the stack it is sampled in.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static class Stack implements Writeable, ToXContentObject {
+        private final String foldedStack;
+        private final long samples;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+
+        public Stack(String foldedStack, long samples, long cpuTimeNanos, long allocatedBytes) {
+            this.foldedStack = foldedStack;
+            this.samples = samples;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public Stack(StreamInput in) throws IOException {
+            this.foldedStack = in.readString();
+            this.samples = in.readVLong();
+            this.cpuTimeNanos = in.readVLong();
+            this.allocatedBytes = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(foldedStack);
+            out.writeVLong(samples);
+            out.writeVLong(cpuTimeNanos);
+            out.writeVLong(allocatedBytes);
+        }
+
+        public String getFoldedStack() {
+            return foldedStack;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("folded_stack", foldedStack);
+            builder.field("samples", samples);
+            builder.field("cpu_time_in_nanos", cpuTimeNanos);
+            builder.field("allocated_bytes", allocatedBytes);
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Stack stack = (Stack) o;
+            return samples == stack.samples
+                && cpuTimeNanos == stack.cpuTimeNanos
+                && allocatedBytes == stack.allocatedBytes
+                && foldedStack.equals(stack.foldedStack);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(foldedStack, samples, cpuTimeNanos, allocatedBytes);
+        }
+    }
+}
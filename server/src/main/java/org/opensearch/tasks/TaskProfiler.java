@@ -0,0 +1,305 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import com.sun.management.ThreadMXBean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An on-demand sampling profiler for tasks. While a task is profiled, the stack traces of the threads that are running
+ * it, as known to the {@link TaskResourceTrackingService}, are sampled at a fixed interval and aggregated into folded
+ * stacks. Only tasks that support resource tracking can be profiled, and only while resource tracking is enabled.
+ * <p>
+ * Nothing runs while no task is profiled. The number of concurrent profiles on a node is bounded, further profiles wait
+ * for a running one to finish, up to {@value #MAX_PENDING_PROFILES} of them, so that a request that matches more tasks
+ * than the limit still profiles all of them. The depth of the sampled stacks and the number of distinct stacks kept per
+ * profile are bounded too; samples of further distinct stacks are counted as {@value #OTHER_STACKS}.
+ *
+ * @opensearch.internal
+ */
+public class TaskProfiler {
+
+    private static final Logger logger = LogManager.getLogger(TaskProfiler.class);
+
+    public static final Setting<Integer> MAX_CONCURRENT_PROFILES_SETTING = Setting.intSetting(
+        "task_profiler.max_concurrent_profiles",
+        2,
+        0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final TimeValue DEFAULT_DURATION = TimeValue.timeValueSeconds(1);
+    public static final TimeValue MAX_DURATION = TimeValue.timeValueMinutes(1);
+    public static final TimeValue DEFAULT_INTERVAL = TimeValue.timeValueMillis(10);
+    public static final TimeValue MIN_INTERVAL = TimeValue.timeValueMillis(1);
+
+    static final int MAX_PENDING_PROFILES = 100;
+    static final int MAX_STACK_DEPTH = 128;
+    static final int MAX_DISTINCT_STACKS = 1000;
+    static final String TRUNCATED_FRAME = "[truncated]";
+    static final String OTHER_STACKS = "[other]";
+
+    private static final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ThreadPool threadPool;
+    private final TaskResourceTrackingService taskResourceTrackingService;
+    // guarded by this
+    private final Deque<Session> pendingProfiles = new ArrayDeque<>();
+    // guarded by this
+    private int activeProfiles;
+    private volatile int maxConcurrentProfiles;
+
+    public TaskProfiler(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        ThreadPool threadPool,
+        TaskResourceTrackingService taskResourceTrackingService
+    ) {
+        this.threadPool = threadPool;
+        this.taskResourceTrackingService = taskResourceTrackingService;
+        this.maxConcurrentProfiles = MAX_CONCURRENT_PROFILES_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_PROFILES_SETTING, this::setMaxConcurrentProfiles);
+    }
+
+    private void setMaxConcurrentProfiles(int maxConcurrentProfiles) {
+        this.maxConcurrentProfiles = maxConcurrentProfiles;
+        final List<Session> started = new ArrayList<>();
+        final List<Session> rejected = new ArrayList<>();
+        synchronized (this) {
+            while (activeProfiles < maxConcurrentProfiles && pendingProfiles.isEmpty() == false) {
+                activeProfiles++;
+                started.add(pendingProfiles.poll());
+            }
+            if (maxConcurrentProfiles == 0) {
+                // profiling is disabled, the waiting profiles would never start
+                rejected.addAll(pendingProfiles);
+                pendingProfiles.clear();
+            }
+        }
+        started.forEach(this::start);
+        for (Session session : rejected) {
+            session.listener.onFailure(
+                new OpenSearchRejectedExecutionException("cannot profile task [" + session.task.getId() + "], profiling is disabled")
+            );
+        }
+    }
+
+    synchronized int getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    synchronized int getPendingProfiles() {
+        return pendingProfiles.size();
+    }
+
+    /**
+     * Samples the threads running the given task every {@code interval} until {@code duration} elapsed or the task
+     * completed, then notifies the listener with the profile. The profile starts once fewer than
+     * {@link #MAX_CONCURRENT_PROFILES_SETTING} tasks are profiled.
+     */
+    public void profile(Task task, String localNodeId, TimeValue duration, TimeValue interval, ActionListener<TaskProfile> listener) {
+        if (task.supportsResourceTracking() == false) {
+            throw new IllegalArgumentException("task [" + task.getId() + "] of action [" + task.getAction() + "] cannot be profiled");
+        }
+        if (taskResourceTrackingService.isTaskResourceTrackingEnabled() == false
+            || taskResourceTrackingService.isTaskResourceTrackingSupported() == false) {
+            throw new IllegalStateException(
+                "tasks can only be profiled while [" + TaskResourceTrackingService.TASK_RESOURCE_TRACKING_ENABLED.getKey() + "] is enabled"
+            );
+        }
+        final Session session = new Session(task, localNodeId, duration, interval, listener);
+        synchronized (this) {
+            final int maxConcurrentProfiles = this.maxConcurrentProfiles;
+            if (activeProfiles >= maxConcurrentProfiles) {
+                if (maxConcurrentProfiles == 0 || pendingProfiles.size() >= MAX_PENDING_PROFILES) {
+                    throw new OpenSearchRejectedExecutionException(
+                        "cannot profile task ["
+                            + task.getId()
+                            + "], ["
+                            + activeProfiles
+                            + "] tasks are already being profiled and ["
+                            + pendingProfiles.size()
+                            + "] are waiting"
+                    );
+                }
+                pendingProfiles.add(session);
+                return;
+            }
+            activeProfiles++;
+        }
+        start(session);
+    }
+
+    private void start(Session session) {
+        session.startNanos = System.nanoTime();
+        try {
+            session.scheduled = threadPool.scheduleWithFixedDelay(session, session.interval, ThreadPool.Names.GENERIC);
+            if (session.finished.get()) {
+                // the session finished before it could be cancelled
+                session.scheduled.cancel();
+            }
+        } catch (Exception e) {
+            session.finish(e);
+        }
+    }
+
+    /**
+     * Folds a stack trace, innermost frame first as returned by {@link ThreadInfo#getStackTrace()}, into a single line
+     * with the outermost frame first.
+     */
+    static String fold(StackTraceElement[] stackTrace, boolean truncated) {
+        final StringBuilder folded = new StringBuilder();
+        if (truncated) {
+            folded.append(TRUNCATED_FRAME);
+        }
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            if (folded.length() > 0) {
+                folded.append(';');
+            }
+            folded.append(stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName());
+        }
+        return folded.toString();
+    }
+
+    /**
+     * The sampling state of a single profile. Samples are taken one at a time by the scheduler, so the state is only
+     * accessed by one thread at a time.
+     */
+    private final class Session implements Runnable {
+        private final Task task;
+        private final String localNodeId;
+        private final TimeValue duration;
+        private final TimeValue interval;
+        private final ActionListener<TaskProfile> listener;
+        private volatile long startNanos;
+        private final Map<String, long[]> stacks = new HashMap<>();
+        // CPU time and allocated bytes of each thread at its previous sample
+        private final Map<Long, long[]> lastThreadUsage = new HashMap<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile Scheduler.Cancellable scheduled;
+        private long samples;
+        private long idleSamples;
+
+        Session(Task task, String localNodeId, TimeValue duration, TimeValue interval, ActionListener<TaskProfile> listener) {
+            this.task = task;
+            this.localNodeId = localNodeId;
+            this.duration = duration;
+            this.interval = interval;
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            if (finished.get()) {
+                return;
+            }
+            try {
+                if (System.nanoTime() - startNanos >= duration.nanos()
+                    || taskResourceTrackingService.getResourceAwareTasks().containsKey(task.getId()) == false) {
+                    finish(null);
+                } else {
+                    sample();
+                }
+            } catch (Exception e) {
+                finish(e);
+            }
+        }
+
+        private void sample() {
+            samples++;
+            final List<Long> threads = taskResourceTrackingService.getThreadsWorkingOnTask(task);
+            if (threads.isEmpty()) {
+                idleSamples++;
+                return;
+            }
+            final long[] threadIds = threads.stream().mapToLong(Long::longValue).toArray();
+            final ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, MAX_STACK_DEPTH);
+            for (int i = 0; i < threadIds.length; i++) {
+                final ThreadInfo threadInfo = threadInfos[i];
+                if (threadInfo == null) {
+                    // the thread terminated
+                    continue;
+                }
+                final StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+                final long cpuTime = threadMXBean.getThreadCpuTime(threadIds[i]);
+                final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds[i]);
+                final long[] lastUsage = lastThreadUsage.put(threadIds[i], new long[] { cpuTime, allocatedBytes });
+
+                String foldedStack = fold(stackTrace, stackTrace.length == MAX_STACK_DEPTH);
+                if (stacks.size() >= MAX_DISTINCT_STACKS && stacks.containsKey(foldedStack) == false) {
+                    foldedStack = OTHER_STACKS;
+                }
+                final long[] stack = stacks.computeIfAbsent(foldedStack, k -> new long[3]);
+                stack[0]++;
+                if (lastUsage != null) {
+                    stack[1] += Math.max(0L, cpuTime - lastUsage[0]);
+                    stack[2] += Math.max(0L, allocatedBytes - lastUsage[1]);
+                }
+            }
+        }
+
+        private void finish(Exception failure) {
+            if (finished.compareAndSet(false, true) == false) {
+                return;
+            }
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            final Session next;
+            synchronized (TaskProfiler.this) {
+                next = activeProfiles <= maxConcurrentProfiles ? pendingProfiles.poll() : null;
+                if (next == null) {
+                    activeProfiles--;
+                }
+            }
+            if (next != null) {
+                start(next);
+            }
+            if (failure != null) {
+                logger.debug(() -> "failed to profile task [" + task.getId() + "]", failure);
+                listener.onFailure(failure);
+                return;
+            }
+            final List<TaskProfile.Stack> profiledStacks = new ArrayList<>(stacks.size());
+            for (Map.Entry<String, long[]> entry : stacks.entrySet()) {
+                final long[] stack = entry.getValue();
+                profiledStacks.add(new TaskProfile.Stack(entry.getKey(), stack[0], stack[1], stack[2]));
+            }
+            profiledStacks.sort(Comparator.comparingLong(TaskProfile.Stack::getSamples).reversed());
+            taskResourceTrackingService.refreshResourceStats(task);
+            final TimeValue took = TimeValue.timeValueMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            ActionListener.completeWith(
+                listener,
+                () -> new TaskProfile(task.taskInfo(localNodeId, true), interval, took, samples, idleSamples, profiledStacks)
+            );
+        }
+    }
+}
@@ -64,6 +64,17 @@ public class TelemetrySettings {
         Setting.Property.Final
     );
 
+    /**
+     * Interval at which the values aggregated by batched counters are forwarded to the metrics registry.
+     */
+    public static final Setting<TimeValue> METRICS_BATCH_FLUSH_INTERVAL_SETTING = Setting.timeSetting(
+        "telemetry.metrics.batch.flush_interval",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Final
+    );
+
     private volatile boolean tracingEnabled;
     private volatile double samplingProbability;
     private final boolean tracingFeatureEnabled;
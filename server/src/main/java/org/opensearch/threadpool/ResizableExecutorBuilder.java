@@ -8,9 +8,11 @@
 
 package org.opensearch.threadpool;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
+import org.opensearch.common.util.concurrent.LaneIsolation;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
@@ -18,9 +20,12 @@ import org.opensearch.node.Node;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A builder for resizable executors.
@@ -31,7 +36,10 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
 
     private final Setting<Integer> sizeSetting;
     private final Setting<Integer> queueSizeSetting;
+    private final Setting<Boolean> fairQueueSetting;
     private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
+    private final Function<ThreadContext, Object> laneKey;
+    private final Supplier<LaneIsolation> laneIsolation;
 
     ResizableExecutorBuilder(
         final Settings settings,
@@ -43,6 +51,32 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
         this(settings, name, size, queueSize, "thread_pool." + name, runnableTaskListener);
     }
 
+    /**
+     * Construct a resizable executor builder whose queue can be made fair with the "thread_pool.[name].fair_queue" setting.
+     * The fair queue groups queued tasks by the key {@code laneKey} returns for the submitting thread's context and lets
+     * the groups take turns, isolated from each other by the {@link LaneIsolation} {@code laneIsolation} returns, if any.
+     */
+    ResizableExecutorBuilder(
+        final Settings settings,
+        final String name,
+        final int size,
+        final int queueSize,
+        final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener,
+        final Function<ThreadContext, Object> laneKey,
+        final Supplier<LaneIsolation> laneIsolation
+    ) {
+        this(
+            settings,
+            name,
+            size,
+            queueSize,
+            "thread_pool." + name,
+            runnableTaskListener,
+            Objects.requireNonNull(laneKey),
+            Objects.requireNonNull(laneIsolation)
+        );
+    }
+
     public ResizableExecutorBuilder(
         final Settings settings,
         final String name,
@@ -50,6 +84,19 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
         final int queueSize,
         final String prefix,
         final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener
+    ) {
+        this(settings, name, size, queueSize, prefix, runnableTaskListener, null, null);
+    }
+
+    private ResizableExecutorBuilder(
+        final Settings settings,
+        final String name,
+        final int size,
+        final int queueSize,
+        final String prefix,
+        final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener,
+        @Nullable final Function<ThreadContext, Object> laneKey,
+        @Nullable final Supplier<LaneIsolation> laneIsolation
     ) {
         super(name);
         final String sizeKey = settingsKey(prefix, "size");
@@ -65,11 +112,19 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
             queueSize,
             new Setting.Property[] { Setting.Property.NodeScope, Setting.Property.Dynamic }
         );
+        this.fairQueueSetting = laneKey == null
+            ? null
+            : Setting.boolSetting(settingsKey(prefix, "fair_queue"), false, Setting.Property.NodeScope);
         this.runnableTaskListener = runnableTaskListener;
+        this.laneKey = laneKey;
+        this.laneIsolation = laneIsolation;
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
+        if (fairQueueSetting != null) {
+            return Arrays.asList(sizeSetting, queueSizeSetting, fairQueueSetting);
+        }
         return Arrays.asList(sizeSetting, queueSizeSetting);
     }
 
@@ -78,7 +133,8 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
         final String nodeName = Node.NODE_NAME_SETTING.get(settings);
         final int size = sizeSetting.get(settings);
         final int queueSize = queueSizeSetting.get(settings);
-        return new ResizableExecutorSettings(nodeName, size, queueSize);
+        final boolean fairQueue = fairQueueSetting != null && fairQueueSetting.get(settings);
+        return new ResizableExecutorSettings(nodeName, size, queueSize, fairQueue);
     }
 
     @Override
@@ -94,7 +150,9 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
             queueSize,
             threadFactory,
             threadContext,
-            runnableTaskListener
+            runnableTaskListener,
+            settings.fairQueue ? laneKey : null,
+            settings.fairQueue ? laneIsolation : null
         );
         final ThreadPool.Info info = new ThreadPool.Info(
             name(),
@@ -122,11 +180,13 @@ public final class ResizableExecutorBuilder extends ExecutorBuilder<ResizableExe
 
         private final int size;
         private final int queueSize;
+        private final boolean fairQueue;
 
-        ResizableExecutorSettings(final String nodeName, final int size, final int queueSize) {
+        ResizableExecutorSettings(final String nodeName, final int size, final int queueSize, final boolean fairQueue) {
             super(nodeName);
             this.size = size;
             this.queueSize = queueSize;
+            this.fairQueue = fairQueue;
         }
 
     }
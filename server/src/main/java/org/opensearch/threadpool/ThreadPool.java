@@ -43,8 +43,10 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.LaneIsolation;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.OpenSearchVirtualThreadExecutor;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.XRejectedExecutionHandler;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -56,6 +58,8 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.gateway.remote.ClusterStateChecksum;
 import org.opensearch.node.Node;
+import org.opensearch.tasks.Task;
+import org.opensearch.wlm.WorkloadGroupTask;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -77,6 +81,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableMap;
@@ -108,6 +113,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String SEARCH = "search";
         public static final String STREAM_SEARCH = "stream_search";
         public static final String SEARCH_THROTTLED = "search_throttled";
+        public static final String SEARCH_REDUCE = "search_reduce";
         public static final String MANAGEMENT = "management";
         public static final String FLUSH = "flush";
         public static final String REFRESH = "refresh";
@@ -201,6 +207,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         map.put(Names.FETCH_SHARD_STARTED, ThreadPoolType.SCALING);
         map.put(Names.FETCH_SHARD_STORE, ThreadPoolType.SCALING);
         map.put(Names.SEARCH_THROTTLED, ThreadPoolType.RESIZABLE);
+        map.put(Names.SEARCH_REDUCE, ThreadPoolType.FIXED);
         map.put(Names.SYSTEM_READ, ThreadPoolType.FIXED);
         map.put(Names.SYSTEM_WRITE, ThreadPoolType.FIXED);
         map.put(Names.TRANSLOG_TRANSFER, ThreadPoolType.SCALING);
@@ -229,6 +236,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     private final ScheduledThreadPoolExecutor scheduler;
 
+    private final AtomicReference<LaneIsolation> searchLaneIsolation = new AtomicReference<>();
+
     public Collection<ExecutorBuilder> builders() {
         return Collections.unmodifiableCollection(builders.values());
     }
@@ -240,6 +249,39 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Thread pools mostly blocked on I/O that may run their tasks on virtual threads instead of platform threads.
+     */
+    static final Set<String> VIRTUAL_THREAD_ELIGIBLE_EXECUTORS = Set.of(
+        Names.GENERIC,
+        Names.SNAPSHOT,
+        Names.FETCH_SHARD_STARTED,
+        Names.FETCH_SHARD_STORE,
+        Names.REMOTE_PURGE,
+        Names.REMOTE_REFRESH_RETRY,
+        Names.REMOTE_RECOVERY,
+        Names.REMOTE_DOWNLOAD
+    );
+
+    public static final Setting<List<String>> VIRTUAL_THREAD_EXECUTORS_SETTING = Setting.listSetting(
+        "thread_pool.virtual_threads.executors",
+        Collections.emptyList(),
+        Function.identity(),
+        names -> {
+            for (String name : names) {
+                if (VIRTUAL_THREAD_ELIGIBLE_EXECUTORS.contains(name) == false) {
+                    throw new IllegalArgumentException(
+                        "thread pool ["
+                            + name
+                            + "] cannot use virtual threads, eligible thread pools are "
+                            + VIRTUAL_THREAD_ELIGIBLE_EXECUTORS.stream().sorted().collect(Collectors.toList())
+                    );
+                }
+            }
+        },
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Settings> CLUSTER_THREAD_POOL_SIZE_SETTING = Setting.groupSetting(
         "cluster.thread_pool.",
         Setting.Property.Dynamic,
@@ -264,14 +306,26 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         final int halfProcMaxAt10 = halfAllocatedProcessorsMaxTen(allocatedProcessors);
         final int genericThreadPoolMax = boundedBy(4 * allocatedProcessors, 128, 512);
         final int snapshotDeletionPoolMax = boundedBy(4 * allocatedProcessors, 64, 256);
-        builders.put(Names.GENERIC, new ScalingExecutorBuilder(Names.GENERIC, 4, genericThreadPoolMax, TimeValue.timeValueSeconds(30)));
+        final Set<String> virtualThreadExecutors = new HashSet<>(VIRTUAL_THREAD_EXECUTORS_SETTING.get(settings));
+        builders.put(
+            Names.GENERIC,
+            ioExecutorBuilder(virtualThreadExecutors, Names.GENERIC, 4, genericThreadPoolMax, TimeValue.timeValueSeconds(30))
+        );
         builders.put(Names.TRANSLOG_RECOVERY, new FixedExecutorBuilder(settings, Names.TRANSLOG_RECOVERY, allocatedProcessors, -1));
         builders.put(Names.WRITE, new FixedExecutorBuilder(settings, Names.WRITE, allocatedProcessors, 10000));
         builders.put(Names.GET, new FixedExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000));
         builders.put(Names.ANALYZE, new FixedExecutorBuilder(settings, Names.ANALYZE, 1, 16));
         builders.put(
             Names.SEARCH,
-            new ResizableExecutorBuilder(settings, Names.SEARCH, searchThreadPoolSize(allocatedProcessors), 1000, runnableTaskListener)
+            new ResizableExecutorBuilder(
+                settings,
+                Names.SEARCH,
+                searchThreadPoolSize(allocatedProcessors),
+                1000,
+                runnableTaskListener,
+                threadContext -> searchLaneKey(searchLaneIsolation.get(), threadContext),
+                searchLaneIsolation::get
+            )
         );
         // TODO: configure the appropriate size and explore use of virtual threads
         builders.put(
@@ -285,6 +339,11 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             )
         );
         builders.put(Names.SEARCH_THROTTLED, new ResizableExecutorBuilder(settings, Names.SEARCH_THROTTLED, 1, 100, runnableTaskListener));
+        // sized like the search pool it takes the partial reduces from, a rejected partial reduce fails its search
+        builders.put(
+            Names.SEARCH_REDUCE,
+            new FixedExecutorBuilder(settings, Names.SEARCH_REDUCE, searchThreadPoolSize(allocatedProcessors), 1000)
+        );
         builders.put(Names.MANAGEMENT, new ScalingExecutorBuilder(Names.MANAGEMENT, 1, 5, TimeValue.timeValueMinutes(5)));
         // no queue as this means clients will need to handle rejections on listener queue even if the operation succeeded
         // the assumption here is that the listeners should be very lightweight on the listeners side
@@ -292,14 +351,17 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.FLUSH, new ScalingExecutorBuilder(Names.FLUSH, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
         builders.put(Names.REFRESH, new ScalingExecutorBuilder(Names.REFRESH, 1, halfProcMaxAt10, TimeValue.timeValueMinutes(5)));
         builders.put(Names.WARMER, new ScalingExecutorBuilder(Names.WARMER, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
-        builders.put(Names.SNAPSHOT, new ScalingExecutorBuilder(Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
+        builders.put(
+            Names.SNAPSHOT,
+            ioExecutorBuilder(virtualThreadExecutors, Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5))
+        );
         builders.put(
             Names.SNAPSHOT_DELETION,
             new ScalingExecutorBuilder(Names.SNAPSHOT_DELETION, 1, snapshotDeletionPoolMax, TimeValue.timeValueMinutes(5))
         );
         builders.put(
             Names.FETCH_SHARD_STARTED,
-            new ScalingExecutorBuilder(Names.FETCH_SHARD_STARTED, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
+            ioExecutorBuilder(virtualThreadExecutors, Names.FETCH_SHARD_STARTED, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
         );
         builders.put(
             Names.FORCE_MERGE,
@@ -308,7 +370,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.MERGE, new ScalingExecutorBuilder(Names.MERGE, 1, allocatedProcessors, TimeValue.timeValueMinutes(5)));
         builders.put(
             Names.FETCH_SHARD_STORE,
-            new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
+            ioExecutorBuilder(virtualThreadExecutors, Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
         );
         builders.put(Names.SYSTEM_READ, new FixedExecutorBuilder(settings, Names.SYSTEM_READ, halfProcMaxAt5, 2000, false));
         builders.put(Names.SYSTEM_WRITE, new FixedExecutorBuilder(settings, Names.SYSTEM_WRITE, halfProcMaxAt5, 1000, false));
@@ -317,14 +379,18 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             new ScalingExecutorBuilder(Names.TRANSLOG_TRANSFER, 1, halfProc, TimeValue.timeValueMinutes(5))
         );
         builders.put(Names.TRANSLOG_SYNC, new FixedExecutorBuilder(settings, Names.TRANSLOG_SYNC, allocatedProcessors * 4, 10000));
-        builders.put(Names.REMOTE_PURGE, new ScalingExecutorBuilder(Names.REMOTE_PURGE, 1, halfProc, TimeValue.timeValueMinutes(5)));
+        builders.put(
+            Names.REMOTE_PURGE,
+            ioExecutorBuilder(virtualThreadExecutors, Names.REMOTE_PURGE, 1, halfProc, TimeValue.timeValueMinutes(5))
+        );
         builders.put(
             Names.REMOTE_REFRESH_RETRY,
-            new ScalingExecutorBuilder(Names.REMOTE_REFRESH_RETRY, 1, halfProc, TimeValue.timeValueMinutes(5))
+            ioExecutorBuilder(virtualThreadExecutors, Names.REMOTE_REFRESH_RETRY, 1, halfProc, TimeValue.timeValueMinutes(5))
         );
         builders.put(
             Names.REMOTE_RECOVERY,
-            new ScalingExecutorBuilder(
+            ioExecutorBuilder(
+                virtualThreadExecutors,
                 Names.REMOTE_RECOVERY,
                 1,
                 twiceAllocatedProcessors(allocatedProcessors),
@@ -333,7 +399,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         );
         builders.put(
             Names.REMOTE_DOWNLOAD,
-            new ScalingExecutorBuilder(
+            ioExecutorBuilder(
+                virtualThreadExecutors,
                 Names.REMOTE_DOWNLOAD,
                 1,
                 twiceAllocatedProcessors(allocatedProcessors),
@@ -395,6 +462,47 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         this.cachedTimeThread.start();
     }
 
+    /**
+     * Sets the {@link LaneIsolation} of the search thread pool, which only applies if the pool uses a fair queue.
+     */
+    public void setSearchLaneIsolation(LaneIsolation laneIsolation) {
+        searchLaneIsolation.set(laneIsolation);
+    }
+
+    /**
+     * Returns the lane of a task in the fair queue of the search thread pool: the lane the isolation assigns it if there is
+     * one, otherwise its workload group if it has one, otherwise the {@code X-Opaque-Id} of the request. Tasks with none
+     * of these share a lane.
+     */
+    private static Object searchLaneKey(LaneIsolation laneIsolation, ThreadContext threadContext) {
+        if (laneIsolation != null) {
+            final Object laneKey = laneIsolation.laneKey(threadContext);
+            if (laneKey != null) {
+                return laneKey;
+            }
+        }
+        final String workloadGroupId = threadContext.getHeader(WorkloadGroupTask.WORKLOAD_GROUP_ID_HEADER);
+        return workloadGroupId != null ? workloadGroupId : threadContext.getHeader(Task.X_OPAQUE_ID);
+    }
+
+    /**
+     * Returns the builder of a thread pool mostly blocked on I/O: a {@link VirtualThreadExecutorBuilder} if the pool is listed in
+     * {@link #VIRTUAL_THREAD_EXECUTORS_SETTING}, a {@link ScalingExecutorBuilder} otherwise. Both keep the same maximum, which
+     * bounds the load that the pool puts on the blob store or the disks, and can be raised with {@code thread_pool.<name>.max}.
+     */
+    private static ExecutorBuilder<?> ioExecutorBuilder(
+        Set<String> virtualThreadExecutors,
+        String name,
+        int core,
+        int max,
+        TimeValue keepAlive
+    ) {
+        if (virtualThreadExecutors.contains(name)) {
+            return new VirtualThreadExecutorBuilder(name, core, max, keepAlive);
+        }
+        return new ScalingExecutorBuilder(name, core, max, keepAlive);
+    }
+
     /**
      * Returns a value of milliseconds that may be used for relative time calculations.
      * <p>
@@ -478,6 +586,21 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             if (holder.info.type == ThreadPoolType.FORK_JOIN) {
                 continue;
             }
+            if (holder.executor instanceof OpenSearchVirtualThreadExecutor virtualThreadExecutor) {
+                if (scalingThreadPoolKeys.containsAll(tpGroup.keySet()) == false) {
+                    throw new IllegalArgumentException(
+                        "illegal thread_pool config : " + tpGroup.keySet() + " should only have " + scalingThreadPoolKeys
+                    );
+                }
+                int max = tpGroup.getAsInt("max", virtualThreadExecutor.getMaximumPoolSize());
+                int core = tpGroup.getAsInt("core", holder.info.getMin());
+                if (core < 1 || max < 1) {
+                    throw new IllegalArgumentException("illegal value for [cluster.thread_pool." + tpName + "], has to be positive value");
+                } else if (core > max) {
+                    throw new IllegalArgumentException("core threadpool size cannot be greater than max");
+                }
+                continue;
+            }
             assert holder.executor instanceof OpenSearchThreadPoolExecutor;
             OpenSearchThreadPoolExecutor threadPoolExecutor = (OpenSearchThreadPoolExecutor) holder.executor;
             if (holder.info.type == ThreadPoolType.SCALING) {
@@ -519,6 +642,11 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             if (holder.info.type == ThreadPoolType.FORK_JOIN) {
                 continue;
             }
+            if (holder.executor instanceof OpenSearchVirtualThreadExecutor virtualThreadExecutor) {
+                // virtual threads are not pooled, only the maximum number of running tasks applies
+                virtualThreadExecutor.setMaximumPoolSize(tpGroup.getAsInt("max", virtualThreadExecutor.getMaximumPoolSize()));
+                continue;
+            }
             assert holder.executor instanceof OpenSearchThreadPoolExecutor;
             OpenSearchThreadPoolExecutor executor = (OpenSearchThreadPoolExecutor) holder.executor;
             if (holder.info.type == ThreadPoolType.SCALING) {
@@ -594,6 +722,13 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 if (rejectedExecutionHandler instanceof XRejectedExecutionHandler xRejectedExecutionHandler) {
                     rejected = xRejectedExecutionHandler.rejected();
                 }
+            } else if (holder.executor() instanceof OpenSearchVirtualThreadExecutor virtualThreadExecutor) {
+                threads = virtualThreadExecutor.getPoolSize();
+                queue = virtualThreadExecutor.getQueueSize();
+                active = virtualThreadExecutor.getActiveCount();
+                largest = virtualThreadExecutor.getLargestPoolSize();
+                completed = virtualThreadExecutor.getCompletedTaskCount();
+                rejected = virtualThreadExecutor.getRejectedTaskCount();
             }
             stats.add(
                 new ThreadPoolStats.Stats.Builder().name(name)
@@ -708,7 +843,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         scheduler.shutdown();
         for (ExecutorHolder executor : executors.values()) {
             ExecutorService es = executor.executor();
-            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool) {
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
                 es.shutdown();
             }
         }
@@ -719,7 +854,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         scheduler.shutdownNow();
         for (ExecutorHolder executor : executors.values()) {
             ExecutorService es = executor.executor();
-            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool) {
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
                 es.shutdownNow();
             }
         }
@@ -728,8 +863,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         boolean result = scheduler.awaitTermination(timeout, unit);
         for (ExecutorHolder executor : executors.values()) {
-            if (executor.executor() instanceof ThreadPoolExecutor || executor.executor() instanceof ForkJoinPool) {
-                result &= executor.executor().awaitTermination(timeout, unit);
+            ExecutorService es = executor.executor();
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
+                result &= es.awaitTermination(timeout, unit);
             }
         }
         cachedTimeThread.join(unit.toMillis(timeout));
@@ -929,7 +1065,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public final Info info;
 
         ExecutorHolder(ExecutorService executor, Info info) {
-            assert executor instanceof OpenSearchThreadPoolExecutor || executor == DIRECT_EXECUTOR || executor instanceof ForkJoinPool;
+            assert executor instanceof OpenSearchThreadPoolExecutor
+                || executor instanceof OpenSearchVirtualThreadExecutor
+                || executor == DIRECT_EXECUTOR
+                || executor instanceof ForkJoinPool;
             this.executor = executor;
             this.info = info;
         }
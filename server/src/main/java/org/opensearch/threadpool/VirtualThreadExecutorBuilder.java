@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchVirtualThreadExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.node.Node;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A builder for executors that run each of their tasks on a new virtual thread. Meant for pools whose tasks mostly block
+ * on I/O, such as blob store transfers: a blocked virtual thread does not hold on to a platform thread, so many more
+ * tasks can wait on I/O concurrently than a platform thread pool could afford.
+ * <p>
+ * The number of tasks running at the same time is bounded by {@code max}, further tasks wait for a running one to complete,
+ * see {@link OpenSearchVirtualThreadExecutor}. The executor uses the same settings as a scaling executor, so a pool can be
+ * switched between platform and virtual threads with {@link ThreadPool#VIRTUAL_THREAD_EXECUTORS_SETTING} without changing
+ * its other settings, and it reports the same {@link ThreadPoolStats} and propagates the {@link ThreadContext} the same way.
+ * Since virtual threads are not pooled, {@code core} and {@code keep_alive} are accepted but have no effect.
+ *
+ * @opensearch.internal
+ */
+public final class VirtualThreadExecutorBuilder extends ExecutorBuilder<VirtualThreadExecutorBuilder.VirtualThreadExecutorSettings> {
+
+    private final Setting<Integer> coreSetting;
+    private final Setting<Integer> maxSetting;
+    private final Setting<TimeValue> keepAliveSetting;
+
+    /**
+     * Construct a virtual thread executor builder; the settings will have the
+     * key prefix "thread_pool." followed by the executor name.
+     *
+     * @param name      the name of the executor
+     * @param core      the number of core threads, only reported since virtual threads are not pooled
+     * @param max       the maximum number of tasks running concurrently
+     * @param keepAlive the keep alive, only reported since virtual threads are not pooled
+     */
+    public VirtualThreadExecutorBuilder(final String name, final int core, final int max, final TimeValue keepAlive) {
+        this(name, core, max, keepAlive, "thread_pool." + name);
+    }
+
+    /**
+     * Construct a virtual thread executor builder; the settings will have the
+     * specified key prefix.
+     *
+     * @param name      the name of the executor
+     * @param core      the number of core threads, only reported since virtual threads are not pooled
+     * @param max       the maximum number of tasks running concurrently
+     * @param keepAlive the keep alive, only reported since virtual threads are not pooled
+     * @param prefix    the prefix for the settings keys
+     */
+    public VirtualThreadExecutorBuilder(final String name, final int core, final int max, final TimeValue keepAlive, final String prefix) {
+        super(name);
+        this.coreSetting = Setting.intSetting(settingsKey(prefix, "core"), core, Setting.Property.NodeScope);
+        this.maxSetting = Setting.intSetting(settingsKey(prefix, "max"), max, 1, Setting.Property.NodeScope);
+        this.keepAliveSetting = Setting.timeSetting(settingsKey(prefix, "keep_alive"), keepAlive, Setting.Property.NodeScope);
+    }
+
+    @Override
+    public List<Setting<?>> getRegisteredSettings() {
+        return Arrays.asList(coreSetting, maxSetting, keepAliveSetting);
+    }
+
+    @Override
+    VirtualThreadExecutorSettings getSettings(Settings settings) {
+        final String nodeName = Node.NODE_NAME_SETTING.get(settings);
+        final int coreThreads = coreSetting.get(settings);
+        final int maxThreads = maxSetting.get(settings);
+        final TimeValue keepAlive = keepAliveSetting.get(settings);
+        return new VirtualThreadExecutorSettings(nodeName, coreThreads, maxThreads, keepAlive);
+    }
+
+    @Override
+    ThreadPool.ExecutorHolder build(final VirtualThreadExecutorSettings settings, final ThreadContext threadContext) {
+        TimeValue keepAlive = settings.keepAlive;
+        int core = settings.core;
+        int max = settings.max;
+        // reported as a scaling pool: it is sized, resized and serialized like one
+        final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.SCALING, core, max, keepAlive, null);
+        final ThreadFactory threadFactory = OpenSearchExecutors.virtualThreadFactory(
+            OpenSearchExecutors.threadName(settings.nodeName, name())
+        );
+        final ExecutorService executor = OpenSearchExecutors.newVirtualThreadPerTask(
+            settings.nodeName + "/" + name(),
+            max,
+            threadFactory,
+            threadContext
+        );
+        return new ThreadPool.ExecutorHolder(executor, info);
+    }
+
+    @Override
+    String formatInfo(ThreadPool.Info info) {
+        return String.format(
+            Locale.ROOT,
+            "name [%s], virtual threads, core [%d], max [%d], keep alive [%s]",
+            info.getName(),
+            info.getMin(),
+            info.getMax(),
+            info.getKeepAlive()
+        );
+    }
+
+    static class VirtualThreadExecutorSettings extends ExecutorBuilder.ExecutorSettings {
+
+        private final int core;
+        private final int max;
+        private final TimeValue keepAlive;
+
+        VirtualThreadExecutorSettings(final String nodeName, final int core, final int max, final TimeValue keepAlive) {
+            super(nodeName);
+            this.core = core;
+            this.max = max;
+            this.keepAlive = keepAlive;
+        }
+    }
+}
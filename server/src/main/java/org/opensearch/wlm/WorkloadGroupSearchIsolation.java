@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.cluster.metadata.WorkloadGroup;
+import org.opensearch.common.util.concurrent.LaneIsolation;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.wlm.stats.WorkloadGroupState;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Isolates the search execution of workload groups from each other on the search thread pool, when the pool uses a fair queue
+ * ({@code thread_pool.search.fair_queue}). While WLM is enabled and {@link WorkloadManagementSettings#SEARCH_ISOLATION_SETTING}
+ * is set, each workload group is reserved the share of the search threads and queue slots given by its CPU limit, and the
+ * default workload group gets the share no group reserved. A workload group can use more than its share while the other groups
+ * leave theirs unused.
+ * <p>
+ * The time tasks of each workload group wait in the search queue is tracked in its {@link WorkloadGroupState} whenever the pool
+ * uses a fair queue.
+ *
+ * @opensearch.internal
+ */
+public class WorkloadGroupSearchIsolation implements LaneIsolation {
+
+    private static final String DEFAULT_WORKLOAD_GROUP_ID = WorkloadGroupTask.DEFAULT_WORKLOAD_GROUP_ID_SUPPLIER.get();
+
+    private final WorkloadManagementSettings workloadManagementSettings;
+    private final WorkloadGroupsStateAccessor workloadGroupsStateAccessor;
+    // the share reserved to each active workload group and to the default workload group
+    private volatile Map<String, Double> shares = Map.of(DEFAULT_WORKLOAD_GROUP_ID, 1.0);
+
+    public WorkloadGroupSearchIsolation(
+        WorkloadManagementSettings workloadManagementSettings,
+        WorkloadGroupsStateAccessor workloadGroupsStateAccessor
+    ) {
+        this.workloadManagementSettings = workloadManagementSettings;
+        this.workloadGroupsStateAccessor = workloadGroupsStateAccessor;
+    }
+
+    /**
+     * Recomputes the reserved shares from the active workload groups
+     */
+    void updateWorkloadGroups(Collection<WorkloadGroup> workloadGroups) {
+        final Map<String, Double> shares = new HashMap<>();
+        double reserved = 0;
+        for (WorkloadGroup workloadGroup : workloadGroups) {
+            final Double cpuLimit = workloadGroup.getResourceLimits().get(ResourceType.CPU);
+            final double share = cpuLimit == null ? 0 : cpuLimit;
+            shares.put(workloadGroup.get_id(), share);
+            reserved += share;
+        }
+        shares.put(DEFAULT_WORKLOAD_GROUP_ID, Math.max(0, 1 - reserved));
+        this.shares = Map.copyOf(shares);
+    }
+
+    private boolean isEnabled() {
+        return workloadManagementSettings.getWlmMode() == WlmMode.ENABLED && workloadManagementSettings.isSearchIsolationEnabled();
+    }
+
+    @Override
+    public Object laneKey(ThreadContext threadContext) {
+        if (isEnabled() == false) {
+            return null;
+        }
+        final String workloadGroupId = threadContext.getHeader(WorkloadGroupTask.WORKLOAD_GROUP_ID_HEADER);
+        // tasks of unknown or deleted workload groups are accounted to the default workload group, like their resource usage
+        return workloadGroupId != null && shares.containsKey(workloadGroupId) ? workloadGroupId : DEFAULT_WORKLOAD_GROUP_ID;
+    }
+
+    @Override
+    public Map<String, Double> reservedShares() {
+        return isEnabled() ? shares : Map.of();
+    }
+
+    @Override
+    public void onExecuted(Object laneKey, long queueWaitNanos) {
+        // without isolation the lanes can also be keyed by X-Opaque-Id, which must not fall back to the default workload group
+        final WorkloadGroupState workloadGroupState = workloadGroupsStateAccessor.getWorkloadGroupStateMap().get(laneKey);
+        if (workloadGroupState != null) {
+            workloadGroupState.searchQueueExecutions.inc();
+            workloadGroupState.searchQueueWaitTimeNanos.inc(queueWaitNanos);
+        }
+    }
+}
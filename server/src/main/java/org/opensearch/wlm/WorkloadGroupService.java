@@ -59,6 +59,7 @@ public class WorkloadGroupService extends AbstractLifecycleComponent
     private final Set<WorkloadGroup> deletedWorkloadGroups;
     private final NodeDuressTrackers nodeDuressTrackers;
     private final WorkloadGroupsStateAccessor workloadGroupsStateAccessor;
+    private final WorkloadGroupSearchIsolation searchIsolation;
 
     public WorkloadGroupService(
         WorkloadGroupTaskCancellationService taskCancellationService,
@@ -116,6 +117,8 @@ public class WorkloadGroupService extends AbstractLifecycleComponent
         this.workloadGroupsStateAccessor = workloadGroupsStateAccessor;
         activeWorkloadGroups.forEach(workloadGroup -> this.workloadGroupsStateAccessor.addNewWorkloadGroup(workloadGroup.get_id()));
         this.workloadGroupsStateAccessor.addNewWorkloadGroup(WorkloadGroupTask.DEFAULT_WORKLOAD_GROUP_ID_SUPPLIER.get());
+        this.searchIsolation = new WorkloadGroupSearchIsolation(workloadManagementSettings, workloadGroupsStateAccessor);
+        this.searchIsolation.updateWorkloadGroups(activeWorkloadGroups);
         this.clusterService.addListener(this);
     }
 
@@ -185,6 +188,7 @@ public class WorkloadGroupService extends AbstractLifecycleComponent
             }
         }
         this.activeWorkloadGroups = new HashSet<>(currentMetadata.workloadGroups().values());
+        searchIsolation.updateWorkloadGroups(activeWorkloadGroups);
     }
 
     /**
@@ -321,6 +325,13 @@ public class WorkloadGroupService extends AbstractLifecycleComponent
         throw new IllegalArgumentException(resourceType + " is not supported in WLM yet");
     }
 
+    /**
+     * @return the isolation of the workload groups on the search thread pool
+     */
+    public WorkloadGroupSearchIsolation getSearchIsolation() {
+        return searchIsolation;
+    }
+
     public Set<WorkloadGroup> getActiveWorkloadGroups() {
         return activeWorkloadGroups;
     }
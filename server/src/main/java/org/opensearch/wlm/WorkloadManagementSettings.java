@@ -83,6 +83,24 @@ public class WorkloadManagementSettings {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Setting name for isolating the search execution of workload groups
+     */
+    public static final String SEARCH_ISOLATION_SETTING_NAME = "wlm.workload_group.node.search_isolation";
+
+    private volatile boolean searchIsolation;
+
+    /**
+     * Setting to reserve each workload group a share of the search threads and queue slots of the node, while the search
+     * thread pool uses a fair queue and WLM is enabled
+     */
+    public static final Setting<Boolean> SEARCH_ISOLATION_SETTING = Setting.boolSetting(
+        SEARCH_ISOLATION_SETTING_NAME,
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     /**
      * Setting name for node level memory based rejection threshold for WorkloadGroup service
      */
@@ -149,6 +167,7 @@ public class WorkloadManagementSettings {
         nodeLevelCpuRejectionThreshold = NODE_LEVEL_CPU_REJECTION_THRESHOLD.get(settings);
         this.workloadGroupServiceRunInterval = TimeValue.timeValueMillis(QUERYGROUP_SERVICE_RUN_INTERVAL_SETTING.get(settings));
         duressStreak = QUERYGROUP_SERVICE_DURESS_STREAK_SETTING.get(settings);
+        searchIsolation = SEARCH_ISOLATION_SETTING.get(settings);
 
         ensureRejectionThresholdIsLessThanCancellation(
             nodeLevelMemoryRejectionThreshold,
@@ -170,6 +189,7 @@ public class WorkloadManagementSettings {
         clusterSettings.addSettingsUpdateConsumer(WLM_MODE_SETTING, this::setWlmMode);
         clusterSettings.addSettingsUpdateConsumer(QUERYGROUP_SERVICE_RUN_INTERVAL_SETTING, this::setWorkloadGroupServiceRunInterval);
         clusterSettings.addSettingsUpdateConsumer(QUERYGROUP_SERVICE_DURESS_STREAK_SETTING, this::setDuressStreak);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_ISOLATION_SETTING, this::setSearchIsolation);
     }
 
     /**
@@ -188,6 +208,22 @@ public class WorkloadManagementSettings {
         this.duressStreak = duressStreak;
     }
 
+    /**
+     * search isolation getter
+     * @return whether workload groups are reserved a share of the search threads and queue slots
+     */
+    public boolean isSearchIsolationEnabled() {
+        return searchIsolation;
+    }
+
+    /**
+     * search isolation setter
+     * @param searchIsolation new value
+     */
+    private void setSearchIsolation(boolean searchIsolation) {
+        this.searchIsolation = searchIsolation;
+    }
+
     /**
      * workloadGroupServiceRunInterval setter
      * @param newIntervalInMillis new value
@@ -38,6 +38,16 @@ public class WorkloadGroupState {
      */
     public final CounterMetric totalCancellations = new CounterMetric();
 
+    /**
+     * This will track the number of tasks of the workload group that ran on the search thread pool after waiting in its queue
+     */
+    public final CounterMetric searchQueueExecutions = new CounterMetric();
+
+    /**
+     * This will track the cumulative time tasks of the workload group waited in the search thread pool queue
+     */
+    public final CounterMetric searchQueueWaitTimeNanos = new CounterMetric();
+
     /**
      * This is used to store the resource type state both for CPU and MEMORY
      */
@@ -80,6 +90,22 @@ public class WorkloadGroupState {
         return totalCancellations.count();
     }
 
+    /**
+     *
+     * @return tasks of the workload group that ran on the search thread pool after waiting in its queue
+     */
+    public long getSearchQueueExecutions() {
+        return searchQueueExecutions.count();
+    }
+
+    /**
+     *
+     * @return cumulative time tasks of the workload group waited in the search thread pool queue
+     */
+    public long getSearchQueueWaitTimeNanos() {
+        return searchQueueWaitTimeNanos.count();
+    }
+
     /**
      * getter for workload group resource state
      * @return the workload group resource state
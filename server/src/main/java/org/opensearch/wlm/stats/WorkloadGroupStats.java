@@ -8,6 +8,8 @@
 
 package org.opensearch.wlm.stats;
 
+import org.opensearch.Version;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -22,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {
@@ -30,6 +33,7 @@ import java.util.Objects;
  *          "rejections": 12,
  *          "failures": 97,
  *          "total_cancellations": 474,
+ *          "search_queue": { "executions": 1233, "total_wait_time_in_nanos": 1897234 },
  *          "CPU": { "current_usage": 49.6, "cancellation": 432, "rejections": 8 },
  *          "MEMORY": { "current_usage": 39.6, "cancellation": 42, "rejections": 4 }
  *     },
@@ -95,10 +99,16 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
         public static final String REJECTIONS = "total_rejections";
         public static final String TOTAL_CANCELLATIONS = "total_cancellations";
         public static final String FAILURES = "failures";
+        public static final String SEARCH_QUEUE = "search_queue";
+        public static final String SEARCH_QUEUE_EXECUTIONS = "executions";
+        public static final String SEARCH_QUEUE_WAIT_TIME = "total_wait_time";
+        public static final String SEARCH_QUEUE_WAIT_TIME_NANOS = "total_wait_time_in_nanos";
         private long completions;
         private long rejections;
         private long failures;
         private long cancellations;
+        private long searchQueueExecutions;
+        private long searchQueueWaitTimeNanos;
         private Map<ResourceType, ResourceStats> resourceStats;
 
         // this is needed to support the factory method
@@ -110,11 +120,25 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             long failures,
             long cancellations,
             Map<ResourceType, ResourceStats> resourceStats
+        ) {
+            this(completions, rejections, failures, cancellations, 0, 0, resourceStats);
+        }
+
+        public WorkloadGroupStatsHolder(
+            long completions,
+            long rejections,
+            long failures,
+            long cancellations,
+            long searchQueueExecutions,
+            long searchQueueWaitTimeNanos,
+            Map<ResourceType, ResourceStats> resourceStats
         ) {
             this.completions = completions;
             this.rejections = rejections;
             this.failures = failures;
             this.cancellations = cancellations;
+            this.searchQueueExecutions = searchQueueExecutions;
+            this.searchQueueWaitTimeNanos = searchQueueWaitTimeNanos;
             this.resourceStats = resourceStats;
         }
 
@@ -123,6 +147,10 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             this.rejections = in.readVLong();
             this.failures = in.readVLong();
             this.cancellations = in.readVLong();
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                this.searchQueueExecutions = in.readVLong();
+                this.searchQueueWaitTimeNanos = in.readVLong();
+            }
             this.resourceStats = in.readMap((i) -> ResourceType.fromName(i.readString()), ResourceStats::new);
         }
 
@@ -138,6 +166,14 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             return cancellations;
         }
 
+        public long getSearchQueueExecutions() {
+            return searchQueueExecutions;
+        }
+
+        public long getSearchQueueWaitTimeNanos() {
+            return searchQueueWaitTimeNanos;
+        }
+
         public Map<ResourceType, ResourceStats> getResourceStats() {
             return resourceStats;
         }
@@ -160,6 +196,8 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             statsHolder.rejections = workloadGroupState.getTotalRejections();
             statsHolder.failures = workloadGroupState.getFailures();
             statsHolder.cancellations = workloadGroupState.getTotalCancellations();
+            statsHolder.searchQueueExecutions = workloadGroupState.getSearchQueueExecutions();
+            statsHolder.searchQueueWaitTimeNanos = workloadGroupState.getSearchQueueWaitTimeNanos();
             statsHolder.resourceStats = resourceStatsMap;
             return statsHolder;
         }
@@ -175,6 +213,10 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             out.writeVLong(statsHolder.rejections);
             out.writeVLong(statsHolder.failures);
             out.writeVLong(statsHolder.cancellations);
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeVLong(statsHolder.searchQueueExecutions);
+                out.writeVLong(statsHolder.searchQueueWaitTimeNanos);
+            }
             out.writeMap(statsHolder.resourceStats, (o, val) -> o.writeString(val.getName()), ResourceStats::writeTo);
         }
 
@@ -190,6 +232,16 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
             builder.field(REJECTIONS, rejections);
             // builder.field(FAILURES, failures);
             builder.field(TOTAL_CANCELLATIONS, cancellations);
+            // only tracked while the search thread pool uses a fair queue
+            if (searchQueueExecutions > 0) {
+                builder.startObject(SEARCH_QUEUE);
+                builder.field(SEARCH_QUEUE_EXECUTIONS, searchQueueExecutions);
+                if (builder.humanReadable()) {
+                    builder.field(SEARCH_QUEUE_WAIT_TIME, new TimeValue(searchQueueWaitTimeNanos, TimeUnit.NANOSECONDS));
+                }
+                builder.field(SEARCH_QUEUE_WAIT_TIME_NANOS, searchQueueWaitTimeNanos);
+                builder.endObject();
+            }
 
             for (ResourceType resourceType : ResourceType.getSortedValues()) {
                 ResourceStats resourceStats1 = resourceStats.get(resourceType);
@@ -210,12 +262,22 @@ public class WorkloadGroupStats implements ToXContentObject, Writeable {
                 && rejections == that.rejections
                 && Objects.equals(resourceStats, that.resourceStats)
                 && failures == that.failures
-                && cancellations == that.cancellations;
+                && cancellations == that.cancellations
+                && searchQueueExecutions == that.searchQueueExecutions
+                && searchQueueWaitTimeNanos == that.searchQueueWaitTimeNanos;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(completions, rejections, cancellations, failures, resourceStats);
+            return Objects.hash(
+                completions,
+                rejections,
+                cancellations,
+                failures,
+                searchQueueExecutions,
+                searchQueueWaitTimeNanos,
+                resourceStats
+            );
         }
     }
 
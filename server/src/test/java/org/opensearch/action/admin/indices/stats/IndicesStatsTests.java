@@ -64,6 +64,15 @@ public class IndicesStatsTests extends OpenSearchSingleNodeTestCase {
         assertEquals(0, stats.getCount());
     }
 
+    public void testLatencyStatsAreOnlyReturnedWhenRequested() {
+        createIndex("test");
+        IndicesStatsResponse rsp = client().admin().indices().prepareStats("test").all().get();
+        assertNull(rsp.getTotal().getLatency());
+        rsp = client().admin().indices().prepareStats("test").clear().setLatency(true).get();
+        assertNotNull(rsp.getTotal().getLatency());
+        assertFalse(CommonStatsFlags.ALL.isSet(CommonStatsFlags.Flag.Latency));
+    }
+
     public void testSegmentStats() throws Exception {
         IndexModule.Type storeType = IndexModule.defaultStoreType(true);
         XContentBuilder mapping = XContentFactory.jsonBuilder()
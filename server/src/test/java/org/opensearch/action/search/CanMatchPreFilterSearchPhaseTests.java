@@ -36,18 +36,28 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.index.fielddomain.ShardFieldDomains;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.internal.AliasFilter;
@@ -75,6 +85,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.IntStream;
@@ -891,6 +903,139 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
         assertThat(result.get(), is(nullValue()));
     }
 
+    public void testLocalDecisionsFromFieldDomainSummaries() throws InterruptedException {
+        AtomicLong nanos = new AtomicLong();
+        ShardFieldDomainCache fieldDomainCache = new ShardFieldDomainCache(
+            new ClusterSettings(
+                Settings.builder().putList(ShardFieldDomainCache.FIELDS.getKey(), "price").build(),
+                ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+            ),
+            nanos::get
+        );
+        DiscoveryNode node = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        ShardId shard0 = new ShardId(new Index("idx", "_na_"), 0);
+        ShardId shard1 = new ShardId(new Index("idx", "_na_"), 1);
+        Map<ShardId, ShardFieldDomains> summaries = Map.of(shard0, summary(10, 20), shard1, summary(30, 40));
+        summaries.forEach((shardId, summary) -> fieldDomainCache.put(shardId, node.getId(), summary));
+        SearchSourceBuilder source = new SearchSourceBuilder().query(QueryBuilders.rangeQuery("price").gte(25));
+        SearchRequest searchRequest = new SearchRequest().source(source);
+
+        // shard 0 is pruned and shard 1 may match, both are decided without a round-trip
+        LocalDecisions decisions = runWithFieldDomains(searchRequest, shardsIter(null, node), fieldDomainCache, summaries, node);
+        assertEquals(0, decisions.sentRequests);
+        assertEquals(2, decisions.savedRequests);
+        assertEquals(1, decisions.prunedShards);
+        assertTrue(decisions.shards.get(0).skip());
+        assertFalse(decisions.shards.get(1).skip());
+
+        // summaries older than the max age are refreshed by the can_match round-trip
+        nanos.addAndGet(ShardFieldDomainCache.MAX_AGE.get(Settings.EMPTY).nanos() + 1);
+        decisions = runWithFieldDomains(searchRequest, shardsIter(null, node), fieldDomainCache, summaries, node);
+        assertEquals(2, decisions.sentRequests);
+        assertEquals(0, decisions.savedRequests);
+        assertSame(summaries.get(shard0), fieldDomainCache.get(shard0, node.getId()));
+
+        // point in time readers and shards of remote clusters are not described by the summaries
+        SearchRequest pitRequest = new SearchRequest().source(source.shallowCopy().pointInTimeBuilder(new PointInTimeBuilder("pit")));
+        decisions = runWithFieldDomains(pitRequest, shardsIter(null, node), fieldDomainCache, summaries, node);
+        assertEquals(2, decisions.sentRequests);
+        assertEquals(0, decisions.savedRequests);
+        decisions = runWithFieldDomains(searchRequest, shardsIter("remote", node), fieldDomainCache, summaries, node);
+        assertEquals(2, decisions.sentRequests);
+        assertEquals(0, decisions.savedRequests);
+    }
+
+    private static ShardFieldDomains summary(double min, double max) {
+        return new ShardFieldDomains(Map.of("price", new NumericRangeFieldDomain("price", min, max, true, ShardFieldDomains.SOURCE)), 1);
+    }
+
+    private static GroupShardsIterator<SearchShardIterator> shardsIter(String clusterAlias, DiscoveryNode node) {
+        List<SearchShardIterator> list = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ShardId shardId = new ShardId(new Index("idx", "_na_"), i);
+            list.add(
+                new SearchShardIterator(
+                    clusterAlias,
+                    shardId,
+                    List.of(TestShardRouting.newShardRouting(shardId, node.getId(), true, ShardRoutingState.STARTED)),
+                    new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS)
+                )
+            );
+        }
+        return new GroupShardsIterator<>(list);
+    }
+
+    private LocalDecisions runWithFieldDomains(
+        SearchRequest searchRequest,
+        GroupShardsIterator<SearchShardIterator> shardsIter,
+        ShardFieldDomainCache fieldDomainCache,
+        Map<ShardId, ShardFieldDomains> summaries,
+        DiscoveryNode node
+    ) throws InterruptedException {
+        searchRequest.allowPartialSearchResults(true);
+        LocalDecisions decisions = new LocalDecisions();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                ActionListener<SearchService.CanMatchResponse> listener
+            ) {
+                decisions.sentRequests++;
+                listener.onResponse(new SearchService.CanMatchResponse(true, null, summaries.get(request.shardId())));
+            }
+        };
+        SearchRequestOperationsListener searchRequestOperationsListener = new SearchRequestOperationsListener.CompositeListener(
+            List.of(assertingListener, new SearchRequestOperationsListener() {
+                @Override
+                protected void onCanMatchLocalDecisions(SearchPhaseContext context, int savedRequests, int prunedShards) {
+                    decisions.savedRequests = savedRequests;
+                    decisions.prunedShards = prunedShards;
+                }
+            }),
+            LogManager.getLogger()
+        );
+        CountDownLatch latch = new CountDownLatch(1);
+        CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(
+            logger,
+            searchTransportService,
+            (clusterAlias, nodeId) -> new SearchAsyncActionTests.MockConnection(node),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest,
+            null,
+            shardsIter,
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            ClusterState.EMPTY_STATE,
+            null,
+            (iter) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    iter.forEach(decisions.shards::add);
+                    searchRequestOperationsListener.onPhaseEnd(new MockSearchPhaseContext(1, searchRequest, this), null);
+                    latch.countDown();
+                }
+            },
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(searchRequestOperationsListener, searchRequest, () -> null),
+            NoopTracer.INSTANCE,
+            fieldDomainCache
+        );
+        canMatchPhase.start();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        return decisions;
+    }
+
+    private static final class LocalDecisions {
+        private final List<SearchShardIterator> shards = new ArrayList<>();
+        private int sentRequests;
+        private int savedRequests;
+        private int prunedShards;
+    }
+
     private static final class SearchDfsQueryAsyncAction extends AbstractSearchAsyncAction<DfsSearchResult> {
         private final SearchRequestOperationsListener listener;
 
@@ -38,14 +38,17 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.breaker.TestCircuitBreaker;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -68,6 +71,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.greaterThan;
+
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
     private SearchPhaseController searchPhaseController;
@@ -187,6 +192,57 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testConcurrentPartialReducesOverMemoryBudget() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(1));
+        searchRequest.setBatchedReduceSize(2);
+        int numShards = randomIntBetween(10, 40);
+        OpenSearchThreadPoolExecutor reduceExecutor = OpenSearchExecutors.newFixed(
+            "reduce",
+            4,
+            -1,
+            OpenSearchExecutors.daemonThreadFactory("reduce"),
+            threadPool.getThreadContext()
+        );
+        try {
+            // a budget of zero bytes keeps every partially reduced result serialized
+            QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                reduceExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()),
+                numShards,
+                e -> {
+                    throw new AssertionError("unexpected partial merge failure", e);
+                },
+                () -> false,
+                randomIntBetween(2, 4),
+                0
+            );
+            CountDownLatch latch = new CountDownLatch(numShards);
+            for (int i = 0; i < numShards; i++) {
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+                consumer.consumeResult(querySearchResult, latch::countDown);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            SearchPhaseController.ReducedQueryPhase reducedQueryPhase = consumer.reduce();
+            InternalMax max = (InternalMax) reducedQueryPhase.aggregations.asMap().get("test");
+            assertEquals(numShards - 1, max.getValue(), 0d);
+            assertThat(reducedQueryPhase.numReducePhases, greaterThan(1));
+
+            SearchResponse.ReduceStats reduceStats = consumer.getReduceStats();
+            assertNotNull(reduceStats);
+            assertThat(reduceStats.getSpilledResults(), greaterThan(0));
+            assertThat(reduceStats.getPeakMemoryInBytes(), greaterThan(0L));
+        } finally {
+            reduceExecutor.shutdownNow();
+        }
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
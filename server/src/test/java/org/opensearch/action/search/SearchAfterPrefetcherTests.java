@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+
+public class SearchAfterPrefetcherTests extends OpenSearchTestCase {
+
+    public void testPrefetchNextPage() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            ClusterSettings clusterSettings = new ClusterSettings(
+                Settings.builder().put(SearchAfterPrefetcher.SEARCH_PREFETCH_ENABLED_SETTING.getKey(), true).build(),
+                ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+            );
+            AtomicLong usedBytes = new AtomicLong();
+            SearchAfterPrefetcher prefetcher = new SearchAfterPrefetcher(
+                clusterSettings,
+                threadPool,
+                mock(TaskManager.class),
+                countingBreaker(usedBytes, Long.MAX_VALUE)
+            );
+            List<SearchRequest> prefetched = new ArrayList<>();
+            List<ActionListener<SearchResponse>> prefetchListeners = new ArrayList<>();
+            SearchRequest first = request(null);
+            assertTrue(prefetcher.isEnabled(first));
+            SearchRequest withAggregations = request(null);
+            withAggregations.source().aggregation(AggregationBuilders.max("a"));
+            assertFalse(prefetcher.isEnabled(withAggregations));
+            assertFalse(prefetcher.isEnabled(new SearchRequest("index").source(new SearchSourceBuilder().size(2).sort("timestamp"))));
+
+            PlainActionFuture<SearchResponse> firstPage = new PlainActionFuture<>();
+            prefetcher.prefetchNextPage(first, firstPage, (request, listener) -> {
+                prefetched.add(request);
+                prefetchListeners.add(listener);
+            }).onResponse(response(1L, 2L));
+            assertEquals(2, firstPage.actionGet().getHits().getHits().length);
+            assertEquals(1, prefetched.size());
+            assertArrayEquals(new Object[] { 2L }, prefetched.get(0).source().searchAfter());
+            assertEquals(1, prefetcher.pendingPages());
+
+            // the client sends the sort values back as parsed from json, the page is served once it is prefetched
+            AtomicInteger fallbacks = new AtomicInteger();
+            PlainActionFuture<SearchResponse> secondPage = new PlainActionFuture<>();
+            assertTrue(prefetcher.serve(request(new Object[] { 2 }), secondPage, fallbacks::incrementAndGet));
+            assertFalse(secondPage.isDone());
+            SearchResponse secondResponse = response(3L, 4L);
+            prefetchListeners.get(0).onResponse(secondResponse);
+            assertSame(secondResponse, secondPage.actionGet());
+            assertEquals(0, prefetcher.pendingPages());
+            assertEquals(0, usedBytes.get());
+            assertFalse(prefetcher.serve(request(new Object[] { 2 }), new PlainActionFuture<>(), fallbacks::incrementAndGet));
+
+            // pages are only served to the caller that prefetched them, and the search runs again if the prefetch failed
+            prefetcher.prefetchNextPage(request(new Object[] { 2 }), new PlainActionFuture<>(), (request, listener) -> {
+                prefetched.add(request);
+                prefetchListeners.add(listener);
+            }).onResponse(secondResponse);
+            assertEquals(2, prefetched.size());
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putHeader("user", "other");
+                assertFalse(prefetcher.serve(request(new Object[] { 4 }), new PlainActionFuture<>(), fallbacks::incrementAndGet));
+            }
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putTransient("_user", "other");
+                assertFalse(prefetcher.serve(request(new Object[] { 4 }), new PlainActionFuture<>(), fallbacks::incrementAndGet));
+            }
+            // transient headers that are set per request do not prevent the page from being served
+            threadPool.getThreadContext().putTransient("TASK_ID", 42L);
+            assertTrue(prefetcher.serve(request(new Object[] { 4 }), new PlainActionFuture<>(), fallbacks::incrementAndGet));
+            prefetchListeners.get(1).onFailure(new IllegalStateException("boom"));
+            assertEquals(1, fallbacks.get());
+
+            // nothing is prefetched after the last page
+            prefetcher.prefetchNextPage(request(new Object[] { 4 }), new PlainActionFuture<>(), (request, listener) -> {
+                prefetched.add(request);
+                prefetchListeners.add(listener);
+            }).onResponse(response(5L));
+            assertEquals(2, prefetched.size());
+            assertEquals(0, prefetcher.pendingPages());
+            assertEquals(0, usedBytes.get());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testPrefetchedPagesAreAccountedForByTheBreaker() {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            ClusterSettings clusterSettings = new ClusterSettings(
+                Settings.builder().put(SearchAfterPrefetcher.SEARCH_PREFETCH_ENABLED_SETTING.getKey(), true).build(),
+                ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+            );
+            AtomicLong usedBytes = new AtomicLong();
+            AtomicLong limit = new AtomicLong(Long.MAX_VALUE);
+            SearchAfterPrefetcher prefetcher = new SearchAfterPrefetcher(
+                clusterSettings,
+                threadPool,
+                mock(TaskManager.class),
+                countingBreaker(usedBytes, limit)
+            );
+            List<ActionListener<SearchResponse>> prefetchListeners = new ArrayList<>();
+            prefetcher.prefetchNextPage(request(null), new PlainActionFuture<>(), (request, listener) -> prefetchListeners.add(listener))
+                .onResponse(response(1L, 2L));
+            prefetchListeners.get(0).onResponse(response(3L, 4L));
+            assertThat(usedBytes.get(), greaterThan(0L));
+
+            // disabling prefetching drops the pages and releases their bytes
+            clusterSettings.applySettings(enabled(false));
+            assertEquals(0, prefetcher.pendingPages());
+            assertEquals(0, usedBytes.get());
+
+            // a page that trips the breaker is dropped and the search runs again
+            clusterSettings.applySettings(enabled(true));
+            limit.set(0);
+            prefetcher.prefetchNextPage(request(null), new PlainActionFuture<>(), (request, listener) -> prefetchListeners.add(listener))
+                .onResponse(response(1L, 2L));
+            prefetchListeners.get(1).onResponse(response(3L, 4L));
+            assertEquals(0, prefetcher.pendingPages());
+            assertEquals(0, usedBytes.get());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private static Settings enabled(boolean enabled) {
+        return Settings.builder().put(SearchAfterPrefetcher.SEARCH_PREFETCH_ENABLED_SETTING.getKey(), enabled).build();
+    }
+
+    private static CircuitBreaker countingBreaker(AtomicLong usedBytes, long limit) {
+        return countingBreaker(usedBytes, new AtomicLong(limit));
+    }
+
+    private static CircuitBreaker countingBreaker(AtomicLong usedBytes, AtomicLong limit) {
+        return new NoopCircuitBreaker(CircuitBreaker.REQUEST) {
+            @Override
+            public double addEstimateBytesAndMaybeBreak(long bytes, String label) {
+                if (usedBytes.get() + bytes > limit.get()) {
+                    throw new CircuitBreakingException("limit reached", bytes, limit.get(), Durability.TRANSIENT);
+                }
+                return usedBytes.addAndGet(bytes);
+            }
+
+            @Override
+            public long addWithoutBreaking(long bytes) {
+                return usedBytes.addAndGet(bytes);
+            }
+        };
+    }
+
+    private static SearchRequest request(Object[] searchAfter) {
+        SearchSourceBuilder source = new SearchSourceBuilder().size(2).sort("timestamp").pointInTimeBuilder(new PointInTimeBuilder("pit"));
+        if (searchAfter != null) {
+            source.searchAfter(searchAfter);
+        }
+        return new SearchRequest().source(source);
+    }
+
+    private static SearchResponse response(long... sortValues) {
+        SearchHit[] hits = new SearchHit[sortValues.length];
+        for (int i = 0; i < sortValues.length; i++) {
+            hits[i] = new SearchHit(i);
+            hits[i].sortValues(new Object[] { sortValues[i] }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        TotalHits totalHits = new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO);
+        InternalSearchResponse internalResponse = new InternalSearchResponse(
+            new SearchHits(hits, totalHits, 1f),
+            null,
+            null,
+            null,
+            false,
+            null,
+            1
+        );
+        return new SearchResponse(internalResponse, null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY, "pit");
+    }
+}
@@ -42,13 +42,23 @@ import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.SetOnce;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
@@ -59,17 +69,22 @@ import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
+import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.transport.Transport;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -285,4 +300,173 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields.length, equalTo(1));
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields[0], equalTo(0));
     }
+
+    public void testHedgedShardRequest() throws Exception {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(
+            0,
+            System.nanoTime(),
+            System::nanoTime
+        );
+        Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        DiscoveryNode slowNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode fastNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node_1", new SearchAsyncActionTests.MockConnection(slowNode));
+        lookup.put("node_2", new SearchAsyncActionTests.MockConnection(fastNode));
+        ShardId shardId = new ShardId("idx", "_na_", 0);
+        OriginalIndices originalIndices = new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS);
+
+        List<SearchTask> parentTasks = new CopyOnWriteArrayList<>();
+        List<ShardSearchContextId> freedContexts = new CopyOnWriteArrayList<>();
+        SetOnce<SearchActionListener<SearchPhaseResult>> slowListener = new SetOnce<>();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteQuery(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                SearchActionListener<SearchPhaseResult> listener
+            ) {
+                parentTasks.add(task);
+                if (connection.getNode().equals(slowNode)) {
+                    slowListener.set(listener);
+                } else {
+                    QuerySearchResult queryResult = new QuerySearchResult(
+                        new ShardSearchContextId("N/A", 2),
+                        new SearchShardTarget("node_2", shardId, null, OriginalIndices.NONE),
+                        null
+                    );
+                    queryResult.topDocs(new TopDocsAndMaxScore(Lucene.EMPTY_TOP_DOCS, Float.NaN), new DocValueFormat[0]);
+                    queryResult.from(0);
+                    queryResult.size(1);
+                    new Thread(() -> listener.onResponse(queryResult)).start();
+                }
+            }
+
+            @Override
+            public void sendFreeContext(Transport.Connection connection, ShardSearchContextId contextId, OriginalIndices originalIndices) {
+                freedContexts.add(contextId);
+            }
+        };
+
+        TestThreadPool threadPool = new TestThreadPool("testHedgedShardRequest");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+        collector.addShardCopyStatistics("node_1", shardId, TimeValue.timeValueMillis(1).nanos(), 0, -1);
+        ShardRequestHedging hedging = new ShardRequestHedging(
+            new ClusterSettings(
+                Settings.builder().put(ShardRequestHedging.SEARCH_HEDGING_MIN_DELAY_SETTING.getKey(), "1ms").build(),
+                ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+            ),
+            threadPool,
+            new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()),
+            collector
+        );
+
+        List<ShardRouting> copies = new ArrayList<>();
+        for (DiscoveryNode node : List.of(slowNode, fastNode)) {
+            ShardRouting routing = ShardRouting.newUnassigned(
+                shardId,
+                node == slowNode,
+                node == slowNode ? RecoverySource.EmptyStoreRecoverySource.INSTANCE : RecoverySource.PeerRecoverySource.INSTANCE,
+                new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foobar")
+            );
+            copies.add(routing.initialize(node.getId(), null, 0).moveToStarted());
+        }
+        GroupShardsIterator<SearchShardIterator> shardsIter = new GroupShardsIterator<>(
+            List.of(new SearchShardIterator(null, shardId, copies, originalIndices))
+        );
+
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder().size(1));
+        searchRequest.allowPartialSearchResults(false);
+        Executor executor = OpenSearchExecutors.newDirectExecutorService();
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            r -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        SearchTask task = new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap());
+        QueryPhaseResultConsumer resultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            task.getProgressListener(),
+            writableRegistry(),
+            shardsIter.size(),
+            exc -> {}
+        );
+        AtomicInteger hedgedRequests = new AtomicInteger();
+        AtomicInteger hedgedRequestsWon = new AtomicInteger();
+        SearchRequestOperationsListener hedgingListener = new SearchRequestOperationsListener() {
+            @Override
+            protected void onShardRequestsHedged(SearchPhaseContext context, int hedged, int won) {
+                hedgedRequests.addAndGet(hedged);
+                hedgedRequestsWon.addAndGet(won);
+            }
+        };
+        SearchRequestContext searchRequestContext = new SearchRequestContext(
+            new SearchRequestOperationsListener.CompositeListener(List.of(assertingListener, hedgingListener), LogManager.getLogger()),
+            searchRequest,
+            () -> null
+        );
+        searchRequestContext.setShardRequestHedging(hedging);
+        CountDownLatch latch = new CountDownLatch(1);
+        SearchQueryThenFetchAsyncAction action = new SearchQueryThenFetchAsyncAction(
+            logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            controller,
+            executor,
+            resultConsumer,
+            searchRequest,
+            null,
+            shardsIter,
+            timeProvider,
+            null,
+            task,
+            SearchResponse.Clusters.EMPTY,
+            searchRequestContext,
+            NoopTracer.INSTANCE
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                return new SearchPhase("test") {
+                    @Override
+                    public void run() {
+                        assertingListener.onPhaseEnd(new MockSearchPhaseContext(1, searchRequest, this), null);
+                        latch.countDown();
+                    }
+                };
+            }
+        };
+
+        action.start();
+        // the hedged request to the other copy completes the phase while the original request is still outstanding
+        latch.await();
+        assertEquals(1, hedgedRequests.get());
+        assertEquals(1, hedgedRequestsWon.get());
+        assertEquals(1, action.results.getSuccessfulResults().count());
+        assertEquals("node_2", action.results.getSuccessfulResults().findFirst().get().getSearchShardTarget().getNodeId());
+        // the hedged request runs under its own child task so that it can be cancelled on its own
+        assertEquals(2, parentTasks.size());
+        assertSame(task, parentTasks.get(0));
+        assertNotSame(task, parentTasks.get(1));
+
+        // the late response of the original request is ignored and its context released
+        QuerySearchResult lateResult = new QuerySearchResult(
+            new ShardSearchContextId("N/A", 1),
+            new SearchShardTarget("node_1", shardId, null, OriginalIndices.NONE),
+            null
+        );
+        lateResult.topDocs(new TopDocsAndMaxScore(Lucene.EMPTY_TOP_DOCS, Float.NaN), new DocValueFormat[0]);
+        slowListener.get().onResponse(lateResult);
+        assertEquals(List.of(new ShardSearchContextId("N/A", 1)), freedContexts);
+        assertEquals(1, action.results.getSuccessfulResults().count());
+
+        IOUtils.close(clusterService);
+        terminate(threadPool);
+    }
 }
@@ -30,4 +30,12 @@ public interface SearchRequestOperationsListenerSupport {
             )
         );
     }
+
+    default void onCanMatchLocalDecisions(SearchRequestOperationsListener listener, int savedRequests, int prunedShards) {
+        listener.onCanMatchLocalDecisions(null, savedRequests, prunedShards);
+    }
+
+    default void onShardRequestsHedged(SearchRequestOperationsListener listener, int hedgedRequests, int hedgedRequestsWon) {
+        listener.onShardRequestsHedged(null, hedgedRequests, hedgedRequestsWon);
+    }
 }
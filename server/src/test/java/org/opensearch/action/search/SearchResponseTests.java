@@ -161,6 +161,14 @@ public class SearchResponseTests extends OpenSearchTestCase {
             phaseTookMap.put(searchPhaseName.getName(), randomNonNegativeLong());
         }
         SearchResponse.PhaseTook phaseTook = new SearchResponse.PhaseTook(phaseTookMap);
+        SearchResponse.ReduceStats reduceStats = randomBoolean()
+            ? null
+            : new SearchResponse.ReduceStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomIntBetween(0, 10)
+            );
         int totalShards = randomIntBetween(1, Integer.MAX_VALUE);
         int successfulShards = randomIntBetween(0, totalShards);
         int skippedShards = randomIntBetween(0, totalShards);
@@ -193,6 +201,7 @@ public class SearchResponseTests extends OpenSearchTestCase {
             skippedShards,
             tookInMillis,
             phaseTook,
+            reduceStats,
             shardSearchFailures,
             randomBoolean() ? randomClusters() : SearchResponse.Clusters.EMPTY,
             null
@@ -483,6 +492,7 @@ public class SearchResponseTests extends OpenSearchTestCase {
         assertEquals(searchResponse.getTotalShards(), deserialized.getTotalShards());
         assertEquals(searchResponse.getSkippedShards(), deserialized.getSkippedShards());
         assertEquals(searchResponse.getClusters(), deserialized.getClusters());
+        assertEquals(searchResponse.getReduceStats(), deserialized.getReduceStats());
     }
 
     public void testSerializationWithSearchExtBuilders() throws IOException {
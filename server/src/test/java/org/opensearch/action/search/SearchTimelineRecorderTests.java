@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.profile.NetworkTime;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.SearchProfileShardResults;
+import org.opensearch.search.profile.SearchTimeline;
+import org.opensearch.search.profile.aggregation.AggregationProfileShardResult;
+import org.opensearch.search.profile.fetch.FetchProfileShardResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SearchTimelineRecorderTests extends OpenSearchTestCase {
+
+    public void testOnlyCreatedForProfiledRequests() {
+        assertNull(SearchTimelineRecorder.create(new SearchRequest()));
+        assertNull(SearchTimelineRecorder.create(new SearchRequest().source(new SearchSourceBuilder())));
+        assertNotNull(SearchTimelineRecorder.create(new SearchRequest().source(new SearchSourceBuilder().profile(true))));
+    }
+
+    public void testTimeline() {
+        AtomicLong nanoTime = new AtomicLong(1000);
+        SearchTimelineRecorder recorder = new SearchTimelineRecorder(nanoTime::get);
+        SearchShardTarget fastShard = new SearchShardTarget("node_1", new ShardId("index", "uuid", 0), null, OriginalIndices.NONE);
+        SearchShardTarget slowShard = new SearchShardTarget("node_2", new ShardId("index", "uuid", 1), null, OriginalIndices.NONE);
+
+        nanoTime.addAndGet(10);
+        recorder.onPhaseStart("query");
+        SearchActionListener<SearchPhaseResult> fastListener = recorder.trackShard("query", fastShard, listener(fastShard, 0, null));
+        nanoTime.addAndGet(5);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        SearchActionListener<SearchPhaseResult> slowListener = recorder.trackShard("query", slowShard, listener(slowShard, 1, failure));
+        nanoTime.addAndGet(20);
+        fastListener.onResponse(new SearchPhaseResult() {});
+        nanoTime.addAndGet(100);
+        slowListener.onFailure(new IllegalStateException("boom"));
+        assertNotNull(failure.get());
+        recorder.onPhaseEnd("query");
+        long reduceStart = recorder.onReduceStart();
+        nanoTime.addAndGet(7);
+        recorder.onReduceEnd(reduceStart);
+        recorder.onPhaseStart("fetch");
+        nanoTime.addAndGet(3);
+
+        ProfileShardResult profileShardResult = new ProfileShardResult(
+            List.of(),
+            new AggregationProfileShardResult(List.of()),
+            new FetchProfileShardResult(List.of()),
+            new NetworkTime(2, 3),
+            42
+        );
+        SearchTimeline timeline = recorder.build(new SearchProfileShardResults(Map.of(fastShard.toString(), profileShardResult)));
+
+        assertEquals(145, timeline.getTookInNanos());
+        assertEquals(3, timeline.getPhases().size());
+        SearchTimeline.Phase query = timeline.getPhases().get(0);
+        assertEquals("query", query.getName());
+        assertEquals(10, query.getStartOffsetInNanos());
+        assertEquals(125, query.getTookInNanos());
+        assertEquals(2, query.getShards().size());
+        SearchTimeline.Shard fast = query.getShards().get(0);
+        assertEquals(fastShard.toString(), fast.getId());
+        assertEquals(10, fast.getStartOffsetInNanos());
+        assertEquals(25, fast.getTookInNanos());
+        assertFalse(fast.isFailed());
+        assertEquals(42, fast.getQueueWaitTimeInNanos());
+        assertEquals(2, fast.getInboundNetworkTimeInMillis());
+        assertEquals(3, fast.getOutboundNetworkTimeInMillis());
+        SearchTimeline.Shard slow = query.getShards().get(1);
+        assertEquals(120, slow.getTookInNanos());
+        assertTrue(slow.isFailed());
+        assertEquals(-1, slow.getQueueWaitTimeInNanos());
+        assertSame(slow, query.getCriticalShard());
+
+        SearchTimeline.Phase reduce = timeline.getPhases().get(1);
+        assertEquals(SearchTimelineRecorder.REDUCE_PHASE, reduce.getName());
+        assertEquals(7, reduce.getTookInNanos());
+        assertNull(reduce.getCriticalShard());
+        // the fetch phase has not ended yet
+        SearchTimeline.Phase fetch = timeline.getPhases().get(2);
+        assertEquals("fetch", fetch.getName());
+        assertEquals(3, fetch.getTookInNanos());
+        assertSame(query, timeline.getCriticalPhase());
+    }
+
+    public void testSerialization() throws IOException {
+        SearchTimeline timeline = new SearchTimeline(
+            randomNonNegativeLong(),
+            List.of(
+                new SearchTimeline.Phase(
+                    "query",
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    List.of(new SearchTimeline.Shard("[node][index][0]", 1, 2, randomBoolean(), randomLongBetween(-1, 100), -1, 5))
+                ),
+                new SearchTimeline.Phase("reduce", randomNonNegativeLong(), randomNonNegativeLong(), List.of())
+            )
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            timeline.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(timeline, new SearchTimeline(in));
+            }
+        }
+    }
+
+    private static SearchActionListener<SearchPhaseResult> listener(
+        SearchShardTarget shardTarget,
+        int shardIndex,
+        AtomicReference<Exception> failure
+    ) {
+        return new SearchActionListener<>(shardTarget, shardIndex) {
+            @Override
+            protected void innerOnResponse(SearchPhaseResult response) {
+                assertEquals(shardTarget, response.getSearchShardTarget());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                failure.set(e);
+            }
+        };
+    }
+}
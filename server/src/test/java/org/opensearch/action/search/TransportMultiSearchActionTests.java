@@ -39,14 +39,28 @@ import org.opensearch.action.support.ActionTestUtils;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.filter.InternalFilter;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.Task;
@@ -59,6 +73,7 @@ import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.node.NodeClient;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
@@ -251,6 +266,146 @@ public class TransportMultiSearchActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSharedExecution() {
+        Settings settings = Settings.builder().put("node.name", TransportMultiSearchActionTests.class.getSimpleName()).build();
+        ActionFilters actionFilters = mock(ActionFilters.class);
+        when(actionFilters.filters()).thenReturn(new ActionFilter[0]);
+        ThreadPool threadPool = new ThreadPool(settings);
+        TransportService transportService = new TransportService(
+            Settings.EMPTY,
+            mock(Transport.class),
+            threadPool,
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            boundAddress -> DiscoveryNode.createLocal(settings, boundAddress.publishAddress(), UUIDs.randomBase64UUID()),
+            null,
+            Collections.emptySet(),
+            NoopTracer.INSTANCE
+        );
+        ClusterService clusterService = mock(ClusterService.class);
+        IndexMetadata pipelined = IndexMetadata.builder("pipelined")
+            .settings(settings(Version.CURRENT).put(IndexSettings.DEFAULT_SEARCH_PIPELINE.getKey(), "pipeline"))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(new ClusterName("test")).metadata(Metadata.builder().put(pipelined, false)).build()
+        );
+
+        final List<SearchRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        NodeClient client = new NodeClient(settings, threadPool) {
+            @Override
+            public void search(final SearchRequest request, final ActionListener<SearchResponse> listener) {
+                requests.add(request);
+                ShardSearchFailure[] shardFailures = ShardSearchFailure.EMPTY_ARRAY;
+                List<InternalAggregation> aggregations = new ArrayList<>();
+                if (request.source() != null && request.source().aggregations() != null) {
+                    for (AggregationBuilder aggregation : request.source().aggregations().getAggregatorFactories()) {
+                        if (aggregation.getName().startsWith(MultiSearchRequestGroup.AGGREGATION_PREFIX)) {
+                            if (request.indices()[0].equals("metrics")) {
+                                listener.onFailure(new IllegalArgumentException("too many buckets"));
+                                return;
+                            }
+                            if (request.indices()[0].equals("partial")) {
+                                shardFailures = new ShardSearchFailure[] { new ShardSearchFailure(new IllegalStateException("boom")) };
+                            }
+                            List<InternalAggregation> subAggregations = new ArrayList<>();
+                            for (AggregationBuilder subAggregation : aggregation.getSubAggregations()) {
+                                subAggregations.add(max(subAggregation.getName()));
+                            }
+                            InternalFilter filter = mock(InternalFilter.class);
+                            when(filter.getName()).thenReturn(aggregation.getName());
+                            when(filter.getAggregations()).thenReturn(InternalAggregations.from(subAggregations));
+                            aggregations.add(filter);
+                        } else {
+                            aggregations.add(max(aggregation.getName()));
+                        }
+                    }
+                }
+                InternalSearchResponse internalResponse = new InternalSearchResponse(
+                    SearchHits.empty(),
+                    InternalAggregations.from(aggregations),
+                    null,
+                    null,
+                    false,
+                    null,
+                    1
+                );
+                int successfulShards = 2 - shardFailures.length;
+                listener.onResponse(
+                    new SearchResponse(internalResponse, null, 2, successfulShards, 0, 0L, shardFailures, SearchResponse.Clusters.EMPTY)
+                );
+            }
+
+            @Override
+            public String getLocalNodeId() {
+                return "local_node_id";
+            }
+        };
+
+        SearchRequestStats searchRequestStats = new SearchRequestStats(
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        TransportMultiSearchAction action = new TransportMultiSearchAction(
+            threadPool,
+            actionFilters,
+            transportService,
+            clusterService,
+            10,
+            System::nanoTime,
+            client,
+            searchRequestStats
+        );
+        action.setSharedExecutionEnabled(true);
+
+        try {
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            multiSearchRequest.add(new SearchRequest("logs").source(lastHour().aggregation(AggregationBuilders.max("a").field("x"))));
+            multiSearchRequest.add(new SearchRequest("logs").source(lastHour().aggregation(AggregationBuilders.max("b").field("x"))));
+            multiSearchRequest.add(new SearchRequest("logs").source(lastHour().aggregation(AggregationBuilders.max("a").field("x"))));
+            multiSearchRequest.add(new SearchRequest("logs").source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("a"))));
+            multiSearchRequest.add(new SearchRequest("metrics").source(lastHour().aggregation(AggregationBuilders.max("c").field("x"))));
+            multiSearchRequest.add(new SearchRequest("metrics").source(lastHour().aggregation(AggregationBuilders.max("d").field("x"))));
+            multiSearchRequest.add(new SearchRequest("logs").source(lastHour()));
+            multiSearchRequest.add(new SearchRequest("partial").source(lastHour().aggregation(AggregationBuilders.max("e").field("x"))));
+            multiSearchRequest.add(new SearchRequest("partial").source(lastHour().aggregation(AggregationBuilders.max("f").field("x"))));
+            multiSearchRequest.add(new SearchRequest("pipelined").source(lastHour().aggregation(AggregationBuilders.max("g").field("x"))));
+            multiSearchRequest.add(new SearchRequest("pipelined").source(lastHour().aggregation(AggregationBuilders.max("h").field("x"))));
+
+            MultiSearchResponse response = ActionTestUtils.executeBlocking(action, multiSearchRequest);
+            assertThat(response.getResponses().length, equalTo(11));
+            // the shared logs search, the logs search with another query, the failed shared metrics search and its fallbacks, the
+            // shared partial search that had shard failures and its fallbacks, and the searches of the index with a default pipeline
+            assertThat(requests.size(), equalTo(10));
+            SearchRequest shared = requests.stream().filter(r -> r.indices()[0].equals("logs")).findFirst().get();
+            assertThat(shared.source().aggregations().count(), equalTo(2));
+
+            String[] expected = new String[] { "a", "b", "a", "a", "c", "d", null, "e", "f", "g", "h" };
+            for (int i = 0; i < expected.length; i++) {
+                MultiSearchResponse.Item item = response.getResponses()[i];
+                assertFalse(item.isFailure());
+                assertThat(item.getResponse().getShardFailures().length, equalTo(0));
+                if (expected[i] == null) {
+                    assertThat(item.getResponse().getAggregations(), nullValue());
+                } else {
+                    assertThat(item.getResponse().getAggregations().asList().size(), equalTo(1));
+                    assertNotNull(item.getResponse().getAggregations().get(expected[i]));
+                }
+            }
+            assertThat(searchRequestStats.getMultiSearchSharedRequests(), equalTo(4L));
+            assertThat(searchRequestStats.getMultiSearchSeparateRequests(), equalTo(7L));
+        } finally {
+            assertTrue(OpenSearchTestCase.terminate(threadPool));
+        }
+    }
+
+    private static SearchSourceBuilder lastHour() {
+        return new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gte("now-1h"));
+    }
+
+    private static InternalMax max(String name) {
+        return new InternalMax(name, 1.0, DocValueFormat.RAW, null);
+    }
+
     public void testDefaultMaxConcurrentSearches() {
         int numDataNodes = randomIntBetween(1, 10);
         DiscoveryNodes.Builder builder = DiscoveryNodes.builder();
@@ -94,7 +94,8 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.pipeline.SearchPipelineService;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.tasks.TaskResourceTrackingService;
-import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.BatchingMetricsRecorder;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
@@ -1247,11 +1248,12 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 indexNameExpressionResolver,
                 namedWriteableRegistry,
                 mock(SearchPipelineService.class),
-                mock(MetricsRegistry.class),
+                NoopMetricsRegistry.INSTANCE,
                 new SearchRequestOperationsCompositeListenerFactory(),
                 mock(Tracer.class),
                 mock(TaskResourceTrackingService.class),
-                mock(IndicesService.class)
+                mock(IndicesService.class),
+                new BatchingMetricsRecorder()
             );
 
             // Actual test cases start here:
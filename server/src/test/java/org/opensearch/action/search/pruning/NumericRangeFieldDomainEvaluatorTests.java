@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.geo.ShapeRelation;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class NumericRangeFieldDomainEvaluatorTests extends OpenSearchTestCase {
+    private final FieldDomainEvaluators evaluators = FieldDomainEvaluators.defaultEvaluators();
+    private final FieldDomainEvaluationContext context = new FieldDomainEvaluationContext(() -> 0L);
+    private final NumericRangeFieldDomain domain = new NumericRangeFieldDomain("price", 10, 20, true, null);
+
+    public void testCanMatchReturnsFalseForDisjointRanges() {
+        assertFalse(evaluators.canMatch(domain, constraint(21, 30, true, true), context));
+        assertFalse(evaluators.canMatch(domain, constraint(null, 9.5, true, true), context));
+        assertFalse(evaluators.canMatch(domain, constraint(20, null, false, true), context));
+        assertFalse(evaluators.canMatch(domain, constraint(null, 10, true, false), context));
+    }
+
+    public void testCanMatchReturnsTrueForIntersectingRanges() {
+        assertTrue(evaluators.canMatch(domain, constraint(20, null, true, true), context));
+        assertTrue(evaluators.canMatch(domain, constraint(null, 10, true, true), context));
+        assertTrue(evaluators.canMatch(domain, constraint(0, 100, true, true), context));
+        assertTrue(evaluators.canMatch(domain, constraint(15.5, 16, false, false), context));
+    }
+
+    public void testCanMatchParsesStringBounds() {
+        assertFalse(evaluators.canMatch(domain, constraint("25", null, true, true), context));
+        assertFalse(evaluators.canMatch(domain, constraint(new BytesRef("25"), null, true, true), context));
+        assertTrue(evaluators.canMatch(domain, constraint("15", null, true, true), context));
+    }
+
+    public void testCanMatchIsConservative() {
+        assertTrue(evaluators.canMatch(domain, constraint("not a number", null, true, true), context));
+        assertTrue(
+            evaluators.canMatch(domain, new RangeQueryConstraint("price", 25, null, true, true, null, null, ShapeRelation.WITHIN), context)
+        );
+        assertTrue(evaluators.canMatch(new NumericRangeFieldDomain("price", 10, 20, false, null), constraint(25, 30, true, true), context));
+        assertTrue(evaluators.canMatch(domain, new RangeQueryConstraint("other", 25, null, true, true, null, null, null), context));
+    }
+
+    private static RangeQueryConstraint constraint(Object lower, Object upper, boolean includeLower, boolean includeUpper) {
+        return new RangeQueryConstraint("price", lower, upper, includeLower, includeUpper, null, null, null);
+    }
+}
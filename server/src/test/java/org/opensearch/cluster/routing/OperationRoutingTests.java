@@ -672,6 +672,51 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         terminate(threadPool);
     }
 
+    public void testShardCopyAdaptiveReplicaSelection() throws Exception {
+        final String[] indexNames = new String[] { "test" };
+        ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(indexNames, 1, 2);
+        OperationRouting opRouting = new OperationRouting(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        opRouting.setUseAdaptiveReplicaSelection(true);
+        opRouting.setAdaptiveReplicaSelectionMode(OperationRouting.AdaptiveReplicaSelectionMode.SHARD_COPY);
+        TestThreadPool threadPool = new TestThreadPool("testShardCopyAdaptiveReplicaSelection");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+        Map<String, Long> outstandingRequests = new HashMap<>();
+        ShardId shardId = state.routingTable().index("test").shard(0).shardId();
+
+        // node statistics are ignored in this mode
+        collector.addNodeStatistics("node_1", 10, TimeValue.timeValueMillis(500).nanos(), TimeValue.timeValueMillis(500).nanos());
+        collector.addShardCopyStatistics("node_0", shardId, TimeValue.timeValueMillis(100).nanos(), 2, -1);
+        collector.addShardCopyStatistics("node_1", shardId, TimeValue.timeValueMillis(100).nanos(), 0, 0.5);
+        collector.addShardCopyStatistics("node_2", shardId, TimeValue.timeValueMillis(100).nanos(), 1, -1);
+
+        GroupShardsIterator<ShardIterator> groupIterator = opRouting.searchShards(
+            state,
+            indexNames,
+            null,
+            null,
+            collector,
+            outstandingRequests,
+            null
+        );
+        // the idle copy with a warm cache is predicted to be the fastest, then the copy with the fewest in-flight queries
+        assertThat(groupIterator.get(0).nextOrNull().currentNodeId(), equalTo("node_1"));
+        assertThat(groupIterator.get(0).nextOrNull().currentNodeId(), equalTo("node_2"));
+        assertThat(groupIterator.get(0).nextOrNull().currentNodeId(), equalTo("node_0"));
+        assertThat(outstandingRequests.get("node_1"), equalTo(1L));
+
+        // the copy starts getting loaded...
+        collector.addShardCopyStatistics("node_1", shardId, TimeValue.timeValueMillis(100).nanos(), 6, 0.5);
+        groupIterator = opRouting.searchShards(state, indexNames, null, null, collector, outstandingRequests, null);
+        assertThat(groupIterator.get(0).nextOrNull().currentNodeId(), equalTo("node_2"));
+
+        IOUtils.close(clusterService);
+        terminate(threadPool);
+    }
+
     // Regression test to ignore awareness attributes. This test creates shards in different zones and simulates stress
     // on nodes in one zone to test if Adapative Replica Selection smartly routes the request to a node in different zone
     // by ignoring the zone awareness attributes.
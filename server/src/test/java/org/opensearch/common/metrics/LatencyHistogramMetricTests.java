@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LatencyHistogramMetricTests extends OpenSearchTestCase {
+
+    public void testEmptyMetricHasNoSnapshotAndNoStripes() {
+        LatencyHistogramMetric metric = new LatencyHistogramMetric(randomIntBetween(1, 64));
+        assertNull(metric.snapshot());
+        assertEquals(0, metric.allocatedStripes());
+    }
+
+    public void testRecordsInMicros() {
+        LatencyHistogramMetric metric = new LatencyHistogramMetric();
+        metric.inc(TimeUnit.MICROSECONDS.toNanos(10));
+        metric.inc(TimeUnit.MILLISECONDS.toNanos(10));
+        metric.inc(-1);
+        metric.inc(TimeUnit.HOURS.toNanos(2));
+
+        Histogram snapshot = metric.snapshot();
+        assertEquals(4, snapshot.getTotalCount());
+        assertEquals(1, snapshot.getCountAtValue(0));
+        assertEquals(1, snapshot.getCountAtValue(10));
+        assertEquals(1, snapshot.getCountAtValue(TimeUnit.MILLISECONDS.toMicros(10)));
+        // latencies above the trackable range are clamped
+        long highest = LatencyHistogramMetric.HIGHEST_TRACKABLE_MICROS;
+        assertEquals(highest, snapshot.getMaxValue(), highest * 0.07);
+    }
+
+    public void testPercentileError() {
+        LatencyHistogramMetric metric = new LatencyHistogramMetric();
+        for (int micros = 1; micros <= 100_000; micros++) {
+            metric.inc(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        Histogram snapshot = metric.snapshot();
+        for (double percentile : new double[] { 50.0, 90.0, 99.0, 99.9 }) {
+            double expected = percentile * 1000;
+            assertEquals(expected, snapshot.getValueAtPercentile(percentile), expected * 0.07);
+        }
+    }
+
+    public void testConcurrentRecording() throws Exception {
+        final int threads = randomIntBetween(2, 8);
+        final int perThread = randomIntBetween(1000, 10_000);
+        final LatencyHistogramMetric metric = new LatencyHistogramMetric(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] recorders = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            recorders[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < perThread; j++) {
+                    metric.inc(TimeUnit.MICROSECONDS.toNanos(j % 1000 + 1));
+                }
+            });
+            recorders[i].start();
+        }
+        start.countDown();
+        for (Thread recorder : recorders) {
+            recorder.join();
+        }
+        assertEquals((long) threads * perThread, metric.snapshot().getTotalCount());
+        assertThat(metric.allocatedStripes(), lessThanOrEqualTo(threads));
+    }
+}
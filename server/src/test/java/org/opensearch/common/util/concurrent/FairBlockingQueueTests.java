@@ -0,0 +1,335 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class FairBlockingQueueTests extends OpenSearchTestCase {
+
+    public void testLanesTakeTurns() {
+        final AtomicReference<String> lane = new AtomicReference<>();
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(lane::get, 1);
+        lane.set("a");
+        queue.offer("a1");
+        queue.offer("a2");
+        queue.offer("a3");
+        lane.set("b");
+        queue.offer("b1");
+        lane.set(null);
+        queue.offer("c1");
+        queue.offer("c2");
+        assertEquals(6, queue.size());
+        assertEquals(3, queue.activeLanes());
+
+        final List<String> iterated = new ArrayList<>();
+        queue.forEach(iterated::add);
+        assertThat(iterated, contains("a1", "b1", "c1", "a2", "c2", "a3"));
+
+        final List<String> taken = new ArrayList<>();
+        queue.drainTo(taken);
+        assertEquals(iterated, taken);
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.activeLanes());
+        assertNull(queue.poll());
+    }
+
+    public void testQuantum() {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(lane::get, 2);
+        queue.offer("a1");
+        queue.offer("a2");
+        queue.offer("a3");
+        lane.set("b");
+        queue.offer("b1");
+        queue.offer("b2");
+        queue.offer("b3");
+        assertEquals("a1", queue.poll());
+        lane.set("c");
+        queue.offer("c1");
+
+        final List<String> iterated = new ArrayList<>();
+        queue.forEach(iterated::add);
+        assertThat(iterated, contains("a2", "b1", "b2", "c1", "a3", "b3"));
+        final List<String> taken = new ArrayList<>();
+        queue.drainTo(taken);
+        assertEquals(iterated, taken);
+    }
+
+    public void testRemove() {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(lane::get, 1);
+        queue.offer("a1");
+        lane.set("b");
+        queue.offer("b1");
+        queue.offer("b2");
+        assertTrue(queue.remove("a1"));
+        assertFalse(queue.remove("a1"));
+        assertEquals(1, queue.activeLanes());
+        assertEquals(2, queue.size());
+        assertEquals("b1", queue.peek());
+    }
+
+    public void testTakeBlocksUntilOffered() throws Exception {
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(() -> null, 1);
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        final CountDownLatch taken = new CountDownLatch(1);
+        final AtomicReference<String> element = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                element.set(queue.take());
+                taken.countDown();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        thread.start();
+        queue.offer("element");
+        assertTrue(taken.await(10, TimeUnit.SECONDS));
+        assertEquals("element", element.get());
+        thread.join();
+    }
+
+    public void testResizableExecutorWithFairQueue() throws Exception {
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newResizable(
+            getTestName(),
+            1,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("test"),
+            threadContext,
+            null,
+            context -> context.getHeader("tenant")
+        );
+        try {
+            final CountDownLatch block = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch done = new CountDownLatch(6);
+            for (String tenant : new String[] { "heavy", "heavy", "heavy", "heavy", "light", "light" }) {
+                try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                    threadContext.putHeader("tenant", tenant);
+                    executor.execute(() -> {
+                        executed.add(threadContext.getHeader("tenant"));
+                        done.countDown();
+                    });
+                }
+            }
+            assertEquals(6, executor.getQueue().size());
+            block.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertThat(executed, contains("heavy", "light", "heavy", "light", "heavy", "heavy"));
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    public void testIsolatedLanesGetTheirReservedThreads() throws Exception {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final List<Object> executed = new ArrayList<>();
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(
+            lane::get,
+            1,
+            () -> isolation(Map.of("a", 0.5, "b", 0.5), executed)
+        );
+        queue.bind(() -> 10, () -> 4);
+        queue.offer("a1");
+        queue.offer("a2");
+        queue.offer("a3");
+        queue.offer("a4");
+        lane.set("b");
+        queue.offer("b1");
+
+        assertEquals("a1", queue.take());
+        assertEquals("b1", queue.take());
+        assertEquals("a2", queue.take());
+        // no lane with queued elements is below its reserved threads, so "a" borrows the threads reserved to "b"
+        assertEquals("a3", queue.take());
+        queue.offer("b2");
+        // "a" runs more than its reserved threads, so "b" goes first although it is the turn of "a"
+        assertEquals("b2", queue.take());
+        assertEquals("a4", queue.take());
+
+        queue.onExecuted("a1", 42);
+        queue.onExecuted("b1", 7);
+        // elements that did not go through the queue are ignored
+        queue.onExecuted("other", 1);
+        assertThat(executed, contains("a", "b"));
+        // polled elements are not run by a worker, so they do not count against the reservation
+        queue.offer("b3");
+        assertEquals("b3", queue.poll());
+        queue.onExecuted("b3", 1);
+        assertThat(executed, contains("a", "b"));
+    }
+
+    public void testIsolatedLanesGetTheirReservedQueueSlots() {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(
+            lane::get,
+            1,
+            () -> isolation(Map.of("a", 0.5, "b", 0.3), new ArrayList<>())
+        );
+        queue.bind(() -> 10, () -> 4);
+        // "a" has 5 reserved slots and can borrow the 2 slots no lane reserved, but not the 3 slots reserved to "b"
+        for (int i = 0; i < 7; i++) {
+            assertTrue(queue.offer("a" + i));
+        }
+        assertFalse(queue.offer("a7"));
+        lane.set("c");
+        assertFalse(queue.offer("c0"));
+        lane.set("b");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer("b" + i));
+        }
+        assertEquals(10, queue.size());
+        assertEquals(2, queue.activeLanes());
+    }
+
+    public void testForcePutIntoSaturatedLane() throws Exception {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final FairBlockingQueue<String> fairQueue = new FairBlockingQueue<>(
+            lane::get,
+            1,
+            () -> isolation(Map.of("a", 0.5, "b", 0.5), new ArrayList<>())
+        );
+        fairQueue.bind(() -> 10, () -> 4);
+        final SizeBlockingQueue<String> queue = new SizeBlockingQueue<>(fairQueue, 10);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer("a" + i));
+        }
+        assertFalse(queue.offer("a5"));
+        assertEquals(5, queue.size());
+
+        // a forced element bypasses the reserved slots of the lanes and is counted once
+        queue.forcePut("forced");
+        assertEquals(6, queue.size());
+        final List<String> taken = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            taken.add(queue.poll());
+        }
+        assertThat(taken, contains("a0", "a1", "a2", "a3", "a4", "forced"));
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+    }
+
+    public void testLanesAreNotIsolatedUntilBound() {
+        final AtomicReference<String> lane = new AtomicReference<>("a");
+        final FairBlockingQueue<String> queue = new FairBlockingQueue<>(
+            lane::get,
+            1,
+            () -> isolation(Map.of("b", 1.0), new ArrayList<>())
+        );
+        for (int i = 0; i < 20; i++) {
+            assertTrue(queue.offer("a" + i));
+        }
+        assertEquals("a0", queue.poll());
+    }
+
+    public void testResizableExecutorWithIsolatedLanes() throws Exception {
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        final List<Object> executedLanes = Collections.synchronizedList(new ArrayList<>());
+        final LaneIsolation isolation = isolation(Map.of("heavy", 0.5, "light", 0.5), executedLanes);
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newResizable(
+            getTestName(),
+            2,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("test"),
+            threadContext,
+            null,
+            context -> context.getHeader("tenant"),
+            () -> isolation
+        );
+        try {
+            // the first task of each worker does not go through the queue
+            final CountDownLatch blockers = new CountDownLatch(1);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> await(blockers));
+            }
+            final List<String> started = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch firstHeavy = new CountDownLatch(1);
+            final CountDownLatch otherHeavy = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(4);
+            for (CountDownLatch latch : new CountDownLatch[] { firstHeavy, otherHeavy, otherHeavy }) {
+                submit(executor, threadContext, "heavy", () -> {
+                    started.add("heavy");
+                    await(latch);
+                    done.countDown();
+                });
+            }
+            blockers.countDown();
+            // "heavy" borrows the thread reserved to "light" as long as "light" has nothing queued
+            assertBusy(() -> assertEquals(2, started.size()));
+            submit(executor, threadContext, "light", () -> {
+                started.add("light");
+                done.countDown();
+            });
+            firstHeavy.countDown();
+            // once a thread frees up, "light" gets it back although it is the turn of "heavy"
+            assertBusy(() -> assertEquals(3, started.size()));
+            assertEquals("light", started.get(2));
+            otherHeavy.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertThat(started, contains("heavy", "heavy", "light", "heavy"));
+            assertBusy(() -> assertThat(executedLanes, containsInAnyOrder("heavy", "heavy", "light", "heavy")));
+        } finally {
+            terminate(executor);
+        }
+    }
+
+    private static void submit(OpenSearchThreadPoolExecutor executor, ThreadContext threadContext, String tenant, Runnable runnable) {
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("tenant", tenant);
+            executor.execute(runnable);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static LaneIsolation isolation(Map<String, Double> shares, List<Object> executedLanes) {
+        return new LaneIsolation() {
+            @Override
+            public Object laneKey(ThreadContext threadContext) {
+                return null;
+            }
+
+            @Override
+            public Map<String, Double> reservedShares() {
+                return shares;
+            }
+
+            @Override
+            public void onExecuted(Object laneKey, long queueWaitNanos) {
+                executedLanes.add(laneKey);
+            }
+        };
+    }
+}
@@ -170,4 +170,40 @@ public class IndexingPressureTests extends OpenSearchTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testStripedCounters() throws Exception {
+        IndexingPressure indexingPressure = new IndexingPressure(
+            Settings.builder().put(settings).put(IndexingPressure.STRIPED_COUNTERS_ENABLED.getKey(), true).build()
+        );
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    indexingPressure.markCoordinatingOperationStarted(10, false).close();
+                    indexingPressure.markReplicaOperationStarted(5, false).close();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        IndexingPressureStats stats = indexingPressure.stats();
+        assertEquals(0, stats.getCurrentCombinedCoordinatingAndPrimaryBytes());
+        assertEquals(0, stats.getCurrentReplicaBytes());
+        assertEquals(threads.length * 1000L, stats.getTotalCoordinatingBytes());
+        assertEquals(threads.length * 500L, stats.getTotalReplicaBytes());
+
+        // limits are enforced exactly even though the counters are striped
+        try (
+            Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(1024 * 5, false);
+            Releasable replica = indexingPressure.markReplicaOperationStarted(1024 * 5, false)
+        ) {
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> indexingPressure.markPrimaryOperationStarted(1, false));
+            assertEquals(1, indexingPressure.stats().getPrimaryRejections());
+        }
+        try (Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(1024 * 10, false)) {
+            assertEquals(1024 * 10, indexingPressure.stats().getCurrentCombinedCoordinatingAndPrimaryBytes());
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CyclicBarrier;
+
+public class PressureCounterTests extends OpenSearchTestCase {
+
+    public void testExact() {
+        PressureCounter counter = PressureCounter.exact();
+        assertEquals(0L, counter.maxError());
+        counter.add(10);
+        assertEquals(10L, counter.estimate());
+        counter.add(-3);
+        assertEquals(7L, counter.estimate());
+        assertEquals(7L, counter.get());
+    }
+
+    public void testStripedEstimateWithinMaxError() {
+        PressureCounter counter = PressureCounter.striped(randomIntBetween(1, 32), 1000);
+        assertTrue(counter.maxError() <= 1000);
+        long expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            long delta = randomLongBetween(-5, 10);
+            expected += delta;
+            counter.add(delta);
+            assertTrue(Math.abs(expected - counter.estimate()) <= counter.maxError());
+        }
+        assertEquals(expected, counter.get());
+        // folding the stripes makes the estimate exact
+        assertEquals(expected, counter.estimate());
+    }
+
+    public void testSumIsExactNearLimit() {
+        PressureCounter first = PressureCounter.striped(4, 800);
+        PressureCounter second = PressureCounter.striped(4, 800);
+        first.add(50);
+        second.add(50);
+        // far below the limit, the estimate is good enough
+        assertTrue(PressureCounter.sum(10_000, first, second) <= 100);
+        // close to the limit, the exact sum is returned
+        assertEquals(100L, PressureCounter.sum(100, first, second));
+        assertEquals(50L, PressureCounter.value(50, first));
+    }
+
+    public void testConcurrentAdds() throws Exception {
+        PressureCounter counter = PressureCounter.striped(randomIntBetween(1, 16), randomFrom(0L, 100L, Long.MAX_VALUE));
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        CyclicBarrier barrier = new CyclicBarrier(threads.length);
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < 10_000; j++) {
+                    counter.add(3);
+                    counter.add(-1);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threads.length * 20_000L, counter.get());
+    }
+}
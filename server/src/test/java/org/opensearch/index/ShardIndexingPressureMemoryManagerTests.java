@@ -42,6 +42,15 @@ public class ShardIndexingPressureMemoryManagerTests extends OpenSearchTestCase
         settings
     );
 
+    public void testBelowNodeSoftLimitBytes() {
+        long nodeLimit = shardIndexingPressureSettings.getNodePrimaryAndCoordinatingLimits();
+        long belowSoftLimit = memoryManager.belowNodeSoftLimitBytes(nodeLimit);
+        // node byte counts up to this count are below the default soft limit of 70% of the node limit
+        assertTrue((double) belowSoftLimit / nodeLimit < 0.7);
+        assertTrue((double) (belowSoftLimit + 1) / nodeLimit >= 0.7 - 1e-9);
+        assertEquals(0L, memoryManager.belowNodeSoftLimitBytes(0));
+    }
+
     public void testCoordinatingNodeLevelBreach() {
         ShardIndexingPressureTracker tracker = memoryManager.getShardIndexingPressureTracker(shardId1);
 
@@ -382,6 +382,24 @@ public class ShardIndexingPressureTests extends OpenSearchTestCase {
         assertEquals(10, shardStats.getCurrentPrimaryAndCoordinatingLimits());
     }
 
+    public void testShardLimitIncreaseWithStripedCounters() {
+        // the node bytes are above the soft limit, which the limit checks must see although the node counters are striped
+        Settings stripedSettings = Settings.builder().put(settings).put(IndexingPressure.STRIPED_COUNTERS_ENABLED.getKey(), true).build();
+        ShardIndexingPressure shardIndexingPressure = new ShardIndexingPressure(stripedSettings, clusterService);
+        ShardId shardId = new ShardId(new Index("IndexName", "UUID"), 0);
+        try (
+            Releasable coordinating = shardIndexingPressure.markCoordinatingOperationStarted(shardId, 4 * 1024, false);
+            Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 4 * 1024, false)
+        ) {
+            assertEquals(8 * 1024, shardIndexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes());
+            assertEquals(
+                (long) (8 * 1024 / 0.85),
+                shardIndexingPressure.shardStats().getIndexingPressureShardStats(shardId).getCurrentPrimaryAndCoordinatingLimits()
+            );
+        }
+        assertEquals(0, shardIndexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes());
+    }
+
     public void testReplicaShardLimitIncreaseEvaluateSecondaryParam() {
         ShardIndexingPressure shardIndexingPressure = new ShardIndexingPressure(settings, clusterService);
         Index index = new Index("IndexName", "UUID");
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogDocMergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SerialMergeScheduler;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WriteAmplificationAwareMergePolicyTests extends OpenSearchTestCase {
+
+    private static IndexWriterConfig newConfig(WriteAmplificationAwareMergePolicy mergePolicy) {
+        IndexWriterConfig iwc = new IndexWriterConfig();
+        iwc.setMergePolicy(mergePolicy);
+        iwc.setMergeScheduler(new SerialMergeScheduler());
+        iwc.setMaxFullFlushMergeWaitMillis(0);
+        return iwc;
+    }
+
+    private static void addDocAndFlush(IndexWriter writer, int id) throws IOException {
+        Document doc = new Document();
+        doc.add(new StringField("id", Integer.toString(id), Field.Store.YES));
+        writer.addDocument(doc);
+        writer.flush();
+    }
+
+    public void testTracksFlushedSegments() throws IOException {
+        AtomicLong flushedBytes = new AtomicLong();
+        try (Directory dir = newDirectory()) {
+            WriteAmplificationAwareMergePolicy mergePolicy = new WriteAmplificationAwareMergePolicy(
+                NoMergePolicy.INSTANCE,
+                () -> -1,
+                flushedBytes::addAndGet
+            );
+            try (IndexWriter writer = new IndexWriter(dir, newConfig(mergePolicy))) {
+                int numFlushes = randomIntBetween(1, 10);
+                for (int i = 0; i < numFlushes; i++) {
+                    addDocAndFlush(writer, i);
+                }
+                writer.commit();
+            }
+            long expected = 0;
+            for (SegmentCommitInfo info : SegmentInfos.readLatestCommit(dir)) {
+                expected += info.sizeInBytes();
+            }
+            assertEquals(expected, flushedBytes.get());
+        }
+    }
+
+    public void testMergeBudget() throws IOException {
+        AtomicLong nanoTime = new AtomicLong();
+        try (Directory dir = newDirectory()) {
+            LogDocMergePolicy logDocMergePolicy = new LogDocMergePolicy();
+            logDocMergePolicy.setMergeFactor(2);
+            logDocMergePolicy.setMinMergeDocs(1);
+            WriteAmplificationAwareMergePolicy mergePolicy = new WriteAmplificationAwareMergePolicy(
+                logDocMergePolicy,
+                () -> 1,
+                bytes -> {},
+                nanoTime::get
+            );
+            try (IndexWriter writer = new IndexWriter(dir, newConfig(mergePolicy))) {
+                // the first merge overdraws the budget of a single byte, no merge runs until it is paid back
+                int numFlushes = randomIntBetween(4, 10);
+                for (int i = 0; i < numFlushes; i++) {
+                    addDocAndFlush(writer, i);
+                }
+                assertEquals(numFlushes - 1, writer.getSegmentCount());
+
+                nanoTime.addAndGet(TimeUnit.HOURS.toNanos(1_000_000));
+                addDocAndFlush(writer, numFlushes);
+                assertEquals(numFlushes - 1, writer.getSegmentCount());
+
+                // forced merges are not subject to the budget
+                writer.forceMerge(1);
+                assertEquals(1, writer.getSegmentCount());
+            }
+        }
+    }
+
+    public void testUnlimitedBudget() throws IOException {
+        try (Directory dir = newDirectory()) {
+            LogDocMergePolicy logDocMergePolicy = new LogDocMergePolicy();
+            logDocMergePolicy.setMergeFactor(2);
+            logDocMergePolicy.setMinMergeDocs(1);
+            WriteAmplificationAwareMergePolicy mergePolicy = new WriteAmplificationAwareMergePolicy(
+                logDocMergePolicy,
+                () -> -1,
+                bytes -> {}
+            );
+            try (IndexWriter writer = new IndexWriter(dir, newConfig(mergePolicy))) {
+                for (int i = 0; i < 8; i++) {
+                    addDocAndFlush(writer, i);
+                }
+                assertEquals(1, writer.getSegmentCount());
+            }
+        }
+    }
+}
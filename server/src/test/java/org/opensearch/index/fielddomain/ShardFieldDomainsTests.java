@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.store.Directory;
+import org.opensearch.Version;
+import org.opensearch.action.search.pruning.FieldDomainEvaluationContext;
+import org.opensearch.action.search.pruning.FieldDomainEvaluators;
+import org.opensearch.action.search.pruning.RangeQueryConstraint;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShardFieldDomainsTests extends OpenSearchTestCase {
+
+    public void testFromPointValues() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(document(1_000L, 5L, 1.5));
+        writer.addDocument(document(3_000L, 9L, -2.5));
+        DirectoryReader reader = DirectoryReader.open(writer);
+        Map<String, MappedFieldType> fieldTypes = Map.of(
+            "timestamp",
+            new DateFieldMapper.DateFieldType("timestamp"),
+            "count",
+            new NumberFieldMapper.NumberFieldType("count", NumberFieldMapper.NumberType.LONG),
+            "price",
+            new NumberFieldMapper.NumberFieldType("price", NumberFieldMapper.NumberType.DOUBLE),
+            "missing",
+            new NumberFieldMapper.NumberFieldType("missing", NumberFieldMapper.NumberType.LONG)
+        );
+        ShardFieldDomains domains = ShardFieldDomains.of(
+            reader,
+            fieldTypes::get,
+            List.of("timestamp", "count", "price", "missing", "unmapped")
+        );
+        assertEquals(3, domains.domains().size());
+
+        DateRangeFieldDomain timestamp = (DateRangeFieldDomain) domains.get("timestamp");
+        assertEquals("1000", timestamp.min());
+        assertEquals("3000", timestamp.max());
+        assertEquals("milliseconds", timestamp.resolution());
+        assertTrue(timestamp.finalized());
+
+        // integral bounds are widened, floating point ones are kept as is
+        NumericRangeFieldDomain count = (NumericRangeFieldDomain) domains.get("count");
+        assertTrue(count.min() < 5 && count.min() > 4.99);
+        assertTrue(count.max() > 9 && count.max() < 9.01);
+        NumericRangeFieldDomain price = (NumericRangeFieldDomain) domains.get("price");
+        assertEquals(-2.5, price.min(), 0d);
+        assertEquals(1.5, price.max(), 0d);
+
+        ShardFieldDomains copy = copyWriteable(domains, writableRegistry(), ShardFieldDomains::new);
+        assertEquals(3, copy.domains().size());
+        assertEquals(reader.getVersion(), copy.generation());
+        assertEquals("3000", ((DateRangeFieldDomain) copy.get("timestamp")).max());
+        assertEquals(timestamp.format(), ((DateRangeFieldDomain) copy.get("timestamp")).format());
+        assertEquals(count.min(), ((NumericRangeFieldDomain) copy.get("count")).min(), 0d);
+        assertEquals(price.max(), ((NumericRangeFieldDomain) copy.get("price")).max(), 0d);
+
+        IOUtils.close(reader, writer, dir);
+    }
+
+    public void testFloatingPointBoundsContainTheRoundedQueryBounds() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        Document document = new Document();
+        document.add(new FloatPoint("ratio", 0.1f));
+        document.add(new HalfFloatPoint("half_ratio", 0.1f));
+        writer.addDocument(document);
+        DirectoryReader reader = DirectoryReader.open(writer);
+        Map<String, MappedFieldType> fieldTypes = Map.of(
+            "ratio",
+            new NumberFieldMapper.NumberFieldType("ratio", NumberFieldMapper.NumberType.FLOAT),
+            "half_ratio",
+            new NumberFieldMapper.NumberFieldType("half_ratio", NumberFieldMapper.NumberType.HALF_FLOAT)
+        );
+        ShardFieldDomains domains = ShardFieldDomains.of(reader, fieldTypes::get, List.of("ratio", "half_ratio"));
+
+        // the query bound 0.1 is parsed as a double, which is below the float the field rounds it to
+        FieldDomainEvaluators evaluators = FieldDomainEvaluators.defaultEvaluators();
+        FieldDomainEvaluationContext context = new FieldDomainEvaluationContext(() -> 0L);
+        for (String field : List.of("ratio", "half_ratio")) {
+            FieldDomain domain = domains.get(field);
+            assertTrue(evaluators.canMatch(domain, new RangeQueryConstraint(field, null, 0.1, true, true, null, null, null), context));
+            assertTrue(evaluators.canMatch(domain, new RangeQueryConstraint(field, 0.1, null, true, true, null, null, null), context));
+            assertFalse(evaluators.canMatch(domain, new RangeQueryConstraint(field, null, 0.05, true, true, null, null, null), context));
+        }
+
+        IOUtils.close(reader, writer, dir);
+    }
+
+    public void testCache() {
+        AtomicLong nanos = new AtomicLong();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            Settings.builder().putList(ShardFieldDomainCache.FIELDS.getKey(), "timestamp").build(),
+            ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+        );
+        ShardFieldDomainCache cache = new ShardFieldDomainCache(clusterSettings, nanos::get);
+        IndexMetadata indexMetadata = IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        ShardId shardId = new ShardId(indexMetadata.getIndex(), 0);
+        ShardFieldDomains domains = new ShardFieldDomains(Map.of(), 1);
+        cache.put(shardId, "node_1", domains);
+        assertSame(domains, cache.get(shardId, "node_1"));
+        assertNull(cache.get(shardId, "node_2"));
+
+        // summaries older than the max age are stale
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertNull(cache.get(shardId, "node_1"));
+
+        cache.put(shardId, "node_1", domains);
+        ClusterState previous = ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder().put(indexMetadata, false)).build();
+        ClusterState current = ClusterState.builder(previous).metadata(Metadata.builder()).build();
+        cache.clusterChanged(new ClusterChangedEvent("test", current, previous));
+        assertNull(cache.get(shardId, "node_1"));
+
+        // disabling the summaries drops them
+        cache.put(shardId, "node_1", domains);
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertFalse(cache.enabled());
+        assertNull(cache.get(shardId, "node_1"));
+    }
+
+    public void testCacheInvalidation() {
+        AtomicLong nanos = new AtomicLong();
+        ShardFieldDomainCache cache = new ShardFieldDomainCache(
+            new ClusterSettings(
+                Settings.builder().putList(ShardFieldDomainCache.FIELDS.getKey(), "timestamp").build(),
+                ClusterSettings.BUILT_IN_CLUSTER_SETTINGS
+            ),
+            nanos::get
+        );
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        cache.put(shardId, "node_1", new ShardFieldDomains(Map.of(), 1));
+        cache.put(shardId, "node_2", new ShardFieldDomains(Map.of(), 1));
+
+        // a refresh invalidates the summary of the refreshed copy only
+        cache.invalidate(shardId, "node_1", 2);
+        assertNull(cache.get(shardId, "node_1"));
+        assertNotNull(cache.get(shardId, "node_2"));
+
+        // summaries of the readers before the refresh that were still in flight are ignored
+        cache.put(shardId, "node_1", new ShardFieldDomains(Map.of(), 1));
+        assertNull(cache.get(shardId, "node_1"));
+        ShardFieldDomains refreshed = new ShardFieldDomains(Map.of(), 2);
+        cache.put(shardId, "node_1", refreshed);
+        assertSame(refreshed, cache.get(shardId, "node_1"));
+
+        // invalidations of older generations are ignored
+        cache.invalidate(shardId, "node_1", 1);
+        assertSame(refreshed, cache.get(shardId, "node_1"));
+
+        // invalidations expire with the max age
+        cache.invalidate(shardId, "node_1", Long.MAX_VALUE);
+        cache.put(shardId, "node_1", refreshed);
+        assertNull(cache.get(shardId, "node_1"));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.put(shardId, "node_1", refreshed);
+        assertSame(refreshed, cache.get(shardId, "node_1"));
+    }
+
+    private static Document document(long timestamp, long count, double price) {
+        Document document = new Document();
+        document.add(new LongPoint("timestamp", timestamp));
+        document.add(new LongPoint("count", count));
+        document.add(new DoublePoint("price", price));
+        return document;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class DocumentParsePlanTests extends MapperServiceTestCase {
+
+    private XContentBuilder strictMapping() throws IOException {
+        return topMapping(b -> {
+            b.field("dynamic", "strict");
+            b.startObject("properties");
+            {
+                b.startObject("keyword").field("type", "keyword").endObject();
+                b.startObject("object");
+                {
+                    b.startObject("properties");
+                    {
+                        b.startObject("long").field("type", "long").endObject();
+                        b.startObject("inner");
+                        {
+                            b.startObject("properties");
+                            b.startObject("text").field("type", "text").endObject();
+                            b.endObject();
+                        }
+                        b.endObject();
+                    }
+                    b.endObject();
+                }
+                b.endObject();
+                b.startObject("nested");
+                {
+                    b.field("type", "nested");
+                    b.startObject("properties");
+                    b.startObject("long").field("type", "long").endObject();
+                    b.endObject();
+                }
+                b.endObject();
+                b.startObject("disabled").field("type", "object").field("enabled", false).endObject();
+            }
+            b.endObject();
+        });
+    }
+
+    public void testPlanOnlyBuiltForNonDynamicMappings() throws IOException {
+        assertNull(createDocumentMapper(mapping(b -> b.startObject("field").field("type", "keyword").endObject())).parsePlan());
+        assertNotNull(createDocumentMapper(strictMapping()).parsePlan());
+        assertNotNull(createDocumentMapper(topMapping(b -> b.field("dynamic", "false"))).parsePlan());
+    }
+
+    public void testResolve() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(strictMapping());
+        DocumentParsePlan plan = mapper.parsePlan();
+        RootObjectMapper root = mapper.root();
+        ObjectMapper object = mapper.objectMappers().get("object");
+
+        assertSame(mapper.mappers().getMapper("keyword"), plan.resolve(root, "keyword"));
+        assertSame(object, plan.resolve(root, "object"));
+        assertSame(mapper.mappers().getMapper("object.long"), plan.resolve(root, "object.long"));
+        assertSame(mapper.mappers().getMapper("object.inner.text"), plan.resolve(root, "object.inner.text"));
+        assertSame(mapper.mappers().getMapper("object.long"), plan.resolve(object, "long"));
+        assertSame(mapper.mappers().getMapper("object.inner.text"), plan.resolve(object, "inner.text"));
+
+        // left to the generic parser
+        assertNull(plan.resolve(root, "unknown"));
+        assertNull(plan.resolve(root, "nested.long"));
+        assertNull(plan.resolve(root, "disabled.field"));
+        assertNull(plan.resolve(root, IdFieldMapper.NAME));
+        assertNull(plan.resolve(object, "keyword"));
+    }
+
+    public void testParseWithPlan() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(strictMapping());
+        ParsedDocument dotted = mapper.parse(source(b -> {
+            b.field("keyword", "value");
+            b.field("object.long", 42);
+            b.field("object.inner.text", "some text");
+        }));
+        ParsedDocument objects = mapper.parse(source(b -> {
+            b.field("keyword", "value");
+            b.startObject("object");
+            {
+                b.field("long", 42);
+                b.startObject("inner").field("text", "some text").endObject();
+            }
+            b.endObject();
+        }));
+        for (ParsedDocument doc : new ParsedDocument[] { dotted, objects }) {
+            assertNull(doc.dynamicMappingsUpdate());
+            assertNotNull(doc.rootDoc().getField("keyword"));
+            assertNotNull(doc.rootDoc().getField("object.long"));
+            assertNotNull(doc.rootDoc().getField("object.inner.text"));
+        }
+
+        ParsedDocument nested = mapper.parse(source(b -> b.startArray("nested").startObject().field("long", 1).endObject().endArray()));
+        assertEquals(2, nested.docs().size());
+
+        StrictDynamicMappingException e = expectThrows(
+            StrictDynamicMappingException.class,
+            () -> mapper.parse(source(b -> b.startObject("object").field("unknown", 1).endObject()))
+        );
+        assertThat(e.getMessage(), containsString("dynamic introduction of [unknown]"));
+    }
+}
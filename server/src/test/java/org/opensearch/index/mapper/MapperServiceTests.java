@@ -35,9 +35,11 @@ package org.opensearch.index.mapper;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.search.Sort;
 import org.opensearch.Version;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentConstraints;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -59,6 +61,8 @@ import org.opensearch.indices.InvalidTypeNameException;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
 import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.search.suggest.SuggestBuilder;
+import org.opensearch.search.suggest.SuggestBuilders;
 import org.opensearch.test.InternalSettingsPlugin;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
@@ -113,6 +117,101 @@ public class MapperServiceTests extends OpenSearchSingleNodeTestCase {
         assertThat("field was not created by mapping update", mapperService.fieldType("field0"), notNullValue());
     }
 
+    public void testLazyLoadedMapping() throws Throwable {
+        Settings settings = Settings.builder().put(MapperService.INDEX_MAPPING_LAZY_LOAD_SETTING.getKey(), true).build();
+        XContentBuilder mapping = jsonBuilder().startObject()
+            .startObject("properties")
+            .startObject("field")
+            .field("type", "keyword")
+            .endObject()
+            .endObject()
+            .endObject();
+        final MapperService mapperService = createIndex("test1", settings, mapping).mapperService();
+        assertTrue(mapperService.isLazyLoadEnabled());
+        assertThat(mapperService.fieldType("field"), notNullValue());
+        assertTrue(mapperService.isMappingMaterialized());
+
+        assertFalse(mapperService.evictMappingIfIdle(TimeValue.timeValueHours(1)));
+        assertTrue(mapperService.evictMappingIfIdle(TimeValue.ZERO));
+        assertFalse(mapperService.isMappingMaterialized());
+        assertEquals(1, mapperService.getMappingEvictions());
+
+        final long materializations = mapperService.getMappingMaterializations();
+        assertThat(mapperService.fieldType("field"), notNullValue());
+        assertTrue(mapperService.isMappingMaterialized());
+        assertEquals(materializations + 1, mapperService.getMappingMaterializations());
+
+        // mapping updates apply on top of the evicted mapping
+        assertTrue(mapperService.evictMappingIfIdle(TimeValue.ZERO));
+        mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent("{\"properties\":{\"other\":{\"type\":\"long\"}}}"),
+            MergeReason.MAPPING_UPDATE
+        );
+        assertThat(mapperService.fieldType("field"), notNullValue());
+        assertThat(mapperService.fieldType("other"), notNullValue());
+
+        LazyMappingStats stats = client().admin()
+            .cluster()
+            .prepareNodesStats()
+            .setIndices(true)
+            .get()
+            .getNodes()
+            .get(0)
+            .getIndices()
+            .getLazyMappingStats();
+        assertEquals(1, stats.getLazyIndices());
+        assertEquals(1, stats.getMaterializedIndices());
+        assertEquals(2, stats.getEvictions());
+        assertEquals(materializations + 2, stats.getMaterializations());
+    }
+
+    public void testShardOpensAndFlushesWithDeferredMapping() throws Throwable {
+        Settings settings = Settings.builder().put(MapperService.INDEX_MAPPING_LAZY_LOAD_SETTING.getKey(), true).build();
+        XContentBuilder mapping = jsonBuilder().startObject()
+            .startObject("properties")
+            .startObject("field")
+            .field("type", "keyword")
+            .endObject()
+            .startObject("suggest")
+            .field("type", "completion")
+            .endObject()
+            .endObject()
+            .endObject();
+        final MapperService mapperService = createIndex("test1", settings, mapping).mapperService();
+
+        // opening the shard and its engine does not parse the mapping
+        assertTrue(mapperService.isMappingDeferred());
+        assertEquals(0, mapperService.getMappingMaterializations());
+        assertTrue(mapperService.isCompletionField("suggest"));
+        assertFalse(mapperService.isCompletionField("field"));
+        assertFalse(mapperService.isCompositeIndexPresent());
+        assertFalse(mapperService.containsTimeStampField());
+
+        client().prepareIndex("test1").setId("1").setSource("field", "value", "suggest", "value").get();
+        assertTrue(mapperService.isMappingMaterialized());
+        assertTrue(mapperService.evictMappingIfIdle(TimeValue.ZERO));
+
+        // writing the segments picks the postings formats of the fields without parsing the mapping again
+        final long materializations = mapperService.getMappingMaterializations();
+        client().admin().indices().prepareFlush("test1").setForce(true).get();
+        assertTrue(mapperService.isMappingDeferred());
+        assertEquals(materializations, mapperService.getMappingMaterializations());
+
+        SearchResponse response = client().prepareSearch("test1")
+            .suggest(new SuggestBuilder().addSuggestion("suggest", SuggestBuilders.completionSuggestion("suggest").prefix("va")))
+            .get();
+        assertEquals(1, response.getSuggest().getSuggestion("suggest").getEntries().get(0).getOptions().size());
+    }
+
+    public void testMappingNotEvictedWithoutLazyLoad() throws Throwable {
+        final MapperService mapperService = createIndex("test1").mapperService();
+        mapperService.merge("type", createMappingSpecifyingNumberOfFields(1), MergeReason.MAPPING_UPDATE);
+        assertFalse(mapperService.isLazyLoadEnabled());
+        assertFalse(mapperService.evictMappingIfIdle(TimeValue.ZERO));
+        assertTrue(mapperService.isMappingMaterialized());
+    }
+
     /**
      * Test that we can have at least the number of fields in new mappings that are defined by "index.mapping.total_fields.limit".
      * Any additional field should trigger an IllegalArgumentException.
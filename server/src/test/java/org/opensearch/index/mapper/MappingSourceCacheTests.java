@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+public class MappingSourceCacheTests extends MapperServiceTestCase {
+
+    public void testAcquireAndRelease() throws IOException {
+        MappingSourceCache cache = new MappingSourceCache();
+        CompressedXContent first = new CompressedXContent("{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}");
+        CompressedXContent second = new CompressedXContent("{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}");
+        CompressedXContent other = new CompressedXContent("{\"_doc\":{\"properties\":{\"field\":{\"type\":\"long\"}}}}");
+        assertNotSame(first, second);
+
+        assertSame(first, cache.acquire(first));
+        assertSame(first, cache.acquire(second));
+        assertSame(other, cache.acquire(other));
+        assertEquals(new MappingSourceCacheStats(2, 3, first.compressed().length), cache.stats());
+
+        cache.release(second);
+        cache.release(other);
+        assertEquals(new MappingSourceCacheStats(1, 1, 0), cache.stats());
+
+        cache.release(first);
+        assertEquals(new MappingSourceCacheStats(0, 0, 0), cache.stats());
+        // once all references are released, the next user becomes the shared instance
+        assertSame(second, cache.acquire(second));
+    }
+
+    public void testIndicesWithSameMappingShareSource() throws IOException {
+        MappingSourceCache cache = new MappingSourceCache();
+        MapperService first = createMapperService(mapping(b -> b.startObject("field").field("type", "keyword").endObject()));
+        MapperService second = createMapperService(mapping(b -> b.startObject("field").field("type", "keyword").endObject()));
+        assertNotSame(first.documentMapper().mappingSource(), second.documentMapper().mappingSource());
+
+        first.setMappingSourceCache(cache);
+        second.setMappingSourceCache(cache);
+        assertSame(first.documentMapper().mappingSource(), second.documentMapper().mappingSource());
+        assertEquals(2, cache.stats().getReferences());
+
+        merge(second, mapping(b -> {
+            b.startObject("field").field("type", "keyword").endObject();
+            b.startObject("other").field("type", "long").endObject();
+        }));
+        assertNotEquals(first.documentMapper().mappingSource(), second.documentMapper().mappingSource());
+        assertEquals(2, cache.stats().getUniqueSources());
+        assertEquals(2, cache.stats().getReferences());
+
+        first.close();
+        second.close();
+        assertEquals(0, cache.stats().getReferences());
+    }
+
+    public void testStatsSerialization() throws IOException {
+        MappingSourceCacheStats stats = new MappingSourceCacheStats(
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(stats, new MappingSourceCacheStats(in));
+            }
+        }
+    }
+}
@@ -200,6 +200,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
 
         original.add(5, 100, 50, 1024, 2, 25, 512, 10, 20, 1.5, warmerStats);
         original.addUnreferencedFileCleanUpStats(3);
+        original.addFlushedSize(256);
 
         BytesStreamOutput out = new BytesStreamOutput();
         original.writeTo(out);
@@ -218,6 +219,24 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertEquals(original.getTotalStoppedTimeInMillis(), deserialized.getTotalStoppedTimeInMillis());
         assertEquals(original.getTotalThrottledTimeInMillis(), deserialized.getTotalThrottledTimeInMillis());
         assertEquals(original.getTotalBytesPerSecAutoThrottle(), deserialized.getTotalBytesPerSecAutoThrottle());
+        assertEquals(original.getTotalFlushedSizeInBytes(), deserialized.getTotalFlushedSizeInBytes());
+    }
+
+    public void testWriteAmplification() {
+        MergeStats stats = new MergeStats();
+        assertEquals(0, stats.getWriteAmplification(), 0);
+
+        stats.addFlushedSize(1024);
+        assertEquals(1, stats.getWriteAmplification(), 0);
+
+        stats.add(1, 10, 5, 3072, 0, 0, 0, 0, 0, 1.0);
+        assertEquals(4, stats.getWriteAmplification(), 0);
+
+        MergeStats other = new MergeStats();
+        other.addFlushedSize(1024);
+        stats.addTotals(other);
+        assertEquals(2048, stats.getTotalFlushedSizeInBytes());
+        assertEquals(2.5, stats.getWriteAmplification(), 0);
     }
 
     public void testToXContent() throws IOException {
@@ -240,5 +259,7 @@ public class MergeStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("total_docs"));
         assertTrue(json.contains("total_size_in_bytes"));
         assertTrue(json.contains("warmer"));
+        assertTrue(json.contains("total_flushed_size_in_bytes"));
+        assertTrue(json.contains("write_amplification"));
     }
 }
@@ -119,7 +119,15 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
                 onPhaseEnd(testRequestStats, ctx);
             }
         }
+        onCanMatchLocalDecisions(testRequestStats, 5, 3);
+        onCanMatchLocalDecisions(testRequestStats, 2, 0);
+        onShardRequestsHedged(testRequestStats, 2, 1);
+        onShardRequestsHedged(testRequestStats, 1, 0);
         searchStats1.setSearchRequestStats(testRequestStats);
+        assertEquals(7, searchStats1.getTotal().getRequestStatsLongHolder().getCanMatchSavedRequests());
+        assertEquals(3, searchStats1.getTotal().getRequestStatsLongHolder().getCanMatchPrunedShards());
+        assertEquals(3, searchStats1.getTotal().getRequestStatsLongHolder().getHedgedRequests());
+        assertEquals(1, searchStats1.getTotal().getRequestStatsLongHolder().getHedgedRequestsWon());
         for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
             assertEquals(
                 0,
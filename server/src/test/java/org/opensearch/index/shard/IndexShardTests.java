@@ -1916,6 +1916,23 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testLatencyStats() throws IOException {
+        IndexShard shard = newStartedShard(true);
+        final int numDocs = randomIntBetween(1, 10);
+        for (int i = 0; i < numDocs; i++) {
+            indexDoc(shard, "_doc", Integer.toString(i));
+        }
+        shard.refresh("test");
+        shard.flush(new FlushRequest().force(true));
+
+        LatencyStats latencyStats = shard.latencyStats();
+        assertThat(latencyStats.getCount(LatencyStats.Operation.INDEX), equalTo((long) numDocs));
+        assertThat(latencyStats.getCount(LatencyStats.Operation.REFRESH), equalTo(shard.refreshStats().getTotal()));
+        assertThat(latencyStats.getCount(LatencyStats.Operation.FLUSH), equalTo(shard.flushStats().getTotal()));
+        assertThat(latencyStats.getCount(LatencyStats.Operation.QUERY), equalTo(0L));
+        closeShards(shard);
+    }
+
     public void testIndexingOperationsListeners() throws IOException {
         IndexShard shard = newStartedShard(true);
         indexDoc(shard, "_doc", "0", "{\"foo\" : \"bar\"}");
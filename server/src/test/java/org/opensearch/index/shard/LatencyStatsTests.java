@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.HdrHistogram.Histogram;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.metrics.LatencyHistogramMetric;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.shard.LatencyStats.Operation;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyStatsTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        LatencyStats stats = createTestInstance();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                LatencyStats deserializedStats = new LatencyStats(in);
+                assertEquals(stats, deserializedStats);
+                for (Operation operation : Operation.values()) {
+                    assertEquals(stats.getCount(operation), deserializedStats.getCount(operation));
+                    assertEquals(stats.getValueAtPercentile(operation, 99.0), deserializedStats.getValueAtPercentile(operation, 99.0));
+                }
+            }
+        }
+    }
+
+    public void testAddMergesHistograms() {
+        LatencyStats first = new LatencyStats();
+        first.add(Operation.QUERY, histogram(100, 1000));
+        LatencyStats second = new LatencyStats();
+        second.add(Operation.QUERY, histogram(1, 100_000));
+        second.add(Operation.FLUSH, histogram(10, 5000));
+
+        LatencyStats total = new LatencyStats();
+        total.add(first);
+        total.add(second);
+
+        assertEquals(101, total.getCount(Operation.QUERY));
+        assertEquals(10, total.getCount(Operation.FLUSH));
+        assertEquals(0, total.getCount(Operation.MERGE));
+        assertEquals(1000, total.getValueAtPercentile(Operation.QUERY, 50.0), 1000 * 0.07);
+        assertEquals(100_000, total.getMax(Operation.QUERY), 100_000 * 0.07);
+        // adding must not change the added stats
+        assertEquals(100, first.getCount(Operation.QUERY));
+        assertEquals(1, second.getCount(Operation.QUERY));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testToXContent() throws IOException {
+        LatencyStats stats = new LatencyStats();
+        // values below 32 micros are recorded exactly
+        stats.add(Operation.INDEX, histogram(4, 20));
+
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(MediaTypeRegistry.JSON);
+        builder.startObject();
+        stats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        Map<String, Object> latency = (Map<String, Object>) XContentHelper.convertToMap(
+            BytesReference.bytes(builder),
+            false,
+            MediaTypeRegistry.JSON
+        ).v2().get("latency");
+
+        assertEquals(Operation.values().length, latency.size());
+        Map<String, Object> index = (Map<String, Object>) latency.get("index");
+        assertEquals(4, index.get("count"));
+        assertEquals(Map.of("50.0", 20, "90.0", 20, "99.0", 20, "99.9", 20), index.get("percentiles_in_micros"));
+        assertEquals(20, index.get("max_in_micros"));
+        Map<String, Object> merge = (Map<String, Object>) latency.get("merge");
+        assertEquals(0, merge.get("count"));
+    }
+
+    private static Histogram histogram(int count, long micros) {
+        LatencyHistogramMetric metric = new LatencyHistogramMetric();
+        for (int i = 0; i < count; i++) {
+            metric.inc(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        return metric.snapshot();
+    }
+
+    private static LatencyStats createTestInstance() {
+        LatencyStats stats = new LatencyStats();
+        for (Operation operation : Operation.values()) {
+            if (randomBoolean()) {
+                LatencyHistogramMetric metric = new LatencyHistogramMetric();
+                for (int i = between(1, 100); i > 0; i--) {
+                    metric.inc(randomLongBetween(0, TimeUnit.MINUTES.toNanos(10)));
+                }
+                stats.add(operation, metric.snapshot());
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IncrementalAggregationCacheTests extends OpenSearchTestCase {
+
+    public void testFindRange() {
+        RangeQueryBuilder range = QueryBuilders.rangeQuery("@timestamp").gte("now-1d");
+        assertSame(range, IncrementalAggregationCache.findRange(range, "@timestamp"));
+        assertNull(IncrementalAggregationCache.findRange(range, "other"));
+
+        BoolQueryBuilder bool = QueryBuilders.boolQuery().must(QueryBuilders.termQuery("host", "a")).filter(range);
+        assertSame(range, IncrementalAggregationCache.findRange(bool, "@timestamp"));
+        // a range in a should or must_not clause does not restrict the documents
+        assertNull(IncrementalAggregationCache.findRange(QueryBuilders.boolQuery().should(range), "@timestamp"));
+        assertNull(IncrementalAggregationCache.findRange(QueryBuilders.boolQuery().mustNot(range), "@timestamp"));
+        // two ranges on the same field are not split
+        assertNull(IncrementalAggregationCache.findRange(bool.must(QueryBuilders.rangeQuery("@timestamp").lt("now")), "@timestamp"));
+        assertNull(IncrementalAggregationCache.findRange(QueryBuilders.termQuery("@timestamp", 0), "@timestamp"));
+    }
+
+    public void testIsValid() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        writer.addDocument(document("1", 1000));
+        writer.addDocument(document("2", 1500));
+        DirectoryReader reader = DirectoryReader.open(writer);
+        Map<IncrementalAggregationCache.LeafKey, LeafReader> leaves = IncrementalAggregationCache.leaves(reader);
+        assertEquals(1, leaves.size());
+        IncrementalAggregationCache.Entry entry = new IncrementalAggregationCache.Entry(
+            leaves.keySet(),
+            new BytesArray(new byte[0]),
+            2,
+            100,
+            new ShardRequestCache()
+        );
+        assertTrue(IncrementalAggregationCache.isValid(entry, leaves, "@timestamp", 1000, 2000));
+
+        // a new segment outside of the bucket keeps it valid, but not one within it
+        writer.addDocument(document("3", 2000));
+        DirectoryReader secondReader = DirectoryReader.openIfChanged(reader);
+        assertTrue(IncrementalAggregationCache.isValid(entry, IncrementalAggregationCache.leaves(secondReader), "@timestamp", 1000, 2000));
+        assertFalse(IncrementalAggregationCache.isValid(entry, IncrementalAggregationCache.leaves(secondReader), "@timestamp", 2000, 3000));
+
+        // a deletion in a cached segment invalidates it
+        writer.deleteDocuments(new Term("id", "1"));
+        DirectoryReader thirdReader = DirectoryReader.openIfChanged(secondReader);
+        assertFalse(IncrementalAggregationCache.isValid(entry, IncrementalAggregationCache.leaves(thirdReader), "@timestamp", 1000, 2000));
+
+        IOUtils.close(reader, secondReader, thirdReader, writer, dir);
+    }
+
+    public void testPlanSkipsPointInTimeRequests() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IncrementalAggregationCache.INDICES_REQUEST_CACHE_INCREMENTAL_ENABLED_SETTING.getKey(), true)
+            .build();
+        IncrementalAggregationCache cache = new IncrementalAggregationCache(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            writableRegistry()
+        );
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(document("1", 1000));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("index", "_na_", 0));
+        ContextIndexSearcher searcher = mock(ContextIndexSearcher.class);
+        when(searcher.getDirectoryReader()).thenReturn(reader);
+        SearchContext context = mock(SearchContext.class);
+        when(context.searcher()).thenReturn(searcher);
+        when(context.searchType()).thenReturn(SearchType.QUERY_THEN_FETCH);
+
+        // the reader of a point in time does not move forward, so the request is not split
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.readerId()).thenReturn(new ShardSearchContextId("session", 1));
+        assertNull(cache.plan(request, context));
+        verify(request, never()).source();
+
+        // without a reader, the request goes on to be checked
+        when(request.readerId()).thenReturn(null);
+        assertNull(cache.plan(request, context));
+        verify(request).source();
+
+        IOUtils.close(cache, reader, writer, dir);
+    }
+
+    public void testStats() {
+        ShardRequestCache shardRequestCache = new ShardRequestCache();
+        shardRequestCache.onIncrementalHit(1_000_000);
+        shardRequestCache.onIncrementalHit(2_000_000);
+        shardRequestCache.onIncrementalMiss();
+        RequestCacheStats stats = shardRequestCache.stats();
+        assertEquals(2, stats.getIncrementalHitCount());
+        assertEquals(1, stats.getIncrementalMissCount());
+        assertEquals(3, stats.getIncrementalSavedTime().millis());
+        assertEquals(0, stats.getHitCount());
+    }
+
+    private static Document document(String id, long timestamp) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.NO));
+        document.add(new LongPoint("@timestamp", timestamp));
+        document.add(new SortedNumericDocValuesField("@timestamp", timestamp));
+        return document;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.script.Script;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+
+public class SegmentResultCacheTests extends OpenSearchTestCase {
+
+    public void testIsCacheable() {
+        assertTrue(SegmentResultCache.isCacheable(List.of()));
+        assertTrue(
+            SegmentResultCache.isCacheable(
+                List.of(
+                    AggregationBuilders.dateHistogram("histogram")
+                        .field("@timestamp")
+                        .calendarInterval(DateHistogramInterval.HOUR)
+                        .subAggregation(AggregationBuilders.avg("avg").field("latency")),
+                    AggregationBuilders.cardinality("hosts").field("host")
+                )
+            )
+        );
+        // the partial top terms of the segments do not combine into the top terms of the shard
+        assertFalse(SegmentResultCache.isCacheable(List.of(AggregationBuilders.terms("terms").field("host"))));
+        assertFalse(
+            SegmentResultCache.isCacheable(
+                List.of(
+                    AggregationBuilders.filter("filter", QueryBuilders.matchAllQuery()).subAggregation(AggregationBuilders.topHits("top"))
+                )
+            )
+        );
+        assertFalse(SegmentResultCache.isCacheable(List.of(AggregationBuilders.sum("sum").script(new Script("_score")))));
+    }
+
+    public void testTotalHits() {
+        assertEquals(new TotalHits(5, TotalHits.Relation.EQUAL_TO), SegmentResultCache.totalHits(5, 10));
+        assertEquals(new TotalHits(10, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), SegmentResultCache.totalHits(15, 10));
+        assertEquals(
+            new TotalHits(15, TotalHits.Relation.EQUAL_TO),
+            SegmentResultCache.totalHits(15, SearchContext.TRACK_TOTAL_HITS_ACCURATE)
+        );
+        assertEquals(
+            new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO),
+            SegmentResultCache.totalHits(15, SearchContext.TRACK_TOTAL_HITS_DISABLED)
+        );
+    }
+
+    public void testSegmentKeyId() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        writer.addDocument(document("1"));
+        writer.addDocument(document("2"));
+        DirectoryReader reader = DirectoryReader.open(writer);
+        String segmentKeyId = SegmentResultCache.segmentKeyId(reader.leaves().get(0));
+
+        // a new segment does not change the key of the existing one
+        writer.addDocument(document("3"));
+        DirectoryReader secondReader = DirectoryReader.openIfChanged(reader);
+        assertEquals(2, secondReader.leaves().size());
+        assertEquals(segmentKeyId, SegmentResultCache.segmentKeyId(secondReader.leaves().get(0)));
+        assertNotEquals(segmentKeyId, SegmentResultCache.segmentKeyId(secondReader.leaves().get(1)));
+
+        // but a deletion does
+        writer.deleteDocuments(new Term("id", "1"));
+        DirectoryReader thirdReader = DirectoryReader.openIfChanged(secondReader);
+        assertNotEquals(segmentKeyId, SegmentResultCache.segmentKeyId(thirdReader.leaves().get(0)));
+
+        IOUtils.close(reader, secondReader, thirdReader, writer, dir);
+    }
+
+    private static Document document(String id) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.NO));
+        return document;
+    }
+}
@@ -41,6 +41,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -53,6 +54,7 @@ import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -162,4 +164,58 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testShardCopyStats() {
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        assertFalse(collector.getShardCopyStatistics("node1", shardId).isPresent());
+        for (int i = 1; i <= 100; i++) {
+            collector.addShardCopyStatistics("node1", shardId, i, i == 100 ? -1 : 3, 0.5);
+        }
+        ResponseCollectorService.ComputedShardCopyStats stats = collector.getShardCopyStatistics("node1", shardId).get();
+        // only the last samples are kept for the percentile, unknown values keep the last reported ones
+        assertThat(stats.percentile95ResponseTime(), equalTo(99L));
+        assertThat(stats.inflightQueries, equalTo(3));
+        assertThat(stats.cacheHitRatio, equalTo(0.5));
+        assertFalse(collector.getShardCopyStatistics("node2", shardId).isPresent());
+        assertFalse(collector.getShardCopyStatistics("node1", new ShardId("index", "_na_", 1)).isPresent());
+
+        // busy copies and cold caches are predicted to be slower
+        ResponseCollectorService.ComputedShardCopyStats idle = new ResponseCollectorService.ComputedShardCopyStats(
+            "node1",
+            shardId,
+            10_000_000,
+            20_000_000,
+            0,
+            -1
+        );
+        ResponseCollectorService.ComputedShardCopyStats busy = new ResponseCollectorService.ComputedShardCopyStats(
+            "node2",
+            shardId,
+            10_000_000,
+            20_000_000,
+            4,
+            -1
+        );
+        ResponseCollectorService.ComputedShardCopyStats warm = new ResponseCollectorService.ComputedShardCopyStats(
+            "node3",
+            shardId,
+            10_000_000,
+            20_000_000,
+            0,
+            1
+        );
+        assertThat(idle.predictedLatency(0), equalTo(10.0));
+        assertThat(idle.predictedLatency(0), lessThan(busy.predictedLatency(0)));
+        assertThat(idle.predictedLatency(0), lessThan(idle.predictedLatency(2)));
+        assertThat(warm.predictedLatency(0), lessThan(idle.predictedLatency(0)));
+    }
+
+    public void testShardCopyRemoval() {
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        collector.addShardCopyStatistics("node1", shardId, 100, 0, -1);
+        collector.addShardCopyStatistics("node2", shardId, 100, 0, -1);
+        collector.removeNode("node2");
+        assertTrue(collector.getShardCopyStatistics("node1", shardId).isPresent());
+        assertFalse(collector.getShardCopyStatistics("node2", shardId).isPresent());
+    }
 }
@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.tasks.resourcetracker.TaskResourceUsage;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.ratelimitting.admissioncontrol.settings.PredictiveAdmissionControllerSettings;
+import org.opensearch.ratelimitting.admissioncontrol.stats.CostPredictionStats;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.Collections;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PredictiveAdmissionControllerTests extends OpenSearchTestCase {
+    private static final String BULK_ACTION = "indices:data/write/bulk[s][p]";
+    private ClusterService clusterService;
+    private ThreadPool threadPool;
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("admission_controller_settings_test");
+        clusterService = ClusterServiceUtils.createClusterService(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        nanoTime.set(randomLongBetween(0, TimeUnit.DAYS.toNanos(1)));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdownNow();
+    }
+
+    private PredictiveAdmissionController newController(AdmissionControlMode mode) {
+        Settings settings = Settings.builder()
+            .put(PredictiveAdmissionControllerSettings.PREDICTIVE_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.getKey(), mode.getMode())
+            .build();
+        return new PredictiveAdmissionController(
+            PredictiveAdmissionController.PREDICTIVE_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            settings,
+            1,
+            nanoTime::get
+        );
+    }
+
+    private static BulkShardRequest bulkShardRequest(long bytes) {
+        BulkShardRequest request = mock(BulkShardRequest.class);
+        when(request.ramBytesUsed()).thenReturn(bytes);
+        return request;
+    }
+
+    private static Task task(long id) {
+        return new Task(id, "transport", "action", "", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+    }
+
+    public void testCheckDefaultParameters() {
+        PredictiveAdmissionController admissionController = new PredictiveAdmissionController(
+            PredictiveAdmissionController.PREDICTIVE_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            Settings.EMPTY
+        );
+        assertEquals(admissionController.getName(), PredictiveAdmissionController.PREDICTIVE_ADMISSION_CONTROLLER);
+        assertEquals(admissionController.settings.getTransportLayerAdmissionControllerMode(), AdmissionControlMode.DISABLED);
+        assertEquals(admissionController.settings.getSearchCpuBudgetPercent(), 90);
+        assertEquals(admissionController.settings.getIndexingCpuBudgetPercent(), 90);
+        assertFalse(
+            admissionController.isEnabledForTransportLayer(admissionController.settings.getTransportLayerAdmissionControllerMode())
+        );
+
+        // the global transport mode does not turn this controller on
+        clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put("admission_control.transport.mode", AdmissionControlMode.ENFORCED.getMode()).build());
+        assertEquals(admissionController.settings.getTransportLayerAdmissionControllerMode(), AdmissionControlMode.DISABLED);
+        for (int i = 0; i < 10; i++) {
+            admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(1L << 30), null);
+        }
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 0);
+        assertEquals(admissionController.getCostPredictionStats().get("indexing").getAdmittedCount(), 0);
+    }
+
+    public void testCostUnits() {
+        assertEquals(1, PredictiveAdmissionController.costUnits(null));
+        assertEquals(1, PredictiveAdmissionController.costUnits(mock(TransportRequest.class)));
+        assertEquals(1, PredictiveAdmissionController.costUnits(bulkShardRequest(10)));
+        assertEquals(100, PredictiveAdmissionController.costUnits(bulkShardRequest(100 * 1024)));
+
+        ShardSearchRequest shardSearchRequest = mock(ShardSearchRequest.class);
+        assertEquals(1, PredictiveAdmissionController.costUnits(shardSearchRequest));
+        when(shardSearchRequest.source()).thenReturn(
+            new SearchSourceBuilder().aggregation(
+                AggregationBuilders.terms("terms").field("a").subAggregation(AggregationBuilders.max("max").field("b"))
+            ).aggregation(AggregationBuilders.avg("avg").field("c"))
+        );
+        assertEquals(4, PredictiveAdmissionController.costUnits(shardSearchRequest));
+    }
+
+    public void testRejectWhenBudgetExhausted() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.ENFORCED);
+        // 40MB at the default cost per KB is estimated at ~820ms of the 900ms budget
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), null);
+        expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), null)
+        );
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 1);
+        // small requests still fit, and search has its own budget
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(1024), null);
+        admissionController.apply("indices:data/read/search[phase/query]", AdmissionControlActionType.SEARCH, null, null);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), null);
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 1);
+        assertEquals(admissionController.getCostPredictionStats().get("indexing").getAdmittedCount(), 3);
+        assertEquals(admissionController.getCostPredictionStats().get("search").getAdmittedCount(), 1);
+    }
+
+    public void testFullBudgetAdmitsOversizedRequest() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.ENFORCED);
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(1L << 30), null);
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 0);
+    }
+
+    public void testMonitorModeOnlyCountsRejections() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.MONITOR);
+        for (int i = 0; i < 3; i++) {
+            admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(1L << 30), null);
+        }
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 2);
+        assertEquals(admissionController.getCostPredictionStats().get("indexing").getAdmittedCount(), 1);
+    }
+
+    public void testIndexingLearnsElapsedTime() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.MONITOR);
+        TaskManager taskManager = mock(TaskManager.class);
+        admissionController.registerTaskListeners(taskManager, mock(TaskResourceTrackingService.class));
+        ArgumentCaptor<TaskManager.TaskEventListeners> captor = ArgumentCaptor.forClass(TaskManager.TaskEventListeners.class);
+        verify(taskManager).addTaskEventListeners(captor.capture());
+
+        Task task = task(randomNonNegativeLong());
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(1024), task);
+        assertEquals(1, admissionController.pendingAdmissions());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(12));
+        captor.getValue().onTaskCompleted(task);
+        assertEquals(0, admissionController.pendingAdmissions());
+
+        CostPredictionStats stats = admissionController.getCostPredictionStats().get("indexing");
+        assertEquals(1, stats.getCompletedCount());
+        assertEquals(PredictiveAdmissionController.DEFAULT_INDEXING_NANOS_PER_UNIT, stats.getEstimatedNanosTotal());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(12), stats.getActualNanosTotal());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1218), stats.getEstimatedNanosPerUnit());
+        assertEquals(599.0 / 6, stats.getMeanAbsoluteErrorPercent(), 0.001);
+
+        // completing twice does not count twice
+        captor.getValue().onTaskCompleted(task);
+        assertEquals(1, admissionController.getCostPredictionStats().get("indexing").getCompletedCount());
+    }
+
+    public void testSearchDoesNotLearnElapsedTime() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.ENFORCED);
+        TaskManager taskManager = mock(TaskManager.class);
+        admissionController.registerTaskListeners(taskManager, mock(TaskResourceTrackingService.class));
+        ArgumentCaptor<TaskManager.TaskEventListeners> captor = ArgumentCaptor.forClass(TaskManager.TaskEventListeners.class);
+        verify(taskManager).addTaskEventListeners(captor.capture());
+
+        long tokens = admissionController.getCostPredictionStats().get("search").getAvailableTokenNanos();
+        Task task = task(randomNonNegativeLong());
+        admissionController.apply("indices:data/read/search[phase/query]", AdmissionControlActionType.SEARCH, null, task);
+        captor.getValue().onTaskCompleted(task);
+        assertEquals(0, admissionController.pendingAdmissions());
+
+        // the CPU time of the search was not measured, so its estimate stays charged and the model does not change
+        CostPredictionStats stats = admissionController.getCostPredictionStats().get("search");
+        assertEquals(0, stats.getCompletedCount());
+        assertEquals(PredictiveAdmissionController.DEFAULT_SEARCH_NANOS_PER_UNIT, stats.getEstimatedNanosPerUnit());
+        assertEquals(tokens - PredictiveAdmissionController.DEFAULT_SEARCH_NANOS_PER_UNIT, stats.getAvailableTokenNanos());
+    }
+
+    public void testConcurrentAdmissionsKeepBudgetConsistent() throws Exception {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.ENFORCED);
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        CyclicBarrier barrier = new CyclicBarrier(threads.length);
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < 1000; j++) {
+                    try {
+                        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40 * 1024), null);
+                    } catch (OpenSearchRejectedExecutionException e) {
+                        // the budget is exhausted
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // the budget admits exactly 900ms worth of 800 micros requests and rejects the others
+        CostPredictionStats stats = admissionController.getCostPredictionStats().get("indexing");
+        assertEquals(1125, stats.getAdmittedCount());
+        assertEquals(0, stats.getAvailableTokenNanos());
+        assertEquals(threads.length * 1000L - 1125, admissionController.getRejectionCount("indexing"));
+    }
+
+    public void testLearnsCpuTimeOfResourceTrackedTasks() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.MONITOR);
+        TaskManager taskManager = mock(TaskManager.class);
+        TaskResourceTrackingService taskResourceTrackingService = mock(TaskResourceTrackingService.class);
+        when(taskResourceTrackingService.isTaskResourceTrackingEnabled()).thenReturn(true);
+        admissionController.registerTaskListeners(taskManager, taskResourceTrackingService);
+        ArgumentCaptor<TaskManager.TaskEventListeners> eventCaptor = ArgumentCaptor.forClass(TaskManager.TaskEventListeners.class);
+        verify(taskManager).addTaskEventListeners(eventCaptor.capture());
+        ArgumentCaptor<TaskResourceTrackingService.TaskCompletionListener> completionCaptor = ArgumentCaptor.forClass(
+            TaskResourceTrackingService.TaskCompletionListener.class
+        );
+        verify(taskResourceTrackingService).addTaskCompletionListener(completionCaptor.capture());
+
+        Task task = mock(Task.class);
+        when(task.getId()).thenReturn(randomNonNegativeLong());
+        when(task.supportsResourceTracking()).thenReturn(true);
+        when(task.getTotalResourceStats()).thenReturn(new TaskResourceUsage(TimeUnit.MILLISECONDS.toNanos(1), 0));
+        admissionController.apply("indices:data/read/search[phase/query]", AdmissionControlActionType.SEARCH, null, task);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        // unregistering happens before resource tracking completes and must be left to the tracking listener
+        eventCaptor.getValue().onTaskCompleted(task);
+        assertEquals(1, admissionController.pendingAdmissions());
+        completionCaptor.getValue().onTaskCompleted(task);
+        assertEquals(0, admissionController.pendingAdmissions());
+
+        CostPredictionStats stats = admissionController.getCostPredictionStats().get("search");
+        assertEquals(1, stats.getCompletedCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), stats.getActualNanosTotal());
+    }
+
+    public void testCompletionRefundsOverEstimate() {
+        PredictiveAdmissionController admissionController = newController(AdmissionControlMode.ENFORCED);
+        TaskManager taskManager = mock(TaskManager.class);
+        admissionController.registerTaskListeners(taskManager, mock(TaskResourceTrackingService.class));
+        ArgumentCaptor<TaskManager.TaskEventListeners> captor = ArgumentCaptor.forClass(TaskManager.TaskEventListeners.class);
+        verify(taskManager).addTaskEventListeners(captor.capture());
+
+        Task task = task(1);
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), task);
+        expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), task(2))
+        );
+        // the first request completed immediately, so nearly its whole estimate goes back to the budget
+        captor.getValue().onTaskCompleted(task);
+        assertEquals(0, admissionController.pendingAdmissions());
+        admissionController.apply(BULK_ACTION, AdmissionControlActionType.INDEXING, bulkShardRequest(40L << 20), task(3));
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.INDEXING.getType()), 1);
+    }
+}
@@ -10,13 +10,16 @@ package org.opensearch.ratelimitting.admissioncontrol.stats;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.AdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController;
+import org.opensearch.ratelimitting.admissioncontrol.controllers.PredictiveAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
 import org.opensearch.ratelimitting.admissioncontrol.settings.CpuBasedAdmissionControllerSettings;
@@ -26,13 +29,17 @@ import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.mock;
 
 public class AdmissionControllerStatsTests extends OpenSearchTestCase {
     AdmissionController admissionController;
     AdmissionControllerStats admissionControllerStats;
     private ThreadPool threadPool;
+    private ClusterService clusterService;
 
     @Override
     public void setUp() throws Exception {
@@ -44,7 +51,7 @@ public class AdmissionControllerStatsTests extends OpenSearchTestCase {
             )
             .build();
         threadPool = new TestThreadPool("admission_controller_settings_test");
-        ClusterService clusterService = ClusterServiceUtils.createClusterService(
+        clusterService = ClusterServiceUtils.createClusterService(
             Settings.EMPTY,
             new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
             threadPool
@@ -80,4 +87,34 @@ public class AdmissionControllerStatsTests extends OpenSearchTestCase {
         AdmissionControllerStats admissionControllerStats1 = admissionControllerStats;
         assertEquals(admissionControllerStats.hashCode(), admissionControllerStats1.hashCode());
     }
+
+    public void testCostPrediction() throws IOException {
+        assertTrue(admissionControllerStats.getCostPrediction().isEmpty());
+        admissionController = new PredictiveAdmissionController(
+            PredictiveAdmissionController.PREDICTIVE_ADMISSION_CONTROLLER,
+            mock(ResourceUsageCollectorService.class),
+            clusterService,
+            Settings.EMPTY
+        );
+        admissionControllerStats = new AdmissionControllerStats(admissionController);
+        assertEquals(
+            admissionControllerStats.getCostPrediction().keySet(),
+            Set.of(AdmissionControlActionType.SEARCH.getType(), AdmissionControlActionType.INDEXING.getType())
+        );
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        builder = admissionControllerStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertThat(builder.toString(), containsString("\"cost_prediction\":{"));
+        assertThat(builder.toString(), containsString("\"mean_absolute_error_percent\":0.0"));
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            admissionControllerStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                AdmissionControllerStats deserialized = new AdmissionControllerStats(in);
+                assertEquals(admissionControllerStats.getAdmissionControllerName(), deserialized.getAdmissionControllerName());
+                for (Map.Entry<String, CostPredictionStats> entry : admissionControllerStats.getCostPrediction().entrySet()) {
+                    assertEquals(entry.getValue(), deserialized.getCostPrediction().get(entry.getKey()));
+                }
+            }
+        }
+    }
 }
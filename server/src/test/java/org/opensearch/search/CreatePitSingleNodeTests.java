@@ -25,17 +25,22 @@ import org.opensearch.common.Priority;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.internal.PitReaderContext;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.hamcrest.Matchers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -47,6 +52,7 @@ import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.queryStringQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.blankOrNullString;
@@ -622,6 +628,68 @@ public class CreatePitSingleNodeTests extends OpenSearchSingleNodeTestCase {
         PitTestsUtil.assertGetAllPitsEmpty(client());
     }
 
+    public void testCompactPitContext() throws Exception {
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(SearchService.PIT_COMPACT_CONTEXTS_ENABLED.getKey(), true))
+            .get();
+        createIndex("index", Settings.builder().put("index.number_of_shards", 1).put("index.number_of_replicas", 0).build());
+        client().prepareIndex("index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+
+        CreatePitRequest request = new CreatePitRequest(TimeValue.timeValueDays(1), true);
+        request.setIndices(new String[] { "index" });
+        CreatePitResponse pitResponse = client().execute(CreatePitAction.INSTANCE, request).get();
+        client().prepareIndex("index").setId("2").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+        SearchResponse searchResponse = client().prepareSearch("index")
+            .setPointInTime(new PointInTimeBuilder(pitResponse.getId()).setKeepAlive(TimeValue.timeValueDays(1)))
+            .get();
+        assertHitCount(searchResponse, 1);
+
+        SearchService service = getInstanceFromNode(SearchService.class);
+        SearchContextId contextId = SearchContextId.decode(getInstanceFromNode(NamedWriteableRegistry.class), pitResponse.getId());
+        PitReaderContext readerContext = service.getPitReaderContext(contextId.shards().values().iterator().next().getSearchContextId());
+        assertTrue(readerContext.isCompact());
+        Map<String, Long> pinnedFiles = new HashMap<>();
+        readerContext.collectPinnedFiles(pinnedFiles);
+        long pinnedBytes = pinnedFiles.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(pinnedBytes, Matchers.greaterThan(0L));
+        IndexShard indexShard = getInstanceFromNode(IndicesService.class).indexServiceSafe(resolveIndex("index")).getShard(0);
+        assertEquals(pinnedBytes, indexShard.searchStats().getTotal().getPitPinnedSizeInBytes());
+        assertEquals(1, readerContext.getSegments().size());
+
+        // a point in time that is created before the next refresh reuses the last commit, its files are only counted once
+        client().execute(CreatePitAction.INSTANCE, request).get();
+        long sharedPinnedBytes = indexShard.searchStats().getTotal().getPitPinnedSizeInBytes();
+        assertThat(sharedPinnedBytes, Matchers.greaterThan(pinnedBytes));
+        client().execute(CreatePitAction.INSTANCE, request).get();
+        assertEquals(sharedPinnedBytes, indexShard.searchStats().getTotal().getPitPinnedSizeInBytes());
+
+        // the reader is opened again from the commit of the context on the next search
+        assertBusy(() -> assertTrue(readerContext.releaseIdleReader(-1)));
+        searchResponse = client().prepareSearch("index")
+            .setPointInTime(new PointInTimeBuilder(pitResponse.getId()).setKeepAlive(TimeValue.timeValueDays(1)))
+            .get();
+        assertHitCount(searchResponse, 1);
+
+        // the segments are read from the commit without opening the reader again
+        assertBusy(() -> assertTrue(readerContext.releaseIdleReader(-1)));
+        assertEquals(1, readerContext.getSegments().size());
+        assertFalse(readerContext.releaseIdleReader(-1));
+
+        service.doClose();
+        assertEquals(0, indexShard.searchStats().getTotal().getPitPinnedSizeInBytes());
+
+        // readers that were left behind over remote commits are deleted when the shard recovers
+        Path pitCommits = indexShard.shardPath().getDataPath().resolve("pit");
+        Files.createDirectories(pitCommits.resolve("stale"));
+        Files.createFile(pitCommits.resolve("stale").resolve("_0.cfs"));
+        assertAcked(client().admin().indices().prepareClose("index"));
+        assertAcked(client().admin().indices().prepareOpen("index"));
+        ensureGreen("index");
+        assertFalse(Files.exists(pitCommits));
+    }
+
     public void validatePitStats(String index, long expectedPitCurrent, long expectedPitCount, int shardId) throws ExecutionException,
         InterruptedException {
         IndicesService indicesService = getInstanceFromNode(IndicesService.class);
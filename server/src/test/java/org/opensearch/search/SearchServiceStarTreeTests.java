@@ -8,6 +8,7 @@
 
 package org.opensearch.search;
 
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.admin.indices.create.CreateIndexRequestBuilder;
@@ -36,6 +37,7 @@ import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.StarTreeMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.RangeQueryBuilder;
@@ -76,7 +78,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -257,6 +261,66 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         searchContext.close();
     }
 
+    /**
+     * Test hybrid execution of queries with filters on fields that are not star-tree dimensions
+     */
+    public void testHybridExecution() throws IOException {
+        setStarTreeIndexSetting("true");
+
+        CreateIndexRequestBuilder builder = client().admin()
+            .indices()
+            .prepareCreate("test")
+            .setSettings(starStreeEnabledIndexSettings)
+            .setMapping(
+                StarTreeFilterTests.getExpandedMapping(
+                    1,
+                    false,
+                    StarTreeFilterTests.DIMENSION_TYPE_MAP,
+                    StarTreeFilterTests.METRIC_TYPE_MAP
+                )
+            );
+        createIndex("test", builder);
+        client().prepareIndex("test").setSource("sndv", 1, "field", 5).get();
+        client().prepareIndex("test").setSource("sndv", 2, "field", 8).get();
+        client().admin().indices().prepareRefresh("test").get();
+
+        IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        IndexService indexService = indicesService.indexServiceSafe(resolveIndex("test"));
+        IndexShard indexShard = indexService.getShard(0);
+        ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            new SearchRequest().allowPartialSearchResults(true),
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1.0f,
+            -1,
+            null,
+            null
+        );
+
+        // "field" is a metric of the star tree, not a dimension
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(0)
+            .query(new BoolQueryBuilder().filter(new TermQueryBuilder("sndv", 1)).filter(new RangeQueryBuilder("field").gte(0)))
+            .aggregation(max("test").field("field"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        setHybridExecutionSetting("true");
+        // the range filter matches all the documents of the segment
+        assertHybridExecution(request, sourceBuilder, Set.of("sndv"), true);
+        sourceBuilder.query(new BoolQueryBuilder().filter(new TermQueryBuilder("sndv", 1)).filter(new RangeQueryBuilder("field").gte(6)));
+        assertHybridExecution(request, sourceBuilder, Set.of("sndv"), false);
+        sourceBuilder.query(new RangeQueryBuilder("field").lte(10));
+        assertHybridExecution(request, sourceBuilder, Set.of(), true);
+
+        // clauses that cannot be split are not executed with the star tree
+        sourceBuilder.query(new BoolQueryBuilder().should(new TermQueryBuilder("sndv", 1)).should(new RangeQueryBuilder("field").gte(0)));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+
+        setHybridExecutionSetting(null);
+        setStarTreeIndexSetting(null);
+    }
+
     public void testStarTreeNestedAggregations() throws IOException {
         setStarTreeIndexSetting("true");
 
@@ -1084,6 +1148,45 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
             .execute();
     }
 
+    private void setHybridExecutionSetting(String value) {
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(
+                Settings.builder().put(CompositeIndexSettings.STAR_TREE_HYBRID_EXECUTION_ENABLED_SETTING.getKey(), value).build()
+            )
+            .get();
+    }
+
+    private void assertHybridExecution(
+        ShardSearchRequest request,
+        SearchSourceBuilder sourceBuilder,
+        Set<String> expectedDimensions,
+        boolean expectedStarTreeUsage
+    ) throws IOException {
+        request.source(sourceBuilder);
+        SearchService searchService = getInstanceFromNode(SearchService.class);
+        try (ReaderContext reader = searchService.createOrGetReaderContext(request, false)) {
+            SearchContext context = searchService.createContext(reader, request, null, true);
+            StarTreeQueryContext starTreeQueryContext = context.getQueryShardContext().getStarTreeQueryContext();
+            assertThat(starTreeQueryContext, notNullValue());
+            assertTrue(starTreeQueryContext.isHybridExecution());
+            assertEquals(expectedDimensions, starTreeQueryContext.getBaseQueryStarTreeFilter().getDimensions());
+
+            List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+            for (LeafReaderContext leaf : leaves) {
+                assertEquals(expectedStarTreeUsage, starTreeQueryContext.canUseStarTree(leaf));
+            }
+            // the search stats only count the request as a star tree query if the star tree is used on some segment
+            assertEquals(expectedStarTreeUsage, starTreeQueryContext.usesStarTree(context.searcher().getIndexReader()));
+            Map<String, Object> debugInfo = new HashMap<>();
+            starTreeQueryContext.collectDebugInfo(debugInfo::put);
+            assertEquals("hybrid", debugInfo.get("star_tree_plan"));
+            assertEquals(expectedStarTreeUsage ? leaves.size() : 0, debugInfo.get("star_tree_segments"));
+            assertEquals(expectedStarTreeUsage ? 0 : leaves.size(), debugInfo.get("residual_filter_segments"));
+        }
+    }
+
     private void assertStarTreeContext(
         ShardSearchRequest request,
         SearchSourceBuilder sourceBuilder,
@@ -49,6 +49,7 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
+import org.opensearch.action.search.pruning.ShardFieldDomainCache;
 import org.opensearch.action.search.UpdatePitContextRequest;
 import org.opensearch.action.search.UpdatePitContextResponse;
 import org.opensearch.action.support.IndicesOptions;
@@ -81,6 +82,7 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.IndexShard;
@@ -293,6 +295,57 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         assertEquals(activeRefs, indexShard.store().refCount());
     }
 
+    public void testFieldSummariesAreInvalidatedOnRefresh() {
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setTransientSettings(
+                Settings.builder()
+                    .putList(ShardFieldDomainCache.FIELDS.getKey(), "price")
+                    .put(ShardFieldDomainCache.MAX_AGE.getKey(), TimeValue.timeValueHours(1))
+            )
+            .get();
+        try {
+            createIndex("index", Settings.builder().put("index.number_of_shards", 2).put("index.refresh_interval", -1).build());
+            client().prepareIndex("index").setId("1").setSource("price", 1).setRefreshPolicy(IMMEDIATE).get();
+            client().prepareIndex("index").setId("2").setSource("price", 2).setRefreshPolicy(IMMEDIATE).get();
+
+            // the first search summarizes the shards, the second one decides locally
+            for (int i = 0; i < 2; i++) {
+                assertHitCount(
+                    client().prepareSearch("index").setQuery(new RangeQueryBuilder("price").gte(10)).setPreFilterShardSize(1).get(),
+                    0L
+                );
+            }
+            ShardFieldDomainCache cache = getInstanceFromNode(SearchService.class).getShardFieldDomainCache();
+            String nodeId = getInstanceFromNode(ClusterService.class).localNode().getId();
+            for (int shard = 0; shard < 2; shard++) {
+                assertNotNull(cache.get(new ShardId(resolveIndex("index"), shard), nodeId));
+            }
+
+            // documents refreshed within the max age are not pruned by the summaries of the readers before the refresh
+            client().prepareIndex("index").setId("3").setSource("price", 15).setRefreshPolicy(IMMEDIATE).get();
+            assertHitCount(
+                client().prepareSearch("index").setQuery(new RangeQueryBuilder("price").gte(10)).setPreFilterShardSize(1).get(),
+                1L
+            );
+            client().prepareIndex("index").setId("4").setSource("price", 20).get();
+            client().admin().indices().prepareRefresh("index").get();
+            assertHitCount(
+                client().prepareSearch("index").setQuery(new RangeQueryBuilder("price").gte(10)).setPreFilterShardSize(1).get(),
+                2L
+            );
+        } finally {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder().putNull(ShardFieldDomainCache.FIELDS.getKey()).putNull(ShardFieldDomainCache.MAX_AGE.getKey())
+                )
+                .get();
+        }
+    }
+
     public void testSearchWhileIndexDeleted() throws InterruptedException {
         createIndex("index");
         client().prepareIndex("index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
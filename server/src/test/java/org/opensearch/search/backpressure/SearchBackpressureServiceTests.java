@@ -15,6 +15,8 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.tasks.resourcetracker.TaskResourceUsage;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.search.backpressure.settings.SearchBackpressureMode;
 import org.opensearch.search.backpressure.settings.SearchBackpressureSettings;
@@ -69,6 +71,7 @@ import static org.mockito.Mockito.anyDouble;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -409,13 +412,94 @@ public class SearchBackpressureServiceTests extends OpenSearchTestCase {
         // reflected in SearchShardTaskStats.
         SearchBackpressureStats expectedStats = new SearchBackpressureStats(
             new SearchTaskStats(0, 0, 0, Collections.emptyMap()),
-            new SearchShardTaskStats(12, 3, 20, Map.of(TaskResourceUsageTrackerType.CPU_USAGE_TRACKER, new MockStats(12))),
+            new SearchShardTaskStats(
+                12,
+                3,
+                20,
+                0,
+                12 * 500,
+                Map.of(TaskResourceUsageTrackerType.CPU_USAGE_TRACKER, new MockStats(12))
+            ),
             SearchBackpressureMode.ENFORCED
         );
         SearchBackpressureStats actualStats = service.nodeStats();
         assertEquals(expectedStats, actualStats);
     }
 
+    public void testSearchShardTaskPartialResultsBeforeCancellation() {
+        TaskManager mockTaskManager = spy(taskManager);
+        TaskResourceTrackingService mockTaskResourceTrackingService = mock(TaskResourceTrackingService.class);
+        NodeDuressTrackers nodeDuressTrackers = new NodeDuressTrackers(new EnumMap<>(ResourceType.class) {
+            {
+                put(MEMORY, new NodeDuressTracker(() -> false, () -> 3));
+                put(CPU, new NodeDuressTracker(() -> true, () -> 3));
+            }
+        }, resourceCacheExpiryChecker);
+
+        TaskResourceUsageTracker mockTaskResourceUsageTracker = getMockedTaskResourceUsageTracker(
+            TaskResourceUsageTrackerType.CPU_USAGE_TRACKER,
+            (task) -> {
+                if (task.getTotalResourceStats().getCpuTimeInNanos() < 300) {
+                    return Optional.empty();
+                }
+
+                return Optional.of(new TaskCancellation.Reason("limits exceeded", 5));
+            }
+        );
+        TaskResourceUsageTrackers taskResourceUsageTrackers = new TaskResourceUsageTrackers();
+        taskResourceUsageTrackers.addTracker(mockTaskResourceUsageTracker, TaskResourceUsageTrackerType.CPU_USAGE_TRACKER);
+
+        SearchBackpressureSettings settings = getBackpressureSettings("enforced", 0.1, 0.003, 10.0);
+        SearchBackpressureService service = new SearchBackpressureService(
+            settings,
+            mockTaskResourceTrackingService,
+            threadPool,
+            new AtomicLong(0)::get,
+            nodeDuressTrackers,
+            new TaskResourceUsageTrackers(),
+            taskResourceUsageTrackers,
+            mockTaskManager,
+            workloadGroupService
+        );
+        when(workloadGroupService.shouldSBPHandle(any())).thenReturn(true);
+
+        // Run two iterations so that node is marked 'in duress' from the third iteration onwards.
+        service.doRun();
+        service.doRun();
+
+        SearchShardTaskSettings searchShardTaskSettings = mock(SearchShardTaskSettings.class);
+        when(searchShardTaskSettings.getTotalHeapPercentThreshold()).thenReturn(0.0);
+        when(searchShardTaskSettings.isPartialResultsEnabled()).thenReturn(true);
+        when(settings.getSearchShardTaskSettings()).thenReturn(searchShardTaskSettings);
+
+        Map<Long, WorkloadGroupTask> activeSearchShardTasks = new HashMap<>();
+        for (long i = 0; i < 10; i++) {
+            SearchShardTask task = spy(new SearchShardTask(i, "transport", "action", "", TaskId.EMPTY_TASK_ID, Collections.emptyMap()));
+            doReturn(new TaskResourceUsage(i % 2 == 0 ? 500 : 100, 0)).when(task).getTotalResourceStats();
+            task.setWorkloadGroupId(threadPool.getThreadContext());
+            // the first task is not in a query phase that checks for partial results
+            task.setPartialResultsSupported(i != 0);
+            activeSearchShardTasks.put(i, task);
+        }
+        doReturn(activeSearchShardTasks).when(mockTaskResourceTrackingService).getResourceAwareTasks();
+
+        // The heavy tasks are first asked to return partial results, except the one that would not return them.
+        service.doRun();
+        verify(mockTaskManager, times(1)).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        for (WorkloadGroupTask task : activeSearchShardTasks.values()) {
+            boolean heavy = task.getTotalResourceStats().getCpuTimeInNanos() >= 300;
+            assertEquals(heavy && task.getId() != 0, ((SearchShardTask) task).isPartialResultsRequested());
+        }
+        assertEquals(4, service.getSearchBackpressureState(SearchShardTask.class).getPartialResultCount());
+
+        // They are cancelled if they are still breaching their limits on the next run.
+        service.doRun();
+        verify(mockTaskManager, times(5)).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertEquals(4, service.getSearchBackpressureState(SearchShardTask.class).getPartialResultCount());
+        assertEquals(5, service.getSearchBackpressureState(SearchShardTask.class).getCancellationCount());
+        assertEquals(5 * 500, service.getSearchBackpressureState(SearchShardTask.class).getCancelledCpuTimeNanos());
+    }
+
     public void testNonCancellationOfHeapBasedTasksWhenHeapNotInDuress() {
         TaskManager mockTaskManager = spy(taskManager);
         TaskResourceTrackingService mockTaskResourceTrackingService = mock(TaskResourceTrackingService.class);
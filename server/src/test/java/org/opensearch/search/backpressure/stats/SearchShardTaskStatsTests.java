@@ -111,4 +111,31 @@ public class SearchShardTaskStatsTests extends AbstractWireSerializingTestCase<S
             }
         }
     }
+
+    /**
+     * Partial result and cancelled CPU time counters are only sent to V_3_8_0 nodes and read as zero from older ones.
+     */
+    public void testPartialResultStatsOnV38Wire() throws Exception {
+        Map<TaskResourceUsageTrackerType, TaskResourceUsageTracker.Stats> trackerStats = Map.of(
+            TaskResourceUsageTrackerType.CPU_USAGE_TRACKER,
+            new CpuUsageTracker.Stats(1L, 2L, 3L)
+        );
+        SearchShardTaskStats original = new SearchShardTaskStats(7L, 3L, 11L, 5L, 1234L, trackerStats);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_8_0);
+            original.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_8_0);
+                assertEquals(original, new SearchShardTaskStats(in));
+            }
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_7_0);
+            original.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_7_0);
+                assertEquals(new SearchShardTaskStats(7L, 3L, 11L, trackerStats), new SearchShardTaskStats(in));
+            }
+        }
+    }
 }
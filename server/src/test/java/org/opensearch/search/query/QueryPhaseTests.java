@@ -1277,6 +1277,19 @@ public class QueryPhaseTests extends IndexShardTestCase {
         createTimeoutCheckerThenWaitThenRun(timeCacheLifespan / 4, timeCacheLifespan / 2 + timeTolerance, false, true);
     }
 
+    public void testPartialResultsChecker() {
+        SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        assertFalse(task.isPartialResultsSupported());
+        Runnable partialResultsChecker = QueryPhase.createPartialResultsChecker(task);
+        partialResultsChecker.run();
+
+        assertTrue(task.requestPartialResults("limits exceeded"));
+        assertFalse(task.requestPartialResults("limits exceeded again"));
+        assertTrue(task.isPartialResultsRequested());
+        assertEquals("limits exceeded", task.getPartialResultsReason());
+        expectThrows(QueryPhase.TimeExceededException.class, partialResultsChecker::run);
+    }
+
     private void createTimeoutCheckerThenWaitThenRun(
         long timeout,
         long sleepAfterCreation,
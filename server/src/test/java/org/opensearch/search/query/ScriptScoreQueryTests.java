@@ -45,9 +45,11 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TwoPhaseIterator;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
@@ -232,6 +234,47 @@ public class ScriptScoreQueryTests extends OpenSearchTestCase {
         assertNull(scorerSupplier);
     }
 
+    public void testBatchScoring() throws IOException {
+        try (Directory directory = newDirectory()) {
+            final int numDocs = randomIntBetween(1, 10000);
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new StandardAnalyzer()))) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new TextField("field", "value", Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(directoryReader);
+                Script script = new Script("doc base id plus score");
+                SearchLookup lookup = mock(SearchLookup.class);
+                when(lookup.getLeafSearchLookup(any())).thenReturn(mock(LeafSearchLookup.class));
+                ScoreScript.LeafFactory factory = new ScoreScript.LeafFactory() {
+                    @Override
+                    public boolean needs_score() {
+                        return true;
+                    }
+
+                    @Override
+                    public ScoreScript newInstance(LeafReaderContext ctx) {
+                        return new ScoreScript(script.getParams(), lookup, indexSearcher, ctx) {
+                            @Override
+                            public double execute(ExplanationHolder explanation) {
+                                return _getDocBaseId() + get_score();
+                            }
+                        };
+                    }
+                };
+                ScriptScoreQuery query = new ScriptScoreQuery(new MatchAllDocsQuery(), script, factory, null, "index", 0, Version.CURRENT);
+                TopDocs topDocs = indexSearcher.search(query, numDocs);
+                assertEquals(numDocs, topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    assertEquals(scoreDoc.doc + 1f, scoreDoc.score, 0f);
+                }
+            }
+        }
+    }
+
     private static class NullScorerSupplierQuery extends Query {
 
         @Override
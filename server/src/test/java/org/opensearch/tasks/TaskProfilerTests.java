@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TaskProfilerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskResourceTrackingService taskResourceTrackingService;
+
+    @Before
+    public void setup() {
+        threadPool = new TestThreadPool(TaskProfilerTests.class.getSimpleName());
+        taskResourceTrackingService = new TaskResourceTrackingService(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    @After
+    public void terminateThreadPool() {
+        terminate(threadPool);
+    }
+
+    public void testFold() {
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+            new StackTraceElement("org.example.Inner", "leaf", null, -1),
+            new StackTraceElement("org.example.Outer", "run", null, -1) };
+        assertEquals("org.example.Outer.run;org.example.Inner.leaf", TaskProfiler.fold(stackTrace, false));
+        assertEquals("[truncated];org.example.Outer.run;org.example.Inner.leaf", TaskProfiler.fold(stackTrace, true));
+        assertEquals("", TaskProfiler.fold(new StackTraceElement[0], false));
+    }
+
+    public void testProfileBusyTask() throws Exception {
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(true);
+        TaskProfiler profiler = newProfiler(Settings.EMPTY);
+        Task task = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        taskResourceTrackingService.startTracking(task);
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread worker = new Thread(() -> {
+            taskResourceTrackingService.taskExecutionStartedOnThread(task.getId(), Thread.currentThread().threadId());
+            started.countDown();
+            busyWork(stop);
+            taskResourceTrackingService.taskExecutionFinishedOnThread(task.getId(), Thread.currentThread().threadId());
+        });
+        worker.start();
+        try {
+            started.await();
+            PlainActionFuture<TaskProfile> future = new PlainActionFuture<>();
+            profiler.profile(task, "node", TimeValue.timeValueMillis(200), TimeValue.timeValueMillis(5), future);
+            TaskProfile profile = future.get(10, TimeUnit.SECONDS);
+
+            assertEquals(0, profiler.getActiveProfiles());
+            assertEquals(task.getId(), profile.getTask().getTaskId().getId());
+            assertTrue(profile.getSamples() > 0);
+            List<TaskProfile.Stack> stacks = profile.getStacks();
+            assertFalse(stacks.isEmpty());
+            assertTrue(stacks.stream().anyMatch(stack -> stack.getFoldedStack().contains(TaskProfilerTests.class.getName() + ".busyWork")));
+            for (int i = 1; i < stacks.size(); i++) {
+                assertTrue(stacks.get(i - 1).getSamples() >= stacks.get(i).getSamples());
+            }
+        } finally {
+            stop.set(true);
+            worker.join();
+        }
+        taskResourceTrackingService.stopTracking(task);
+    }
+
+    public void testProfileEndsWhenTaskCompletes() throws Exception {
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(true);
+        TaskProfiler profiler = newProfiler(Settings.EMPTY);
+        Task task = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        taskResourceTrackingService.startTracking(task);
+
+        PlainActionFuture<TaskProfile> future = new PlainActionFuture<>();
+        profiler.profile(task, "node", TaskProfiler.MAX_DURATION, TimeValue.timeValueMillis(5), future);
+        taskResourceTrackingService.stopTracking(task);
+        TaskProfile profile = future.get(10, TimeUnit.SECONDS);
+
+        assertTrue(profile.getDuration().compareTo(TaskProfiler.MAX_DURATION) < 0);
+        // no thread was running the task
+        assertEquals(profile.getSamples(), profile.getIdleSamples());
+        assertTrue(profile.getStacks().isEmpty());
+        assertEquals(0, profiler.getActiveProfiles());
+    }
+
+    public void testRejectsProfilesOverLimit() {
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(true);
+        TaskProfiler profiler = newProfiler(Settings.builder().put(TaskProfiler.MAX_CONCURRENT_PROFILES_SETTING.getKey(), 0).build());
+        Task task = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> profiler.profile(task, "node", TaskProfiler.DEFAULT_DURATION, TaskProfiler.DEFAULT_INTERVAL, new PlainActionFuture<>())
+        );
+        assertEquals(0, profiler.getActiveProfiles());
+    }
+
+    public void testQueuesProfilesOverLimit() throws Exception {
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(true);
+        TaskProfiler profiler = newProfiler(Settings.builder().put(TaskProfiler.MAX_CONCURRENT_PROFILES_SETTING.getKey(), 1).build());
+        Task first = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        Task second = new SearchTask(2, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        taskResourceTrackingService.startTracking(first);
+        taskResourceTrackingService.startTracking(second);
+
+        PlainActionFuture<TaskProfile> firstFuture = new PlainActionFuture<>();
+        PlainActionFuture<TaskProfile> secondFuture = new PlainActionFuture<>();
+        profiler.profile(first, "node", TaskProfiler.MAX_DURATION, TimeValue.timeValueMillis(5), firstFuture);
+        profiler.profile(second, "node", TaskProfiler.MAX_DURATION, TimeValue.timeValueMillis(5), secondFuture);
+        assertEquals(1, profiler.getActiveProfiles());
+        assertEquals(1, profiler.getPendingProfiles());
+
+        // the second profile starts once the first one finished
+        taskResourceTrackingService.stopTracking(first);
+        assertEquals(first.getId(), firstFuture.get(10, TimeUnit.SECONDS).getTask().getTaskId().getId());
+        assertEquals(0, profiler.getPendingProfiles());
+        assertFalse(secondFuture.isDone());
+        taskResourceTrackingService.stopTracking(second);
+        assertEquals(second.getId(), secondFuture.get(10, TimeUnit.SECONDS).getTask().getTaskId().getId());
+        assertBusy(() -> assertEquals(0, profiler.getActiveProfiles()));
+    }
+
+    public void testRequiresResourceTracking() {
+        TaskProfiler profiler = newProfiler(Settings.EMPTY);
+        Task task = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(false);
+        expectThrows(
+            IllegalStateException.class,
+            () -> profiler.profile(task, "node", TaskProfiler.DEFAULT_DURATION, TaskProfiler.DEFAULT_INTERVAL, new PlainActionFuture<>())
+        );
+
+        taskResourceTrackingService.setTaskResourceTrackingEnabled(true);
+        Task untrackedTask = new Task(2, "test", "test", "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> profiler.profile(
+                untrackedTask,
+                "node",
+                TaskProfiler.DEFAULT_DURATION,
+                TaskProfiler.DEFAULT_INTERVAL,
+                new PlainActionFuture<>()
+            )
+        );
+        assertEquals(0, profiler.getActiveProfiles());
+    }
+
+    public void testSerialization() throws IOException {
+        Task task = new SearchTask(1, "test", "test", () -> "Test", TaskId.EMPTY_TASK_ID, new HashMap<>());
+        TaskProfile profile = new TaskProfile(
+            task.taskInfo("node", true),
+            TimeValue.timeValueMillis(randomLongBetween(1, 100)),
+            TimeValue.timeValueMillis(randomLongBetween(1, 60_000)),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomList(
+                5,
+                () -> new TaskProfile.Stack(
+                    randomAlphaOfLength(10),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong()
+                )
+            )
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            profile.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(profile, new TaskProfile(in));
+            }
+        }
+    }
+
+    private TaskProfiler newProfiler(Settings settings) {
+        return new TaskProfiler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool,
+            taskResourceTrackingService
+        );
+    }
+
+    private static void busyWork(AtomicBoolean stop) {
+        long value = 0;
+        while (stop.get() == false) {
+            value += System.nanoTime() % 7;
+        }
+        assertTrue(value >= 0);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.OpenSearchVirtualThreadExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
+
+public class VirtualThreadExecutorBuilderTests extends OpenSearchThreadPoolTestCase {
+
+    public void testVirtualThreadExecutor() throws InterruptedException {
+        final Settings settings = Settings.builder()
+            .put("node.name", "test")
+            .putList(ThreadPool.VIRTUAL_THREAD_EXECUTORS_SETTING.getKey(), ThreadPool.Names.REMOTE_DOWNLOAD)
+            .build();
+        final ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            final ThreadPool.Info info = info(threadPool, ThreadPool.Names.REMOTE_DOWNLOAD);
+            assertEquals(ThreadPool.ThreadPoolType.SCALING, info.getThreadPoolType());
+            // the pool keeps the maximum it has with platform threads
+            assertEquals(ThreadPool.twiceAllocatedProcessors(OpenSearchExecutors.allocatedProcessors(settings)), info.getMax());
+
+            final AtomicBoolean virtual = new AtomicBoolean();
+            final AtomicReference<String> threadName = new AtomicReference<>();
+            final AtomicReference<String> header = new AtomicReference<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final ThreadContext threadContext = threadPool.getThreadContext();
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("foo", "bar");
+                threadPool.executor(ThreadPool.Names.REMOTE_DOWNLOAD).execute(() -> {
+                    virtual.set(Thread.currentThread().isVirtual());
+                    threadName.set(Thread.currentThread().getName());
+                    header.set(threadContext.getHeader("foo"));
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertTrue(virtual.get());
+            assertThat(threadName.get(), startsWith("opensearch[test][" + ThreadPool.Names.REMOTE_DOWNLOAD + "][VT#"));
+            assertEquals("bar", header.get());
+            assertBusy(() -> assertEquals(1L, stats(threadPool, ThreadPool.Names.REMOTE_DOWNLOAD).getCompleted()));
+
+            // other pools keep their platform threads
+            final AtomicBoolean genericVirtual = new AtomicBoolean(true);
+            final CountDownLatch genericLatch = new CountDownLatch(1);
+            threadPool.generic().execute(() -> {
+                genericVirtual.set(Thread.currentThread().isVirtual());
+                genericLatch.countDown();
+            });
+            assertTrue(genericLatch.await(10, TimeUnit.SECONDS));
+            assertFalse(genericVirtual.get());
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testConcurrencyIsBounded() throws InterruptedException {
+        final Settings settings = Settings.builder().put("node.name", "test").build();
+        final ThreadPool threadPool = new ThreadPool(
+            settings,
+            new VirtualThreadExecutorBuilder("virtual", 0, 2, TimeValue.timeValueSeconds(30))
+        );
+        try {
+            assertThat(threadPool.executor("virtual"), instanceOf(OpenSearchVirtualThreadExecutor.class));
+            final CountDownLatch block = new CountDownLatch(1);
+            final CountDownLatch started = new CountDownLatch(2);
+            for (int i = 0; i < 5; i++) {
+                threadPool.executor("virtual").execute(() -> {
+                    started.countDown();
+                    try {
+                        block.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // every task has its own thread, the ones above the maximum wait for a permit
+            assertBusy(() -> {
+                final ThreadPoolStats.Stats stats = stats(threadPool, "virtual");
+                assertEquals(5, stats.getThreads());
+                assertEquals(2, stats.getActive());
+                assertEquals(3, stats.getQueue());
+            });
+
+            // raising the maximum lets the waiting tasks run
+            threadPool.setThreadPool(Settings.builder().put("virtual.max", 4).build());
+            assertBusy(() -> {
+                final ThreadPoolStats.Stats stats = stats(threadPool, "virtual");
+                assertEquals(4, stats.getActive());
+                assertEquals(1, stats.getQueue());
+            });
+            block.countDown();
+            assertBusy(() -> assertEquals(5L, stats(threadPool, "virtual").getCompleted()));
+            assertBusy(() -> assertEquals(0, stats(threadPool, "virtual").getThreads()));
+            assertEquals(4, stats(threadPool, "virtual").getLargest());
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
+    public void testOnlyEligibleExecutors() {
+        final Settings settings = Settings.builder()
+            .put("node.name", "test")
+            .putList(ThreadPool.VIRTUAL_THREAD_EXECUTORS_SETTING.getKey(), ThreadPool.Names.WRITE)
+            .build();
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new ThreadPool(settings));
+        assertThat(e.getMessage(), containsString("thread pool [write] cannot use virtual threads"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.cluster.metadata.WorkloadGroup;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.wlm.WorkloadManagementSettings.SEARCH_ISOLATION_SETTING;
+import static org.opensearch.wlm.WorkloadManagementSettings.WLM_MODE_SETTING;
+
+public class WorkloadGroupSearchIsolationTests extends OpenSearchTestCase {
+
+    private static final String DEFAULT_ID = WorkloadGroupTask.DEFAULT_WORKLOAD_GROUP_ID_SUPPLIER.get();
+
+    private ClusterSettings clusterSettings;
+    private WorkloadGroupsStateAccessor stateAccessor;
+    private WorkloadGroupSearchIsolation isolation;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Settings settings = Settings.builder()
+            .put(WLM_MODE_SETTING.getKey(), WlmMode.ENABLED.getName())
+            .put(SEARCH_ISOLATION_SETTING.getKey(), true)
+            .build();
+        clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        stateAccessor = new WorkloadGroupsStateAccessor();
+        stateAccessor.addNewWorkloadGroup(DEFAULT_ID);
+        stateAccessor.addNewWorkloadGroup("cpu_group");
+        isolation = new WorkloadGroupSearchIsolation(new WorkloadManagementSettings(settings, clusterSettings), stateAccessor);
+        isolation.updateWorkloadGroups(
+            List.of(
+                workloadGroup("cpu_group", Map.of(ResourceType.CPU, 0.4)),
+                workloadGroup("memory_group", Map.of(ResourceType.MEMORY, 0.3))
+            )
+        );
+    }
+
+    public void testReservedShares() {
+        Map<String, Double> shares = isolation.reservedShares();
+        assertEquals(3, shares.size());
+        assertEquals(0.4, shares.get("cpu_group"), 1e-9);
+        assertEquals(0.0, shares.get("memory_group"), 1e-9);
+        assertEquals(0.6, shares.get(DEFAULT_ID), 1e-9);
+    }
+
+    public void testLaneKey() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        assertEquals(DEFAULT_ID, isolation.laneKey(threadContext));
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(WorkloadGroupTask.WORKLOAD_GROUP_ID_HEADER, "cpu_group");
+            assertEquals("cpu_group", isolation.laneKey(threadContext));
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(WorkloadGroupTask.WORKLOAD_GROUP_ID_HEADER, "deleted_group");
+            assertEquals(DEFAULT_ID, isolation.laneKey(threadContext));
+        }
+    }
+
+    public void testDisabled() {
+        clusterSettings.applySettings(Settings.builder().put(SEARCH_ISOLATION_SETTING.getKey(), false).build());
+        assertTrue(isolation.reservedShares().isEmpty());
+        assertNull(isolation.laneKey(new ThreadContext(Settings.EMPTY)));
+
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(SEARCH_ISOLATION_SETTING.getKey(), true)
+                .put(WLM_MODE_SETTING.getKey(), WlmMode.MONITOR_ONLY.getName())
+                .build()
+        );
+        assertTrue(isolation.reservedShares().isEmpty());
+    }
+
+    public void testQueueWaitTimeIsTrackedPerWorkloadGroup() {
+        isolation.onExecuted("cpu_group", 100);
+        isolation.onExecuted("cpu_group", 50);
+        isolation.onExecuted(DEFAULT_ID, 10);
+        // lanes keyed by X-Opaque-Id are not accounted to any workload group
+        isolation.onExecuted("my-opaque-id", 1000);
+
+        assertEquals(2, stateAccessor.getWorkloadGroupState("cpu_group").getSearchQueueExecutions());
+        assertEquals(150, stateAccessor.getWorkloadGroupState("cpu_group").getSearchQueueWaitTimeNanos());
+        assertEquals(1, stateAccessor.getWorkloadGroupState(DEFAULT_ID).getSearchQueueExecutions());
+        assertEquals(10, stateAccessor.getWorkloadGroupState(DEFAULT_ID).getSearchQueueWaitTimeNanos());
+    }
+
+    private static WorkloadGroup workloadGroup(String id, Map<ResourceType, Double> resourceLimits) {
+        return new WorkloadGroup(
+            id,
+            id,
+            new MutableWorkloadGroupFragment(MutableWorkloadGroupFragment.ResiliencyMode.ENFORCED, resourceLimits),
+            1L
+        );
+    }
+}
@@ -52,6 +52,40 @@ public class WorkloadGroupStatsTests extends AbstractWireSerializingTestCase<Wor
         );
     }
 
+    public void testSearchQueueToXContent() throws IOException {
+        final WorkloadGroupStats workloadGroupStats = new WorkloadGroupStats(
+            Map.of(
+                "afakjklaj304041-afaka",
+                new WorkloadGroupStats.WorkloadGroupStatsHolder(10, 0, 0, 0, 4, 1_500_000, Map.of())
+            )
+        );
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        builder.startObject();
+        workloadGroupStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertEquals(
+            "{\"workload_groups\":{\"afakjklaj304041-afaka\":{\"total_completions\":10,\"total_rejections\":0,\"total_cancellations\":0,"
+                + "\"search_queue\":{\"executions\":4,\"total_wait_time_in_nanos\":1500000}}}}",
+            builder.toString()
+        );
+    }
+
+    public void testSearchQueueStatsAreNotSentToOlderNodes() throws IOException {
+        final WorkloadGroupStats.WorkloadGroupStatsHolder statsHolder = new WorkloadGroupStats.WorkloadGroupStatsHolder(
+            1,
+            2,
+            3,
+            4,
+            5,
+            6,
+            Map.of()
+        );
+        final WorkloadGroupStats workloadGroupStats = new WorkloadGroupStats(Map.of("id", statsHolder));
+        assertEquals(workloadGroupStats, copyInstance(workloadGroupStats, Version.CURRENT));
+        final WorkloadGroupStats.WorkloadGroupStatsHolder copy = copyInstance(workloadGroupStats, Version.V_3_7_0).getStats().get("id");
+        assertEquals(new WorkloadGroupStats.WorkloadGroupStatsHolder(1, 2, 3, 4, Map.of()), copy);
+    }
+
     @Override
     protected Writeable.Reader<WorkloadGroupStats> instanceReader() {
         return WorkloadGroupStats::new;
@@ -67,6 +101,8 @@ public class WorkloadGroupStatsTests extends AbstractWireSerializingTestCase<Wor
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
                 Map.of(
                     ResourceType.CPU,
                     new WorkloadGroupStats.ResourceStats(